@@ -1,18 +1,48 @@
 package com.appsmith.external.helpers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.BeanWrapper;
 import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.beans.PropertyAccessorFactory;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public final class AppsmithBeanUtils {
 
+    // The instance fields of every model, including the ones of its super classes, looked up once per class
+    private static final ClassValue<List<Field>> INSTANCE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type;
+                    current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        }
+    };
+
     private static String[] getNullPropertyNames(Object source) {
         // TODO: The `BeanWrapperImpl` class has been declared to be an internal class. Migrate to using
         //  `PropertyAccessorFactory.forBeanPropertyAccess` instead.
@@ -124,4 +154,93 @@ public final class AppsmithBeanUtils {
 
         return values;
     }
+
+    /**
+     * Copies an object of the Appsmith models field by field, with all the models, collections, maps, arrays and JSON
+     * nodes it holds, so that the copy can be modified without changing the original. Other values, like strings,
+     * numbers, enums and {@code java.time} values, are shared by the original and the copy.
+     * <p>
+     * Unlike a round trip through JSON, this keeps the fields that are never serialised, like passwords, and the exact
+     * types of the values.
+     *
+     * @throws IllegalArgumentException if one of the models cannot be created with a no-arguments constructor
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T deepCopy(T source) {
+        return (T) deepCopy(source, new IdentityHashMap<>());
+    }
+
+    private static Object deepCopy(Object source, Map<Object, Object> copies) {
+        if (source == null) {
+            return null;
+        }
+
+        Object copy = copies.get(source);
+        if (copy != null) {
+            return copy;
+        }
+
+        final Class<?> type = source.getClass();
+        if (source instanceof JsonNode jsonNode) {
+            copy = jsonNode.deepCopy();
+        } else if (source instanceof Date date) {
+            copy = date.clone();
+        } else if (type.isArray()) {
+            final int length = Array.getLength(source);
+            copy = Array.newInstance(type.getComponentType(), length);
+            copies.put(source, copy);
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, deepCopy(Array.get(source, i), copies));
+            }
+        } else if (source instanceof Map<?, ?> map) {
+            final Map<Object, Object> mapCopy = new LinkedHashMap<>();
+            copies.put(source, mapCopy);
+            map.forEach((key, value) -> mapCopy.put(key, deepCopy(value, copies)));
+            copy = mapCopy;
+        } else if (source instanceof Collection<?> collection) {
+            final Collection<Object> collectionCopy =
+                    source instanceof Set ? new LinkedHashSet<>() : new ArrayList<>(collection.size());
+            copies.put(source, collectionCopy);
+            collection.forEach(value -> collectionCopy.add(deepCopy(value, copies)));
+            copy = collectionCopy;
+        } else if (isDomainModel(type) && !type.isRecord()) {
+            copy = newInstance(type);
+            copies.put(source, copy);
+            for (Field field : INSTANCE_FIELDS.get(type)) {
+                copyField(field, source, copy, copies);
+            }
+        } else {
+            copy = source;
+        }
+
+        copies.put(source, copy);
+        return copy;
+    }
+
+    private static void copyField(Field field, Object source, Object target, Map<Object, Object> copies) {
+        try {
+            final Object value = field.get(source);
+            Object valueCopy = deepCopy(value, copies);
+            // A collection or a map declared with a specific implementation, e.g. a tree set, is shared instead
+            if (valueCopy != null
+                    && !field.getType().isPrimitive()
+                    && !field.getType().isInstance(valueCopy)) {
+                valueCopy = value;
+            }
+            field.set(target, valueCopy);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    "Unable to copy field " + field.getName() + " of " + source.getClass(), e);
+        }
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to create a copy of " + type, e);
+        }
+    }
 }
@@ -0,0 +1,192 @@
+package com.appsmith.external.helpers;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Reads the rows of a JDBC result set for the SQL plugins. How every column is read is decided once, from the
+ * {@link ResultSetMetaData} of the result, instead of comparing the type name of every cell of every row. Every cell
+ * is then read with a single call on the result set.
+ * <p>
+ * The rows are maps from the column names to the values, in the order of the columns, like the {@code LinkedHashMap}s
+ * the plugins used to build. They all share the same column names and index, so a row only holds an array of values.
+ * When the same name is used by more than one column, the row keeps the position of the first one and the value of the
+ * last one, as a {@code LinkedHashMap} would. The rows cannot be modified.
+ */
+public class JdbcResultSetReader {
+
+    /**
+     * Reads the value of a column of the current row.
+     */
+    @FunctionalInterface
+    public interface ColumnReader {
+        Object read(ResultSet resultSet, int column) throws SQLException;
+    }
+
+    /**
+     * Picks the reader of a column from the name of its type, as returned by
+     * {@link ResultSetMetaData#getColumnTypeName(int)}.
+     */
+    @FunctionalInterface
+    public interface ColumnReaderResolver {
+        ColumnReader resolve(String typeName);
+    }
+
+    public static final ColumnReader OBJECT = ResultSet::getObject;
+
+    public static final ColumnReader STRING = ResultSet::getString;
+
+    public static final ColumnReader OBJECT_AS_STRING = (resultSet, column) -> {
+        final Object value = resultSet.getObject(column);
+        return value == null ? null : value.toString();
+    };
+
+    public static final ColumnReader ISO_DATE = (resultSet, column) -> {
+        final Date date = resultSet.getDate(column);
+        return date == null ? null : DateTimeFormatter.ISO_DATE.format(date.toLocalDate());
+    };
+
+    /**
+     * Timestamps without a time zone are sent as UTC date times, to the second.
+     */
+    public static final ColumnReader ISO_DATE_TIME_UTC = (resultSet, column) -> {
+        final Date date = resultSet.getDate(column);
+        if (date == null) {
+            return null;
+        }
+        return DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                        date.toLocalDate(), resultSet.getTime(column).toLocalTime()))
+                + "Z";
+    };
+
+    public static final ColumnReader ISO_OFFSET_DATE_TIME = (resultSet, column) -> {
+        final OffsetDateTime dateTime = resultSet.getObject(column, OffsetDateTime.class);
+        return dateTime == null ? null : DateTimeFormatter.ISO_DATE_TIME.format(dateTime);
+    };
+
+    public static final ColumnReader ARRAY = (resultSet, column) -> {
+        final Array array = resultSet.getArray(column);
+        return array == null ? null : array.getArray();
+    };
+
+    private final List<String> columnNames;
+
+    private final ColumnReader[] readers;
+
+    // Position in the row of the value of every column, which differs from the column index with duplicate names
+    private final int[] slots;
+
+    private final String[] keys;
+
+    private final Map<String, Integer> keyIndex;
+
+    public JdbcResultSetReader(ResultSetMetaData metaData, ColumnReaderResolver resolver) throws SQLException {
+        final int columnCount = metaData.getColumnCount();
+        final List<String> columnNames = new ArrayList<>(columnCount);
+        readers = new ColumnReader[columnCount];
+        slots = new int[columnCount];
+        keyIndex = new HashMap<>();
+
+        for (int i = 0; i < columnCount; i++) {
+            // JDBC column indexes start from 1
+            final String columnName = metaData.getColumnName(i + 1);
+            columnNames.add(columnName);
+            readers[i] = resolver.resolve(metaData.getColumnTypeName(i + 1));
+            slots[i] = keyIndex.computeIfAbsent(columnName, name -> keyIndex.size());
+        }
+
+        this.columnNames = Collections.unmodifiableList(columnNames);
+        keys = new String[keyIndex.size()];
+        keyIndex.forEach((key, slot) -> keys[slot] = key);
+    }
+
+    /**
+     * The names of all the columns, in order and including the duplicates.
+     */
+    public List<String> getColumnNames() {
+        return columnNames;
+    }
+
+    /**
+     * Reads the current row of the result set.
+     */
+    public Map<String, Object> readRow(ResultSet resultSet) throws SQLException {
+        final Object[] values = new Object[keys.length];
+        for (int i = 0; i < readers.length; i++) {
+            values[slots[i]] = readers[i].read(resultSet, i + 1);
+        }
+        return new Row(values);
+    }
+
+    private final class Row extends AbstractMap<String, Object> {
+
+        private final Object[] values;
+
+        private Row(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return keyIndex.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            final Integer slot = keyIndex.get(key);
+            return slot == null ? null : values[slot];
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return values.length;
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int next = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < values.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int slot = next++;
+                            return new SimpleImmutableEntry<>(keys[slot], values[slot]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
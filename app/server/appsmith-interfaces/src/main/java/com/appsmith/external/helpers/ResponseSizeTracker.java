@@ -0,0 +1,145 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query response while the rows are being built. Unlike {@link Sizeof},
+ * which serializes the complete object graph on every call, each value is only looked at once, when it is added.
+ * This lets plugins check the response against {@link com.appsmith.external.services.SharedConfig#getMaxResponseSize()}
+ * after every row without the cost growing with the number of rows already read.
+ * <p>
+ * The numbers are an estimate of the serialized payload and not of the heap footprint of the values.
+ */
+public class ResponseSizeTracker {
+
+    // Rough cost of the structure around a value, like the separators and quotes in the serialized payload.
+    private static final int ENTRY_OVERHEAD = 4;
+
+    private static final int NULL_SIZE = 4;
+
+    private static final int BOOLEAN_SIZE = 5;
+
+    private static final int NUMBER_SIZE = 8;
+
+    private final long maxSize;
+
+    @Getter
+    private long size = 0;
+
+    public ResponseSizeTracker(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Adds a single value of a row, along with the key it is stored against, to the running size.
+     */
+    public void add(String key, Object value) {
+        size += ENTRY_OVERHEAD + (key == null ? 0 : key.length()) + estimate(value);
+    }
+
+    public void add(Object value) {
+        size += ENTRY_OVERHEAD + estimate(value);
+    }
+
+    public boolean isLimitExceeded() {
+        return size > maxSize;
+    }
+
+    /**
+     * Estimates the serialized size of a single value. Containers are walked, so this should only be called once per
+     * value and never on the accumulated result.
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence charSequence) {
+            return charSequence.length();
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof Number || value instanceof Character) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof byte[] bytes) {
+            return bytes.length;
+        }
+
+        if (value instanceof JsonNode jsonNode) {
+            return estimateJsonNode(jsonNode);
+        }
+
+        if (value instanceof Map<?, ?> map) {
+            long total = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                total += ENTRY_OVERHEAD + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return total;
+        }
+
+        if (value instanceof Collection<?> collection) {
+            long total = 0;
+            for (Object item : collection) {
+                total += ENTRY_OVERHEAD + estimate(item);
+            }
+            return total;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            if (value.getClass().getComponentType().isPrimitive()) {
+                return (long) length * NUMBER_SIZE;
+            }
+
+            long total = 0;
+            for (int i = 0; i < length; i++) {
+                total += ENTRY_OVERHEAD + estimate(Array.get(value, i));
+            }
+            return total;
+        }
+
+        return String.valueOf(value).length();
+    }
+
+    private static long estimateJsonNode(JsonNode jsonNode) {
+        if (jsonNode.isContainerNode()) {
+            long total = 0;
+            if (jsonNode.isObject()) {
+                var fields = jsonNode.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    total += ENTRY_OVERHEAD + field.getKey().length() + estimateJsonNode(field.getValue());
+                }
+            } else {
+                for (JsonNode item : jsonNode) {
+                    total += ENTRY_OVERHEAD + estimateJsonNode(item);
+                }
+            }
+            return total;
+        }
+
+        if (jsonNode.isNull() || jsonNode.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (jsonNode.isBoolean()) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (jsonNode.isNumber()) {
+            return NUMBER_SIZE;
+        }
+
+        return jsonNode.asText().length();
+    }
+}
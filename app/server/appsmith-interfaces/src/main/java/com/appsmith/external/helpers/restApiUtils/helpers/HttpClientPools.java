@@ -0,0 +1,156 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Registry of the HTTP clients, and of their connection pools, used to execute REST API and GraphQL actions. Clients
+ * are shared by all the executions that connect with the same protocol and the same SSL configuration, so that
+ * connections are kept alive, and HTTP/2 connections multiplexed, across executions instead of paying for a new TCP and
+ * TLS handshake on every call.
+ * <p>
+ * Every pool keeps separate, bounded sets of connections for each remote host, so the datasources pointing at different
+ * hosts do not compete for connections. Connections are closed once they have been idle for a while, and the pools
+ * publish their metrics under {@code reactor.netty.connection.provider}, with the name of the pool in the {@code name}
+ * tag.
+ * <p>
+ * Datasources with different self-signed certificates get different pools, so the number of pools is bounded, and a
+ * pool that is evicted, because it has not been used for a while or to make room for a new one, has its connections
+ * closed.
+ */
+@Slf4j
+public class HttpClientPools {
+
+    private static final String POOL_NAME_PREFIX = "rest-api-";
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 50;
+
+    private static final int MAX_PENDING_ACQUIRES_PER_HOST = 500;
+
+    private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    // Below the keep-alive timeout of most servers, so that connections are not reused as the server closes them
+    private static final Duration MAX_IDLE_TIME = Duration.ofSeconds(30);
+
+    private static final Duration MAX_LIFE_TIME = Duration.ofSeconds(600);
+
+    private static final Duration EVICTION_INTERVAL = Duration.ofSeconds(30);
+
+    private static final String DEFAULT_TRUST = "default";
+
+    private static final long MAX_POOLS = 100;
+
+    private static final Duration POOL_IDLE_TIME = Duration.ofMinutes(30);
+
+    private static final HttpClientPools INSTANCE = new HttpClientPools();
+
+    final Cache<PoolKey, Pool> pools;
+
+    /**
+     * Identifies the clients that can share connections.
+     *
+     * @param protocol The HTTP protocol of the connections.
+     * @param trust    Digest of the self-signed certificate trusted by the connections, or {@link #DEFAULT_TRUST}.
+     */
+    record PoolKey(HttpProtocol protocol, String trust) {}
+
+    /**
+     * A shared client, with the connection pool to close when it is evicted.
+     */
+    record Pool(HttpClient httpClient, ConnectionProvider connectionProvider) {}
+
+    HttpClientPools() {
+        this(MAX_POOLS);
+    }
+
+    HttpClientPools(long maxPools) {
+        pools = Caffeine.newBuilder()
+                .maximumSize(maxPools)
+                .expireAfterAccess(POOL_IDLE_TIME)
+                .removalListener((PoolKey poolKey, Pool pool, RemovalCause cause) -> {
+                    log.debug("Closing HTTP connection pool for protocol {}, cause: {}", poolKey.protocol(), cause);
+                    pool.connectionProvider().disposeLater().subscribe();
+                })
+                .build();
+    }
+
+    public static HttpClientPools getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the shared client for the datasource, creating it and its connection pool on first use.
+     *
+     * @param datasourceConfiguration The configuration of the datasource, which holds its SSL settings.
+     * @param httpProtocol            The HTTP protocol of the action, HTTP/1.1 by default.
+     * @return The shared client.
+     */
+    public HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
+        final PoolKey poolKey = new PoolKey(
+                httpProtocol == null ? HttpProtocol.HTTP11 : httpProtocol, getTrust(datasourceConfiguration));
+        return pools.get(poolKey, key -> createPool(key, datasourceConfiguration))
+                .httpClient();
+    }
+
+    private Pool createPool(PoolKey poolKey, DatasourceConfiguration datasourceConfiguration) {
+        log.debug("Creating HTTP connection pool for protocol {}", poolKey.protocol());
+        final ConnectionProvider provider = ConnectionProvider.builder(
+                        POOL_NAME_PREFIX + poolKey.protocol().name().toLowerCase())
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .pendingAcquireMaxCount(MAX_PENDING_ACQUIRES_PER_HOST)
+                .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+                .maxIdleTime(MAX_IDLE_TIME)
+                .maxLifeTime(MAX_LIFE_TIME)
+                .evictInBackground(EVICTION_INTERVAL)
+                .metrics(true)
+                .build();
+
+        final HttpClient httpClient = HttpClient.create(provider)
+                .protocol(poolKey.protocol())
+                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                .compress(true);
+        return new Pool(httpClient, provider);
+    }
+
+    /**
+     * The only SSL setting applied to the connections of REST API datasources is the self-signed certificate to trust,
+     * see {@link SSLHelper#sslCheckForHttpClient(DatasourceConfiguration)}. Datasources that trust the same certificate
+     * can share connections.
+     */
+    static String getTrust(DatasourceConfiguration datasourceConfiguration) {
+        if (datasourceConfiguration.getConnection() == null
+                || datasourceConfiguration.getConnection().getSsl() == null
+                || datasourceConfiguration.getConnection().getSsl().getAuthType()
+                        != SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE) {
+            return DEFAULT_TRUST;
+        }
+
+        final UploadedFile certificateFile =
+                datasourceConfiguration.getConnection().getSsl().getCertificateFile();
+        final byte[] certificate = certificateFile == null ? null : certificateFile.getDecodedContent();
+        if (certificate == null) {
+            return DEFAULT_TRUST;
+        }
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(certificate));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available on every JVM
+            throw new IllegalStateException(e);
+        }
+    }
+}
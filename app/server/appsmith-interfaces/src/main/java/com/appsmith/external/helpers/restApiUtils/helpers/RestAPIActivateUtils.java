@@ -2,7 +2,6 @@ package com.appsmith.external.helpers.restApiUtils.helpers;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.helpers.SSLHelper;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.constants.ResponseDataType;
 import com.appsmith.external.models.ActionConfiguration;
@@ -11,34 +10,36 @@ import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
 import com.appsmith.util.WebClientUtils;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.NoArgsConstructor;
+import org.springframework.core.codec.ByteArrayDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.codec.DecoderHttpMessageReader;
 import org.springframework.util.CollectionUtils;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
 
 import javax.crypto.SecretKey;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
@@ -61,6 +62,8 @@ public class RestAPIActivateUtils {
             "application/pkcs8",
             "application/x-binary");
     public static HeaderUtils headerUtils = new HeaderUtils();
+    // Same as the default of the codecs
+    private static final int DEFAULT_MAX_IN_MEMORY_SIZE = 256 * 1024;
 
     public Mono<ActionExecutionResult> triggerApiCall(
             WebClient client,
@@ -72,107 +75,154 @@ public class RestAPIActivateUtils {
             Set<String> hintMessages,
             ActionExecutionResult errorResult,
             RequestCaptureFilter requestCaptureFilter) {
-        return httpCall(client, httpMethod, uri, requestBody, 0)
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(stringResponseEntity -> {
-                    HttpHeaders headers = stringResponseEntity.getHeaders();
-                    /*
-                       Find the media type of the response to parse the body as required. In case the content-type
-                       header is not present in the response then set it to our default i.e. "text/plain" although
-                       the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
-                       it's not present in response header.
-                    */
-                    MediaType contentType = headers.getContentType();
-                    if (contentType == null) {
-                        contentType = MediaType.TEXT_PLAIN;
-                    }
-                    byte[] body = stringResponseEntity.getBody();
-                    HttpStatusCode statusCode = stringResponseEntity.getStatusCode();
-
-                    ActionExecutionResult result = new ActionExecutionResult();
-
-                    // Set the request fields
-                    boolean isBodySentWithApiRequest = requestBody == null ? false : true;
-                    result.setRequest(requestCaptureFilter.populateRequestFields(
-                            actionExecutionRequest, isBodySentWithApiRequest));
-
-                    result.setStatusCode(statusCode.toString());
-
-                    // if something has moved permanently should we mark it as an execution failure?
-                    // here marking a redirection as an execution success if the url has moved permanently without a
-                    // forwarding Location
-                    boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
-                    result.setIsExecutionSuccess(isExecutionSuccess);
-
-                    // Convert the headers into json tree to store in the results
-                    String headerInJsonString;
-                    try {
-                        headerInJsonString = objectMapper.writeValueAsString(headers);
-                    } catch (JsonProcessingException e) {
-                        throw Exceptions.propagate(e);
-                    }
+        return httpCall(client, httpMethod, uri, requestBody, 0).flatMap(clientResponse -> {
+            /*
+               The body is kept in the buffers it was received in, without copying it to a byte array, and the
+               maximum in memory size configured for the client is enforced while the buffers are received.
+            */
+            final Mono<DataBuffer> bodyMono = DataBufferUtils.join(
+                            clientResponse.body(BodyExtractors.toDataBuffers()), getMaxInMemorySize(clientResponse))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+
+            return bodyMono.map(body -> {
+                        try {
+                            return toActionExecutionResult(
+                                    clientResponse,
+                                    body,
+                                    requestBody,
+                                    actionExecutionRequest,
+                                    objectMapper,
+                                    hintMessages,
+                                    requestCaptureFilter);
+                        } finally {
+                            DataBufferUtils.release(body);
+                        }
+                    })
+                    .switchIfEmpty(Mono.fromSupplier(() -> toActionExecutionResult(
+                            clientResponse,
+                            null,
+                            requestBody,
+                            actionExecutionRequest,
+                            objectMapper,
+                            hintMessages,
+                            requestCaptureFilter)));
+        });
+    }
 
-                    // Set headers in the result now
-                    try {
-                        result.setHeaders(objectMapper.readTree(headerInJsonString));
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR, headerInJsonString, e.getMessage()));
-                    }
+    private ActionExecutionResult toActionExecutionResult(
+            ClientResponse clientResponse,
+            DataBuffer body,
+            Object requestBody,
+            ActionExecutionRequest actionExecutionRequest,
+            ObjectMapper objectMapper,
+            Set<String> hintMessages,
+            RequestCaptureFilter requestCaptureFilter) {
+        HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+        /*
+           Find the media type of the response to parse the body as required. In case the content-type
+           header is not present in the response then set it to our default i.e. "text/plain" although
+           the RFC 7231 standard suggests assuming "application/octet-stream" content-type in case
+           it's not present in response header.
+        */
+        MediaType contentType = headers.getContentType();
+        if (contentType == null) {
+            contentType = MediaType.TEXT_PLAIN;
+        }
+        HttpStatusCode statusCode = clientResponse.statusCode();
+
+        ActionExecutionResult result = new ActionExecutionResult();
+
+        // Set the request fields
+        boolean isBodySentWithApiRequest = requestBody == null ? false : true;
+        result.setRequest(requestCaptureFilter.populateRequestFields(actionExecutionRequest, isBodySentWithApiRequest));
+
+        result.setStatusCode(statusCode.toString());
+
+        // if something has moved permanently should we mark it as an execution failure?
+        // here marking a redirection as an execution success if the url has moved permanently without a
+        // forwarding Location
+        boolean isExecutionSuccess = statusCode.is2xxSuccessful() || statusCode.is3xxRedirection();
+        result.setIsExecutionSuccess(isExecutionSuccess);
+
+        // Convert the headers into a json tree, with the list of values of every header, to store in the results
+        ObjectNode headersObjectNode = objectMapper.createObjectNode();
+        headers.forEach((name, values) -> {
+            ArrayNode valuesArrayNode = headersObjectNode.putArray(name);
+            values.forEach(valuesArrayNode::add);
+        });
+        result.setHeaders(headersObjectNode);
+
+        if (body != null) {
+
+            ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
+
+            /**TODO
+             * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+             * are kept as is and returned as a string.
+             */
+            if (contentType.includes(MediaType.APPLICATION_JSON)) {
+                final int readPosition = body.readPosition();
+                final int length = body.readableByteCount();
+                // The tree is parsed straight from the buffers of the body
+                try (InputStream bodyInputStream = body.asInputStream()) {
+                    result.setBody(objectMapper.readTree(bodyInputStream));
+                    responseDataType = ResponseDataType.JSON;
+                } catch (IOException e) {
+                    System.out.println("Unable to parse response JSON. Setting response body as string.");
+                    String bodyString = body.toString(readPosition, length, StandardCharsets.UTF_8);
+                    result.setBody(bodyString.trim());
+
+                    // Warn user that the API response is not a valid JSON.
+                    hintMessages.add("The response returned by this API is not a valid JSON. Please "
+                            + "be careful when using the API response anywhere a valid JSON is required"
+                            + ". You may resolve this issue either by modifying the 'Content-Type' "
+                            + "Header to indicate a non-JSON response or by modifying the API response "
+                            + "to return a valid JSON.");
+                }
+            } else if (MediaType.IMAGE_GIF.equals(contentType)
+                    || MediaType.IMAGE_JPEG.equals(contentType)
+                    || MediaType.IMAGE_PNG.equals(contentType)) {
+                String encode = Base64.getEncoder().encodeToString(toByteArray(body));
+                result.setBody(encode);
+                responseDataType = ResponseDataType.IMAGE;
+
+            } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
+                String encode = Base64.getEncoder().encodeToString(toByteArray(body));
+                result.setBody(encode);
+                responseDataType = ResponseDataType.BINARY;
+            } else {
+                // If the body is not of JSON type, just set it as is.
+                String bodyString = body.toString(StandardCharsets.UTF_8);
+                result.setBody(bodyString.trim());
+                responseDataType = ResponseDataType.TEXT;
+            }
+
+            // Now add a new header which specifies the data type of the response as per Appsmith
+            headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
+        }
 
-                    if (body != null) {
-
-                        ResponseDataType responseDataType = ResponseDataType.UNDEFINED;
-
-                        /**TODO
-                         * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                         * are kept as is and returned as a string.
-                         */
-                        if (contentType.includes(MediaType.APPLICATION_JSON)) {
-                            try {
-                                String jsonBody = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(objectMapper.readTree(jsonBody));
-                                responseDataType = ResponseDataType.JSON;
-                            } catch (IOException e) {
-                                System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                String bodyString = new String(body, StandardCharsets.UTF_8);
-                                result.setBody(bodyString.trim());
-
-                                // Warn user that the API response is not a valid JSON.
-                                hintMessages.add("The response returned by this API is not a valid JSON. Please "
-                                        + "be careful when using the API response anywhere a valid JSON is required"
-                                        + ". You may resolve this issue either by modifying the 'Content-Type' "
-                                        + "Header to indicate a non-JSON response or by modifying the API response "
-                                        + "to return a valid JSON.");
-                            }
-                        } else if (MediaType.IMAGE_GIF.equals(contentType)
-                                || MediaType.IMAGE_JPEG.equals(contentType)
-                                || MediaType.IMAGE_PNG.equals(contentType)) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.IMAGE;
-
-                        } else if (BINARY_DATA_TYPES.contains(contentType.toString())) {
-                            String encode = Base64.getEncoder().encodeToString(body);
-                            result.setBody(encode);
-                            responseDataType = ResponseDataType.BINARY;
-                        } else {
-                            // If the body is not of JSON type, just set it as is.
-                            String bodyString = new String(body, StandardCharsets.UTF_8);
-                            result.setBody(bodyString.trim());
-                            responseDataType = ResponseDataType.TEXT;
-                        }
+        result.setMessages(hintMessages);
+        return result;
+    }
 
-                        // Now add a new header which specifies the data type of the response as per Appsmith
-                        JsonNode headersJsonNode = result.getHeaders();
-                        ObjectNode headersObjectNode = (ObjectNode) headersJsonNode;
-                        headersObjectNode.putArray(RESPONSE_DATA_TYPE).add(String.valueOf(responseDataType));
-                        result.setHeaders(headersObjectNode);
-                    }
+    private static byte[] toByteArray(DataBuffer dataBuffer) {
+        byte[] bytes = new byte[dataBuffer.readableByteCount()];
+        dataBuffer.read(bytes);
+        return bytes;
+    }
 
-                    result.setMessages(hintMessages);
-                    return result;
-                });
+    /**
+     * Returns the maximum size of a body the client is allowed to hold in memory, as configured in its exchange
+     * strategies, or the default of the codecs if it can't be found.
+     */
+    private static int getMaxInMemorySize(ClientResponse clientResponse) {
+        return clientResponse.strategies().messageReaders().stream()
+                .filter(DecoderHttpMessageReader.class::isInstance)
+                .map(reader -> ((DecoderHttpMessageReader<?>) reader).getDecoder())
+                .filter(ByteArrayDecoder.class::isInstance)
+                .mapToInt(decoder -> ((ByteArrayDecoder) decoder).getMaxInMemorySize())
+                .findFirst()
+                .orElse(DEFAULT_MAX_IN_MEMORY_SIZE);
     }
 
     protected Mono<ClientResponse> httpCall(
@@ -300,21 +350,11 @@ public class RestAPIActivateUtils {
                 .forEach(header -> webClientBuilder.defaultHeader(header.getKey(), (String) header.getValue()));
     }
 
+    /**
+     * Returns the client shared by all the executions with the same protocol and SSL configuration, so that their
+     * connections are reused. See {@link HttpClientPools}.
+     */
     protected HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration, HttpProtocol httpProtocol) {
-        if (httpProtocol == null) {
-            httpProtocol = HttpProtocol.HTTP11;
-        }
-        // Initializing webClient to be used for http call
-        final ConnectionProvider provider = ConnectionProvider.builder("rest-api-provider")
-                .maxIdleTime(Duration.ofSeconds(600))
-                .maxLifeTime(Duration.ofSeconds(600))
-                .build();
-
-        HttpClient httpClient = HttpClient.create(provider)
-                .protocol(httpProtocol)
-                .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
-                .compress(true);
-
-        return httpClient;
+        return HttpClientPools.getInstance().getHttpClient(datasourceConfiguration, httpProtocol);
     }
 }
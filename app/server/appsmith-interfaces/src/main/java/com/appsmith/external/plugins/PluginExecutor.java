@@ -18,6 +18,7 @@ import io.micrometer.observation.ObservationRegistry;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.function.Tuple2;
@@ -240,6 +241,41 @@ public interface PluginExecutor<C> extends ExtensionPoint, CrudTemplateService {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Executes the action like {@link #executeParameterized}, but returns the result in chunks, so that the rows of a
+     * large result can be sent to the client as they are read, without holding all of them in memory.
+     * <p>
+     * The body of every chunk is a JSON array with the next rows of the result. The first chunk also carries the
+     * request and the messages of the execution. If the execution fails after some chunks have been emitted, the last
+     * chunk holds the error, with {@code isExecutionSuccess} set to false.
+     * <p>
+     * Plugins that cannot read their results incrementally do not need to implement this, the whole result of
+     * {@link #executeParameterized} is then returned as a single chunk, whatever the shape of its body.
+     *
+     * @return The chunks of the result, in order.
+     */
+    default Flux<ActionExecutionResult> executeParameterizedAsStream(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration) {
+        return this.executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .flux();
+    }
+
+    default Flux<ActionExecutionResult> executeParameterizedAsStreamWithMetrics(
+            C connection,
+            ExecuteActionDTO executeActionDTO,
+            DatasourceConfiguration datasourceConfiguration,
+            ActionConfiguration actionConfiguration,
+            ObservationRegistry observationRegistry) {
+        return this.executeParameterizedAsStream(
+                        connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .tag("plugin", this.getClass().getName())
+                .name(ACTION_EXECUTION_PLUGIN_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
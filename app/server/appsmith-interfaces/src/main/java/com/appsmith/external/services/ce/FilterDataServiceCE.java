@@ -2,7 +2,6 @@ package com.appsmith.external.services.ce;
 
 import com.appsmith.external.constants.ConditionalOperator;
 import com.appsmith.external.constants.DataType;
-import com.appsmith.external.constants.SortType;
 import com.appsmith.external.dtos.PreparedStatementValueDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
@@ -14,16 +13,12 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.bson.types.ObjectId;
-import org.h2.jdbc.JdbcSQLSyntaxErrorException;
-import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
@@ -40,7 +35,6 @@ import java.util.stream.Stream;
 
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
 import static com.appsmith.external.models.Condition.addValueDataType;
-import static org.apache.commons.lang3.StringUtils.isBlank;
 
 @Slf4j
 public class FilterDataServiceCE implements IFilterDataServiceCE {
@@ -76,7 +70,7 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
             ConditionalOperator.IN, "IN",
             ConditionalOperator.NOT_IN, "NOT IN");
 
-    private static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
+    static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
             DataType.INTEGER, Set.of(),
             DataType.LONG, Set.of(DataType.INTEGER),
             DataType.FLOAT, Set.of(DataType.INTEGER, DataType.LONG),
@@ -98,15 +92,6 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
     public FilterDataServiceCE() {
 
         objectMapper = new ObjectMapper();
-
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
     }
 
     /**
@@ -133,228 +118,17 @@ public class FilterDataServiceCE implements IFilterDataServiceCE {
         }
 
         Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
 
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
+        // Load the data into typed columns and filter, sort and paginate it in memory. Unlike a table in the shared
+        // H2 connection, the loaded data is local to this call and needs no clean up.
+        InMemoryDataTable table = InMemoryDataTable.load(items, schema, dataTypeConversionMap);
+        List<Map<String, Object>> finalResults = table.select(uqiDataFilterParams);
 
         ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
 
         return finalResultsNode;
     }
 
-    private List<Map<String, Object>> executeFilterQueryNew(
-            String tableName,
-            Map<String, DataType> schema,
-            UQIDataFilterParams uqiDataFilterParams,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Condition condition = uqiDataFilterParams.getCondition();
-        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
-        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
-        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder sb = new StringBuilder();
-
-        // Add projection columns condition otherwise use `select *`
-        addProjectionCondition(sb, projectionColumns, tableName);
-
-        /**
-         * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
-         * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
-         * if there was where clause like `Name == John` Or `Name != John, (which is a perfectly valid query) then
-         * the prepared statement substitution would fail because instead of two values to substitute it would only
-         * fine one i.e. {"John" -> DataType.String} is the only entry it would find whereas two entries are
-         * actually required {"John" -> DataType.String, "John" -> DataType.String} - one for each condition in the
-         * where clause. JUnit TC `testProjectionSortingAndPaginationTogether` takes care of this case as well.
-         */
-        List<PreparedStatementValueDTO> values = new ArrayList<>();
-
-        if (Condition.isValid(condition)) {
-            ConditionalOperator operator = condition.getOperator();
-            List<Condition> conditions = (List<Condition>) condition.getValue();
-
-            String whereClause = generateLogicalExpression(conditions, values, schema, operator);
-
-            if (StringUtils.isNotEmpty(whereClause)) {
-                sb.append(" WHERE ");
-                sb.append(whereClause);
-            }
-        }
-
-        // Add `order by` condition
-        addSortCondition(sb, sortBy);
-
-        // Add `limit <num> offset <num>` condition
-        addPaginationCondition(sb, paginateBy, values);
-
-        sb.append(";");
-
-        List<Map<String, Object>> rowsList = new ArrayList<>(50);
-
-        String selectQuery = sb.toString();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
-            for (int i = 0; iterator.hasNext(); i++) {
-                PreparedStatementValueDTO dataInfo = iterator.next();
-                String value = dataInfo.getValue();
-                DataType dataType = dataInfo.getDataType();
-                setValueInStatement(preparedStatement, i + 1, value, dataType, null);
-            }
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-                for (int i = 1; i <= colCount; i++) {
-                    Object resultValue = resultSet.getObject(i);
-
-                    // Set null values to empty strings
-                    if (null == resultValue) {
-                        resultValue = "";
-                    }
-
-                    row.put(metaData.getColumnName(i), resultValue);
-                }
-                rowsList.add(row);
-            }
-        } catch (SQLException e) {
-            // Getting an SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            log.error(e.getMessage());
-            if (e instanceof JdbcSQLSyntaxErrorException) {
-                throw new AppsmithPluginException(
-                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                        "Filtering failure seen : " + ((JdbcSQLSyntaxErrorException) e).getOriginalMessage());
-            }
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e);
-        }
-
-        return rowsList;
-    }
-
-    /**
-     * This method adds the following clause to the SQL query: `LIMIT <num> OFFSET <num>`
-     *
-     * @param sb         - SQL query builder
-     * @param paginateBy - values for limit and offset
-     * @param values     - list to hold values to be substituted in prepared statement
-     */
-    private void addPaginationCondition(
-            StringBuilder sb, Map<String, String> paginateBy, List<PreparedStatementValueDTO> values) {
-        if (CollectionUtils.isEmpty(paginateBy)) {
-            return;
-        }
-
-        sb.append(" LIMIT ? OFFSET ?");
-
-        // Set limit value and data type for prepared statement substitution
-        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
-        if (isBlank(limit)) {
-            limit = "20";
-        }
-        values.add(new PreparedStatementValueDTO(limit, DataType.INTEGER));
-
-        // Set offset value and data type for prepared statement substitution
-        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
-        if (isBlank(offset)) {
-            offset = "0";
-        }
-        values.add(new PreparedStatementValueDTO(offset, DataType.INTEGER));
-    }
-
-    /**
-     * Display only those columns that the user has chosen to display.
-     * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
-     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
-     *
-     * @param sb                - SQL query builder
-     * @param projectionColumns - list of columns that need to be displayed
-     * @param tableName         - table name in database
-     */
-    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
-        if (!CollectionUtils.isEmpty(projectionColumns)) {
-            sb.append("SELECT");
-            projectionColumns.stream().forEach(columnName -> sb.append(" `" + columnName + "`,"));
-
-            sb.setLength(sb.length() - 1);
-            sb.append(" FROM " + tableName);
-        } else {
-            sb.append("SELECT * FROM " + tableName);
-        }
-    }
-
-    /**
-     * This method adds `ORDER BY` clause to the SQL query. E.g. if the sortBy list is
-     * [
-     * {"columnName": "ID", "type": "ASCENDING"},
-     * {"columnName": "Name", "type": "DESCENDING"}
-     * ]
-     * then this method will add the following line to the SQL query: `ORDER BY ID ASC, Name DESC`
-     *
-     * @param sb     - SQL query builder
-     * @param sortBy - list of columns to sort by and sort type (ascending / descending)
-     * @throws AppsmithPluginException
-     */
-    private void addSortCondition(StringBuilder sb, List<Map<String, String>> sortBy) throws AppsmithPluginException {
-
-        /**
-         * Checks if:
-         *  o `sortBy` condition list is null or empty
-         *  o all column names in the sortBy list are empty
-         */
-        if (isSortConditionEmpty(sortBy)) {
-            return;
-        }
-
-        sb.append(" ORDER BY");
-        sortBy.stream()
-                .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
-                .forEachOrdered(sortCondition -> {
-                    String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
-                    SortType sortType;
-                    try {
-                        sortType = SortType.valueOf(
-                                sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Appsmith server failed "
-                                        + "to parse the type of sort condition. Please reach out to Appsmith customer support "
-                                        + "to resolve this.");
-                    }
-                    sb.append(" `" + columnName + "` " + sortType + ",");
-                });
-
-        sb.setLength(sb.length() - 1);
-    }
-
-    /**
-     * Checks if:
-     * o `sortBy` condition list is null or empty
-     * o all column names in the sortBy list are empty
-     */
-    private boolean isSortConditionEmpty(List<Map<String, String>> sortBy) {
-        if (CollectionUtils.isEmpty(sortBy)) {
-            return true;
-        }
-
-        return sortBy.stream().allMatch(sortCondition -> isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
-    }
-
     /**
      * Overloaded Method to handle plugin-based DataType conversion.
      *
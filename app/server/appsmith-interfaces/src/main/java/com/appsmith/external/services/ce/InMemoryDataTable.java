@@ -0,0 +1,666 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.datatypeCompatibilityMap;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * A column oriented, in-process copy of the rows handed to {@link FilterDataServiceCE}, on which UQI where
+ * conditions, sorting, pagination and projection are evaluated directly.
+ * <p>
+ * Every value is converted to the type of its column exactly once, while loading. The conversion rules are the ones
+ * the H2 based implementation applied when binding values to its prepared statements, so that a column holds the same
+ * Java types (Integer, Long, Float, Double, Boolean, String, java.sql.Date and java.sql.Timestamp) that were earlier
+ * read back from the in memory database.
+ */
+public class InMemoryDataTable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String DEFAULT_LIMIT = "20";
+
+    private static final String DEFAULT_OFFSET = "0";
+
+    private static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    private static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Set<DataType> NUMERIC_DATA_TYPES =
+            Set.of(DataType.INTEGER, DataType.LONG, DataType.FLOAT, DataType.DOUBLE);
+
+    /**
+     * Accepts `yyyy-MM-dd`, optionally followed by a time separated with a space or a `T`.
+     */
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .optionalStart()
+            .appendLiteral(' ')
+            .optionalEnd()
+            .optionalStart()
+            .appendLiteral('T')
+            .optionalEnd()
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalEnd()
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+            .toFormatter();
+
+    private static final DateTimeFormatter TIMESTAMP_TEXT_FORMATTER = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .toFormatter();
+
+    /**
+     * The storage type of a column. This is what a {@link DataType} was earlier mapped to in the H2 table.
+     */
+    enum ColumnType {
+        INT,
+        BIGINT,
+        REAL,
+        DOUBLE,
+        BOOLEAN,
+        VARCHAR,
+        DATE,
+        TIMESTAMP
+    }
+
+    private static final Map<DataType, ColumnType> COLUMN_TYPE_MAP = Map.of(
+            DataType.INTEGER, ColumnType.INT,
+            DataType.LONG, ColumnType.BIGINT,
+            DataType.FLOAT, ColumnType.REAL,
+            DataType.DOUBLE, ColumnType.DOUBLE,
+            DataType.BOOLEAN, ColumnType.BOOLEAN,
+            DataType.STRING, ColumnType.VARCHAR,
+            DataType.DATE, ColumnType.DATE,
+            DataType.TIMESTAMP, ColumnType.TIMESTAMP);
+
+    private final List<String> columnNames;
+
+    private final Map<String, Integer> columnIndexes;
+
+    private final DataType[] dataTypes;
+
+    private final ColumnType[] columnTypes;
+
+    // Indexed as columns[column][row]
+    private final Object[][] columns;
+
+    private final int rowCount;
+
+    private InMemoryDataTable(List<String> columnNames, DataType[] dataTypes, Object[][] columns, int rowCount) {
+        this.columnNames = columnNames;
+        this.dataTypes = dataTypes;
+        this.columns = columns;
+        this.rowCount = rowCount;
+
+        this.columnIndexes = new HashMap<>();
+        this.columnTypes = new ColumnType[dataTypes.length];
+        for (int i = 0; i < dataTypes.length; i++) {
+            columnIndexes.put(columnNames.get(i), i);
+            columnTypes[i] = COLUMN_TYPE_MAP.getOrDefault(dataTypes[i], ColumnType.VARCHAR);
+        }
+    }
+
+    /**
+     * Loads the items into typed columns as per the given schema. Fields missing in an item are loaded as null.
+     *
+     * @param items                 - data
+     * @param schema                - column names and their data types, as generated by
+     *                              {@link FilterDataServiceCE#generateSchema(ArrayNode, Map)}
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     */
+    public static InMemoryDataTable load(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        List<String> columnNames = new ArrayList<>(schema.keySet());
+        DataType[] dataTypes = new DataType[columnNames.size()];
+        Object[][] columns = new Object[columnNames.size()][items.size()];
+
+        for (int column = 0; column < columnNames.size(); column++) {
+            dataTypes[column] = schema.get(columnNames.get(column));
+        }
+
+        InMemoryDataTable table = new InMemoryDataTable(columnNames, dataTypes, columns, items.size());
+
+        for (int column = 0; column < columnNames.size(); column++) {
+            final String columnName = columnNames.get(column);
+            final Object[] values = columns[column];
+            for (int row = 0; row < values.length; row++) {
+                JsonNode fieldNode = items.get(row).get(columnName);
+                if (fieldNode != null) {
+                    values[row] = table.toColumnValue(fieldNode.asText(), column, dataTypeConversionMap);
+                }
+            }
+        }
+
+        return table;
+    }
+
+    /**
+     * Applies the where condition, sorting, pagination and projection, in that order, and returns the selected rows.
+     * Null values are returned as empty strings.
+     */
+    public List<Map<String, Object>> select(UQIDataFilterParams uqiDataFilterParams) {
+
+        int[] rows = filterAndSort(uqiDataFilterParams.getCondition(), uqiDataFilterParams.getSortBy());
+
+        rows = paginate(rows, uqiDataFilterParams.getPaginateBy());
+
+        int[] projection = getProjection(uqiDataFilterParams.getProjectionColumns());
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            Map<String, Object> rowMap = new LinkedHashMap<>(projection.length);
+            for (int column : projection) {
+                Object value = columns[column][row];
+
+                // Set null values to empty strings
+                rowMap.put(columnNames.get(column), value == null ? "" : value);
+            }
+            rowsList.add(rowMap);
+        }
+
+        return rowsList;
+    }
+
+    /**
+     * Applies the where condition and sorting, and returns the indexes of the selected rows, in order.
+     */
+    int[] filterAndSort(Condition condition, List<Map<String, String>> sortBy) {
+        IntPredicate predicate = null;
+        if (Condition.isValid(condition)) {
+            predicate = compileCondition(condition);
+        }
+
+        int[] rows = new int[rowCount];
+        int selectedCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (predicate == null || predicate.test(row)) {
+                rows[selectedCount++] = row;
+            }
+        }
+        rows = Arrays.copyOf(rows, selectedCount);
+
+        return sort(rows, sortBy);
+    }
+
+    private IntPredicate compileCondition(Condition condition) {
+        if (condition.getValue() instanceof List) {
+            return compileLogicalExpression((List<Condition>) condition.getValue(), condition.getOperator());
+        }
+
+        return compileComparison(condition);
+    }
+
+    private IntPredicate compileLogicalExpression(List<Condition> conditions, ConditionalOperator logicOp) {
+        List<IntPredicate> predicates = new ArrayList<>();
+        for (Condition condition : conditions) {
+            ConditionalOperator operator = condition.getOperator();
+            IntPredicate predicate;
+            if (ConditionalOperator.AND.equals(operator) || ConditionalOperator.OR.equals(operator)) {
+                predicate = condition.getValue() instanceof List
+                        ? compileLogicalExpression((List<Condition>) condition.getValue(), operator)
+                        : null;
+            } else {
+                predicate = compileComparison(condition);
+            }
+
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+
+        if (predicates.isEmpty()) {
+            return null;
+        }
+
+        final IntPredicate[] predicateArray = predicates.toArray(new IntPredicate[0]);
+        if (ConditionalOperator.OR.equals(logicOp)) {
+            return row -> {
+                for (IntPredicate predicate : predicateArray) {
+                    if (predicate.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+
+        return row -> {
+            for (IntPredicate predicate : predicateArray) {
+                if (!predicate.test(row)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Compiles a single comparison. Like SQL, a comparison involving a null value never matches, except for the
+     * empty value checks which translate to `IS NULL` / `IS NOT NULL`.
+     */
+    private IntPredicate compileComparison(Condition condition) {
+        String path = condition.getPath();
+        if (StringUtils.isEmpty(path)) {
+            return null;
+        }
+
+        ConditionalOperator operator = condition.getOperator();
+        String value = condition.getValue() == null ? null : String.valueOf(condition.getValue());
+        final int column = getColumnIndex(path);
+        final Object[] values = columns[column];
+
+        if (StringUtils.isEmpty(value)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return row -> values[row] == null;
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return row -> values[row] != null;
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    operator + " is not supported currently for filtering.");
+        }
+
+        switch (operator) {
+            case IN:
+            case NOT_IN: {
+                final Set<Object> arrayValues = new HashSet<>();
+                boolean hasNull = false;
+                try {
+                    for (Object fieldValue : objectMapper.readValue(value, List.class)) {
+                        Object columnValue = toColumnValue(String.valueOf(fieldValue), column, null);
+                        if (columnValue == null) {
+                            hasNull = true;
+                        } else {
+                            arrayValues.add(columnValue);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            value + " could not be parsed into an array");
+                }
+
+                if (ConditionalOperator.IN.equals(operator)) {
+                    return row -> values[row] != null && arrayValues.contains(values[row]);
+                }
+
+                // `x NOT IN (.., NULL)` is never true in SQL
+                final boolean notInMatchesNothing = hasNull;
+                return row -> !notInMatchesNothing && values[row] != null && !arrayValues.contains(values[row]);
+            }
+            case CONTAINS: {
+                if (NUMERIC_DATA_TYPES.contains(dataTypes[column])) {
+                    // The `%value%` pattern can't be read as a number, this raises the same error as the H2 binding
+                    toColumnValue("%" + value + "%", column, null);
+                } else if (ColumnType.BOOLEAN.equals(columnTypes[column])) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                            "Filtering failure seen : " + operator + " is not supported for boolean column " + path);
+                }
+                // The H2 query escaped `%`, `_`, `[` and `!` in the LIKE pattern, so the value has always been
+                // matched literally, as a plain substring, and is not read as a pattern here either
+                final String searchValue = value;
+                return row -> values[row] != null && toText(values[row]).contains(searchValue);
+            }
+            case LT:
+            case LTE:
+            case EQ:
+            case NOT_EQ:
+            case GT:
+            case GTE: {
+                final Object conditionValue = toColumnValue(value, column, null);
+                if (conditionValue == null) {
+                    return row -> false;
+                }
+
+                final IntPredicate comparisonMatches =
+                        switch (operator) {
+                            case LT -> comparison -> comparison < 0;
+                            case LTE -> comparison -> comparison <= 0;
+                            case EQ -> comparison -> comparison == 0;
+                            case NOT_EQ -> comparison -> comparison != 0;
+                            case GT -> comparison -> comparison > 0;
+                            default -> comparison -> comparison >= 0;
+                        };
+                return row -> values[row] != null && comparisonMatches.test(compareValues(values[row], conditionValue));
+            }
+            default:
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        operator + " is not supported currently for filtering.");
+        }
+    }
+
+    /**
+     * Sorts the selected rows as per the sort conditions. Like H2, nulls are treated as the smallest values and the
+     * original order of the rows is kept for ties.
+     */
+    private int[] sort(int[] rows, List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return rows;
+        }
+
+        Comparator<Integer> comparator = null;
+        for (Map<String, String> sortCondition : sortBy) {
+            String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+            if (isBlank(columnName)) {
+                continue;
+            }
+
+            SortType sortType;
+            try {
+                sortType = SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Appsmith server failed "
+                                + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                                + "to resolve this.");
+            }
+
+            final Object[] values = columns[getColumnIndex(columnName)];
+            Comparator<Integer> columnComparator = (left, right) -> compareValues(values[left], values[right]);
+            if (SortType.DESCENDING.equals(sortType)) {
+                columnComparator = columnComparator.reversed();
+            }
+
+            comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+
+        if (comparator == null) {
+            return rows;
+        }
+
+        Integer[] boxedRows = Arrays.stream(rows).boxed().toArray(Integer[]::new);
+        Arrays.sort(boxedRows, comparator);
+        return Arrays.stream(boxedRows).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Compares two values of the same column, with nulls being the smallest values.
+     */
+    private static int compareValues(Object left, Object right) {
+        if (left == null || right == null) {
+            return left == null ? (right == null ? 0 : -1) : 1;
+        }
+
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+
+    /**
+     * Returns whether the where condition compares any column, e.g. an empty AND condition, which the where clause
+     * form sends by default, selects all the rows.
+     */
+    public static boolean isFiltered(Condition condition) {
+        if (!Condition.isValid(condition)) {
+            return false;
+        }
+
+        if (condition.getValue() instanceof List) {
+            return ((List<Condition>) condition.getValue()).stream().anyMatch(InMemoryDataTable::isFiltered);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the sort conditions sort on any column.
+     */
+    public static boolean isSorted(List<Map<String, String>> sortBy) {
+        return !CollectionUtils.isEmpty(sortBy)
+                && sortBy.stream().anyMatch(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+    }
+
+    private int[] paginate(int[] rows, Map<String, String> paginateBy) {
+        int[] window = getPaginationWindow(paginateBy);
+        if (window == null) {
+            return rows;
+        }
+
+        int from = Math.min(window[0], rows.length);
+        int to = (int) Math.min((long) from + window[1], rows.length);
+        return Arrays.copyOfRange(rows, from, to);
+    }
+
+    /**
+     * Returns the offset and the limit of the pagination, or null when the rows are not paginated.
+     */
+    public static int[] getPaginationWindow(Map<String, String> paginateBy) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return null;
+        }
+
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = DEFAULT_LIMIT;
+        }
+
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = DEFAULT_OFFSET;
+        }
+
+        int limitValue = parsePaginationValue(limit);
+        int offsetValue = parsePaginationValue(offset);
+
+        return new int[] {offsetValue, limitValue};
+    }
+
+    private static int parsePaginationValue(String value) {
+        try {
+            int parsedValue = Integer.parseInt(value.trim().replaceAll(",", ""));
+            if (parsedValue < 0) {
+                throw new IllegalArgumentException("pagination values can not be negative");
+            }
+            return parsedValue;
+        } catch (IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + DataType.INTEGER);
+        }
+    }
+
+    private int[] getProjection(List<String> projectionColumns) {
+        if (CollectionUtils.isEmpty(projectionColumns)) {
+            int[] projection = new int[columnNames.size()];
+            Arrays.setAll(projection, column -> column);
+            return projection;
+        }
+
+        return projectionColumns.stream().mapToInt(this::getColumnIndex).toArray();
+    }
+
+    private int getColumnIndex(String columnName) {
+        Integer column = columnIndexes.get(columnName);
+        if (column == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Filtering failure seen : Column \"" + columnName + "\" not found");
+        }
+        return column;
+    }
+
+    /**
+     * Converts a value to the type of the given column. This follows the rules used to bind values in the H2 based
+     * implementation: empty and null-like values, as well as values of a type incompatible with the column when a
+     * conversion map is in use, become null. Values that can't be read as the column's type raise an error.
+     */
+    private Object toColumnValue(String value, int column, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = dataTypes[column];
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(dataType, dataType);
+        }
+
+        if (StringUtils.isEmpty(value)) {
+            return null;
+        }
+
+        if (dataTypeConversionMap == null) {
+            // Without a conversion map, the detected type of the value only matters if it is null
+            if (isNullValue(value)) {
+                return null;
+            }
+        } else {
+            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+            DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+            if (DataType.NULL.equals(inputDataType)) {
+                return null;
+            }
+
+            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+            if (inputDataType != dataType
+                    && !datatypeCompatibilityMap
+                            .getOrDefault(dataType, Set.of())
+                            .contains(inputDataType)) {
+                return null;
+            }
+        }
+
+        try {
+            String strNumericValue = value.trim().replaceAll(",", "");
+            Object parsedValue;
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    parsedValue = Integer.parseInt(strNumericValue);
+                    break;
+                case LONG:
+                    parsedValue = Long.parseLong(strNumericValue);
+                    break;
+                case FLOAT:
+                case DOUBLE:
+                    parsedValue = new BigDecimal(strNumericValue);
+                    break;
+                case BOOLEAN:
+                    parsedValue = Boolean.parseBoolean(value);
+                    break;
+                case STRING:
+                default:
+                    parsedValue = value;
+                    break;
+            }
+
+            return toStorageType(parsedValue, columnTypes[column]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + dataType);
+        }
+    }
+
+    /**
+     * Mirrors {@link com.appsmith.external.helpers.DataTypeStringUtils#stringToKnownDataTypeConverter(String)} for the
+     * only outcome that matters when no conversion map is used: whether the value is detected as null.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+
+        return "null".equals(value.toLowerCase().trim());
+    }
+
+    private static Object toStorageType(Object value, ColumnType columnType) {
+        switch (columnType) {
+            case INT:
+                return value instanceof Number number
+                        ? Integer.valueOf(number.intValue())
+                        : Integer.valueOf(value.toString().trim());
+            case BIGINT:
+                return value instanceof Number number
+                        ? Long.valueOf(number.longValue())
+                        : Long.valueOf(value.toString().trim());
+            case REAL:
+                return value instanceof Number number
+                        ? Float.valueOf(number.floatValue())
+                        : Float.valueOf(value.toString().trim());
+            case DOUBLE:
+                return value instanceof Number number
+                        ? Double.valueOf(number.doubleValue())
+                        : Double.valueOf(value.toString().trim());
+            case BOOLEAN:
+                return value instanceof Boolean
+                        ? value
+                        : Boolean.valueOf(value.toString().trim());
+            case DATE:
+                return Date.valueOf(LocalDateTime.parse(value.toString().trim(), DATE_TIME_FORMATTER)
+                        .toLocalDate());
+            case TIMESTAMP:
+                return Timestamp.valueOf(LocalDateTime.parse(value.toString().trim(), DATE_TIME_FORMATTER));
+            case VARCHAR:
+            default:
+                return toText(value);
+        }
+    }
+
+    /**
+     * Text representation of a value, as H2 would have cast it to a VARCHAR.
+     */
+    private static String toText(Object value) {
+        if (value instanceof Boolean) {
+            return value.toString().toUpperCase();
+        }
+
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toPlainString();
+        }
+
+        if (value instanceof Timestamp timestamp) {
+            return TIMESTAMP_TEXT_FORMATTER.format(timestamp.toLocalDateTime());
+        }
+
+        return value.toString();
+    }
+}
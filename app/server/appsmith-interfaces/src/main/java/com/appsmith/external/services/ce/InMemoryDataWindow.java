@@ -0,0 +1,134 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.models.Condition.addValueDataType;
+
+/**
+ * Filters, sorts and paginates data that is received in batches, e.g. page by page from a remote listing, the way
+ * {@link FilterDataServiceCE#filterDataNew(ArrayNode, UQIDataFilterParams)} would on all of it at once, while only
+ * holding on to the rows that can still end up in the requested page.
+ * <p>
+ * The schema is generated from the first row received, like it would be for the whole data. Without sorting, rows
+ * keep the order they are received in, so the page is settled once it has been filled, see {@link #isComplete()}.
+ */
+public class InMemoryDataWindow {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final IFilterDataServiceCE filterDataService;
+
+    private final Condition condition;
+
+    private final List<Map<String, String>> sortBy;
+
+    private final boolean sorted;
+
+    private final int offset;
+
+    // Number of rows, from the first one, that may end up in the page
+    private final int end;
+
+    private Map<String, DataType> schema;
+
+    private List<JsonNode> rows = new ArrayList<>();
+
+    public InMemoryDataWindow(IFilterDataServiceCE filterDataService, UQIDataFilterParams uqiDataFilterParams) {
+        this.filterDataService = filterDataService;
+        this.condition = Condition.isValid(uqiDataFilterParams.getCondition())
+                ? addValueDataType(uqiDataFilterParams.getCondition())
+                : null;
+        this.sortBy = uqiDataFilterParams.getSortBy();
+        this.sorted = InMemoryDataTable.isSorted(sortBy);
+
+        int[] window = InMemoryDataTable.getPaginationWindow(uqiDataFilterParams.getPaginateBy());
+        this.offset = window == null ? 0 : window[0];
+        this.end = window == null ? Integer.MAX_VALUE : (int) Math.min((long) window[0] + window[1], Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds the next batch of rows, keeping those that match the where condition and can still end up in the page.
+     */
+    public void add(ArrayNode items) {
+        if (items == null || items.isEmpty() || isComplete()) {
+            return;
+        }
+
+        if (schema == null) {
+            schema = filterDataService.generateSchema(items, null);
+        }
+
+        ArrayNode candidates = objectMapper.createArrayNode();
+        if (sorted && end != Integer.MAX_VALUE) {
+            // The rows kept so far are sorted again along with the batch, so that only the first ones are kept
+            candidates.addAll(rows);
+            rows = new ArrayList<>();
+        }
+        candidates.addAll(items);
+
+        int[] selectedRows = InMemoryDataTable.load(candidates, schema, null)
+                .filterAndSort(condition, end == Integer.MAX_VALUE ? null : sortBy);
+        for (int row : selectedRows) {
+            if (rows.size() >= end) {
+                break;
+            }
+            rows.add(candidates.get(row));
+        }
+    }
+
+    /**
+     * Returns whether the rows still to come can't change the page, i.e. when the rows are not sorted and the page has
+     * been filled.
+     */
+    public boolean isComplete() {
+        return !sorted && rows.size() >= end;
+    }
+
+    /**
+     * Returns the rows of the page, in order, as they were received.
+     */
+    public List<JsonNode> getRows() {
+        if (sorted && end == Integer.MAX_VALUE && !rows.isEmpty()) {
+            // Without pagination, the matching rows are only sorted once they have all been received
+            ArrayNode candidates = objectMapper.createArrayNode().addAll(rows);
+            List<JsonNode> sortedRows = new ArrayList<>(rows.size());
+            for (int row : InMemoryDataTable.load(candidates, schema, null).filterAndSort(null, sortBy)) {
+                sortedRows.add(candidates.get(row));
+            }
+            rows = sortedRows;
+        }
+
+        return rows.subList(Math.min(offset, rows.size()), rows.size());
+    }
+
+    /**
+     * Converts the rows of the page, to which more fields may have been added since, to the values that
+     * {@link FilterDataServiceCE#filterDataNew(ArrayNode, UQIDataFilterParams)} would have returned for them. The fields
+     * that were received keep the data types of the schema generated from the first row.
+     */
+    public ArrayNode toResult(ArrayNode pageRows) {
+        if (pageRows == null || pageRows.isEmpty()) {
+            return pageRows;
+        }
+
+        Map<String, DataType> pageSchema = new LinkedHashMap<>(filterDataService.generateSchema(pageRows, null));
+        if (schema != null) {
+            pageSchema.replaceAll((column, dataType) -> schema.getOrDefault(column, dataType));
+        }
+
+        List<Map<String, Object>> result = InMemoryDataTable.load(pageRows, pageSchema, null)
+                .select(new UQIDataFilterParams(null, null, null, null));
+
+        return objectMapper.valueToTree(result);
+    }
+}
@@ -6,5 +6,23 @@ public interface SharedConfigCE {
 
     int getMaxResponseSize();
 
+    /**
+     * Maximum number of rows returned by plugins that cap the rows of a response, like the Mongo plugin does.
+     */
+    default int getMaxResponseRows() {
+        return 10000;
+    }
+
     String getRemoteExecutionUrl();
+
+    default int getJdbcFetchSize() {
+        return 1000;
+    }
+
+    /**
+     * Maximum size, in bytes, of the content of a file read by plugins that read files, like the S3 plugin does.
+     */
+    default int getMaxFileReadSize() {
+        return 100 * 1024 * 1024;
+    }
 }
@@ -1,5 +1,11 @@
 package com.appsmith.external.helpers;
 
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,6 +14,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -94,4 +104,52 @@ public class AppsmithBeanUtilsTest {
         assertThat(target.getJoinDate()).isEqualTo(LocalDate.of(2000, 1, 1));
         assertThat(target.getGender()).isEqualTo(Gender.Female);
     }
+
+    @Test
+    public void deepCopy_copiesNestedModelsAndCollections() {
+        Person mentor = new Person("Yoda", 900, true, LocalDate.of(1980, 5, 21), Gender.Male, null);
+        Person source = new Person("Luke", 25, null, LocalDate.of(2000, 1, 1), Gender.Male, mentor);
+
+        Person copy = AppsmithBeanUtils.deepCopy(source);
+        copy.getMentor().setName("Obi-Wan");
+
+        assertThat(copy).isNotSameAs(source);
+        assertThat(copy.getName()).isEqualTo("Luke");
+        assertThat(copy.getIsApproved()).isNull();
+        assertThat(copy.getJoinDate()).isEqualTo(LocalDate.of(2000, 1, 1));
+        assertThat(copy.getGender()).isEqualTo(Gender.Male);
+        assertThat(source.getMentor().getName()).isEqualTo("Yoda");
+    }
+
+    @Test
+    public void deepCopy_keepsWriteOnlyFieldsAndCopiesCollections() {
+        DBAuth auth = new DBAuth();
+        auth.setUsername("user");
+        auth.setPassword("secret");
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(auth);
+        datasourceConfiguration.setProperties(new ArrayList<>(List.of(new Property("key", "value"))));
+
+        ObjectNode body = JsonNodeFactory.instance.objectNode().put("query", "{{Input1.text}}");
+        Map<String, Object> formData = new HashMap<>();
+        formData.put("body", body);
+        formData.put("limit", 10L);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users where name = {{Input1.text}}");
+        actionConfiguration.setFormData(formData);
+
+        DatasourceConfiguration datasourceConfigurationCopy = AppsmithBeanUtils.deepCopy(datasourceConfiguration);
+        ActionConfiguration actionConfigurationCopy = AppsmithBeanUtils.deepCopy(actionConfiguration);
+        ((DBAuth) datasourceConfigurationCopy.getAuthentication()).setPassword("changed");
+        datasourceConfigurationCopy.getProperties().get(0).setValue("changed");
+        actionConfigurationCopy.setBody("select 1");
+        ((ObjectNode) actionConfigurationCopy.getFormData().get("body")).put("query", "changed");
+
+        assertThat(((DBAuth) datasourceConfiguration.getAuthentication()).getPassword())
+                .isEqualTo("secret");
+        assertThat(datasourceConfiguration.getProperties().get(0).getValue()).isEqualTo("value");
+        assertThat(actionConfiguration.getBody()).isEqualTo("select * from users where name = {{Input1.text}}");
+        assertThat(body.get("query").asText()).isEqualTo("{{Input1.text}}");
+        assertThat(actionConfigurationCopy.getFormData().get("limit")).isEqualTo(10L);
+    }
 }
@@ -0,0 +1,154 @@
+package com.appsmith.external.helpers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a wide result set the way the JDBC plugins used to, looking up the type name of every cell and
+ * reading non-null values twice into a new {@code LinkedHashMap} per row, against {@link JdbcResultSetReader}.
+ * <p>
+ * The result set is an in-memory proxy that returns the same values for every row, so the numbers leave out the cost
+ * of the driver and of the network, and only compare the work done by the plugins around the driver calls.
+ * <p>
+ * This is not run as part of the test suite. Run the {@code main} method from the IDE, or with {@code java} on the
+ * test classpath of the module, which can be printed with {@code mvn dependency:build-classpath}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JdbcResultSetReaderBenchmark {
+
+    private static final String[] TYPE_NAMES = {"int4", "varchar", "numeric", "bool", "date"};
+
+    @Param({"100000"})
+    public int rowCount;
+
+    @Param({"50"})
+    public int columnCount;
+
+    private ResultSet resultSet;
+
+    private ResultSetMetaData metaData;
+
+    @Setup
+    public void setup() {
+        final String[] columnNames = new String[columnCount];
+        final String[] typeNames = new String[columnCount];
+        final Object[] values = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = "column_" + i;
+            typeNames[i] = TYPE_NAMES[i % TYPE_NAMES.length];
+            values[i] = getValue(typeNames[i], i);
+        }
+
+        metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {ResultSetMetaData.class}, (proxy, method, args) -> {
+                    return switch (method.getName()) {
+                        case "getColumnCount" -> columnCount;
+                        case "getColumnName" -> columnNames[(int) args[0] - 1];
+                        case "getColumnTypeName" -> typeNames[(int) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+        resultSet = (ResultSet) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                    return switch (method.getName()) {
+                        case "getObject", "getDate" -> values[(int) args[0] - 1];
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+
+    private static Object getValue(String typeName, int column) {
+        switch (typeName) {
+            case "int4":
+                return column;
+            case "varchar":
+                return "value of column " + column;
+            case "numeric":
+                return (double) column / 3;
+            case "bool":
+                return column % 2 == 0;
+            default:
+                return Date.valueOf("2018-12-31");
+        }
+    }
+
+    @Benchmark
+    public void readCellByCell(Blackhole blackhole) throws SQLException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        final int colCount = metaData.getColumnCount();
+        for (int row = 0; row < rowCount; row++) {
+            Map<String, Object> rowMap = new LinkedHashMap<>(colCount);
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+                } else if ("date".equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(
+                            resultSet.getDate(i).toLocalDate());
+                } else if ("timestamp".equalsIgnoreCase(typeName) || "timestamptz".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+                } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+                } else if ("interval".equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+                } else {
+                    value = resultSet.getObject(i);
+                }
+                rowMap.put(metaData.getColumnName(i), value);
+            }
+            rowsList.add(rowMap);
+        }
+        blackhole.consume(rowsList);
+    }
+
+    @Benchmark
+    public void readWithResolvedReaders(Blackhole blackhole) throws SQLException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        JdbcResultSetReader reader = new JdbcResultSetReader(
+                metaData,
+                typeName ->
+                        "date".equalsIgnoreCase(typeName) ? JdbcResultSetReader.ISO_DATE : JdbcResultSetReader.OBJECT);
+        for (int row = 0; row < rowCount; row++) {
+            rowsList.add(reader.readRow(resultSet));
+        }
+        blackhole.consume(rowsList);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(JdbcResultSetReaderBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
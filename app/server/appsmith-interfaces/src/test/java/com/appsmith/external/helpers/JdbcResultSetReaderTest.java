@@ -0,0 +1,94 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class JdbcResultSetReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ResultSetMetaData mockMetaData(String[] columnNames, String[] typeNames) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columnNames.length);
+        for (int i = 0; i < columnNames.length; i++) {
+            when(metaData.getColumnName(i + 1)).thenReturn(columnNames[i]);
+            when(metaData.getColumnTypeName(i + 1)).thenReturn(typeNames[i]);
+        }
+        return metaData;
+    }
+
+    private JdbcResultSetReader.ColumnReader getColumnReader(String typeName) {
+        return "date".equals(typeName) ? JdbcResultSetReader.ISO_DATE : JdbcResultSetReader.OBJECT;
+    }
+
+    @Test
+    public void readRow_resolvesReadersOnce_andReadsEveryCellOnce() throws SQLException {
+        ResultSetMetaData metaData =
+                mockMetaData(new String[] {"id", "name", "dob"}, new String[] {"int4", "varchar", "date"});
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1)).thenReturn(1, 2);
+        when(resultSet.getObject(2)).thenReturn("Jack", null);
+        when(resultSet.getDate(3)).thenReturn(Date.valueOf("2018-12-31"), null);
+
+        JdbcResultSetReader reader = new JdbcResultSetReader(metaData, this::getColumnReader);
+        Map<String, Object> first = reader.readRow(resultSet);
+        Map<String, Object> second = reader.readRow(resultSet);
+
+        assertEquals(List.of("id", "name", "dob"), reader.getColumnNames());
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("name", "Jack");
+        expected.put("dob", "2018-12-31");
+        assertEquals(expected, first);
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.valueToTree(first));
+        assertEquals(2, second.get("id"));
+        assertNull(second.get("name"));
+        assertNull(second.get("dob"));
+
+        // Once per column, and not once per cell
+        verify(metaData, times(3)).getColumnTypeName(anyInt());
+        verify(resultSet, times(2)).getObject(1);
+        verify(resultSet, times(2)).getObject(2);
+        verify(resultSet, times(2)).getDate(3);
+    }
+
+    @Test
+    public void readRow_duplicateColumnNames_behavesLikeLinkedHashMap() throws SQLException {
+        ResultSetMetaData metaData =
+                mockMetaData(new String[] {"id", "name", "id"}, new String[] {"int4", "varchar", "int4"});
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject(1)).thenReturn(1);
+        when(resultSet.getObject(2)).thenReturn("Jack");
+        when(resultSet.getObject(3)).thenReturn(3);
+
+        JdbcResultSetReader reader = new JdbcResultSetReader(metaData, this::getColumnReader);
+        Map<String, Object> row = reader.readRow(resultSet);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1);
+        expected.put("name", "Jack");
+        expected.put("id", 3);
+        assertEquals(List.of("id", "name", "id"), reader.getColumnNames());
+        assertEquals(List.copyOf(expected.keySet()), List.copyOf(row.keySet()));
+        assertEquals(expected, row);
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.valueToTree(row));
+        assertThrows(UnsupportedOperationException.class, () -> row.put("id", 4));
+    }
+}
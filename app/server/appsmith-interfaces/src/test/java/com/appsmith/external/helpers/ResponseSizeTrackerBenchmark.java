@@ -0,0 +1,103 @@
+package com.appsmith.external.helpers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the size check done by JDBC plugins while reading rows: serializing the accumulated rows with
+ * {@link Sizeof} every 100 rows against updating a {@link ResponseSizeTracker} with every value.
+ * <p>
+ * This is not run as part of the test suite. Run the {@code main} method from the IDE, or with {@code java} on the
+ * test classpath of the module, which can be printed with {@code mvn dependency:build-classpath}. The benchmark runs in
+ * a forked JVM, so it cannot be started with {@code mvn exec:java}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ResponseSizeTrackerBenchmark {
+
+    private static final int SIZEOF_FREQUENCY = 100;
+
+    private static final int COLUMN_COUNT = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int rowCount;
+
+    private String[] columnNames;
+
+    private Object[] values;
+
+    @Setup
+    public void setup() {
+        columnNames = new String[COLUMN_COUNT];
+        values = new Object[COLUMN_COUNT];
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columnNames[i] = "column_" + i;
+            values[i] = i % 2 == 0 ? "value of column " + i : (Object) (long) i;
+        }
+    }
+
+    @Benchmark
+    public void serializeAccumulatedRows(Blackhole blackhole) throws IOException {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        for (int row = 0; row < rowCount; row++) {
+            if (row % SIZEOF_FREQUENCY == 0) {
+                blackhole.consume(Sizeof.sizeof(rowsList));
+            }
+            rowsList.add(buildRow(null));
+        }
+        blackhole.consume(rowsList);
+    }
+
+    @Benchmark
+    public void trackEveryValue(Blackhole blackhole) {
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+        ResponseSizeTracker sizeTracker = new ResponseSizeTracker(Long.MAX_VALUE);
+        for (int row = 0; row < rowCount; row++) {
+            blackhole.consume(sizeTracker.isLimitExceeded());
+            rowsList.add(buildRow(sizeTracker));
+        }
+        blackhole.consume(rowsList);
+    }
+
+    private Map<String, Object> buildRow(ResponseSizeTracker sizeTracker) {
+        Map<String, Object> row = new LinkedHashMap<>(COLUMN_COUNT);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            row.put(columnNames[i], values[i]);
+            if (sizeTracker != null) {
+                sizeTracker.add(columnNames[i], values[i]);
+            }
+        }
+        return row;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(ResponseSizeTrackerBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
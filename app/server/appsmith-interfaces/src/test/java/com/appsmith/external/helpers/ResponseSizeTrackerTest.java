@@ -0,0 +1,56 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseSizeTrackerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void estimate_scalarValues_returnsPayloadSize() {
+        assertEquals(5, ResponseSizeTracker.estimate("hello"));
+        assertEquals(8, ResponseSizeTracker.estimate(42L));
+        assertEquals(5, ResponseSizeTracker.estimate(true));
+        assertEquals(4, ResponseSizeTracker.estimate(null));
+        assertEquals(3, ResponseSizeTracker.estimate(new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void estimate_containers_walksElements() {
+        long listSize = ResponseSizeTracker.estimate(List.of("ab", "cd"));
+        assertEquals(2 * (4 + 2), listSize);
+
+        long arraySize = ResponseSizeTracker.estimate(new String[] {"ab", "cd"});
+        assertEquals(listSize, arraySize);
+
+        long mapSize = ResponseSizeTracker.estimate(Map.of("key", "value"));
+        assertEquals(4 + 3 + 5, mapSize);
+    }
+
+    @Test
+    public void estimate_jsonNode_matchesEquivalentMap() {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("key", "value");
+        assertEquals(ResponseSizeTracker.estimate(Map.of("key", "value")), ResponseSizeTracker.estimate(node));
+    }
+
+    @Test
+    public void add_crossingLimit_reportsExceeded() {
+        ResponseSizeTracker tracker = new ResponseSizeTracker(20);
+        tracker.add("id", 1);
+        assertFalse(tracker.isLimitExceeded());
+        assertEquals(4 + 2 + 8, tracker.getSize());
+
+        tracker.add("name", "some long name");
+        assertTrue(tracker.isLimitExceeded());
+    }
+}
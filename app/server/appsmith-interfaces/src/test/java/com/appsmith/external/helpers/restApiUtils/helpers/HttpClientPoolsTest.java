@@ -0,0 +1,122 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpClientPoolsTest {
+
+    private static MockWebServer mockEndpoint;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        mockEndpoint = new MockWebServer();
+        mockEndpoint.start();
+    }
+
+    @AfterAll
+    public static void tearDown() throws IOException {
+        mockEndpoint.shutdown();
+    }
+
+    private DatasourceConfiguration datasourceWithCertificate(String certificate) {
+        SSLDetails sslDetails = new SSLDetails();
+        sslDetails.setAuthType(SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+        UploadedFile certificateFile = new UploadedFile();
+        certificateFile.setBase64Content(Base64.getEncoder().encodeToString(certificate.getBytes()));
+        sslDetails.setCertificateFile(certificateFile);
+        Connection connection = new Connection();
+        connection.setSsl(sslDetails);
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnection(connection);
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testGetHttpClient_sameProtocolAndTrust_returnsSameClient() {
+        HttpClientPools httpClientPools = new HttpClientPools();
+
+        assertSame(
+                httpClientPools.getHttpClient(new DatasourceConfiguration(), null),
+                httpClientPools.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11));
+        assertNotSame(
+                httpClientPools.getHttpClient(new DatasourceConfiguration(), HttpProtocol.HTTP11),
+                httpClientPools.getHttpClient(new DatasourceConfiguration(), HttpProtocol.H2));
+        assertSame(
+                httpClientPools.getHttpClient(datasourceWithCertificate("certificate"), null),
+                httpClientPools.getHttpClient(datasourceWithCertificate("certificate"), null));
+        assertNotSame(
+                httpClientPools.getHttpClient(datasourceWithCertificate("certificate"), null),
+                httpClientPools.getHttpClient(datasourceWithCertificate("other certificate"), null));
+        assertNotSame(
+                httpClientPools.getHttpClient(new DatasourceConfiguration(), null),
+                httpClientPools.getHttpClient(datasourceWithCertificate("certificate"), null));
+    }
+
+    @Test
+    public void testGetHttpClient_tooManyPools_closesEvictedPool() {
+        HttpClientPools httpClientPools = new HttpClientPools(1);
+
+        httpClientPools.getHttpClient(datasourceWithCertificate("certificate"), null);
+        ConnectionProvider evictedConnectionProvider =
+                httpClientPools.pools.asMap().values().iterator().next().connectionProvider();
+        httpClientPools.getHttpClient(datasourceWithCertificate("other certificate"), null);
+        httpClientPools.pools.cleanUp();
+
+        assertEquals(1, httpClientPools.pools.estimatedSize());
+        // Removed pools are closed in the background
+        Mono.fromCallable(evictedConnectionProvider::isDisposed)
+                .filter(isDisposed -> isDisposed)
+                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(50)))
+                .timeout(Duration.ofSeconds(5))
+                .block();
+        assertTrue(evictedConnectionProvider.isDisposed());
+    }
+
+    @Test
+    public void testGetWebClientBuilder_consecutiveExecutions_reuseConnection() throws InterruptedException {
+        RestAPIActivateUtils restAPIActivateUtils = new RestAPIActivateUtils();
+        String url = mockEndpoint.url("/pooled").toString();
+        mockEndpoint.enqueue(new MockResponse().setBody("first"));
+        mockEndpoint.enqueue(new MockResponse().setBody("second"));
+
+        for (String expectedBody : new String[] {"first", "second"}) {
+            String body = restAPIActivateUtils
+                    .getWebClientBuilder(new ActionConfiguration(), new DatasourceConfiguration())
+                    .build()
+                    .get()
+                    .uri(url)
+                    .retrieve()
+                    .bodyToMono(String.class)
+                    .block();
+            assertEquals(expectedBody, body);
+        }
+
+        RecordedRequest firstRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        RecordedRequest secondRequest = mockEndpoint.takeRequest(30, TimeUnit.SECONDS);
+        // The sequence number counts the requests made on the same connection
+        assertEquals(0, firstRequest.getSequenceNumber());
+        assertEquals(1, secondRequest.getSequenceNumber());
+    }
+}
@@ -5,6 +5,7 @@ import com.appsmith.external.constants.DataType;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.InMemoryDataTable;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.junit.jupiter.api.Test;
@@ -1336,4 +1337,172 @@ public class FilterDataServiceTest {
             fail(e.getMessage());
         }
     }
+
+    @Test
+    public void testNestedConditionBeforeComparison() {
+        String data = "[\n" + "  {\n"
+                + "    \"orderAmount\": 4.99,\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"orderAmount\": 9.99,\n"
+                + "    \"orderStatus\": \"NOT READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"orderAmount\": 19.99,\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"children\": [\n"
+                + "          {\n"
+                + "            \"key\": \"orderAmount\",\n"
+                + "            \"condition\": \"LT\",\n"
+                + "            \"value\": \"5\"\n"
+                + "          },\n"
+                + "          {\n"
+                + "            \"key\": \"orderAmount\",\n"
+                + "            \"condition\": \"GT\",\n"
+                + "            \"value\": \"15\"\n"
+                + "          }\n"
+                + "        ],\n"
+                + "        \"condition\": \"OR\"\n"
+                + "      },\n"
+                + "      {\n"
+                + "        \"key\": \"orderStatus\",\n"
+                + "        \"condition\": \"EQ\",\n"
+                + "        \"value\": \"READY\"\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"AND\"\n"
+                + "  }\n"
+                + "}";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+            Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+            Condition condition = parseWhereClause(unparsedWhereClause);
+
+            ArrayNode filteredData =
+                    filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+
+            assertEquals(2, filteredData.size());
+            assertEquals("4.99", filteredData.get(0).get("orderAmount").asText());
+            assertEquals("19.99", filteredData.get(1).get("orderAmount").asText());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testFieldMissingInSomeRows() {
+        String data = "[\n" + "  {\n"
+                + "    \"orderAmount\": 4.99,\n"
+                + "    \"orderStatus\": \"READY\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"orderAmount\": 9.99\n"
+                + "  }\n"
+                + "]";
+
+        String whereJson = "{\n" + "  \"where\": {\n"
+                + "    \"children\": [\n"
+                + "      {\n"
+                + "        \"key\": \"orderStatus\",\n"
+                + "        \"condition\": \"EQ\",\n"
+                + "        \"value\": \"\"\n"
+                + "      }\n"
+                + "    ],\n"
+                + "    \"condition\": \"AND\"\n"
+                + "  }\n"
+                + "}";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            Map<String, Object> whereClause = objectMapper.readValue(whereJson, HashMap.class);
+            Map<String, Object> unparsedWhereClause = (Map<String, Object>) whereClause.get("where");
+            Condition condition = parseWhereClause(unparsedWhereClause);
+
+            ArrayNode filteredData =
+                    filterDataService.filterDataNew(items, new UQIDataFilterParams(condition, null, null, null));
+
+            assertEquals(1, filteredData.size());
+            assertEquals("9.99", filteredData.get(0).get("orderAmount").asText());
+            assertEquals("", filteredData.get(0).get("orderStatus").asText());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testContainsMatchesLikeWildcardsLiterally() {
+        String data = "[\n" + "  {\n"
+                + "    \"productName\": \"50% off\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"productName\": \"500 off\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"productName\": \"order_1\"\n"
+                + "  },\n"
+                + "  {\n"
+                + "    \"productName\": \"orderX1\"\n"
+                + "  }\n"
+                + "]";
+
+        try {
+            ArrayNode items = (ArrayNode) objectMapper.readTree(data);
+
+            Condition percentCondition = parseWhereClause(Map.of(
+                    "condition",
+                    "AND",
+                    "children",
+                    List.of(Map.of("key", "productName", "condition", "CONTAINS", "value", "0%"))));
+            ArrayNode percentMatches =
+                    filterDataService.filterDataNew(items, new UQIDataFilterParams(percentCondition, null, null, null));
+
+            assertEquals(1, percentMatches.size());
+            assertEquals("50% off", percentMatches.get(0).get("productName").asText());
+
+            Condition underscoreCondition = parseWhereClause(Map.of(
+                    "condition",
+                    "AND",
+                    "children",
+                    List.of(Map.of("key", "productName", "condition", "CONTAINS", "value", "r_1"))));
+            ArrayNode underscoreMatches = filterDataService.filterDataNew(
+                    items, new UQIDataFilterParams(underscoreCondition, null, null, null));
+
+            assertEquals(1, underscoreMatches.size());
+            assertEquals("order_1", underscoreMatches.get(0).get("productName").asText());
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+    }
+
+    @Test
+    public void testIsFiltered() {
+        Condition emptyWhereClause = parseWhereClause(Map.of("condition", "AND", "children", List.of()));
+        Condition nestedWhereClause = parseWhereClause(Map.of(
+                "condition",
+                "AND",
+                "children",
+                List.of(Map.of(
+                        "condition",
+                        "OR",
+                        "children",
+                        List.of(Map.of("key", "id", "condition", "EQ", "value", "1"))))));
+
+        assertThat(InMemoryDataTable.isFiltered(null)).isFalse();
+        assertThat(InMemoryDataTable.isFiltered(emptyWhereClause)).isFalse();
+        assertThat(InMemoryDataTable.isFiltered(nestedWhereClause)).isTrue();
+    }
 }
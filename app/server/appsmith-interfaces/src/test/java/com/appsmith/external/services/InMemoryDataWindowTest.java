@@ -0,0 +1,122 @@
+package com.appsmith.external.services;
+
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.ce.InMemoryDataWindow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryDataWindowTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FilterDataService filterDataService = FilterDataService.getInstance();
+
+    private ArrayNode getItems() {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < 50; i++) {
+            ObjectNode item = objectMapper.createObjectNode();
+            item.put("fileName", String.format("file-%03d", (i * 7) % 50));
+            item.put("size", (i * 13) % 50);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Adds the items to the window in batches, the way a paginated listing would, and returns the number of batches
+     * that were added before the window was complete.
+     */
+    private int addInBatches(InMemoryDataWindow window, ArrayNode items) {
+        int batches = 0;
+        for (int i = 0; i < items.size() && !window.isComplete(); i += BATCH_SIZE) {
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (int j = i; j < Math.min(i + BATCH_SIZE, items.size()); j++) {
+                batch.add(items.get(j));
+            }
+            window.add(batch);
+            batches++;
+        }
+        return batches;
+    }
+
+    private ArrayNode getResult(InMemoryDataWindow window) {
+        List<JsonNode> rows = window.getRows();
+        return window.toResult(objectMapper.createArrayNode().addAll(rows));
+    }
+
+    @Test
+    public void testWindow_withPaginationOnly_stopsOnceThePageIsFilled() {
+        ArrayNode items = getItems();
+        UQIDataFilterParams filterParams =
+                new UQIDataFilterParams(null, null, null, Map.of(PAGINATE_LIMIT_KEY, "5", PAGINATE_OFFSET_KEY, "12"));
+
+        InMemoryDataWindow window = new InMemoryDataWindow(filterDataService, filterParams);
+        int batches = addInBatches(window, items);
+
+        assertThat(window.isComplete()).isTrue();
+        assertThat(batches).isEqualTo(2);
+        assertThat(getResult(window)).isEqualTo(filterDataService.filterDataNew(items, filterParams));
+    }
+
+    @Test
+    public void testWindow_withWhereSortAndPagination_returnsTheSamePageAsFilterDataNew() {
+        ArrayNode items = getItems();
+        Condition condition = new Condition("size", "GTE", "10");
+        List<Map<String, String>> sortBy =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "fileName", SORT_BY_TYPE_KEY, "Descending"));
+        UQIDataFilterParams filterParams = new UQIDataFilterParams(
+                condition, null, sortBy, Map.of(PAGINATE_LIMIT_KEY, "4", PAGINATE_OFFSET_KEY, "3"));
+
+        InMemoryDataWindow window = new InMemoryDataWindow(filterDataService, filterParams);
+        int batches = addInBatches(window, items);
+
+        assertThat(window.isComplete()).isFalse();
+        assertThat(batches).isEqualTo(5);
+        ArrayNode result = getResult(window);
+        assertThat(result).hasSize(4);
+        assertThat(result).isEqualTo(filterDataService.filterDataNew(items, filterParams));
+    }
+
+    @Test
+    public void testWindow_withWhereAndSortOnly_returnsAllMatchingRowsSorted() {
+        ArrayNode items = getItems();
+        Condition condition = new Condition("fileName", "LT", "file-020");
+        List<Map<String, String>> sortBy =
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "size", SORT_BY_TYPE_KEY, "Ascending"));
+        UQIDataFilterParams filterParams = new UQIDataFilterParams(condition, null, sortBy, null);
+
+        InMemoryDataWindow window = new InMemoryDataWindow(filterDataService, filterParams);
+        addInBatches(window, items);
+
+        ArrayNode result = getResult(window);
+        assertThat(result).hasSize(20);
+        assertThat(result).isEqualTo(filterDataService.filterDataNew(items, filterParams));
+    }
+
+    @Test
+    public void testWindow_withOffsetPastTheEnd_returnsNoRows() {
+        ArrayNode items = getItems();
+        UQIDataFilterParams filterParams =
+                new UQIDataFilterParams(null, null, null, Map.of(PAGINATE_LIMIT_KEY, "10", PAGINATE_OFFSET_KEY, "100"));
+
+        InMemoryDataWindow window = new InMemoryDataWindow(filterDataService, filterParams);
+        addInBatches(window, items);
+
+        assertThat(window.isComplete()).isFalse();
+        assertThat(window.getRows()).isEmpty();
+    }
+}
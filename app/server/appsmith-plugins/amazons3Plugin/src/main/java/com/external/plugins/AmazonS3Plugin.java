@@ -7,6 +7,7 @@ import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
@@ -14,7 +15,6 @@ import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.TransferManager;
 import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
 import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.dtos.MultipartFormDataDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
@@ -39,20 +39,30 @@ import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.SharedConfig;
+import com.appsmith.external.services.ce.InMemoryDataWindow;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
+import com.external.plugins.models.S3Connection;
 import com.external.utils.AmazonS3ErrorUtils;
+import com.external.utils.FileContentUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -82,6 +92,7 @@ import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFo
 import static com.appsmith.external.helpers.PluginUtils.parseList;
 import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
 import static com.external.plugins.constants.FieldName.BODY;
 import static com.external.plugins.constants.FieldName.BUCKET;
 import static com.external.plugins.constants.FieldName.COMMAND;
@@ -98,6 +109,7 @@ import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.ACCESS_DENIED_ERROR_CODE;
 import static com.external.plugins.constants.S3PluginConstants.AWS_S3_SERVICE_PROVIDER;
@@ -105,11 +117,21 @@ import static com.external.plugins.constants.S3PluginConstants.BASE64_DELIMITER;
 import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.MAX_SIGNED_URLS_PER_QUERY;
 import static com.external.plugins.constants.S3PluginConstants.NO;
 import static com.external.plugins.constants.S3PluginConstants.S3_DRIVER;
+import static com.external.plugins.constants.S3PluginConstants.S3_EVENT_LOOP_THREAD_NAME;
+import static com.external.plugins.constants.S3PluginConstants.S3_SCHEDULER_NAME;
+import static com.external.plugins.constants.S3PluginConstants.S3_SCHEDULER_QUEUE_CAP;
+import static com.external.plugins.constants.S3PluginConstants.S3_SCHEDULER_THREAD_CAP;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_SIZE;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_PARALLELISM;
 import static com.external.plugins.constants.S3PluginConstants.YES;
+import static com.external.utils.DatasourceUtils.getS3AsyncClientBuilder;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
+import static com.external.utils.FileContentUtils.parseByteRange;
+import static com.external.utils.FileContentUtils.readContent;
 import static com.external.utils.TemplateUtils.getTemplates;
 import static java.lang.Boolean.TRUE;
 import static org.apache.commons.collections.CollectionUtils.isEmpty;
@@ -121,10 +143,29 @@ public class AmazonS3Plugin extends BasePlugin {
         super(wrapper);
     }
 
+    @Override
+    public void start() {
+        S3PluginExecutor.startSharedResources();
+    }
+
+    @Override
+    public void stop() {
+        S3PluginExecutor.stopSharedResources();
+    }
+
     @Extension
-    public static class S3PluginExecutor implements PluginExecutor<AmazonS3>, SmartSubstitutionInterface {
-        private final Scheduler scheduler = Schedulers.boundedElastic();
+    public static class S3PluginExecutor implements PluginExecutor<S3Connection>, SmartSubstitutionInterface {
+        /*
+         * - The v1 client blocks a thread for the whole of every request, so S3 operations get a bounded pool of their
+         *   own, instead of the shared boundedElastic one, where slow buckets would hold up the other plugins.
+         * - Files are read with the v2 client, which doesn't block. The v2 clients of all the datasources share one
+         *   set of event loop threads, instead of starting a set for each datasource.
+         * - Both are disposed of when the plugin is stopped, and created again if the plugin is started again.
+         */
+        private static volatile Scheduler scheduler = newScheduler();
+        private static volatile SdkEventLoopGroup eventLoopGroup = newEventLoopGroup();
         private final FilterDataService filterDataService;
+        private final int maxFileReadSize;
         private static final AmazonS3ErrorUtils amazonS3ErrorUtils;
 
         static {
@@ -135,8 +176,36 @@ public class AmazonS3Plugin extends BasePlugin {
             }
         }
 
-        public S3PluginExecutor() {
+        public S3PluginExecutor(SharedConfig sharedConfig) {
             this.filterDataService = FilterDataService.getInstance();
+            this.maxFileReadSize = sharedConfig.getMaxFileReadSize();
+        }
+
+        private static Scheduler newScheduler() {
+            return Schedulers.newBoundedElastic(S3_SCHEDULER_THREAD_CAP, S3_SCHEDULER_QUEUE_CAP, S3_SCHEDULER_NAME);
+        }
+
+        private static SdkEventLoopGroup newEventLoopGroup() {
+            return SdkEventLoopGroup.builder()
+                    .threadFactory(new ThreadFactoryBuilder()
+                            .threadNamePrefix(S3_EVENT_LOOP_THREAD_NAME)
+                            .daemonThreads(true)
+                            .build())
+                    .build();
+        }
+
+        static synchronized void startSharedResources() {
+            if (scheduler.isDisposed()) {
+                scheduler = newScheduler();
+            }
+            if (eventLoopGroup.eventLoopGroup().isShuttingDown()) {
+                eventLoopGroup = newEventLoopGroup();
+            }
+        }
+
+        static synchronized void stopSharedResources() {
+            scheduler.dispose();
+            eventLoopGroup.eventLoopGroup().shutdownGracefully();
         }
 
         /*
@@ -197,9 +266,108 @@ public class AmazonS3Plugin extends BasePlugin {
             return fileList;
         }
 
+        /*
+         * - Lists the files page by page, and only keeps those that can still end up in the requested page of results,
+         *   as per the where condition, sorting and pagination in filterParams.
+         * - Stops listing once the page of results is settled, i.e. when the files are not sorted and the page has
+         *   been filled.
+         * - Exception thrown by this method is expected to be handled by the caller.
+         */
+        InMemoryDataWindow listFilesInBucket(
+                AmazonS3 connection,
+                String bucketName,
+                String prefix,
+                boolean withUnsignedUrl,
+                UQIDataFilterParams filterParams)
+                throws AppsmithPluginException {
+            InMemoryDataWindow window = new InMemoryDataWindow(filterDataService, filterParams);
+
+            ObjectListing result = connection.listObjects(bucketName, prefix);
+            window.add(getFileInfos(connection, bucketName, getFilenamesFromObjectListing(result), withUnsignedUrl));
+
+            while (result.isTruncated() && !window.isComplete()) {
+                result = connection.listNextBatchOfObjects(result);
+                window.add(
+                        getFileInfos(connection, bucketName, getFilenamesFromObjectListing(result), withUnsignedUrl));
+            }
+
+            return window;
+        }
+
+        private ArrayNode getFileInfos(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, boolean withUnsignedUrl) {
+            List<Map<String, Object>> fileInfos = new ArrayList<>(listOfFiles.size());
+            for (String fileName : listOfFiles) {
+                HashMap<String, Object> fileInfo = new HashMap<>();
+                fileInfo.put("fileName", fileName);
+                if (withUnsignedUrl) {
+                    fileInfo.put("url", connection.getUrl(bucketName, fileName).toString());
+                }
+                fileInfos.add(fileInfo);
+            }
+
+            return objectMapper.valueToTree(fileInfos);
+        }
+
+        /*
+         * - Returns whether the where condition and sorting only use the fields that are known while listing the
+         *   files, i.e. before signed URLs are generated.
+         */
+        boolean canFilterWhileListing(Condition condition, List<Map<String, String>> sortBy, boolean withUnsignedUrl) {
+            Set<String> listedFields = withUnsignedUrl ? Set.of("fileName", "url") : Set.of("fileName");
+
+            if (sortBy != null) {
+                for (Map<String, String> sortCondition : sortBy) {
+                    String column = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+                    if (!StringUtils.isNullOrEmpty(column) && !listedFields.contains(column)) {
+                        return false;
+                    }
+                }
+            }
+
+            return condition == null || isConditionOnFields(condition, listedFields);
+        }
+
+        private boolean isConditionOnFields(Condition condition, Set<String> fields) {
+            if (condition.getValue() instanceof List) {
+                for (Object nestedCondition : (List<?>) condition.getValue()) {
+                    if (nestedCondition instanceof Condition
+                            && !isConditionOnFields((Condition) nestedCondition, fields)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            return StringUtils.isNullOrEmpty(condition.getPath()) || fields.contains(condition.getPath());
+        }
+
+        /*
+         * - Signing a URL doesn't need a round trip to S3, but it is CPU bound, which adds up for long lists of files.
+         *   Hence, long lists are signed in batches, in parallel, and the URLs are returned in the order of the files.
+         * - The batches are signed on the parallel scheduler, as they never block, and so that the S3 thread waiting
+         *   for them does not wait on other S3 threads.
+         */
         ArrayList<String> getSignedUrls(
-                AmazonS3 connection, String bucketName, ArrayList<String> listOfFiles, Date expiryDateTime) {
-            ArrayList<String> urlList = new ArrayList<>();
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            if (listOfFiles.size() <= SIGNED_URL_BATCH_SIZE) {
+                return getSignedUrlsOfBatch(connection, bucketName, listOfFiles, expiryDateTime);
+            }
+
+            return Flux.fromIterable(listOfFiles)
+                    .buffer(SIGNED_URL_BATCH_SIZE)
+                    .flatMapSequential(
+                            batch -> Mono.fromCallable(
+                                            () -> getSignedUrlsOfBatch(connection, bucketName, batch, expiryDateTime))
+                                    .subscribeOn(Schedulers.parallel()),
+                            SIGNED_URL_PARALLELISM)
+                    .collect(ArrayList<String>::new, ArrayList::addAll)
+                    .block();
+        }
+
+        private ArrayList<String> getSignedUrlsOfBatch(
+                AmazonS3 connection, String bucketName, List<String> listOfFiles, Date expiryDateTime) {
+            ArrayList<String> urlList = new ArrayList<>(listOfFiles.size());
 
             for (String filePath : listOfFiles) {
                 GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(
@@ -214,6 +382,23 @@ public class AmazonS3Plugin extends BasePlugin {
             return urlList;
         }
 
+        /*
+         * - Returns the files that URLs can be signed for in a single query, i.e. the first MAX_SIGNED_URLS_PER_QUERY
+         *   of them, and adds a hint to the messages when the others are left out.
+         */
+        <T> List<T> capSignedUrlList(List<T> files, Set<String> messages) {
+            if (files.size() <= MAX_SIGNED_URLS_PER_QUERY) {
+                return files;
+            }
+
+            messages.add(String.format(
+                    S3ErrorMessages.SIGNED_URLS_TRUNCATED_HINT_MSG,
+                    MAX_SIGNED_URLS_PER_QUERY,
+                    MAX_SIGNED_URLS_PER_QUERY,
+                    files.size()));
+            return files.subList(0, MAX_SIGNED_URLS_PER_QUERY);
+        }
+
         /**
          * This function returns the unsigned file urls for the files present in the body
          */
@@ -381,25 +566,43 @@ public class AmazonS3Plugin extends BasePlugin {
 
         /*
          * - Exception thrown here needs to be handled by the caller.
+         * - The byte range is read when given, the whole file otherwise, and the content may not exceed the maximum
+         *   file read size, once encoded.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
+        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent, long[] byteRange)
+                throws IOException {
+            S3Object s3Object;
+            if (byteRange == null) {
+                s3Object = connection.getObject(bucketName, path);
             } else {
-                result = new String(bytes);
+                GetObjectRequest getObjectRequest = new GetObjectRequest(bucketName, path);
+                if (byteRange[1] < 0) {
+                    getObjectRequest.setRange(byteRange[0]);
+                } else {
+                    getObjectRequest.setRange(byteRange[0], byteRange[1]);
+                }
+                s3Object = connection.getObject(getObjectRequest);
             }
 
-            return result;
+            try (s3Object) {
+                S3ObjectInputStream content = s3Object.getObjectContent();
+                // For a ranged read, this is the length of the range
+                long contentLength = s3Object.getObjectMetadata() == null
+                        ? -1
+                        : s3Object.getObjectMetadata().getContentLength();
+                try {
+                    return readContent(content, contentLength, TRUE.equals(encodeContent), maxFileReadSize);
+                } catch (AppsmithPluginException e) {
+                    // Drops the connection rather than reading the rest of the content, which is not needed
+                    content.abort();
+                    throw e;
+                }
+            }
         }
 
         @Override
         public Mono<ActionExecutionResult> execute(
-                AmazonS3 connection,
+                S3Connection connection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
             // Unused function
@@ -409,7 +612,7 @@ public class AmazonS3Plugin extends BasePlugin {
 
         @Override
         public Mono<ActionExecutionResult> executeParameterized(
-                AmazonS3 connection,
+                S3Connection connection,
                 ExecuteActionDTO executeActionDTO,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
@@ -458,11 +661,12 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         private Mono<ActionExecutionResult> executeCommon(
-                AmazonS3 connection,
+                S3Connection s3Connection,
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
             final String[] query = new String[1];
+            final Set<String> messages = new HashSet<>();
             Map<String, Object> requestProperties = new HashMap<>();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
@@ -473,9 +677,10 @@ public class AmazonS3Plugin extends BasePlugin {
                          *   Hence, unable to do stale connection check explicitly.
                          * - If connection object is null, then assume stale connection.
                          */
-                        if (connection == null) {
+                        if (s3Connection == null || s3Connection.getClient() == null) {
                             return Mono.error(new StaleConnectionException(CONNECTION_NULL_ERROR_MSG));
                         }
+                        final AmazonS3 connection = s3Connection.getClient();
 
                         if (actionConfiguration == null) {
                             return Mono.error(new AppsmithPluginException(
@@ -540,11 +745,11 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String prefix = getDataValueSafelyFromFormData(formData, LIST_PREFIX, STRING_TYPE, "");
                                 requestParams.add(new RequestParamDTO(LIST_PREFIX, prefix, null, null, null));
 
-                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
-
                                 Boolean isSignedUrl = YES.equals(
                                         getDataValueSafelyFromFormData(formData, LIST_SIGNED_URL, STRING_TYPE));
 
+                                Date listExpiryDateTime = null;
+                                String listExpiryDateTimeString = null;
                                 if (isSignedUrl) {
                                     requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, YES, null, null, null));
 
@@ -565,12 +770,87 @@ public class AmazonS3Plugin extends BasePlugin {
 
                                     Calendar calendar = Calendar.getInstance();
                                     calendar.add(Calendar.MINUTE, durationInMinutes);
-                                    Date expiryDateTime = calendar.getTime();
+                                    listExpiryDateTime = calendar.getTime();
                                     DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
-                                    String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
+                                    listExpiryDateTimeString = dateTimeFormat.format(listExpiryDateTime);
+                                } else {
+                                    requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, "", null, null, null));
+                                }
+
+                                boolean isUnsignedUrl = YES.equals(
+                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE));
+
+                                if (isUnsignedUrl) {
+                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, YES, null, null, null));
+                                } else {
+                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
+                                }
+
+                                // Check if where condition is configured
+                                Object whereFormObject =
+                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
+                                Condition condition = null;
+
+                                if (whereFormObject != null) {
+                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
+                                    condition = parseWhereClause(whereForm);
+                                }
 
+                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
+
+                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
+                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
+
+                                UQIDataFilterParams filterParams =
+                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy);
+
+                                if (canFilterWhileListing(condition, sortBy, isUnsignedUrl)) {
+                                    /*
+                                     * - The files are filtered, sorted and paginated while they are listed, and URLs
+                                     *   are only signed for the page of results.
+                                     */
+                                    InMemoryDataWindow window = listFilesInBucket(
+                                            connection, bucketName, prefix, isUnsignedUrl, filterParams);
+                                    List<JsonNode> pageRows = isSignedUrl
+                                            ? capSignedUrlList(window.getRows(), messages)
+                                            : window.getRows();
+                                    List<String> listOfFiles = pageRows.stream()
+                                            .map(row -> row.get("fileName").asText())
+                                            .collect(Collectors.toList());
+
+                                    List<String> listOfSignedUrls = null;
+                                    if (isSignedUrl) {
+                                        listOfSignedUrls =
+                                                getSignedUrls(connection, bucketName, listOfFiles, listExpiryDateTime);
+                                    }
+
+                                    List<Map<String, Object>> fileInfos = new ArrayList<>(listOfFiles.size());
+                                    for (int i = 0; i < listOfFiles.size(); i++) {
+                                        HashMap<String, Object> fileInfo = new HashMap<>();
+                                        fileInfo.put("fileName", listOfFiles.get(i));
+                                        if (isSignedUrl) {
+                                            fileInfo.put("signedUrl", listOfSignedUrls.get(i));
+                                            fileInfo.put("urlExpiryDate", listExpiryDateTimeString);
+                                        }
+                                        if (isUnsignedUrl) {
+                                            fileInfo.put(
+                                                    "url",
+                                                    pageRows.get(i).get("url").asText());
+                                        }
+                                        fileInfos.add(fileInfo);
+                                    }
+
+                                    actionResult = window.toResult(objectMapper.valueToTree(fileInfos));
+                                    break;
+                                }
+
+                                ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+
+                                if (isSignedUrl) {
+                                    listOfFiles = new ArrayList<>(capSignedUrlList(listOfFiles, messages));
                                     ArrayList<String> listOfSignedUrls =
-                                            getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
+                                            getSignedUrls(connection, bucketName, listOfFiles, listExpiryDateTime);
                                     if (listOfFiles.size() != listOfSignedUrls.size()) {
                                         return Mono.error(new AppsmithPluginException(
                                                 S3PluginError.AMAZON_S3_QUERY_EXECUTION_FAILED,
@@ -582,11 +862,10 @@ public class AmazonS3Plugin extends BasePlugin {
                                         HashMap<String, Object> fileInfo = new HashMap<>();
                                         fileInfo.put("fileName", listOfFiles.get(i));
                                         fileInfo.put("signedUrl", listOfSignedUrls.get(i));
-                                        fileInfo.put("urlExpiryDate", expiryDateTimeString);
+                                        fileInfo.put("urlExpiryDate", listExpiryDateTimeString);
                                         ((ArrayList<Object>) actionResult).add(fileInfo);
                                     }
                                 } else {
-                                    requestParams.add(new RequestParamDTO(LIST_SIGNED_URL, "", null, null, null));
                                     actionResult = new ArrayList<>();
                                     for (int i = 0; i < listOfFiles.size(); i++) {
                                         HashMap<String, Object> fileInfo = new HashMap<>();
@@ -595,12 +874,7 @@ public class AmazonS3Plugin extends BasePlugin {
                                     }
                                 }
 
-                                String isUnsignedUrl =
-                                        getDataValueSafelyFromFormData(formData, LIST_UNSIGNED_URL, STRING_TYPE);
-
-                                if (YES.equals(isUnsignedUrl)) {
-
-                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, YES, null, null, null));
+                                if (isUnsignedUrl) {
                                     ((ArrayList<Object>) actionResult).stream().forEach(item -> ((Map) item)
                                             .put(
                                                     "url", // key
@@ -608,30 +882,10 @@ public class AmazonS3Plugin extends BasePlugin {
                                                             .getUrl(bucketName, (String) ((Map) item).get("fileName"))
                                                             .toString() // value
                                                     ));
-                                } else {
-                                    requestParams.add(new RequestParamDTO(LIST_UNSIGNED_URL, NO, null, null, null));
-                                }
-
-                                // Check if where condition is configured
-                                Object whereFormObject =
-                                        getDataValueSafelyFromFormData(formData, LIST_WHERE, OBJECT_TYPE);
-                                Condition condition = null;
-
-                                if (whereFormObject != null) {
-                                    Map<String, Object> whereForm = (Map<String, Object>) whereFormObject;
-                                    condition = parseWhereClause(whereForm);
                                 }
 
-                                List<Map<String, String>> sortBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_SORT, new TypeReference<List<Map<String, String>>>() {});
-
-                                Map<String, String> paginateBy = getDataValueSafelyFromFormData(
-                                        formData, LIST_PAGINATE, new TypeReference<Map<String, String>>() {});
-
                                 ArrayNode preFilteringResponse = objectMapper.valueToTree(actionResult);
-                                actionResult = filterDataService.filterDataNew(
-                                        preFilteringResponse,
-                                        new UQIDataFilterParams(condition, null, sortBy, paginateBy));
+                                actionResult = filterDataService.filterDataNew(preFilteringResponse, filterParams);
 
                                 break;
                             case UPLOAD_FILE_FROM_BODY: {
@@ -744,14 +998,28 @@ public class AmazonS3Plugin extends BasePlugin {
                                 String result;
 
                                 String isBase64 = getDataValueSafelyFromFormData(formData, READ_DATATYPE, STRING_TYPE);
+                                String range = getDataValueSafelyFromFormData(formData, READ_RANGE, STRING_TYPE);
+                                long[] byteRange = parseByteRange(range);
 
                                 if (YES.equals(isBase64)) {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, YES, null, null, null));
-                                    result = readFile(connection, bucketName, path, true);
                                 } else {
                                     requestParams.add(new RequestParamDTO(READ_DATATYPE, NO, null, null, null));
-                                    result = readFile(connection, bucketName, path, false);
                                 }
+                                if (byteRange != null) {
+                                    requestParams.add(new RequestParamDTO(READ_RANGE, range, null, null, null));
+                                }
+                                if (s3Connection.getAsyncClient() != null) {
+                                    return FileContentUtils.readFile(
+                                                    s3Connection.getAsyncClient(),
+                                                    bucketName,
+                                                    path,
+                                                    YES.equals(isBase64),
+                                                    byteRange,
+                                                    maxFileReadSize)
+                                            .<Object>map(fileData -> Map.of("fileData", fileData));
+                                }
+                                result = readFile(connection, bucketName, path, YES.equals(isBase64), byteRange);
                                 actionResult = Map.of("fileData", result);
                                 break;
                             case DELETE_FILE:
@@ -799,6 +1067,9 @@ public class AmazonS3Plugin extends BasePlugin {
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
                         actionExecutionResult.setBody(result);
                         actionExecutionResult.setIsExecutionSuccess(true);
+                        if (!messages.isEmpty()) {
+                            actionExecutionResult.setMessages(messages);
+                        }
                         log.debug("In the S3 Plugin, got action execution result");
                         return Mono.just(actionExecutionResult);
                     })
@@ -859,7 +1130,7 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         @Override
-        public Mono<AmazonS3> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<S3Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
             try {
                 Class.forName(S3_DRIVER);
@@ -870,9 +1141,9 @@ public class AmazonS3Plugin extends BasePlugin {
                         e.getMessage()));
             }
 
-            return Mono.fromCallable(
-                            () -> getS3ClientBuilder(datasourceConfiguration).build())
-                    .flatMap(client -> Mono.just(client))
+            return Mono.fromCallable(() -> new S3Connection(
+                            getS3ClientBuilder(datasourceConfiguration).build(),
+                            createAsyncClient(datasourceConfiguration)))
                     .onErrorResume(e -> {
                         if (e instanceof AppsmithPluginException) {
                             return Mono.error(e);
@@ -886,11 +1157,30 @@ public class AmazonS3Plugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /*
+         * - The v2 client is stricter than the v1 client about the region and the endpoint of a datasource, e.g. it
+         *   needs a valid region for providers of type `other`. Files of a datasource it cannot be built for are read
+         *   with the v1 client.
+         */
+        private S3AsyncClient createAsyncClient(DatasourceConfiguration datasourceConfiguration) {
+            try {
+                return getS3AsyncClientBuilder(datasourceConfiguration)
+                        .httpClientBuilder(NettyNioAsyncHttpClient.builder().eventLoopGroup(eventLoopGroup))
+                        .build();
+            } catch (Exception e) {
+                log.debug("Could not create the S3 async client, files will be read with the v1 client.", e);
+                return null;
+            }
+        }
+
         @Override
-        public void datasourceDestroy(AmazonS3 connection) {
+        public void datasourceDestroy(S3Connection connection) {
             if (connection != null) {
                 Mono.fromCallable(() -> {
-                            connection.shutdown();
+                            if (connection.getAsyncClient() != null) {
+                                connection.getAsyncClient().close();
+                            }
+                            connection.getClient().shutdown();
                             return connection;
                         })
                         .onErrorResume(exception -> {
@@ -952,14 +1242,14 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceTestResult> testDatasource(AmazonS3 connection) {
+        public Mono<DatasourceTestResult> testDatasource(S3Connection connection) {
             return Mono.fromCallable(() -> {
                         /*
                          * - Please note that as of 28 Jan 2021, the way AmazonS3 client works, creating a connection
                          *   object with wrong credentials does not throw any exception.
                          * - Hence, adding a listBuckets() method call to test the connection.
                          */
-                        connection.listBuckets();
+                        connection.getClient().listBuckets();
                         return new DatasourceTestResult();
                     })
                     .onErrorResume(error -> {
@@ -977,7 +1267,8 @@ public class AmazonS3Plugin extends BasePlugin {
                         }
 
                         return Mono.just(new DatasourceTestResult(amazonS3ErrorUtils.getReadableError(error)));
-                    });
+                    })
+                    .subscribeOn(scheduler);
         }
 
         /**
@@ -986,12 +1277,12 @@ public class AmazonS3Plugin extends BasePlugin {
          */
         @Override
         public Mono<DatasourceStructure> getStructure(
-                AmazonS3 connection, DatasourceConfiguration datasourceConfiguration) {
+                S3Connection connection, DatasourceConfiguration datasourceConfiguration) {
 
             return Mono.fromSupplier(() -> {
                         List<DatasourceStructure.Table> tableList;
                         try {
-                            tableList = connection.listBuckets().stream()
+                            tableList = connection.getClient().listBuckets().stream()
                                     /* Get name of each bucket */
                                     .map(Bucket::getName)
                                     /* Get command templates and use it to create Table object */
@@ -1070,9 +1361,14 @@ public class AmazonS3Plugin extends BasePlugin {
             if (multipartFormDataDTO.getType() != null) {
                 objectMetadata.setContentType(multipartFormDataDTO.getType());
             }
-            transferManager
-                    .upload(bucketName, path, inputStream, objectMetadata)
-                    .waitForUploadResult();
+            try {
+                transferManager
+                        .upload(bucketName, path, inputStream, objectMetadata)
+                        .waitForUploadResult();
+            } finally {
+                // Stops the threads of the transfer manager, which is built for every upload, but not the S3 client
+                transferManager.shutdownNow(false);
+            }
         }
 
         /**
@@ -12,4 +12,12 @@ public class S3PluginConstants {
     public static final String AWS_S3_SERVICE_PROVIDER = "amazon-s3";
     public static String DEFAULT_FILE_NAME = "MyFile.txt";
     public static final String ACCESS_DENIED_ERROR_CODE = "AccessDenied";
+    public static final int MAX_SIGNED_URLS_PER_QUERY = 10000;
+    public static final int SIGNED_URL_BATCH_SIZE = 100;
+    public static final int SIGNED_URL_PARALLELISM = 4;
+    public static final String S3_SCHEDULER_NAME = "s3-plugin";
+    // Same as the default size of the HTTP connection pool of an S3 client, so that requests don't wait for either
+    public static final int S3_SCHEDULER_THREAD_CAP = 50;
+    public static final int S3_SCHEDULER_QUEUE_CAP = 10000;
+    public static final String S3_EVENT_LOOP_THREAD_NAME = "s3-plugin-netty";
 }
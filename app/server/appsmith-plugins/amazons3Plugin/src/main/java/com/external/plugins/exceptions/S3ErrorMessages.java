@@ -62,6 +62,15 @@ public class S3ErrorMessages extends BasePluginErrorMessages {
                     + "any non-negative integer. Please note that the maximum expiry "
                     + "duration supported by Amazon S3 is 7 days i.e. 10080 minutes.";
 
+    public static final String SIGNED_URLS_TRUNCATED_HINT_MSG =
+            "Signed URLs can be generated for at most %s files in a single query, so only the first %s of the %s "
+                    + "files are listed. Please paginate the list of files, or narrow it down with a prefix or a "
+                    + "filter.";
+
+    public static final String INVALID_BYTE_RANGE_ERROR_MSG =
+            "Parameter 'Byte range' is not a valid range: %s. Please provide the first and the last byte to read, "
+                    + "e.g. 0-1048575, or only the first one, e.g. 1048576-, to read up to the end of the file.";
+
     public static final String ACTION_LIST_OF_FILE_FETCHING_ERROR_MSG =
             "Appsmith server has encountered an unexpected error when getting "
                     + "list of files from AWS S3 server. Please reach out to Appsmith customer "
@@ -16,6 +16,15 @@ public enum S3PluginError implements BasePluginError {
             ErrorType.INTERNAL_ERROR,
             "{1}",
             "{2}"),
+    RESPONSE_SIZE_TOO_LARGE(
+            504,
+            "PE-AS3-5001",
+            "Response size exceeded the maximum supported size of {0} MB. Please use the 'Byte range' field to read the file in parts.",
+            AppsmithErrorAction.DEFAULT,
+            "Large Result Set Not Supported",
+            ErrorType.INTERNAL_ERROR,
+            "{1}",
+            "{2}"),
     ;
 
     private final Integer httpErrorCode;
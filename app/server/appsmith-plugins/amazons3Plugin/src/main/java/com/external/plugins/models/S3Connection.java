@@ -0,0 +1,18 @@
+package com.external.plugins.models;
+
+import com.amazonaws.services.s3.AmazonS3;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+/**
+ * The clients of an S3 datasource. Files are read with the non-blocking v2 client, and all the other operations run
+ * on the v1 client. The v2 client is null when it could not be built for the datasource, in which case files are
+ * read with the v1 client as well.
+ */
+@Getter
+@AllArgsConstructor
+public class S3Connection {
+    AmazonS3 client;
+    S3AsyncClient asyncClient;
+}
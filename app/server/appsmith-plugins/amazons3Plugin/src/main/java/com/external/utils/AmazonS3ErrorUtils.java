@@ -3,6 +3,8 @@ package com.external.utils;
 import com.amazonaws.AmazonServiceException;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.plugins.AppsmithPluginErrorUtils;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 public class AmazonS3ErrorUtils extends AppsmithPluginErrorUtils {
 
@@ -68,6 +70,13 @@ public class AmazonS3ErrorUtils extends AppsmithPluginErrorUtils {
             return amazonServiceException.getErrorCode() + ": " + amazonServiceException.getErrorMessage();
         }
 
+        if (externalError instanceof AwsServiceException
+                && ((AwsServiceException) externalError).awsErrorDetails() != null) {
+            /* Same as above, for the errors of the v2 client, which files are read with. */
+            AwsErrorDetails awsErrorDetails = ((AwsServiceException) externalError).awsErrorDetails();
+            return awsErrorDetails.errorCode() + ": " + awsErrorDetails.errorMessage();
+        }
+
         /**
          * Base case when the error is not an instance of AmazonServiceException or of its subclasses.
          * Sample external error message:
@@ -13,7 +13,13 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Property;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import org.apache.commons.lang.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 
+import java.net.URI;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,6 +30,7 @@ import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_I
 import static com.external.plugins.constants.S3PluginConstants.CUSTOM_ENDPOINT_REGION_PROPERTY_INDEX;
 import static com.external.plugins.constants.S3PluginConstants.S3_SERVICE_PROVIDER_PROPERTY_INDEX;
 import static com.external.utils.DatasourceUtils.S3ServiceProvider.AMAZON;
+import static com.external.utils.DatasourceUtils.S3ServiceProvider.MINIO;
 
 public class DatasourceUtils {
 
@@ -118,24 +125,7 @@ public class DatasourceUtils {
                 AmazonS3ClientBuilder.standard().withCredentials(new AWSStaticCredentialsProvider(awsCreds));
 
         List<Property> properties = datasourceConfiguration.getProperties();
-
-        /**
-         * Return error if no service provider is chosen.
-         *
-         * Ideally, properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX) must always exist, because the `S3
-         * Service Provider` dropdown has a default value.
-         */
-        if (properties == null
-                || properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX) == null
-                || StringUtils.isEmpty((String)
-                        properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX).getValue())) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                    S3ErrorMessages.DS_S3_SERVICE_PROVIDER_PROPERTIES_FETCHING_ERROR_MSG);
-        }
-
-        S3ServiceProvider s3ServiceProvider = S3ServiceProvider.fromString(
-                (String) properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX).getValue());
+        S3ServiceProvider s3ServiceProvider = getS3ServiceProvider(properties);
 
         /**
          * AmazonS3 provides an attribute `forceGlobalBucketAccessEnabled` that automatically routes the request to a
@@ -157,66 +147,16 @@ public class DatasourceUtils {
         if (s3ServiceProvider.equals(AMAZON)) {
             s3ClientBuilder = s3ClientBuilder.withRegion(DEFAULT_REGION).enableForceGlobalBucketAccess();
         } else {
-            String endpoint = datasourceConfiguration
-                    .getEndpoints()
-                    .get(CUSTOM_ENDPOINT_INDEX)
-                    .getHost();
-            String region = "";
-
-            switch (s3ServiceProvider) {
-                case AMAZON:
-                    /* This case can never be reached because of the if condition above. Just adding for sake of
-                    completeness. */
-
-                    break;
-                case UPCLOUD:
-                    region = getRegionFromEndpointPattern(
-                            endpoint, UPCLOUD_URL_ENDPOINT_PATTERN, UPCLOUD_REGION_GROUP_INDEX);
-
-                    break;
-                case WASABI:
-                    region = getRegionFromEndpointPattern(
-                            endpoint, WASABI_URL_ENDPOINT_PATTERN, WASABI_REGION_GROUP_INDEX);
-
-                    break;
-                case DIGITAL_OCEAN_SPACES:
-                    region = getRegionFromEndpointPattern(
-                            endpoint, DIGITAL_OCEAN_URL_ENDPOINT_PATTERN, DIGITAL_OCEAN_REGION_GROUP_INDEX);
-
-                    break;
-                case DREAM_OBJECTS:
-                    region = getRegionFromEndpointPattern(
-                            endpoint, DREAM_OBJECTS_URL_ENDPOINT_PATTERN, DREAM_OBJECTS_REGION_GROUP_INDEX);
-
-                    break;
-                case MINIO:
-                    region = getUserProvidedRegion(properties);
-                    if (StringUtils.isBlank(region)) {
-                        /**
-                         * Set a default region in case user has not provided a region.
-                         * Minio server can be configured to work both ways - with or without region attribute. Hence,
-                         * it is upto the user to know whether the Minio server they want to connect to has been
-                         * configured with a region or not.
-                         * As per my experimentation, in case the Minio server has not been configured with a region
-                         * attribute, then any placeholder value will work. However, I am going with US_EAST_1 here
-                         * since this the value that Minio documentation uses to show example applications.
-                         * Ref: https://docs.min.io/docs/how-to-use-aws-sdk-for-java-with-minio-server.html
-                         */
-                        region = Regions.US_EAST_1.getName();
-                    }
-
-                    ClientConfiguration clientConfiguration = new ClientConfiguration();
-                    clientConfiguration.setSignerOverride("AWSS3V4SignerType");
-
-                    /* Ref: https://docs.min.io/docs/how-to-use-aws-sdk-for-java-with-minio-server.html */
-                    s3ClientBuilder = s3ClientBuilder
-                            .withPathStyleAccessEnabled(true)
-                            .withClientConfiguration(clientConfiguration);
-
-                    break;
-                default:
-                    region = getValueSafelyFromPropertyList(
-                            properties, CUSTOM_ENDPOINT_REGION_PROPERTY_INDEX, String.class, "");
+            String endpoint = getEndpoint(datasourceConfiguration);
+            String region = getRegion(s3ServiceProvider, endpoint, properties);
+
+            if (s3ServiceProvider == MINIO) {
+                ClientConfiguration clientConfiguration = new ClientConfiguration();
+                clientConfiguration.setSignerOverride("AWSS3V4SignerType");
+
+                /* Ref: https://docs.min.io/docs/how-to-use-aws-sdk-for-java-with-minio-server.html */
+                s3ClientBuilder =
+                        s3ClientBuilder.withPathStyleAccessEnabled(true).withClientConfiguration(clientConfiguration);
             }
 
             s3ClientBuilder = s3ClientBuilder.withEndpointConfiguration(
@@ -226,6 +166,123 @@ public class DatasourceUtils {
         return s3ClientBuilder;
     }
 
+    /**
+     * This method builds an `S3AsyncClientBuilder` object, for the v2 client, from the same datasourceConfiguration as
+     * {@link #getS3ClientBuilder(DatasourceConfiguration)}, and resolves the region and endpoint the same way.
+     *
+     * @param datasourceConfiguration
+     * @return S3AsyncClientBuilder object, without an HTTP client
+     * @throws AppsmithPluginException when (1) there is an error with parsing credentials (2) required
+     * datasourceConfiguration properties are missing (3) endpoint URL is found incorrect.
+     */
+    public static S3AsyncClientBuilder getS3AsyncClientBuilder(DatasourceConfiguration datasourceConfiguration)
+            throws AppsmithPluginException {
+
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        AwsBasicCredentials awsCreds;
+        try {
+            awsCreds = AwsBasicCredentials.create(authentication.getUsername(), authentication.getPassword());
+        } catch (NullPointerException | IllegalArgumentException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    S3ErrorMessages.AWS_CREDENTIALS_PARSING_ERROR_MSG,
+                    e.getMessage());
+        }
+
+        S3AsyncClientBuilder s3AsyncClientBuilder =
+                S3AsyncClient.builder().credentialsProvider(StaticCredentialsProvider.create(awsCreds));
+
+        List<Property> properties = datasourceConfiguration.getProperties();
+        S3ServiceProvider s3ServiceProvider = getS3ServiceProvider(properties);
+
+        /* Cross region access is the counterpart of `forceGlobalBucketAccessEnabled` in the v1 client. */
+        if (s3ServiceProvider.equals(AMAZON)) {
+            return s3AsyncClientBuilder
+                    .region(Region.of(DEFAULT_REGION.getName()))
+                    .crossRegionAccessEnabled(true);
+        }
+
+        String endpoint = getEndpoint(datasourceConfiguration);
+        String region = getRegion(s3ServiceProvider, endpoint, properties);
+
+        /* Unlike the v1 client, the v2 client needs the scheme of the endpoint. The v1 client defaults to https. */
+        URI endpointUri = URI.create(endpoint.contains("://") ? endpoint : "https://" + endpoint);
+
+        return s3AsyncClientBuilder
+                .endpointOverride(endpointUri)
+                .region(Region.of(region))
+                .forcePathStyle(s3ServiceProvider == MINIO);
+    }
+
+    /**
+     * Return error if no service provider is chosen.
+     *
+     * Ideally, properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX) must always exist, because the `S3
+     * Service Provider` dropdown has a default value.
+     */
+    private static S3ServiceProvider getS3ServiceProvider(List<Property> properties) throws AppsmithPluginException {
+        if (properties == null
+                || properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX) == null
+                || StringUtils.isEmpty((String)
+                        properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX).getValue())) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    S3ErrorMessages.DS_S3_SERVICE_PROVIDER_PROPERTIES_FETCHING_ERROR_MSG);
+        }
+
+        return S3ServiceProvider.fromString(
+                (String) properties.get(S3_SERVICE_PROVIDER_PROPERTY_INDEX).getValue());
+    }
+
+    private static String getEndpoint(DatasourceConfiguration datasourceConfiguration) {
+        return datasourceConfiguration.getEndpoints().get(CUSTOM_ENDPOINT_INDEX).getHost();
+    }
+
+    /**
+     * Returns the object storage region of a service provider other than AWS, as the region is either chained in its
+     * endpoint URL or provided by the user.
+     */
+    private static String getRegion(S3ServiceProvider s3ServiceProvider, String endpoint, List<Property> properties)
+            throws AppsmithPluginException {
+        switch (s3ServiceProvider) {
+            case AMAZON:
+                /* This case can never be reached, since AWS buckets are accessed globally. Just adding for sake of
+                completeness. */
+
+                return "";
+            case UPCLOUD:
+                return getRegionFromEndpointPattern(endpoint, UPCLOUD_URL_ENDPOINT_PATTERN, UPCLOUD_REGION_GROUP_INDEX);
+            case WASABI:
+                return getRegionFromEndpointPattern(endpoint, WASABI_URL_ENDPOINT_PATTERN, WASABI_REGION_GROUP_INDEX);
+            case DIGITAL_OCEAN_SPACES:
+                return getRegionFromEndpointPattern(
+                        endpoint, DIGITAL_OCEAN_URL_ENDPOINT_PATTERN, DIGITAL_OCEAN_REGION_GROUP_INDEX);
+            case DREAM_OBJECTS:
+                return getRegionFromEndpointPattern(
+                        endpoint, DREAM_OBJECTS_URL_ENDPOINT_PATTERN, DREAM_OBJECTS_REGION_GROUP_INDEX);
+            case MINIO:
+                String region = getUserProvidedRegion(properties);
+                if (StringUtils.isBlank(region)) {
+                    /**
+                     * Set a default region in case user has not provided a region.
+                     * Minio server can be configured to work both ways - with or without region attribute. Hence,
+                     * it is upto the user to know whether the Minio server they want to connect to has been
+                     * configured with a region or not.
+                     * As per my experimentation, in case the Minio server has not been configured with a region
+                     * attribute, then any placeholder value will work. However, I am going with US_EAST_1 here
+                     * since this the value that Minio documentation uses to show example applications.
+                     * Ref: https://docs.min.io/docs/how-to-use-aws-sdk-for-java-with-minio-server.html
+                     */
+                    region = Regions.US_EAST_1.getName();
+                }
+
+                return region;
+            default:
+                return getValueSafelyFromPropertyList(
+                        properties, CUSTOM_ENDPOINT_REGION_PROPERTY_INDEX, String.class, "");
+        }
+    }
+
     private static String getUserProvidedRegion(List<Property> properties) {
         return getValueSafelyFromPropertyList(properties, CUSTOM_ENDPOINT_REGION_PROPERTY_INDEX, String.class);
     }
@@ -0,0 +1,203 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3ErrorMessages;
+import com.external.plugins.exceptions.S3PluginError;
+import org.apache.commons.lang.StringUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class FileContentUtils {
+
+    // Same form as the HTTP Range header, with an optional "bytes=" unit
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^(?:bytes=)?(\\d+)\\s*-\\s*(\\d*)$");
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Parses a byte range, e.g. {@code 0-1048575}, where both the first and the last byte are included, or
+     * {@code 1048576-} to read up to the end of the file.
+     *
+     * @return The first and the last byte of the range, the last one being -1 when the range is open ended, or null
+     * when no range is given.
+     */
+    public static long[] parseByteRange(String range) throws AppsmithPluginException {
+        if (StringUtils.isBlank(range)) {
+            return null;
+        }
+
+        Matcher matcher = BYTE_RANGE_PATTERN.matcher(range.trim());
+        try {
+            if (matcher.matches()) {
+                long start = Long.parseLong(matcher.group(1));
+                long end = matcher.group(2).isEmpty() ? -1 : Long.parseLong(matcher.group(2));
+                if (end == -1 || start <= end) {
+                    return new long[] {start, end};
+                }
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below
+        }
+
+        throw new AppsmithPluginException(
+                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                String.format(S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG, range));
+    }
+
+    /**
+     * Reads the content of a file into a string, Base64 encoding it on the way if asked to, and fails once the result
+     * would be larger than the maximum size. This only caps the memory taken by a read: the whole result is buffered,
+     * then copied into the string the action result carries, so a read briefly holds up to twice the maximum size.
+     * The size is checked before reading when the content length is known, and while reading otherwise.
+     *
+     * @param contentLength The number of bytes to be read, or a negative number when not known.
+     * @param maxSize       The maximum size of the result, in bytes.
+     * @throws AppsmithPluginException if the result is larger than the maximum size.
+     */
+    public static String readContent(InputStream content, long contentLength, boolean encodeContent, int maxSize)
+            throws IOException {
+        BoundedByteArrayOutputStream buffer = newBuffer(contentLength, encodeContent, maxSize);
+        try (OutputStream sink = encodeContent ? Base64.getEncoder().wrap(buffer) : buffer) {
+            content.transferTo(sink);
+        }
+
+        return toResult(buffer, encodeContent);
+    }
+
+    /**
+     * Same as {@link #readContent(InputStream, long, boolean, int)}, for content that is published as it arrives, so
+     * that no thread waits for it. Once the result would be larger than the maximum size, the content is cancelled,
+     * which drops the connection rather than reading the rest of it.
+     */
+    public static Mono<String> readContent(
+            Publisher<ByteBuffer> content, long contentLength, boolean encodeContent, int maxSize) {
+        return Mono.defer(() -> {
+            BoundedByteArrayOutputStream buffer;
+            try {
+                buffer = newBuffer(contentLength, encodeContent, maxSize);
+            } catch (AppsmithPluginException e) {
+                // Subscribes to the content only to cancel it, which drops the connection without reading any of it
+                return Flux.from(content).take(0, false).then(Mono.error(e));
+            }
+            OutputStream sink = encodeContent ? Base64.getEncoder().wrap(buffer) : buffer;
+            return Flux.from(content)
+                    .doOnNext(byteBuffer -> write(sink, byteBuffer))
+                    .then(Mono.fromCallable(() -> {
+                        // Writes the padding of the encoding, if any
+                        sink.close();
+                        return toResult(buffer, encodeContent);
+                    }));
+        });
+    }
+
+    /**
+     * Reads a file with the v2 client, the byte range when given and the whole file otherwise, without blocking a
+     * thread while the content arrives.
+     */
+    public static Mono<String> readFile(
+            S3AsyncClient asyncClient,
+            String bucketName,
+            String path,
+            boolean encodeContent,
+            long[] byteRange,
+            int maxSize) {
+        GetObjectRequest.Builder getObjectRequest =
+                GetObjectRequest.builder().bucket(bucketName).key(path);
+        if (byteRange != null) {
+            getObjectRequest.range("bytes=" + byteRange[0] + "-" + (byteRange[1] < 0 ? "" : byteRange[1]));
+        }
+
+        return Mono.fromFuture(
+                        () -> asyncClient.getObject(getObjectRequest.build(), AsyncResponseTransformer.toPublisher()))
+                .flatMap(response -> {
+                    // For a ranged read, this is the length of the range
+                    Long contentLength = response.response().contentLength();
+                    return readContent(response, contentLength == null ? -1 : contentLength, encodeContent, maxSize);
+                });
+    }
+
+    private static BoundedByteArrayOutputStream newBuffer(long contentLength, boolean encodeContent, int maxSize) {
+        long resultLength = contentLength < 0 ? -1 : encodeContent ? getBase64Length(contentLength) : contentLength;
+        if (resultLength > maxSize) {
+            throw getResponseSizeTooLargeException(maxSize);
+        }
+
+        return new BoundedByteArrayOutputStream(resultLength > 0 ? (int) resultLength : DEFAULT_BUFFER_SIZE, maxSize);
+    }
+
+    private static void write(OutputStream sink, ByteBuffer byteBuffer) {
+        try {
+            if (byteBuffer.hasArray()) {
+                sink.write(
+                        byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+            } else {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.duplicate().get(bytes);
+                sink.write(bytes);
+            }
+        } catch (IOException e) {
+            throw Exceptions.propagate(e);
+        }
+    }
+
+    private static String toResult(BoundedByteArrayOutputStream buffer, boolean encodeContent) {
+        // Base64 is plain ASCII, which keeps the bytes of the string as they are
+        return encodeContent ? buffer.toString(StandardCharsets.ISO_8859_1) : buffer.toString();
+    }
+
+    static long getBase64Length(long length) {
+        return 4 * ((length + 2) / 3);
+    }
+
+    private static AppsmithPluginException getResponseSizeTooLargeException(int maxSize) {
+        return new AppsmithPluginException(S3PluginError.RESPONSE_SIZE_TOO_LARGE, maxSize / (1024f * 1024));
+    }
+
+    /**
+     * A {@link ByteArrayOutputStream} that fails as soon as more than the maximum size is written to it, instead of
+     * growing past it.
+     */
+    private static class BoundedByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private final int maxSize;
+
+        BoundedByteArrayOutputStream(int initialSize, int maxSize) {
+            super(initialSize);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            checkSize(1);
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            checkSize(len);
+            super.write(b, off, len);
+        }
+
+        private void checkSize(int len) {
+            if ((long) count + len > maxSize) {
+                throw getResponseSizeTooLargeException(maxSize);
+            }
+        }
+    }
+}
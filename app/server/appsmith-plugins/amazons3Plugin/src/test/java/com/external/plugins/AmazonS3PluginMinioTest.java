@@ -0,0 +1,258 @@
+package com.external.plugins;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import com.external.plugins.models.S3Connection;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.BUCKET;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
+import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PREFIX;
+import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
+import static com.external.plugins.constants.FieldName.PATH;
+import static com.external.plugins.constants.FieldName.READ_DATATYPE;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
+import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.YES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the plugin against a MinIO server, as a local stand-in for S3.
+ */
+@Slf4j
+@Testcontainers
+public class AmazonS3PluginMinioTest {
+
+    private static final String ACCESS_KEY = "minio-access-key";
+    private static final String SECRET_KEY = "minio-secret-key";
+    private static final String BUCKET_NAME = "appsmith-test-bucket";
+    private static final int CONCURRENT_READS = 100;
+
+    @Container
+    public static final GenericContainer<?> minioContainer = new GenericContainer<>(
+                    DockerImageName.parse("minio/minio:RELEASE.2024-01-16T16-07-38Z"))
+            .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+            .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+            .withCommand("server", "/data")
+            .withExposedPorts(9000)
+            .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private static final AmazonS3Plugin.S3PluginExecutor pluginExecutor =
+            new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+    private static DatasourceConfiguration datasourceConfiguration;
+
+    private static S3Connection connection;
+
+    // Same clients, without the v2 one, so that files are read with the v1 client
+    private static S3Connection v1Connection;
+
+    @BeforeAll
+    public static void setUp() {
+        DBAuth authDTO = new DBAuth();
+        authDTO.setAuthType(DBAuth.Type.USERNAME_PASSWORD);
+        authDTO.setUsername(ACCESS_KEY);
+        authDTO.setPassword(SECRET_KEY);
+
+        datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(authDTO);
+        ArrayList<Property> properties = new ArrayList<>();
+        properties.add(null); // since index 0 is not used anymore.
+        properties.add(new Property("s3 service provider", "minio"));
+        properties.add(new Property("custom endpoint region", ""));
+        datasourceConfiguration.setProperties(properties);
+        String endpoint = "http://" + minioContainer.getHost() + ":" + minioContainer.getMappedPort(9000);
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint(endpoint, 0L)));
+
+        connection = pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+        v1Connection = new S3Connection(connection.getClient(), null);
+        connection.getClient().createBucket(BUCKET_NAME);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        pluginExecutor.datasourceDestroy(connection);
+    }
+
+    private Mono<ActionExecutionResult> execute(Map<String, Object> configMap) {
+        return execute(connection, configMap);
+    }
+
+    private Mono<ActionExecutionResult> execute(S3Connection connection, Map<String, Object> configMap) {
+        setDataValueSafelyInFormData(configMap, BUCKET, BUCKET_NAME);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setFormData(configMap);
+
+        return pluginExecutor.executeParameterized(
+                connection, new ExecuteActionDTO(), datasourceConfiguration, actionConfiguration);
+    }
+
+    private Mono<ActionExecutionResult> upload(String path, String content) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "UPLOAD_FILE_FROM_BODY");
+        setDataValueSafelyInFormData(configMap, PATH, path);
+        setDataValueSafelyInFormData(configMap, BODY, "{\"data\": \"" + content + "\"}");
+        setDataValueSafelyInFormData(configMap, CREATE_DATATYPE, NO);
+        setDataValueSafelyInFormData(configMap, CREATE_EXPIRY, "5");
+        return execute(configMap);
+    }
+
+    private Mono<ActionExecutionResult> read(String path) {
+        return read(connection, path, NO, null);
+    }
+
+    private Mono<ActionExecutionResult> read(S3Connection connection, String path, String readDatatype, String range) {
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, PATH, path);
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, readDatatype);
+        if (range != null) {
+            setDataValueSafelyInFormData(configMap, READ_RANGE, range);
+        }
+        return execute(connection, configMap);
+    }
+
+    @Test
+    public void testUploadListReadAndDeleteFile() {
+        String path = "round-trip/file.txt";
+        String content = "Hello from MinIO";
+
+        StepVerifier.create(upload(path, content))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNotNull(((Map<String, Object>) result.getBody()).get("signedUrl"));
+                })
+                .verifyComplete();
+
+        Map<String, Object> listConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(listConfigMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(listConfigMap, LIST_PREFIX, "round-trip/");
+        setDataValueSafelyInFormData(listConfigMap, LIST_SIGNED_URL, YES);
+        StepVerifier.create(execute(listConfigMap))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode files = (ArrayNode) result.getBody();
+                    assertEquals(1, files.size());
+                    assertEquals(path, files.get(0).get("fileName").asText());
+                    assertNotNull(files.get(0).get("signedUrl"));
+                })
+                .verifyComplete();
+
+        StepVerifier.create(read(path))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(content, ((Map<String, Object>) result.getBody()).get("fileData"));
+                })
+                .verifyComplete();
+
+        Map<String, Object> deleteConfigMap = new HashMap<>();
+        setDataValueSafelyInFormData(deleteConfigMap, COMMAND, "DELETE_FILE");
+        setDataValueSafelyInFormData(deleteConfigMap, PATH, path);
+        StepVerifier.create(execute(deleteConfigMap))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        StepVerifier.create(execute(listConfigMap))
+                .assertNext(result -> assertTrue(((ArrayNode) result.getBody()).isEmpty()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithTheV1AndV2Clients_returnsTheSameResults() {
+        assertNotNull(connection.getAsyncClient());
+
+        String path = "compare/file.txt";
+        String content = "Hello from MinIO, read with both clients";
+        StepVerifier.create(upload(path, content))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        for (String readDatatype : List.of(NO, YES)) {
+            for (String range : Arrays.asList(null, "6-9", "11-")) {
+                Object v1FileData = read(v1Connection, path, readDatatype, range)
+                        .map(result -> ((Map<String, Object>) result.getBody()).get("fileData"))
+                        .block();
+                Object v2FileData = read(connection, path, readDatatype, range)
+                        .map(result -> ((Map<String, Object>) result.getBody()).get("fileData"))
+                        .block();
+
+                assertNotNull(v1FileData);
+                assertEquals(v1FileData, v2FileData, "Read as " + readDatatype + " with range " + range);
+            }
+        }
+
+        // Both clients fail the same way when the file does not exist
+        StepVerifier.create(Mono.zip(
+                        read(v1Connection, "compare/missing.txt", NO, null),
+                        read(connection, "compare/missing.txt", NO, null)))
+                .assertNext(results -> {
+                    assertFalse(results.getT1().getIsExecutionSuccess());
+                    assertFalse(results.getT2().getIsExecutionSuccess());
+                    assertTrue(results.getT1().getReadableError().startsWith("NoSuchKey: "));
+                    assertTrue(results.getT2().getReadableError().startsWith("NoSuchKey: "));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testConcurrentReads() {
+        String path = "concurrent/file.txt";
+        // Within the max file read size of the tests
+        String content = "x".repeat(1000);
+        StepVerifier.create(upload(path, content))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        // Logged, so that the throughput of the v1 and v2 clients can be compared, also between changes
+        for (S3Connection readConnection : List.of(v1Connection, connection)) {
+            long start = System.nanoTime();
+            StepVerifier.create(Flux.range(0, CONCURRENT_READS)
+                            .flatMap(i -> read(readConnection, path, NO, null), CONCURRENT_READS)
+                            .filter(ActionExecutionResult::getIsExecutionSuccess)
+                            .count())
+                    .expectNext((long) CONCURRENT_READS)
+                    .expectComplete()
+                    .verify(Duration.ofMinutes(1));
+
+            long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+            log.info(
+                    "{} concurrent reads of {} bytes with the {} client took {} ms, {} reads/s",
+                    CONCURRENT_READS,
+                    content.length(),
+                    readConnection.getAsyncClient() == null ? "v1" : "v2",
+                    elapsedMillis,
+                    CONCURRENT_READS * 1000 / Math.max(elapsedMillis, 1));
+        }
+    }
+}
@@ -6,7 +6,10 @@ import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.Bucket;
 import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
@@ -29,15 +32,27 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.constants.AmazonS3Action;
 import com.external.plugins.exceptions.S3ErrorMessages;
 import com.external.plugins.exceptions.S3PluginError;
+import com.external.plugins.models.S3Connection;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mockito;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
@@ -45,12 +60,20 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -62,6 +85,7 @@ import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.CREATE_DATATYPE;
 import static com.external.plugins.constants.FieldName.CREATE_EXPIRY;
 import static com.external.plugins.constants.FieldName.LIST_EXPIRY;
+import static com.external.plugins.constants.FieldName.LIST_PAGINATE;
 import static com.external.plugins.constants.FieldName.LIST_PREFIX;
 import static com.external.plugins.constants.FieldName.LIST_SIGNED_URL;
 import static com.external.plugins.constants.FieldName.LIST_UNSIGNED_URL;
@@ -69,10 +93,14 @@ import static com.external.plugins.constants.FieldName.LIST_WHERE;
 import static com.external.plugins.constants.FieldName.PATH;
 import static com.external.plugins.constants.FieldName.READ_DATATYPE;
 import static com.external.plugins.constants.FieldName.READ_EXPIRY;
+import static com.external.plugins.constants.FieldName.READ_RANGE;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_FILE_NAME;
 import static com.external.plugins.constants.S3PluginConstants.DEFAULT_URL_EXPIRY_IN_MINUTES;
+import static com.external.plugins.constants.S3PluginConstants.MAX_SIGNED_URLS_PER_QUERY;
 import static com.external.plugins.constants.S3PluginConstants.NO;
+import static com.external.plugins.constants.S3PluginConstants.S3_SCHEDULER_NAME;
+import static com.external.plugins.constants.S3PluginConstants.SIGNED_URL_BATCH_SIZE;
 import static com.external.plugins.constants.S3PluginConstants.YES;
 import static com.external.utils.DatasourceUtils.getS3ClientBuilder;
 import static com.external.utils.TemplateUtils.CREATE_FILE_TEMPLATE_NAME;
@@ -96,7 +124,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.util.CollectionUtils.isEmpty;
 
@@ -145,7 +177,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -169,7 +201,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.setAuthentication(authDTOWithEmptyAccessKey);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -191,7 +223,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(1).setValue("other");
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -207,7 +239,7 @@ public class AmazonS3PluginTest {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         datasourceConfiguration.getProperties().get(2).setValue("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -225,7 +257,7 @@ public class AmazonS3PluginTest {
         datasourceConfiguration.getProperties().get(2).setValue("");
         datasourceConfiguration.getEndpoints().get(0).setHost("");
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(pluginExecutor);
 
         StepVerifier.create(pluginExecutorMono)
@@ -244,7 +276,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testTestDatasourceWithFalseCredentials() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         StepVerifier.create(pluginExecutor.testDatasource(datasourceConfiguration))
                 .assertNext(datasourceTestResult -> {
                     assertNotEquals(0, datasourceTestResult.getInvalids().size());
@@ -263,7 +295,8 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setFormData(new HashMap<>());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono =
+                Mono.just(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono.flatMap(executor -> {
             return executor.executeParameterized(null, executeActionDTO, datasourceConfiguration, actionConfiguration);
         });
@@ -275,7 +308,7 @@ public class AmazonS3PluginTest {
     public void testListFilesInBucketWithNoUrl() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -306,7 +339,7 @@ public class AmazonS3PluginTest {
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -331,7 +364,7 @@ public class AmazonS3PluginTest {
     public void testCreateFileFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -345,7 +378,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -371,7 +404,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithMissingDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -384,7 +417,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -414,7 +447,7 @@ public class AmazonS3PluginTest {
         Param param = new Param("dynamicallyFoundFilePickerObject", "<html>Random\"Unescaped'String</html>");
         param.setClientDataType(ClientDataType.OBJECT);
         executeActionDTO.setParams(List.of(param));
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -428,7 +461,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -448,7 +481,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBody_withMalformedBody_returnsErrorMessage() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -462,7 +495,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -500,7 +533,7 @@ public class AmazonS3PluginTest {
     public void testFileUploadFromBodyWithFilepickerAndNonBase64() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -514,7 +547,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -558,7 +591,7 @@ public class AmazonS3PluginTest {
     public void testCreateMultipleFilesFromBodyWithFalseCredentialsAndNonNullDuration() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -572,7 +605,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 pluginExecutor.datasourceCreate(datasourceConfiguration).block();
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
                 connection, executeActionDTO, datasourceConfiguration, actionConfiguration);
@@ -592,7 +625,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithoutBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -615,7 +648,7 @@ public class AmazonS3PluginTest {
         when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -630,7 +663,7 @@ public class AmazonS3PluginTest {
     public void testReadFileFromPathWithBase64Encoding() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -653,7 +686,7 @@ public class AmazonS3PluginTest {
         when(mockS3Object.getObjectContent()).thenReturn(dummyS3ObjectInputStream);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -680,11 +713,377 @@ public class AmazonS3PluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testReadFileWithByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "6-10");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(mockConnection.getObject(getObjectRequestCaptor.capture())).thenReturn(mockS3Object);
+
+        String dummyContent = "World";
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(dummyContent.length());
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(new String(Base64.encode(dummyContent.getBytes())), body.get("fileData"));
+                    assertArrayEquals(
+                            new long[] {6, 10},
+                            getObjectRequestCaptor.getValue().getRange());
+                    assertEquals(
+                            new RequestParamDTO(READ_RANGE, "6-10", null, null, null).toString(),
+                            ((List<RequestParamDTO>) result.getRequest().getRequestParams())
+                                    .get(4)
+                                    .toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithInvalidByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_RANGE, "10-6");
+
+        actionConfiguration.setFormData(configMap);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                    assertEquals(String.format(S3ErrorMessages.INVALID_BYTE_RANGE_ERROR_MSG, "10-6"), result.getBody());
+                    verify(mockConnection, never()).getObject(anyString(), anyString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileLargerThanTheMaxFileReadSize_failsWithoutReadingTheContent() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "YES");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        // Fits in the max file read size of 1024 bytes, but its Base64 encoding doesn't
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentLength(800);
+        when(mockS3Object.getObjectMetadata()).thenReturn(objectMetadata);
+        S3ObjectInputStream mockS3ObjectInputStream = mock(S3ObjectInputStream.class);
+        when(mockS3Object.getObjectContent()).thenReturn(mockS3ObjectInputStream);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3PluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                    verify(mockS3ObjectInputStream).abort();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithoutContentLength_isLimitedWhileReading() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(anyString(), anyString())).thenReturn(mockS3Object);
+
+        InputStream dummyInputStream = new ByteArrayInputStream(new byte[2048]);
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3PluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    private ActionConfiguration createReadFileActionConfiguration(String readDatatype, String range) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, readDatatype);
+        if (range != null) {
+            setDataValueSafelyInFormData(configMap, READ_RANGE, range);
+        }
+        actionConfiguration.setFormData(configMap);
+        return actionConfiguration;
+    }
+
+    private void mockAsyncGetObject(S3AsyncClient mockAsyncClient, Long contentLength, Flux<ByteBuffer> content) {
+        ResponsePublisher<GetObjectResponse> response = new ResponsePublisher<>(
+                GetObjectResponse.builder().contentLength(contentLength).build(), SdkPublisher.adapt(content));
+        when(mockAsyncClient.getObject(
+                        any(software.amazon.awssdk.services.s3.model.GetObjectRequest.class),
+                        any(AsyncResponseTransformer.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(response));
+    }
+
+    @Test
+    public void testReadFileWithTheAsyncClient_readsTheByteRangeWithoutTheV1Client() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        S3AsyncClient mockAsyncClient = mock(S3AsyncClient.class);
+
+        // The content arrives in parts, which are encoded as they arrive
+        String dummyContent = "World";
+        mockAsyncGetObject(
+                mockAsyncClient,
+                (long) dummyContent.length(),
+                Flux.just(ByteBuffer.wrap("Wor".getBytes()), ByteBuffer.wrap("ld".getBytes())));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, mockAsyncClient),
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                createReadFileActionConfiguration("YES", "6-10"));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(new String(Base64.encode(dummyContent.getBytes())), body.get("fileData"));
+
+                    ArgumentCaptor<software.amazon.awssdk.services.s3.model.GetObjectRequest> getObjectRequestCaptor =
+                            ArgumentCaptor.forClass(software.amazon.awssdk.services.s3.model.GetObjectRequest.class);
+                    verify(mockAsyncClient)
+                            .getObject(getObjectRequestCaptor.capture(), any(AsyncResponseTransformer.class));
+                    assertEquals(
+                            "bucket_name", getObjectRequestCaptor.getValue().bucket());
+                    assertEquals("path", getObjectRequestCaptor.getValue().key());
+                    assertEquals("bytes=6-10", getObjectRequestCaptor.getValue().range());
+                    verifyNoInteractions(mockConnection);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithTheAsyncClientLargerThanTheMaxFileReadSize_cancelsTheContent() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        S3AsyncClient mockAsyncClient = mock(S3AsyncClient.class);
+
+        // Fits in the max file read size of 1024 bytes, but its Base64 encoding doesn't
+        AtomicBoolean cancelled = new AtomicBoolean();
+        mockAsyncGetObject(
+                mockAsyncClient, 800L, Flux.just(ByteBuffer.allocate(800)).doOnCancel(() -> cancelled.set(true)));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mock(AmazonS3.class), mockAsyncClient),
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                createReadFileActionConfiguration("YES", null));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3PluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                    assertTrue(cancelled.get());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithTheAsyncClientWithoutContentLength_cancelsTheContentOnceTooLarge() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        S3AsyncClient mockAsyncClient = mock(S3AsyncClient.class);
+
+        // The first part fills the max file read size of 1024 bytes, and the third one is never read
+        AtomicBoolean cancelled = new AtomicBoolean();
+        AtomicInteger partsRead = new AtomicInteger();
+        mockAsyncGetObject(
+                mockAsyncClient,
+                null,
+                Flux.range(0, 3)
+                        .map(i -> ByteBuffer.allocate(1024))
+                        .doOnNext(part -> partsRead.incrementAndGet())
+                        .doOnCancel(() -> cancelled.set(true)));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mock(AmazonS3.class), mockAsyncClient),
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                createReadFileActionConfiguration("NO", null));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(S3PluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), result.getTitle());
+                    assertTrue(cancelled.get());
+                    assertEquals(2, partsRead.get());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testReadFileWithTheAsyncClientOfAMissingFile_returnsTheErrorOfS3() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        S3AsyncClient mockAsyncClient = mock(S3AsyncClient.class);
+        NoSuchKeyException noSuchKeyException = NoSuchKeyException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder()
+                        .errorCode("NoSuchKey")
+                        .errorMessage("The specified key does not exist.")
+                        .build())
+                .statusCode(404)
+                .build();
+        when(mockAsyncClient.getObject(
+                        any(software.amazon.awssdk.services.s3.model.GetObjectRequest.class),
+                        any(AsyncResponseTransformer.class)))
+                .thenAnswer(invocation -> CompletableFuture.failedFuture(noSuchKeyException));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mock(AmazonS3.class), mockAsyncClient),
+                new ExecuteActionDTO(),
+                createDatasourceConfiguration(),
+                createReadFileActionConfiguration("NO", null));
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals("NoSuchKey: The specified key does not exist.", result.getReadableError());
+                })
+                .verifyComplete();
+    }
+
+    /*
+     * - Reads a file with the v1 client, and checks that it is read on a thread of the S3 scheduler.
+     */
+    private void verifyFileIsReadOnTheS3Scheduler() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, PATH, "path");
+        setDataValueSafelyInFormData(configMap, COMMAND, "READ_FILE");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, READ_DATATYPE, "NO");
+        actionConfiguration.setFormData(configMap);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        AtomicReference<String> readThreadName = new AtomicReference<>();
+        when(mockConnection.getObject(anyString(), anyString())).thenAnswer(invocation -> {
+            readThreadName.set(Thread.currentThread().getName());
+            return mockS3Object;
+        });
+
+        String dummyContent = "Hello World !!!\n";
+        InputStream dummyInputStream = new ByteArrayInputStream(dummyContent.getBytes());
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    Map<String, Object> body = (Map<String, Object>) result.getBody();
+                    assertEquals(dummyContent, body.get("fileData"));
+                    assertTrue(readThreadName.get().startsWith(S3_SCHEDULER_NAME));
+                })
+                .expectComplete()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    public void testReadFileWhileTheSharedElasticPoolIsBusy() {
+        // Keeps every thread of the shared boundedElastic pool busy, like other plugins waiting on slow queries would
+        CountDownLatch release = new CountDownLatch(1);
+        List<Disposable> busyTasks = new ArrayList<>();
+        for (int i = 0; i < Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE; i++) {
+            busyTasks.add(Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        try {
+            verifyFileIsReadOnTheS3Scheduler();
+        } finally {
+            release.countDown();
+            busyTasks.forEach(Disposable::dispose);
+        }
+    }
+
     @Test
     public void testDeleteFile() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -700,7 +1099,7 @@ public class AmazonS3PluginTest {
         doNothing().when(mockConnection).deleteObject(anyString(), anyString());
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
@@ -729,7 +1128,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithPrefix() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -760,7 +1159,7 @@ public class AmazonS3PluginTest {
         when(mockObjectListing.getObjectSummaries()).thenReturn(mockS3ObjectSummaryList);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -779,7 +1178,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithUnsignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -818,7 +1217,7 @@ public class AmazonS3PluginTest {
                 .thenReturn(dummyUrl2);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -843,7 +1242,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrl() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -880,7 +1279,7 @@ public class AmazonS3PluginTest {
         when(mockConnection.generatePresignedUrl(any())).thenReturn(dummyUrl1).thenReturn(dummyUrl2);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -908,7 +1307,7 @@ public class AmazonS3PluginTest {
     public void testListFilesWithSignedUrlAndNullDuration() throws MalformedURLException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -944,7 +1343,7 @@ public class AmazonS3PluginTest {
         when(mockConnection.generatePresignedUrl(any())).thenReturn(dummyUrl1).thenReturn(dummyUrl2);
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
@@ -990,7 +1389,7 @@ public class AmazonS3PluginTest {
     @Test
     public void testGetStructure() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         Bucket mockS3Bucket1 = mock(Bucket.class);
         when(mockS3Bucket1.getName()).thenReturn("dummy_bucket_1");
@@ -998,7 +1397,8 @@ public class AmazonS3PluginTest {
         AmazonS3 mockConnection = mock(AmazonS3.class);
         when(mockConnection.listBuckets()).thenReturn(List.of(mockS3Bucket1));
 
-        StepVerifier.create(pluginExecutor.getStructure(mockConnection, datasourceConfiguration))
+        StepVerifier.create(
+                        pluginExecutor.getStructure(new S3Connection(mockConnection, null), datasourceConfiguration))
                 .assertNext(datasourceStructure -> {
                     String expectedBucketName = "dummy_bucket_1";
                     assertEquals(
@@ -1197,7 +1597,7 @@ public class AmazonS3PluginTest {
     public void testDeleteMultipleFiles() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1215,7 +1615,7 @@ public class AmazonS3PluginTest {
         when(mockConnection.deleteObjects(any())).thenReturn(new DeleteObjectsResult(new ArrayList<>()));
 
         Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
-                mockConnection, executeActionDTO, datasourceConfiguration, actionConfiguration);
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
         StepVerifier.create(resultMono)
                 .assertNext(result -> {
                     assertTrue(result.getIsExecutionSuccess());
@@ -1251,16 +1651,16 @@ public class AmazonS3PluginTest {
         amazonS3Exception.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class.getDeclaredMethod(
-                "executeCommon", AmazonS3.class, DatasourceConfiguration.class, ActionConfiguration.class);
+                "executeCommon", S3Connection.class, DatasourceConfiguration.class, ActionConfiguration.class);
         executeCommon.setAccessible(true);
 
         ActionConfiguration mockAction = Mockito.mock(ActionConfiguration.class);
         when(mockAction.getFormData()).thenThrow(amazonS3Exception);
-        Mono<ActionExecutionResult> invoke = (Mono<ActionExecutionResult>)
-                executeCommon.invoke(pluginExecutor, mockConnection, datasourceConfiguration, mockAction);
+        Mono<ActionExecutionResult> invoke = (Mono<ActionExecutionResult>) executeCommon.invoke(
+                pluginExecutor, new S3Connection(mockConnection, null), datasourceConfiguration, mockAction);
         ActionExecutionResult actionExecutionResult = invoke.block();
         assertEquals(actionExecutionResult.getReadableError(), errorCode + ": " + errorMessage);
     }
@@ -1273,7 +1673,8 @@ public class AmazonS3PluginTest {
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
         ActionConfiguration mockActionConfiguration = mock(ActionConfiguration.class);
         Mockito.when(mockActionConfiguration.getFormData()).thenCallRealMethod().thenThrow(new IllegalStateException());
-        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono = Mono.just(new AmazonS3Plugin.S3PluginExecutor());
+        Mono<AmazonS3Plugin.S3PluginExecutor> pluginExecutorMono =
+                Mono.just(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
         Mono<ActionExecutionResult> resultMono = pluginExecutorMono.flatMap(executor -> {
             return executor.executeParameterized(
                     null, executeActionDTO, datasourceConfiguration, mockActionConfiguration);
@@ -1291,16 +1692,16 @@ public class AmazonS3PluginTest {
         amazonServiceException.setErrorCode(errorCode);
 
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         AmazonS3 mockConnection = Mockito.mock(AmazonS3.class);
         Method executeCommon = AmazonS3Plugin.S3PluginExecutor.class.getDeclaredMethod(
-                "executeCommon", AmazonS3.class, DatasourceConfiguration.class, ActionConfiguration.class);
+                "executeCommon", S3Connection.class, DatasourceConfiguration.class, ActionConfiguration.class);
         executeCommon.setAccessible(true);
 
         ActionConfiguration mockAction = Mockito.mock(ActionConfiguration.class);
         when(mockAction.getFormData()).thenThrow(amazonServiceException);
-        Mono<ActionExecutionResult> invoke = (Mono<ActionExecutionResult>)
-                executeCommon.invoke(pluginExecutor, mockConnection, datasourceConfiguration, mockAction);
+        Mono<ActionExecutionResult> invoke = (Mono<ActionExecutionResult>) executeCommon.invoke(
+                pluginExecutor, new S3Connection(mockConnection, null), datasourceConfiguration, mockAction);
         ActionExecutionResult actionExecutionResult = invoke.block();
         assertEquals(actionExecutionResult.getReadableError(), errorCode + ": " + errorMessage);
     }
@@ -1309,7 +1710,8 @@ public class AmazonS3PluginTest {
     public void uploadsSingleFileWithFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor =
+                spy(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1328,7 +1730,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
@@ -1352,7 +1754,8 @@ public class AmazonS3PluginTest {
     public void uploadsMultipleFilesWithFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor =
+                spy(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1369,7 +1772,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
@@ -1404,7 +1807,8 @@ public class AmazonS3PluginTest {
     public void uploadsSingleFileWithoutFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor =
+                spy(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1423,7 +1827,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url");
@@ -1444,7 +1848,8 @@ public class AmazonS3PluginTest {
     public void uploadsMultipleFilesWithoutFilePicker() throws InterruptedException {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
         ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
-        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor = spy(AmazonS3Plugin.S3PluginExecutor.class);
+        AmazonS3Plugin.S3PluginExecutor spyS3PluginExecutor =
+                spy(new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig()));
 
         ActionConfiguration actionConfiguration = new ActionConfiguration();
 
@@ -1461,7 +1866,7 @@ public class AmazonS3PluginTest {
 
         actionConfiguration.setFormData(configMap);
 
-        AmazonS3 connection =
+        S3Connection connection =
                 spyS3PluginExecutor.datasourceCreate(datasourceConfiguration).block();
         ArrayList<String> signedURLS = new ArrayList<>();
         signedURLS.add("https://example.signed.url1");
@@ -1505,8 +1910,9 @@ public class AmazonS3PluginTest {
         AmazonS3 mockConnection = mock(AmazonS3.class);
         when(mockConnection.listBuckets()).thenThrow(accessDeniedException);
 
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
-        Mono<DatasourceTestResult> datasourceTestResultMono = pluginExecutor.testDatasource(mockConnection);
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+        Mono<DatasourceTestResult> datasourceTestResultMono =
+                pluginExecutor.testDatasource(new S3Connection(mockConnection, null));
         StepVerifier.create(datasourceTestResultMono)
                 .assertNext(result -> assertEquals(0, result.getInvalids().size()))
                 .verifyComplete();
@@ -1514,7 +1920,7 @@ public class AmazonS3PluginTest {
 
     @Test
     public void verify_sanitizeGenerateCRUDPageTemplateInfo_doesNothing_onEmptyActionConfig() {
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         List<ActionConfiguration> actionConfigurationList = new ArrayList<>();
         Map<String, String> mappedColumnsAndTableName = new HashMap<>();
         pluginExecutor
@@ -1532,11 +1938,173 @@ public class AmazonS3PluginTest {
         Map<String, Object> formData = new HashMap<>();
         setDataValueSafelyInFormData(formData, "bucket", "templateBucket");
         actionConfiguration.setFormData(formData);
-        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
         pluginExecutor
                 .sanitizeGenerateCRUDPageTemplateInfo(
                         List.of(actionConfiguration), mappedColumnsAndTableName, userSelectedBucketName)
                 .block();
         assertEquals(userSelectedBucketName, mappedColumnsAndTableName.get("templateBucket"));
     }
+
+    @Test
+    public void testReadFileAfterThePluginIsRestarted_runsOnANewS3Scheduler() {
+        // Stopping the plugin disposes of its scheduler, which is created again when the plugin is started again
+        AmazonS3Plugin.S3PluginExecutor.stopSharedResources();
+        AmazonS3Plugin.S3PluginExecutor.startSharedResources();
+
+        verifyFileIsReadOnTheS3Scheduler();
+    }
+
+    private ObjectListing mockObjectListing(List<String> keys) {
+        ObjectListing objectListing = mock(ObjectListing.class);
+        List<S3ObjectSummary> objectSummaries = new ArrayList<>();
+        for (String key : keys) {
+            S3ObjectSummary objectSummary = mock(S3ObjectSummary.class);
+            when(objectSummary.getKey()).thenReturn(key);
+            objectSummaries.add(objectSummary);
+        }
+        when(objectListing.getObjectSummaries()).thenReturn(objectSummaries);
+        return objectListing;
+    }
+
+    private void mockSignedUrls(AmazonS3 mockConnection) {
+        when(mockConnection.generatePresignedUrl(any()))
+                .thenAnswer(invocation -> new URL(
+                        "http",
+                        "signed_url",
+                        "/" + ((GeneratePresignedUrlRequest) invocation.getArgument(0)).getKey()));
+    }
+
+    @Test
+    public void testListFilesWithWhereAndPagination_listsOnlyUntilThePageIsFilled() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "YES");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "");
+        setDataValueSafelyInFormData(
+                configMap,
+                LIST_WHERE,
+                Map.of(
+                        "condition",
+                        "AND",
+                        "children",
+                        List.of(Map.of("key", "fileName", "condition", "CONTAINS", "value", ".txt"))));
+        setDataValueSafelyInFormData(configMap, LIST_PAGINATE, Map.of("limit", "2", "offset", "1"));
+        actionConfiguration.setFormData(configMap);
+
+        // The third listing page is never needed, as the page of results is filled by the second one
+        ObjectListing firstListing = mockObjectListing(List.of("a_1.txt", "b_1.csv", "a_2.txt"));
+        ObjectListing secondListing = mockObjectListing(List.of("a_3.txt", "b_2.csv", "a_4.txt"));
+        ObjectListing thirdListing = mockObjectListing(List.of("a_5.txt"));
+        when(firstListing.isTruncated()).thenReturn(true);
+        when(secondListing.isTruncated()).thenReturn(true);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(firstListing);
+        when(mockConnection.listNextBatchOfObjects(firstListing)).thenReturn(secondListing);
+        when(mockConnection.listNextBatchOfObjects(secondListing)).thenReturn(thirdListing);
+        mockSignedUrls(mockConnection);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(2, node.size());
+                    assertEquals("a_2.txt", node.get(0).get("fileName").asText());
+                    assertEquals(
+                            "http://signed_url/a_2.txt",
+                            node.get(0).get("signedUrl").asText());
+                    assertEquals("a_3.txt", node.get(1).get("fileName").asText());
+                    assertEquals(
+                            "http://signed_url/a_3.txt",
+                            node.get(1).get("signedUrl").asText());
+                })
+                .verifyComplete();
+
+        verify(mockConnection, never()).listNextBatchOfObjects(secondListing);
+        // URLs are only signed for the files in the page of results
+        verify(mockConnection, times(2)).generatePresignedUrl(any());
+    }
+
+    @Test
+    public void testListFilesWithManySignedUrls_signsInBatchesAndKeepsTheOrder() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, COMMAND, "LIST");
+        setDataValueSafelyInFormData(configMap, BUCKET, "bucket_name");
+        setDataValueSafelyInFormData(configMap, LIST_SIGNED_URL, "YES");
+        setDataValueSafelyInFormData(configMap, LIST_PREFIX, "");
+        actionConfiguration.setFormData(configMap);
+
+        // More files than a single batch of signed URLs, with a last batch that is not full
+        int fileCount = SIGNED_URL_BATCH_SIZE * 3 + 1;
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            keys.add("file_" + i);
+        }
+        ObjectListing objectListing = mockObjectListing(keys);
+
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(objectListing);
+        mockSignedUrls(mockConnection);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.executeParameterized(
+                new S3Connection(mockConnection, null), executeActionDTO, datasourceConfiguration, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    ArrayNode node = (ArrayNode) result.getBody();
+                    assertEquals(fileCount, node.size());
+                    for (int i = 0; i < fileCount; i++) {
+                        assertEquals("file_" + i, node.get(i).get("fileName").asText());
+                        assertEquals(
+                                "http://signed_url/file_" + i,
+                                node.get(i).get("signedUrl").asText());
+                    }
+                })
+                .verifyComplete();
+
+        verify(mockConnection, times(fileCount)).generatePresignedUrl(any());
+    }
+
+    @Test
+    public void testCapSignedUrlList_tooManyFiles_keepsTheFirstOnesWithAHint() {
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor(new MockSharedConfig());
+
+        List<Integer> files = new ArrayList<>();
+        for (int i = 0; i < MAX_SIGNED_URLS_PER_QUERY; i++) {
+            files.add(i);
+        }
+
+        Set<String> messages = new HashSet<>();
+        assertEquals(files, pluginExecutor.capSignedUrlList(files, messages));
+        assertTrue(messages.isEmpty());
+
+        files.add(MAX_SIGNED_URLS_PER_QUERY);
+        List<Integer> cappedFiles = pluginExecutor.capSignedUrlList(files, messages);
+        assertEquals(files.subList(0, MAX_SIGNED_URLS_PER_QUERY), cappedFiles);
+        assertEquals(
+                Set.of(String.format(
+                        S3ErrorMessages.SIGNED_URLS_TRUNCATED_HINT_MSG,
+                        MAX_SIGNED_URLS_PER_QUERY,
+                        MAX_SIGNED_URLS_PER_QUERY,
+                        MAX_SIGNED_URLS_PER_QUERY + 1)),
+                messages);
+    }
 }
@@ -0,0 +1,26 @@
+package com.external.plugins;
+
+import com.appsmith.external.services.SharedConfig;
+
+public class MockSharedConfig implements SharedConfig {
+
+    @Override
+    public int getCodecSize() {
+        return 10 * 1024 * 1024;
+    }
+
+    @Override
+    public int getMaxResponseSize() {
+        return 5 * 1024 * 1024;
+    }
+
+    @Override
+    public String getRemoteExecutionUrl() {
+        return "";
+    }
+
+    @Override
+    public int getMaxFileReadSize() {
+        return 1024;
+    }
+}
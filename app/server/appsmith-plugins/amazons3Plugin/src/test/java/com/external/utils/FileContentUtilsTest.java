@@ -0,0 +1,72 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.plugins.exceptions.S3PluginError;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileContentUtilsTest {
+
+    @Test
+    public void parseByteRangeWithValidRanges() {
+        assertNull(FileContentUtils.parseByteRange(" "));
+        assertArrayEquals(new long[] {0, 1023}, FileContentUtils.parseByteRange("0-1023"));
+        assertArrayEquals(new long[] {5, 5}, FileContentUtils.parseByteRange(" bytes=5 - 5 "));
+        assertArrayEquals(new long[] {1024, -1}, FileContentUtils.parseByteRange("1024-"));
+    }
+
+    @Test
+    public void parseByteRangeWithInvalidRanges() {
+        for (String range : new String[] {"-1024", "10-5", "a-b", "1,2", "99999999999999999999-"}) {
+            assertThrows(AppsmithPluginException.class, () -> FileContentUtils.parseByteRange(range));
+        }
+    }
+
+    @Test
+    public void readContentEncodesLikeTheBase64Encoder() throws IOException {
+        Random random = new Random(42);
+        for (int length = 0; length < 64; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = Base64.getEncoder().encodeToString(bytes);
+
+            assertEquals(expected, FileContentUtils.readContent(new ByteArrayInputStream(bytes), length, true, 1024));
+            // Without a known content length
+            assertEquals(expected, FileContentUtils.readContent(new ByteArrayInputStream(bytes), -1, true, 1024));
+        }
+    }
+
+    @Test
+    public void readContentLargerThanTheMaxSize() {
+        byte[] bytes = new byte[300];
+
+        // The Base64 encoding takes 400 bytes
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> FileContentUtils.readContent(new ByteArrayInputStream(bytes), bytes.length, true, 399));
+        assertEquals(S3PluginError.RESPONSE_SIZE_TOO_LARGE.getTitle(), exception.getTitle());
+        assertThrows(
+                AppsmithPluginException.class,
+                () -> FileContentUtils.readContent(new ByteArrayInputStream(bytes), -1, false, 299));
+    }
+
+    @Test
+    public void readContentLargerThanAMaxSizeBelowOneMegabyte() {
+        byte[] bytes = new byte[1024 * 1024];
+
+        AppsmithPluginException exception = assertThrows(
+                AppsmithPluginException.class,
+                () -> FileContentUtils.readContent(new ByteArrayInputStream(bytes), -1, false, 512 * 1024));
+        assertTrue(exception.getMessage().contains("0.5 MB"), exception.getMessage());
+    }
+}
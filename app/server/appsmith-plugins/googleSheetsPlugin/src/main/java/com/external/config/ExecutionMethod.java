@@ -7,6 +7,7 @@ import com.appsmith.external.models.OAuth2;
 import com.external.constants.ErrorMessages;
 import com.external.plugins.exceptions.GSheetsPluginError;
 import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -79,6 +80,19 @@ public interface ExecutionMethod {
 
     WebClient.RequestHeadersSpec<?> getExecutionClient(WebClient webClient, MethodConfig methodConfig);
 
+    /**
+     * Sends the request populated by {@link #getExecutionClient(WebClient, MethodConfig)} on behalf of the user whose
+     * access token is given. Methods may override this to change how the request gets sent, e.g. to share it with other
+     * requests.
+     */
+    default Mono<ResponseEntity<byte[]>> executeRequest(
+            WebClient webClient, MethodConfig methodConfig, String accessToken) {
+        return getExecutionClient(webClient, methodConfig)
+                .headers(headers -> headers.set("Authorization", "Bearer " + accessToken))
+                .exchange()
+                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class));
+    }
+
     default JsonNode transformExecutionResponse(
             JsonNode response, MethodConfig methodConfig, Set<String> userAuthorizedSheetIds) {
         if (response == null) {
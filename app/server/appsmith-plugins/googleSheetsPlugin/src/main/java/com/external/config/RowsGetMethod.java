@@ -5,23 +5,38 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.models.Condition;
 import com.appsmith.external.models.UQIDataFilterParams;
 import com.appsmith.external.services.FilterDataService;
+import com.appsmith.external.services.ce.InMemoryDataTable;
 import com.external.constants.ErrorMessages;
 import com.external.domains.RowObject;
 import com.external.plugins.exceptions.GSheetsPluginError;
+import com.external.utils.BatchGetCoalescer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +46,16 @@ import java.util.regex.Pattern;
 @Slf4j
 public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMethod {
 
+    // Header rows are read on every page of rows, but they do get edited, hence they are only reused for a short while
+    private static final int HEADER_ROW_CACHE_TTL_SECONDS = 10;
+
+    private static final Cache<String, JsonNode> headerRowCache = CacheBuilder.newBuilder()
+            .expireAfterWrite(HEADER_ROW_CACHE_TTL_SECONDS, TimeUnit.SECONDS)
+            .maximumSize(10000)
+            .build();
+
+    private static final BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(new ObjectMapper());
+
     ObjectMapper objectMapper;
     FilterDataService filterDataService;
 
@@ -98,8 +123,13 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
 
         final List<String> ranges = validateInputs(methodConfig);
 
-        UriComponentsBuilder uriBuilder = getBaseUriBuilder(
-                this.BASE_SHEETS_API_URL, methodConfig.getSpreadsheetId() /* spreadsheet Id */ + "/values:batchGet");
+        return getBatchGetClient(webClient, methodConfig.getSpreadsheetId(), ranges);
+    }
+
+    private WebClient.RequestHeadersSpec<?> getBatchGetClient(
+            WebClient webClient, String spreadsheetId, List<String> ranges) {
+        UriComponentsBuilder uriBuilder =
+                getBaseUriBuilder(this.BASE_SHEETS_API_URL, spreadsheetId /* spreadsheet Id */ + "/values:batchGet");
         uriBuilder.queryParam("majorDimension", "ROWS");
         uriBuilder.queryParam("ranges", ranges);
 
@@ -109,7 +139,110 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
                 .body(BodyInserters.empty());
     }
 
-    private List<String> validateInputs(MethodConfig methodConfig) {
+    /**
+     * - Reads of a page of rows of the same spreadsheet, with the same credentials, that are made at about the same
+     * time, e.g. by the queries of a page load, are sent together in a single batchGet request. Reads of a whole sheet
+     * are sent on their own, so that a single response doesn't hold several whole sheets.
+     * - A header row read in the last few seconds is reused instead of being read again.
+     */
+    @Override
+    public Mono<ResponseEntity<byte[]>> executeRequest(
+            WebClient webClient, MethodConfig methodConfig, String accessToken) {
+        return Mono.defer(() -> {
+            final List<String> ranges = validateInputs(methodConfig);
+            if (ranges.size() != 2 || getRowWindow(methodConfig) == null) {
+                return ExecutionMethod.super.executeRequest(webClient, methodConfig, accessToken);
+            }
+
+            final String spreadsheetKey = getSpreadsheetKey(methodConfig.getSpreadsheetId(), accessToken);
+            final String headerRowKey = spreadsheetKey + ranges.get(0);
+            final JsonNode cachedHeaderRow = headerRowCache.getIfPresent(headerRowKey);
+            final List<String> rangesToRead = cachedHeaderRow == null ? ranges : ranges.subList(1, 2);
+
+            return batchGetCoalescer
+                    .batchGet(spreadsheetKey, rangesToRead, batchRanges -> getBatchGetClient(
+                                    webClient, methodConfig.getSpreadsheetId(), batchRanges)
+                            .headers(headers -> headers.set("Authorization", "Bearer " + accessToken))
+                            .exchange()
+                            .flatMap(clientResponse -> clientResponse.toEntity(byte[].class)))
+                    .map(response -> {
+                        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                            return response;
+                        }
+
+                        if (cachedHeaderRow == null) {
+                            cacheHeaderRow(headerRowKey, response.getBody());
+                            return response;
+                        }
+
+                        return addHeaderRow(response, cachedHeaderRow);
+                    });
+        });
+    }
+
+    private String getSpreadsheetKey(String spreadsheetId, String accessToken) {
+        try {
+            // The token is hashed, so that it isn't held on to by the header row cache
+            final byte[] hash =
+                    MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash) + "/" + spreadsheetId + "/";
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Caches the header row from the response, which is read as a stream so that the rest of the response, that may
+     * hold the whole sheet, is not parsed for it.
+     */
+    private void cacheHeaderRow(String headerRowKey, byte[] body) {
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.getCurrentName();
+                final JsonToken fieldValue = parser.nextToken();
+                if ("valueRanges".equals(fieldName)) {
+                    if (fieldValue == JsonToken.START_ARRAY && parser.nextToken() == JsonToken.START_OBJECT) {
+                        final JsonNode headerRow = objectMapper.readTree(parser);
+                        // An empty header row is not cached, as it is likely to be filled in soon
+                        if (headerRow.hasNonNull("values")
+                                && !headerRow.get("values").isEmpty()) {
+                            headerRowCache.put(headerRowKey, headerRow);
+                        }
+                    }
+                    return;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            // The response gets parsed again, and its errors reported, when it is transformed
+        }
+    }
+
+    private ResponseEntity<byte[]> addHeaderRow(ResponseEntity<byte[]> response, JsonNode headerRow) {
+        try {
+            final JsonNode body = objectMapper.readTree(response.getBody());
+            if (!(body.get("valueRanges") instanceof ArrayNode)) {
+                return response;
+            }
+            ((ArrayNode) body.get("valueRanges")).insert(0, headerRow);
+
+            final HttpHeaders headers = new HttpHeaders();
+            headers.addAll(response.getHeaders());
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            return ResponseEntity.status(response.getStatusCode())
+                    .headers(headers)
+                    .body(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            // The response gets parsed again, and its errors reported, when it is transformed
+            return response;
+        }
+    }
+
+    List<String> validateInputs(MethodConfig methodConfig) {
         int tableHeaderIndex = 1;
         if (methodConfig.getTableHeaderIndex() != null
                 && !methodConfig.getTableHeaderIndex().isBlank()) {
@@ -123,6 +256,15 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
             }
         }
         if ("ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())) {
+            final int[] rowWindow = getRowWindow(methodConfig);
+            if (rowWindow != null) {
+                // Only the rows of the requested page are read
+                final long firstRow = (long) tableHeaderIndex + 1 + rowWindow[0];
+                final long lastRow = firstRow + rowWindow[1] - 1;
+                return List.of(
+                        "'" + methodConfig.getSheetName() + "'!" + tableHeaderIndex + ":" + tableHeaderIndex,
+                        "'" + methodConfig.getSheetName() + "'!A" + firstRow + ":ZZZ" + lastRow);
+            }
             return List.of(
                     "'" + methodConfig.getSheetName() + "'!" + tableHeaderIndex + ":" + tableHeaderIndex,
                     "'" + methodConfig.getSheetName() + "'!A" + (tableHeaderIndex + 1) + ":ZZZ");
@@ -182,13 +324,16 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
         // where condition needs to applied only when the filter format is where clause
         // For filter format of cell range, we do not need to apply where clause
         if (isWhereConditionConfigured(methodConfig) && "ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())) {
+            // When only the rows of the requested page were read, they are not paginated again
+            final Map<String, String> paginateBy =
+                    getRowWindow(methodConfig) == null ? methodConfig.getPaginateBy() : null;
             return filterDataService.filterDataNew(
                     preFilteringResponse,
                     new UQIDataFilterParams(
                             methodConfig.getWhereConditions(),
                             methodConfig.getProjection(),
                             methodConfig.getSortBy(),
-                            methodConfig.getPaginateBy()),
+                            paginateBy),
                     getDataTypeConversionMap());
         }
 
@@ -240,6 +385,22 @@ public class RowsGetMethod implements ExecutionMethod, TemplateMethod, TriggerMe
         return headerSet;
     }
 
+    /**
+     * Returns the offset and the limit of the rows to be read, when the pagination can be applied by narrowing down the
+     * range that is read, i.e. when the rows are paginated but neither filtered nor sorted. Returns null otherwise.
+     */
+    int[] getRowWindow(MethodConfig methodConfig) {
+        if (!"ROWS".equalsIgnoreCase(methodConfig.getQueryFormat())
+                || !isWhereConditionConfigured(methodConfig)
+                || InMemoryDataTable.isFiltered(methodConfig.getWhereConditions())
+                || InMemoryDataTable.isSorted(methodConfig.getSortBy())) {
+            return null;
+        }
+
+        final int[] rowWindow = InMemoryDataTable.getPaginationWindow(methodConfig.getPaginateBy());
+        return rowWindow == null || rowWindow[1] == 0 ? null : rowWindow;
+    }
+
     private Boolean isWhereConditionConfigured(MethodConfig methodConfig) {
         Condition whereConditions = methodConfig.getWhereConditions();
 
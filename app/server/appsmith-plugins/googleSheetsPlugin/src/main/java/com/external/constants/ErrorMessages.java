@@ -78,4 +78,7 @@ public class ErrorMessages extends BasePluginErrorMessages {
 
     public static final String SPREADSHEET_ID_NOT_FOUND_IN_URL_ERROR_MSG =
             "Cannot read spreadsheet URL. Please verify that the provided the Spreadsheet URL matches this pattern https://docs.google.com/spreadsheets/d/spreadsheetId_should_be_here/.";
+
+    public static final String BATCH_GET_RESPONSE_SPLITTING_FAILED_ERROR_MSG =
+            "Unable to split the response of the Google Sheets read that was shared with other queries.";
 }
@@ -182,14 +182,10 @@ public class GoogleSheetsPlugin extends BasePlugin {
                     // method
                     .flatMap(res -> {
                         return executionMethod
-                                .getExecutionClient(client, methodConfig)
-                                .headers(headers -> headers.set(
-                                        "Authorization",
-                                        "Bearer "
-                                                + oauth2.getAuthenticationResponse()
-                                                        .getToken()))
-                                .exchange()
-                                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                                .executeRequest(
+                                        client,
+                                        methodConfig,
+                                        oauth2.getAuthenticationResponse().getToken())
                                 .map(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
@@ -0,0 +1,236 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.constants.ErrorMessages;
+import com.external.plugins.exceptions.GSheetsPluginError;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesces the values:batchGet requests that are made for the same spreadsheet, with the same credentials, within a
+ * short window of each other, e.g. by the queries that run on a page load, into a single request. Each caller gets
+ * back a response that holds only the value ranges it asked for, in the same order.
+ * <p>
+ * A single invalid range fails a whole batchGet request with INVALID_ARGUMENT, hence when a coalesced request fails so,
+ * its ranges are requested again caller by caller, so that each caller gets the response it would have got on its own.
+ * Any other failure, e.g. of the credentials or the quota, is not down to the ranges, and is returned to every caller
+ * as it is.
+ */
+@Slf4j
+public class BatchGetCoalescer {
+
+    // How long the first request for a spreadsheet waits for other requests to join it
+    static final Duration COALESCING_WINDOW = Duration.ofMillis(10);
+
+    // Keeps the URL of a coalesced request, which holds all the ranges, well within what the API accepts
+    static final int MAX_RANGES_PER_REQUEST = 50;
+
+    private static final String VALUE_RANGES = "valueRanges";
+
+    private static final String INVALID_ARGUMENT = "INVALID_ARGUMENT";
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration coalescingWindow;
+
+    private final Map<String, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+    public BatchGetCoalescer(ObjectMapper objectMapper) {
+        this(objectMapper, COALESCING_WINDOW);
+    }
+
+    BatchGetCoalescer(ObjectMapper objectMapper, Duration coalescingWindow) {
+        this.objectMapper = objectMapper;
+        this.coalescingWindow = coalescingWindow;
+    }
+
+    /**
+     * @param key    Identifies the spreadsheet and the credentials of the request. Only requests with the same key are
+     *               coalesced.
+     * @param ranges The A1 notation of the ranges to be read.
+     * @param sender Sends a values:batchGet request for the given ranges.
+     */
+    public Mono<ResponseEntity<byte[]>> batchGet(
+            String key, List<String> ranges, Function<List<String>, Mono<ResponseEntity<byte[]>>> sender) {
+        return Mono.defer(() -> {
+            final PendingRequest request = new PendingRequest(ranges, sender);
+            final List<Batch> newBatches = new ArrayList<>(1);
+            pendingBatches.compute(key, (ignored, batch) -> {
+                if (batch == null || batch.rangeCount + ranges.size() > MAX_RANGES_PER_REQUEST) {
+                    // A full batch is left to be sent when its window ends, while the next requests join a new one
+                    batch = new Batch();
+                    newBatches.add(batch);
+                }
+                batch.add(request);
+                return batch;
+            });
+
+            for (Batch batch : newBatches) {
+                Mono.delay(coalescingWindow).subscribe(ignored -> send(key, batch));
+            }
+
+            return request.sink.asMono();
+        });
+    }
+
+    private void send(String key, Batch batch) {
+        // Requests are only added to a batch while it is pending, hence it can't change once removed
+        pendingBatches.remove(key, batch);
+        final List<PendingRequest> requests = batch.requests;
+
+        if (requests.size() == 1) {
+            sendAlone(requests.get(0));
+            return;
+        }
+
+        log.debug("Coalescing {} Google Sheets reads into a single batchGet request", requests.size());
+        final List<String> ranges =
+                requests.stream().flatMap(request -> request.ranges.stream()).collect(Collectors.toList());
+        requests.get(0)
+                .sender
+                .apply(ranges)
+                .subscribe(
+                        response -> {
+                            if (isInvalidArgument(response)) {
+                                log.debug("Coalesced Google Sheets batchGet request has an invalid range, sending its"
+                                        + " reads one by one");
+                                requests.forEach(this::sendAlone);
+                                return;
+                            }
+                            if (!response.getStatusCode().is2xxSuccessful()) {
+                                requests.forEach(request -> request.sink.tryEmitValue(response));
+                                return;
+                            }
+
+                            final List<ResponseEntity<byte[]>> responses = split(response, requests, ranges.size());
+                            if (responses.isEmpty()) {
+                                final AppsmithPluginException error = new AppsmithPluginException(
+                                        GSheetsPluginError.RESPONSE_PROCESSING_ERROR,
+                                        ErrorMessages.BATCH_GET_RESPONSE_SPLITTING_FAILED_ERROR_MSG);
+                                requests.forEach(request -> request.sink.tryEmitError(error));
+                                return;
+                            }
+                            for (int i = 0; i < requests.size(); i++) {
+                                requests.get(i).sink.tryEmitValue(responses.get(i));
+                            }
+                        },
+                        error -> requests.forEach(request -> request.sink.tryEmitError(error)),
+                        () -> requests.forEach(request -> request.sink.tryEmitEmpty()));
+    }
+
+    private void sendAlone(PendingRequest request) {
+        request.sender
+                .apply(request.ranges)
+                .subscribe(request.sink::tryEmitValue, request.sink::tryEmitError, request.sink::tryEmitEmpty);
+    }
+
+    /**
+     * Returns whether the response is the 400 INVALID_ARGUMENT error that the API returns when a range is invalid, e.g.
+     * when it names a sheet that does not exist.
+     */
+    private boolean isInvalidArgument(ResponseEntity<byte[]> response) {
+        if (response.getStatusCode().value() != 400 || response.getBody() == null) {
+            return false;
+        }
+
+        try {
+            final JsonNode error = objectMapper.readTree(response.getBody()).path("error");
+            return INVALID_ARGUMENT.equals(error.path("status").asText());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Splits the successful response of a coalesced request into the responses of the requests it was made of.
+     *
+     * @return The responses, in the order of the requests, or an empty list when the response can't be split.
+     */
+    private List<ResponseEntity<byte[]>> split(
+            ResponseEntity<byte[]> response, List<PendingRequest> requests, int rangeCount) {
+        if (response.getBody() == null) {
+            return List.of();
+        }
+
+        final JsonNode body;
+        try {
+            body = objectMapper.readTree(response.getBody());
+        } catch (IOException e) {
+            return List.of();
+        }
+
+        final JsonNode valueRanges = body.get(VALUE_RANGES);
+        if (valueRanges == null || !valueRanges.isArray() || valueRanges.size() != rangeCount) {
+            return List.of();
+        }
+
+        final HttpHeaders headers = new HttpHeaders();
+        headers.addAll(response.getHeaders());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+
+        final List<ResponseEntity<byte[]>> responses = new ArrayList<>(requests.size());
+        int from = 0;
+        for (PendingRequest request : requests) {
+            // Same fields as the coalesced response, e.g. the spreadsheet id, with only the value ranges of the request
+            final ObjectNode requestBody = objectMapper.createObjectNode();
+            body.fields().forEachRemaining(field -> requestBody.set(field.getKey(), field.getValue()));
+            final ArrayNode requestValueRanges = requestBody.putArray(VALUE_RANGES);
+            for (int i = from; i < from + request.ranges.size(); i++) {
+                requestValueRanges.add(valueRanges.get(i));
+            }
+            from += request.ranges.size();
+
+            try {
+                responses.add(ResponseEntity.status(response.getStatusCode())
+                        .headers(headers)
+                        .body(objectMapper.writeValueAsBytes(requestBody)));
+            } catch (IOException e) {
+                return List.of();
+            }
+        }
+
+        return responses;
+    }
+
+    private static class Batch {
+
+        private final List<PendingRequest> requests = new ArrayList<>();
+
+        private int rangeCount = 0;
+
+        private void add(PendingRequest request) {
+            requests.add(request);
+            rangeCount += request.ranges.size();
+        }
+    }
+
+    private static class PendingRequest {
+
+        private final List<String> ranges;
+
+        private final Function<List<String>, Mono<ResponseEntity<byte[]>>> sender;
+
+        private final Sinks.One<ResponseEntity<byte[]>> sink = Sinks.one();
+
+        private PendingRequest(List<String> ranges, Function<List<String>, Mono<ResponseEntity<byte[]>>> sender) {
+            this.ranges = ranges;
+            this.sender = sender;
+        }
+    }
+}
@@ -8,11 +8,25 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
-
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import static com.appsmith.external.helpers.PluginUtils.parseWhereClause;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -243,4 +257,223 @@ public class RowsGetMethodTest {
         Boolean actualResult = rowsGetMethod.validateExecutionMethodRequest(methodConfig);
         assertEquals(true, actualResult);
     }
+
+    private MethodConfig getPaginatedMethodConfig(
+            String spreadsheetId, List<Map<String, Object>> whereChildren, List<Map<String, String>> sortBy) {
+        return new MethodConfig(Map.of())
+                .toBuilder()
+                        .spreadsheetId(spreadsheetId)
+                        .sheetName("Sheet1")
+                        .queryFormat("ROWS")
+                        .tableHeaderIndex("2")
+                        .whereConditions(parseWhereClause(Map.of("condition", "AND", "children", whereChildren)))
+                        .sortBy(sortBy)
+                        .paginateBy(Map.of("limit", "10", "offset", "20"))
+                        .build();
+    }
+
+    @Test
+    public void testValidateInputs_paginatedWithoutFilterOrSort_readsOnlyThePage() {
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+
+        List<String> ranges =
+                rowsGetMethod.validateInputs(getPaginatedMethodConfig("spreadsheetId", List.of(), List.of()));
+
+        assertEquals(List.of("'Sheet1'!2:2", "'Sheet1'!A23:ZZZ32"), ranges);
+    }
+
+    @Test
+    public void testValidateInputs_paginatedWithFilter_readsAllRows() {
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        List<Map<String, Object>> whereChildren = List.of(Map.of("key", "name", "condition", "EQ", "value", "Some"));
+
+        List<String> ranges =
+                rowsGetMethod.validateInputs(getPaginatedMethodConfig("spreadsheetId", whereChildren, List.of()));
+
+        assertEquals(List.of("'Sheet1'!2:2", "'Sheet1'!A3:ZZZ"), ranges);
+    }
+
+    @Test
+    public void testValidateInputs_paginatedWithSort_readsAllRows() {
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        List<Map<String, String>> sortBy = List.of(Map.of("column", "name", "order", "Ascending"));
+
+        List<String> ranges =
+                rowsGetMethod.validateInputs(getPaginatedMethodConfig("spreadsheetId", List.of(), sortBy));
+
+        assertEquals(List.of("'Sheet1'!2:2", "'Sheet1'!A3:ZZZ"), ranges);
+    }
+
+    @Test
+    public void testTransformResponse_pageRead_isNotPaginatedAgain() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        final String jsonString = "{\"valueRanges\":[" + "{\"range\":\"Sheet1!A2:B2\","
+                + "\"majorDimension\":\"ROWS\","
+                + "\"values\":[[\"name\",\"age\"]]},"
+                + "{\"range\":\"Sheet1!A23:B24\","
+                + "\"majorDimension\":\"ROWS\","
+                + "\"values\":[[\"a\",\"1\"],[\"b\",\"2\"]]}"
+                + "]}";
+
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(objectMapper);
+        JsonNode result = rowsGetMethod.transformExecutionResponse(
+                objectMapper.readTree(jsonString),
+                getPaginatedMethodConfig("spreadsheetId", List.of(), List.of()),
+                null);
+
+        assertNotNull(result);
+        assertTrue(result.isArray());
+        assertEquals(2, result.size());
+        assertEquals("a", result.get(0).get("name").asText());
+        assertEquals(20, result.get(0).get(FieldName.ROW_INDEX).asInt());
+        assertEquals(21, result.get(1).get(FieldName.ROW_INDEX).asInt());
+    }
+
+    @Test
+    public void testExecuteRequest_pageRead_reusesTheHeaderRow() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<URI> requestedUris = new ArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedUris.add(request.url());
+                    String body = request.url().getQuery().contains("2:2")
+                            ? "{\"valueRanges\":[{\"range\":\"Sheet1!A2:B2\",\"values\":[[\"name\",\"age\"]]},"
+                                    + "{\"range\":\"Sheet1!A23:B23\",\"values\":[[\"a\",\"1\"]]}]}"
+                            : "{\"valueRanges\":[{\"range\":\"Sheet1!A23:B23\",\"values\":[[\"a\",\"1\"]]}]}";
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(objectMapper);
+        MethodConfig methodConfig =
+                getPaginatedMethodConfig("testExecuteRequest_pageRead_reusesTheHeaderRow", List.of(), List.of());
+
+        Mono<JsonNode> responseMono = rowsGetMethod
+                .executeRequest(webClient, methodConfig, "token")
+                .then(rowsGetMethod.executeRequest(webClient, methodConfig, "token"))
+                .map(response -> {
+                    try {
+                        return objectMapper.readTree(response.getBody());
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+
+        StepVerifier.create(responseMono)
+                .assertNext(response -> {
+                    assertEquals(2, requestedUris.size());
+                    assertTrue(requestedUris.get(0).getQuery().contains("2:2"));
+                    assertFalse(requestedUris.get(1).getQuery().contains("2:2"));
+
+                    // The header row of the first read is added to the second one
+                    JsonNode valueRanges = response.get("valueRanges");
+                    assertEquals(2, valueRanges.size());
+                    assertEquals(
+                            "name",
+                            valueRanges.get(0).get("values").get(0).get(0).asText());
+                    assertEquals(
+                            "a", valueRanges.get(1).get("values").get(0).get(0).asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteRequest_differentToken_readsTheHeaderRow() {
+        List<URI> requestedUris = new ArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedUris.add(request.url());
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("{\"valueRanges\":[{\"range\":\"Sheet1!A2:B2\",\"values\":[[\"name\",\"age\"]]},"
+                                    + "{\"range\":\"Sheet1!A23:B23\",\"values\":[[\"a\",\"1\"]]}]}")
+                            .build());
+                })
+                .build();
+
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        MethodConfig methodConfig =
+                getPaginatedMethodConfig("testExecuteRequest_differentToken_readsTheHeaderRow", List.of(), List.of());
+
+        StepVerifier.create(rowsGetMethod
+                        .executeRequest(webClient, methodConfig, "token1")
+                        .then(rowsGetMethod.executeRequest(webClient, methodConfig, "token2")))
+                .assertNext(response -> {
+                    assertEquals(2, requestedUris.size());
+                    assertTrue(requestedUris.get(1).getQuery().contains("2:2"));
+                })
+                .verifyComplete();
+    }
+
+    /**
+     * Returns a client that records the requested URIs, and responds with a header row, or a row, per range.
+     */
+    private WebClient getRowsWebClient(List<URI> requestedUris) {
+        return WebClient.builder()
+                .exchangeFunction(request -> {
+                    requestedUris.add(request.url());
+                    int rangeCount = request.url().getQuery().split("ranges=", -1).length - 1;
+                    StringBuilder body = new StringBuilder("{\"valueRanges\":[");
+                    for (int i = 0; i < rangeCount; i++) {
+                        body.append(i == 0 ? "" : ",")
+                                .append(
+                                        i % 2 == 0
+                                                ? "{\"range\":\"Sheet1!A2:B2\",\"values\":[[\"name\",\"age\"]]}"
+                                                : "{\"range\":\"Sheet1!A23:B23\",\"values\":[[\"a\",\"1\"]]}");
+                    }
+                    body.append("]}");
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body.toString())
+                            .build());
+                })
+                .build();
+    }
+
+    @Test
+    public void testExecuteRequest_concurrentPageReads_areSentTogether() {
+        List<URI> requestedUris = new CopyOnWriteArrayList<>();
+        WebClient webClient = getRowsWebClient(requestedUris);
+
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        MethodConfig methodConfig = getPaginatedMethodConfig(
+                "testExecuteRequest_concurrentPageReads_areSentTogether", List.of(), List.of());
+
+        StepVerifier.create(Mono.zip(
+                        rowsGetMethod.executeRequest(webClient, methodConfig, "token"),
+                        rowsGetMethod.executeRequest(webClient, methodConfig, "token")))
+                .assertNext(responses -> {
+                    assertEquals(1, requestedUris.size());
+                    assertTrue(responses.getT1().getStatusCode().is2xxSuccessful());
+                    assertTrue(responses.getT2().getStatusCode().is2xxSuccessful());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteRequest_concurrentWholeSheetReads_areSentAlone() {
+        List<URI> requestedUris = new CopyOnWriteArrayList<>();
+        WebClient webClient = getRowsWebClient(requestedUris);
+
+        RowsGetMethod rowsGetMethod = new RowsGetMethod(new ObjectMapper());
+        MethodConfig methodConfig =
+                getPaginatedMethodConfig(
+                                "testExecuteRequest_concurrentWholeSheetReads_areSentAlone", List.of(), List.of())
+                        .toBuilder()
+                        .paginateBy(null)
+                        .build();
+
+        StepVerifier.create(Mono.zip(
+                        rowsGetMethod.executeRequest(webClient, methodConfig, "token"),
+                        rowsGetMethod.executeRequest(webClient, methodConfig, "token")))
+                .assertNext(responses -> {
+                    assertEquals(2, requestedUris.size());
+                    requestedUris.forEach(uri -> assertTrue(uri.getQuery().contains("A3:ZZZ")));
+                })
+                .verifyComplete();
+    }
 }
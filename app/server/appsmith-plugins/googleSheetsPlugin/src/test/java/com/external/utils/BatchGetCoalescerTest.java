@@ -0,0 +1,251 @@
+package com.external.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BatchGetCoalescerTest {
+
+    // Wide enough for all the requests of a test to join the same batch, even on a slow or cold JVM
+    private static final Duration COALESCING_WINDOW = Duration.ofMillis(200);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Returns a sender that records the ranges of each request, and responds with a value range per range, holding the
+     * range itself, except for coalesced requests, i.e. of more than 2 ranges, that fail with the given status and
+     * error status.
+     */
+    private Function<List<String>, Mono<ResponseEntity<byte[]>>> getSender(
+            List<List<String>> requests, HttpStatus coalescedStatus, String coalescedErrorStatus) {
+        return ranges -> Mono.fromCallable(() -> {
+            requests.add(ranges);
+            if (ranges.size() > 2) {
+                ObjectNode body = objectMapper.createObjectNode();
+                body.putObject("error")
+                        .put("code", coalescedStatus.value())
+                        .put("message", "Coalesced request failed")
+                        .put("status", coalescedErrorStatus);
+                return ResponseEntity.status(coalescedStatus).body(objectMapper.writeValueAsBytes(body));
+            }
+
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("spreadsheetId", "spreadsheet");
+            ArrayNode valueRanges = body.putArray("valueRanges");
+            ranges.forEach(range -> valueRanges.addObject().put("range", range));
+            return ResponseEntity.ok(objectMapper.writeValueAsBytes(body));
+        });
+    }
+
+    /**
+     * Same as {@link #getSender(List, HttpStatus, String)}, except that coalesced requests succeed too.
+     */
+    private Function<List<String>, Mono<ResponseEntity<byte[]>>> getSender(List<List<String>> requests) {
+        return ranges -> Mono.fromCallable(() -> {
+            requests.add(ranges);
+            ObjectNode body = objectMapper.createObjectNode();
+            body.put("spreadsheetId", "spreadsheet");
+            ArrayNode valueRanges = body.putArray("valueRanges");
+            ranges.forEach(range -> valueRanges.addObject().put("range", range));
+            return ResponseEntity.ok(objectMapper.writeValueAsBytes(body));
+        });
+    }
+
+    private JsonNode readTree(ResponseEntity<byte[]> response) {
+        try {
+            return objectMapper.readTree(response.getBody());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private List<String> getRanges(ResponseEntity<byte[]> response) {
+        try {
+            JsonNode body = objectMapper.readTree(response.getBody());
+            assertEquals("spreadsheet", body.get("spreadsheetId").asText());
+            List<String> ranges = new CopyOnWriteArrayList<>();
+            body.get("valueRanges")
+                    .forEach(valueRange -> ranges.add(valueRange.get("range").asText()));
+            return ranges;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void testBatchGet_sameKey_sendsASingleRequest() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+        Mono<List<List<String>>> responsesMono = Mono.zip(
+                        batchGetCoalescer.batchGet("key", List.of("'A'!1:1", "'A'!A2:ZZZ"), getSender(requests)),
+                        batchGetCoalescer.batchGet("key", List.of("'B'!A2:ZZZ11"), getSender(requests)))
+                .map(responses -> List.of(getRanges(responses.getT1()), getRanges(responses.getT2())));
+
+        StepVerifier.create(responsesMono)
+                .assertNext(responses -> {
+                    assertEquals(List.of(List.of("'A'!1:1", "'A'!A2:ZZZ", "'B'!A2:ZZZ11")), requests);
+                    assertEquals(List.of("'A'!1:1", "'A'!A2:ZZZ"), responses.get(0));
+                    assertEquals(List.of("'B'!A2:ZZZ11"), responses.get(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchGet_differentKeys_sendsARequestPerKey() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+        Mono<List<List<String>>> responsesMono = Mono.zip(
+                        batchGetCoalescer.batchGet("key1", List.of("'A'!1:1"), getSender(requests)),
+                        batchGetCoalescer.batchGet("key2", List.of("'A'!1:1"), getSender(requests)))
+                .map(responses -> List.of(getRanges(responses.getT1()), getRanges(responses.getT2())));
+
+        StepVerifier.create(responsesMono)
+                .assertNext(responses -> {
+                    assertEquals(2, requests.size());
+                    assertEquals(List.of("'A'!1:1"), responses.get(0));
+                    assertEquals(List.of("'A'!1:1"), responses.get(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchGet_coalescedRequestHasAnInvalidArgument_sendsEachRequestAlone() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+        Function<List<String>, Mono<ResponseEntity<byte[]>>> sender =
+                getSender(requests, HttpStatus.BAD_REQUEST, "INVALID_ARGUMENT");
+
+        Mono<List<List<String>>> responsesMono = Mono.zip(
+                        batchGetCoalescer.batchGet("key", List.of("'A'!1:1", "'A'!A2:ZZZ"), sender),
+                        batchGetCoalescer.batchGet("key", List.of("'B'!1:1", "'B'!A2:ZZZ"), sender))
+                .map(responses -> List.of(getRanges(responses.getT1()), getRanges(responses.getT2())));
+
+        StepVerifier.create(responsesMono)
+                .assertNext(responses -> {
+                    assertEquals(3, requests.size());
+                    assertEquals(4, requests.get(0).size());
+                    assertEquals(List.of("'A'!1:1", "'A'!A2:ZZZ"), responses.get(0));
+                    assertEquals(List.of("'B'!1:1", "'B'!A2:ZZZ"), responses.get(1));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchGet_coalescedRequestFailsOtherwise_returnsTheErrorToEveryRequest() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+        Function<List<String>, Mono<ResponseEntity<byte[]>>> sender =
+                getSender(requests, HttpStatus.FORBIDDEN, "PERMISSION_DENIED");
+
+        StepVerifier.create(Mono.zip(
+                        batchGetCoalescer.batchGet("key", List.of("'A'!1:1", "'A'!A2:ZZZ"), sender),
+                        batchGetCoalescer.batchGet("key", List.of("'B'!1:1", "'B'!A2:ZZZ"), sender)))
+                .assertNext(responses -> {
+                    // The error is not down to the ranges, so they are not requested again
+                    assertEquals(1, requests.size());
+                    assertEquals(HttpStatus.FORBIDDEN, responses.getT1().getStatusCode());
+                    assertEquals(HttpStatus.FORBIDDEN, responses.getT2().getStatusCode());
+                    assertEquals(
+                            "PERMISSION_DENIED",
+                            readTree(responses.getT1())
+                                    .get("error")
+                                    .get("status")
+                                    .asText());
+                    assertEquals(
+                            "PERMISSION_DENIED",
+                            readTree(responses.getT2())
+                                    .get("error")
+                                    .get("status")
+                                    .asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchGet_coalescedRequestErrors_returnsTheErrorToEveryRequest() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+        Function<List<String>, Mono<ResponseEntity<byte[]>>> sender = ranges -> {
+            requests.add(ranges);
+            return Mono.error(new IOException("Connection reset"));
+        };
+
+        StepVerifier.create(Mono.zip(
+                        batchGetCoalescer
+                                .batchGet("key", List.of("'A'!1:1", "'A'!A2:ZZZ"), sender)
+                                .materialize(),
+                        batchGetCoalescer
+                                .batchGet("key", List.of("'B'!1:1", "'B'!A2:ZZZ"), sender)
+                                .materialize()))
+                .assertNext(signals -> {
+                    assertEquals(
+                            "Connection reset", signals.getT1().getThrowable().getMessage());
+                    assertEquals(
+                            "Connection reset", signals.getT2().getThrowable().getMessage());
+                })
+                .verifyComplete();
+
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    public void testBatchGet_manyRanges_splitsTheRequests() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+        List<Mono<List<String>>> responseMonos = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            responseMonos.add(batchGetCoalescer
+                    .batchGet("key", List.of("'" + i + "'!1:1", "'" + i + "'!A2:ZZZ"), getSender(requests))
+                    .map(this::getRanges));
+        }
+
+        StepVerifier.create(Mono.zip(responseMonos, responses -> responses))
+                .assertNext(responses -> {
+                    // At most 50 ranges are sent in a single request
+                    assertEquals(
+                            List.of(50, 10),
+                            requests.stream()
+                                    .map(List::size)
+                                    .sorted((a, b) -> b - a)
+                                    .collect(Collectors.toList()));
+                    for (int i = 0; i < 30; i++) {
+                        assertEquals(List.of("'" + i + "'!1:1", "'" + i + "'!A2:ZZZ"), responses[i]);
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testBatchGet_errorResponse_isReturnedAsIs() {
+        BatchGetCoalescer batchGetCoalescer = new BatchGetCoalescer(objectMapper, COALESCING_WINDOW);
+        byte[] errorBody = "{\"error\":{\"message\":\"Unable to parse range\"}}".getBytes();
+
+        StepVerifier.create(batchGetCoalescer.batchGet(
+                        "key",
+                        List.of("'A'!1:1"),
+                        ranges -> Mono.just(ResponseEntity.badRequest().body(errorBody))))
+                .assertNext(response -> {
+                    assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+                    assertEquals(new String(errorBody), new String(response.getBody()));
+                })
+                .verifyComplete();
+    }
+}
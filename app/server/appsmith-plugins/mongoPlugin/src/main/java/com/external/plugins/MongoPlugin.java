@@ -12,6 +12,7 @@ import com.appsmith.external.helpers.DataTypeServiceUtils;
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.helpers.ResponseSizeTracker;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -30,40 +31,35 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.appsmith.external.services.SharedConfig;
 import com.external.plugins.constants.MongoSpecialDataTypes;
 import com.external.plugins.datatypes.MongoSpecificDataTypes;
 import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
+import com.external.plugins.utils.BsonToJsonNodeConverter;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
+import com.mongodb.client.model.Aggregates;
 import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -74,14 +70,10 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -155,10 +147,22 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String CURSOR = "cursor";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     private static final String MOCK_DB_MOVIES_COLLECTION_NAME = "movies";
 
+    // Number of documents sampled from every collection to infer its columns
+    private static final int STRUCTURE_SAMPLE_SIZE = 100;
+
+    // Number of collections sampled at the same time while fetching the structure
+    private static final int STRUCTURE_SAMPLING_CONCURRENCY = 8;
+
     /**
      * We use this regex to identify the $regex attribute and the respective argument provided:
      * e.g. {"code" : {$regex: value, $options: value}} / {"code" : {$regex: value}}
@@ -203,18 +207,6 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
-
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -225,6 +217,15 @@ public class MongoPlugin extends BasePlugin {
 
         private final Scheduler scheduler = Schedulers.boundedElastic();
 
+        private final int maxResponseSize;
+
+        private final int maxResponseRows;
+
+        public MongoPluginExecutor(SharedConfig sharedConfig) {
+            this.maxResponseSize = sharedConfig.getMaxResponseSize();
+            this.maxResponseRows = sharedConfig.getMaxResponseRows();
+        }
+
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
          * also update the datasource and action configuration for pagination and some minor cleanup of the configuration before execution
@@ -308,7 +309,7 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<ActionExecutionResult> resultMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
@@ -320,7 +321,16 @@ public class MongoPlugin extends BasePlugin {
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
                 Bson command = Document.parse(query);
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                /*
+                 Cursors are tied to the session they were opened in, so the command and the getMore commands that
+                 read the rest of its cursor are run in the same explicit session.
+                */
+                resultMono = Mono.usingWhen(
+                        Mono.from(mongoClient.startSession()),
+                        session -> Mono.from(database.runCommand(session, command, RawBsonDocument.class))
+                                .flatMap(mongoOutput ->
+                                        toActionExecutionResult(mongoClient, session, mongoOutput, result)),
+                        session -> Mono.fromRunnable(session::close));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -330,7 +340,7 @@ public class MongoPlugin extends BasePlugin {
             }
 
             Instant requestedAt = Instant.now();
-            return mongoOutputMono
+            return resultMono
                     .onErrorMap(
                             MongoTimeoutException.class,
                             error -> new AppsmithPluginException(
@@ -351,105 +361,6 @@ public class MongoPlugin extends BasePlugin {
                     // database drops the connection which makes the client throw the following exception.
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
-                    .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
-
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
-
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
-
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
-
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
-
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
-
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
-
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
-                            }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
-                        }
-
-                        return Mono.just(result);
-                    })
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
                             log.debug("The mongo connection seems to have been invalidated or doesn't exist anymore");
@@ -484,6 +395,169 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Builds the result of a command from its output. The output is converted straight from BSON to Jackson nodes,
+         * and when the command opened a cursor, like find and aggregate do, the whole cursor is read.
+         *
+         * @param mongoClient : connection the command was run with
+         * @param session     : session the command was run in
+         * @param mongoOutput : output of the command
+         * @param result      : result to fill in
+         * @return the result
+         */
+        private Mono<ActionExecutionResult> toActionExecutionResult(
+                MongoClient mongoClient,
+                ClientSession session,
+                RawBsonDocument mongoOutput,
+                ActionExecutionResult result) {
+            // The output contains the key "ok". This is the status of the command
+            int status = mongoOutput.getNumber("ok").intValue();
+            ArrayNode headerArray = objectMapper.createArrayNode();
+            headerArray.addObject().put("ok", status);
+            result.setHeaders(headerArray);
+
+            if (status != 1) {
+                return Mono.just(result);
+            }
+
+            result.setIsExecutionSuccess(true);
+            result.setDataTypes(
+                    List.of(new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
+
+            /*
+             The output contains key "cursor" when find or aggregate command was issued. The first batch of documents is
+             part of the output, and the rest are fetched with getMore until the cursor is exhausted, or until the rows
+             read reach the maximum response size or number of rows.
+            */
+            if (mongoOutput.containsKey(CURSOR)) {
+                final ArrayNode rows = objectMapper.createArrayNode();
+                return readCursor(
+                                mongoClient,
+                                session,
+                                mongoOutput.getDocument(CURSOR),
+                                FIRST_BATCH,
+                                rows,
+                                new ResponseSizeTracker(maxResponseSize))
+                        .map(isTruncated -> {
+                            result.setBody(rows);
+                            if (isTruncated) {
+                                result.setMessages(Set.of(String.format(
+                                        MongoPluginErrorMessages.RESPONSE_TRUNCATED_HINT_MSG,
+                                        rows.size(),
+                                        (float) maxResponseSize / (1024 * 1024),
+                                        maxResponseRows)));
+                            }
+                            return result;
+                        });
+            }
+
+            ObjectNode outputNode = BsonToJsonNodeConverter.toObjectNode(mongoOutput);
+
+            /*
+             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+             we either get the modified new value or the pre-modified old value (depending on the
+             `new` field in the command. Let's return that value to the user.
+            */
+            if (outputNode.has(VALUE)) {
+                result.setBody(objectMapper.createObjectNode().set(VALUE, outputNode.get(VALUE)));
+            }
+
+            /*
+             The output contains key "n" when insert/update command is issued. "n" for update
+             signifies the no of documents selected for update. "n" in case of insert signifies the
+             number of documents inserted.
+            */
+            if (outputNode.has("n")) {
+                ObjectNode body = objectMapper.createObjectNode().set("n", outputNode.get("n"));
+                result.setBody(body);
+                headerArray.insert(headerArray.size() - 1, body);
+            }
+
+            /*
+             The output contains key "nModified" in case of update command. This signifies the no of
+             documents updated.
+            */
+            if (outputNode.has(N_MODIFIED)) {
+                ObjectNode body = objectMapper.createObjectNode().set(N_MODIFIED, outputNode.get(N_MODIFIED));
+                result.setBody(body);
+                headerArray.insert(headerArray.size() - 1, body);
+            }
+
+            /*
+             The output contains key "values" when distinct command is used.
+            */
+            if (outputNode.has(VALUES)) {
+                // Create a JSON structure with the results stored with a key to abide by the
+                // Server-Client contract of only sending array of objects in result.
+                result.setBody(objectMapper.createObjectNode().set(VALUES, outputNode.get(VALUES)));
+            }
+
+            /*
+            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+             that are important to the headerArray.
+             */
+            return Mono.just(result);
+        }
+
+        /**
+         * Adds the documents of a batch of a cursor to the rows, and fetches the next batch with getMore until the
+         * cursor is exhausted. Stops at the first document that would take the rows past the maximum response size or
+         * number of rows, after closing the cursor on the server, so that the rows read so far can still be returned.
+         *
+         * @param mongoClient : connection the cursor was opened with
+         * @param session     : session the cursor was opened in
+         * @param cursor      : the "cursor" document of the output of the command, or of the previous getMore
+         * @param batchKey    : key of the batch in the cursor document, "firstBatch" or "nextBatch"
+         * @param rows        : rows read so far, to which the documents of the cursor are added
+         * @param sizeTracker : size of the rows read so far
+         * @return whether the rows were truncated before the end of the cursor
+         */
+        private Mono<Boolean> readCursor(
+                MongoClient mongoClient,
+                ClientSession session,
+                BsonDocument cursor,
+                String batchKey,
+                ArrayNode rows,
+                ResponseSizeTracker sizeTracker) {
+            final long cursorId = cursor.getInt64("id").longValue();
+            final String namespace = cursor.getString("ns").getValue();
+            final int separatorIndex = namespace.indexOf('.');
+            final MongoDatabase database = mongoClient.getDatabase(namespace.substring(0, separatorIndex));
+            final String collection = namespace.substring(separatorIndex + 1);
+
+            final BsonArray batch = cursor.getArray(batchKey);
+            for (int i = 0; i < batch.size(); i++) {
+                ObjectNode row = BsonToJsonNodeConverter.toObjectNode((RawBsonDocument) batch.get(i));
+                sizeTracker.add(row);
+                if (rows.size() >= maxResponseRows || sizeTracker.isLimitExceeded()) {
+                    log.debug(
+                            "[MongoPlugin] Result truncated to {} rows, as it is greater than the maximum supported size"
+                                    + " of {} bytes or {} rows",
+                            rows.size(),
+                            maxResponseSize,
+                            maxResponseRows);
+                    final Mono<Document> killCursorMono = cursorId == 0
+                            ? Mono.empty()
+                            : Mono.from(database.runCommand(
+                                    session,
+                                    new BsonDocument("killCursors", new BsonString(collection))
+                                            .append("cursors", new BsonArray(List.of(new BsonInt64(cursorId))))));
+                    return killCursorMono.onErrorResume(error -> Mono.empty()).thenReturn(true);
+                }
+                rows.add(row);
+            }
+
+            if (cursorId == 0) {
+                return Mono.just(false);
+            }
+
+            final BsonDocument getMoreCommand = new BsonDocument("getMore", new BsonInt64(cursorId))
+                    .append("collection", new BsonString(collection));
+            return Mono.from(database.runCommand(session, getMoreCommand, RawBsonDocument.class))
+                    .flatMap(getMoreOutput -> readCursor(
+                            mongoClient, session, getMoreOutput.getDocument(CURSOR), NEXT_BATCH, rows, sizeTracker));
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -899,10 +973,6 @@ public class MongoPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceStructure> getStructure(
                 MongoClient mongoClient, DatasourceConfiguration datasourceConfiguration, Boolean isMock) {
-            final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
-
             final MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
             return Flux.from(database.listCollectionNames())
@@ -912,38 +982,20 @@ public class MongoPlugin extends BasePlugin {
                         }
                         return true;
                     })
-                    .flatMap(collectionName -> {
-                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                        tables.add(new DatasourceStructure.Table(
-                                DatasourceStructure.TableType.COLLECTION,
-                                null,
-                                collectionName,
-                                columns,
-                                new ArrayList<>(),
-                                templates));
-
-                        return Mono.zip(
-                                Mono.just(columns),
-                                Mono.just(templates),
-                                Mono.just(collectionName),
-                                Mono.from(database.getCollection(collectionName)
-                                        .find()
-                                        .limit(1)
-                                        .first()));
-                    })
-                    .flatMap(tuple -> {
-                        final ArrayList<DatasourceStructure.Column> columns = tuple.getT1();
-                        final ArrayList<DatasourceStructure.Template> templates = tuple.getT2();
-                        String collectionName = tuple.getT3();
-                        Document document = tuple.getT4();
-
-                        generateTemplatesAndStructureForACollection(collectionName, document, columns, templates);
-
-                        return Mono.just(structure);
-                    })
-                    .collectList()
-                    .thenReturn(structure)
+                    /*
+                     * The columns of a collection are inferred from a random sample of its documents, so that fields
+                     * missing from some of them, or holding different types in different documents, are still
+                     * listed. A bounded number of collections are sampled at the same time, so that large databases
+                     * do not take up the whole connection pool.
+                     */
+                    .flatMap(
+                            collectionName -> Flux.from(database.getCollection(collectionName)
+                                            .aggregate(List.of(Aggregates.sample(STRUCTURE_SAMPLE_SIZE))))
+                                    .collectList()
+                                    .map(documents -> getTable(collectionName, documents)),
+                            STRUCTURE_SAMPLING_CONCURRENCY)
+                    .collectSortedList(Comparator.comparing(DatasourceStructure.Table::getName))
+                    .map(DatasourceStructure::new)
                     /**
                      * This is to catch the cases when Mongo connection pool closes for some reason and hence throws
                      * IllegalStateException when query is run.
@@ -966,6 +1018,22 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private DatasourceStructure.Table getTable(String collectionName, List<Document> documents) {
+            final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+            final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+            if (!documents.isEmpty()) {
+                generateTemplatesAndStructureForACollection(collectionName, documents, columns, templates);
+            }
+
+            return new DatasourceStructure.Table(
+                    DatasourceStructure.TableType.COLLECTION,
+                    null,
+                    collectionName,
+                    columns,
+                    new ArrayList<>(),
+                    templates);
+        }
+
         @Override
         public Object substituteValueInInput(
                 int index,
@@ -1055,54 +1123,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
@@ -7,6 +7,10 @@ public class MongoPluginErrorMessages {
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG = "Your Mongo query failed to execute.";
 
+    public static final String RESPONSE_TRUNCATED_HINT_MSG =
+            "Only the first %d documents were returned, as the result is larger than the maximum supported size of"
+                    + " %s MB or %d documents. Please use a limit or a filter to reduce the amount of data fetched.";
+
     public static final String CONNECTION_STRING_PARSING_FAILED_ERROR_MSG =
             "The Appsmith server has failed to parse the Mongo connection string URI.";
 
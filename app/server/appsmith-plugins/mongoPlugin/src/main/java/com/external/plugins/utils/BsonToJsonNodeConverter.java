@@ -0,0 +1,159 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Converts BSON documents, as returned by the server, into Jackson nodes while reading them, without decoding them to
+ * Java objects or writing them out as JSON text first.
+ * <p>
+ * The values are converted the same way as the relaxed extended JSON of the driver, with object ids, dates, 64-bit
+ * integers and decimals turned into plain values: object ids become their hex string, dates their ISO-8601 instant
+ * and numbers JSON numbers. The other special types keep their extended JSON form, e.g. {@code {"$binary": {...}}}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BsonToJsonNodeConverter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    public static ObjectNode toObjectNode(RawBsonDocument document) {
+        try (BsonReader reader = document.asBsonReader()) {
+            reader.readBsonType();
+            return readDocument(reader);
+        }
+    }
+
+    private static ObjectNode readDocument(BsonReader reader) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private static ArrayNode readArray(BsonReader reader) {
+        ArrayNode arrayNode = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private static JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case DOUBLE:
+                double doubleValue = reader.readDouble();
+                if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    return wrap("$numberDouble", nodeFactory.textNode(Double.toString(doubleValue)));
+                }
+                return nodeFactory.numberNode(doubleValue);
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case BINARY:
+                BsonBinary binary = reader.readBinaryData();
+                ObjectNode binaryNode = nodeFactory.objectNode();
+                binaryNode.put("base64", Base64.getEncoder().encodeToString(binary.getData()));
+                binaryNode.put("subType", String.format("%02X", binary.getType()));
+                return wrap("$binary", binaryNode);
+            case UNDEFINED:
+                reader.readUndefined();
+                return wrap("$undefined", nodeFactory.booleanNode(true));
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case REGULAR_EXPRESSION:
+                BsonRegularExpression regularExpression = reader.readRegularExpression();
+                ObjectNode regularExpressionNode = nodeFactory.objectNode();
+                regularExpressionNode.put("pattern", regularExpression.getPattern());
+                regularExpressionNode.put("options", regularExpression.getOptions());
+                return wrap("$regularExpression", regularExpressionNode);
+            case DB_POINTER:
+                BsonDbPointer dbPointer = reader.readDBPointer();
+                ObjectNode dbPointerNode = nodeFactory.objectNode();
+                dbPointerNode.put("$ref", dbPointer.getNamespace());
+                dbPointerNode.put("$id", dbPointer.getId().toHexString());
+                return wrap("$dbPointer", dbPointerNode);
+            case JAVASCRIPT:
+                return wrap("$code", nodeFactory.textNode(reader.readJavaScript()));
+            case SYMBOL:
+                return wrap("$symbol", nodeFactory.textNode(reader.readSymbol()));
+            case JAVASCRIPT_WITH_SCOPE:
+                ObjectNode codeWithScopeNode = nodeFactory.objectNode();
+                codeWithScopeNode.put("$code", reader.readJavaScriptWithScope());
+                codeWithScopeNode.set("$scope", readDocument(reader));
+                return codeWithScopeNode;
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case TIMESTAMP:
+                BsonTimestamp timestamp = reader.readTimestamp();
+                ObjectNode timestampNode = nodeFactory.objectNode();
+                timestampNode.set("t", integralNode(Integer.toUnsignedLong(timestamp.getTime())));
+                timestampNode.set("i", integralNode(Integer.toUnsignedLong(timestamp.getInc())));
+                return wrap("$timestamp", timestampNode);
+            case INT64:
+                return integralNode(reader.readInt64());
+            case DECIMAL128:
+                Decimal128 decimal = reader.readDecimal128();
+                if (decimal.isNaN() || decimal.isInfinite()) {
+                    return wrap("$numberDecimal", nodeFactory.textNode(decimal.toString()));
+                }
+                return nodeFactory.numberNode(decimal.bigDecimalValue());
+            case MIN_KEY:
+                reader.readMinKey();
+                return wrap("$minKey", nodeFactory.numberNode(1));
+            case MAX_KEY:
+                reader.readMaxKey();
+                return wrap("$maxKey", nodeFactory.numberNode(1));
+            default:
+                throw new IllegalStateException("Unexpected BSON type " + reader.getCurrentBsonType());
+        }
+    }
+
+    /**
+     * 64-bit integers that fit in an int are read back as ints, as they were when the output went through JSON text.
+     */
+    private static JsonNode integralNode(long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return nodeFactory.numberNode((int) value);
+        }
+        return nodeFactory.numberNode(value);
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.set(key, value);
+        return objectNode;
+    }
+}
@@ -35,6 +35,10 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
 import static com.appsmith.external.helpers.PluginUtils.getDataValueSafelyFromFormData;
@@ -44,6 +48,32 @@ import static com.external.plugins.constants.FieldName.RAW;
 
 public class MongoPluginUtils {
 
+    private static final String OBJECT_TYPE = "Object";
+
+    private static final String OBJECT_ID_TYPE = "ObjectId";
+
+    private static final String STRING_FIELD_TYPE = "String";
+
+    private static final Map<String, String> SAMPLE_INSERT_VALUES = Map.of(
+            "Integer",
+            "1",
+            "Long",
+            "NumberLong(\"1\")",
+            "Double",
+            "1",
+            "BigDecimal",
+            "NumberDecimal(\"1\")",
+            STRING_FIELD_TYPE,
+            "\"new value\"",
+            OBJECT_ID_TYPE,
+            "ObjectId(\"a_valid_object_id_hex\")",
+            "Array",
+            "[1, 2, 3]",
+            "Date",
+            "new Date(\"2019-07-01\")",
+            OBJECT_TYPE,
+            "{}");
+
     public static Document parseSafely(String fieldName, String input) {
         try {
             return Document.parse(input);
@@ -163,58 +193,54 @@ public class MongoPluginUtils {
         return databaseName;
     }
 
+    /**
+     * Generates the columns and the templates of a collection from a sample of its documents. Every field found in the
+     * sample becomes a column, whose type lists all the types the field holds across the sample, e.g.
+     * {@code Integer | String}. Null values are left out of the type, unless the field is null in all the documents.
+     */
     public static void generateTemplatesAndStructureForACollection(
             String collectionName,
-            Document document,
+            List<Document> documents,
             ArrayList<DatasourceStructure.Column> columns,
             ArrayList<DatasourceStructure.Template> templates) {
         String filterFieldName = null;
         String filterFieldValue = null;
-        Map<String, String> sampleInsertValues = new LinkedHashMap<>();
-
-        for (Map.Entry<String, Object> entry : document.entrySet()) {
-            final String name = entry.getKey();
-            final Object value = entry.getValue();
-            String type;
-            boolean isAutogenerated = false;
-
-            if (value instanceof Integer) {
-                type = "Integer";
-                sampleInsertValues.put(name, "1");
-            } else if (value instanceof Long) {
-                type = "Long";
-                sampleInsertValues.put(name, "NumberLong(\"1\")");
-            } else if (value instanceof Double) {
-                type = "Double";
-                sampleInsertValues.put(name, "1");
-            } else if (value instanceof Decimal128) {
-                type = "BigDecimal";
-                sampleInsertValues.put(name, "NumberDecimal(\"1\")");
-            } else if (value instanceof String) {
-                type = "String";
-                sampleInsertValues.put(name, "\"new value\"");
-                if (filterFieldName == null || filterFieldName.compareTo(name) > 0) {
-                    filterFieldName = name;
-                    filterFieldValue = (String) value;
+        Map<String, SortedSet<String>> fieldTypes = new TreeMap<>();
+        // Smallest value of every string field, so that the templates stay the same across samples
+        Map<String, String> stringValues = new HashMap<>();
+
+        for (Document document : documents) {
+            for (Map.Entry<String, Object> entry : document.entrySet()) {
+                final String name = entry.getKey();
+                final Object value = entry.getValue();
+                final SortedSet<String> types = fieldTypes.computeIfAbsent(name, key -> new TreeSet<>());
+                if (value == null) {
+                    continue;
                 }
-            } else if (value instanceof ObjectId) {
-                type = "ObjectId";
-                isAutogenerated = true;
-                if (!value.equals("_id")) {
-                    sampleInsertValues.put(name, "ObjectId(\"a_valid_object_id_hex\")");
+
+                types.add(getFieldType(value));
+                if (value instanceof String stringValue) {
+                    stringValues.merge(name, stringValue, (a, b) -> a.compareTo(b) <= 0 ? a : b);
                 }
-            } else if (value instanceof Collection) {
-                type = "Array";
-                sampleInsertValues.put(name, "[1, 2, 3]");
-            } else if (value instanceof Date) {
-                type = "Date";
-                sampleInsertValues.put(name, "new Date(\"2019-07-01\")");
-            } else {
-                type = "Object";
-                sampleInsertValues.put(name, "{}");
+            }
+        }
+
+        Map<String, String> sampleInsertValues = new LinkedHashMap<>();
+        for (Map.Entry<String, SortedSet<String>> entry : fieldTypes.entrySet()) {
+            final String name = entry.getKey();
+            final SortedSet<String> types = entry.getValue();
+            if (types.isEmpty()) {
+                types.add(OBJECT_TYPE);
             }
 
-            columns.add(new DatasourceStructure.Column(name, type, null, isAutogenerated));
+            sampleInsertValues.put(name, SAMPLE_INSERT_VALUES.get(types.first()));
+            // Filter on the first field holding only strings
+            if (filterFieldName == null && types.equals(Set.of(STRING_FIELD_TYPE))) {
+                filterFieldName = name;
+                filterFieldValue = stringValues.get(name);
+            }
+            final boolean isAutogenerated = types.size() == 1 && OBJECT_ID_TYPE.equals(types.first());
+            columns.add(new DatasourceStructure.Column(name, String.join(" | ", types), null, isAutogenerated));
         }
 
         columns.sort(Comparator.naturalOrder());
@@ -240,6 +266,27 @@ public class MongoPluginUtils {
         templates.addAll(new Aggregate().generateTemplate(templateConfiguration));
     }
 
+    private static String getFieldType(Object value) {
+        if (value instanceof Integer) {
+            return "Integer";
+        } else if (value instanceof Long) {
+            return "Long";
+        } else if (value instanceof Double) {
+            return "Double";
+        } else if (value instanceof Decimal128) {
+            return "BigDecimal";
+        } else if (value instanceof String) {
+            return STRING_FIELD_TYPE;
+        } else if (value instanceof ObjectId) {
+            return OBJECT_ID_TYPE;
+        } else if (value instanceof Collection) {
+            return "Array";
+        } else if (value instanceof Date) {
+            return "Date";
+        }
+        return OBJECT_TYPE;
+    }
+
     public static String urlEncode(String text) {
         return URLEncoder.encode(text, StandardCharsets.UTF_8);
     }
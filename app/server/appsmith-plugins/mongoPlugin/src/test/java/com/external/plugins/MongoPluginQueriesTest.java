@@ -58,6 +58,7 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -65,7 +66,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 @Testcontainers
 public class MongoPluginQueriesTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -198,6 +199,78 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    private Mono<Object> executeFindAllUsers(MongoPlugin.MongoPluginExecutor executor) {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = executor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        // A batch size of 1 makes the rows come from several getMore calls
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      find: \"users\",\n" + "      sort: { id: 1 },\n" + "      batchSize: 1,\n" + "    }");
+        actionConfiguration.setFormData(configMap);
+
+        return dsConnectionMono.flatMap(
+                conn -> executor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+    }
+
+    @Test
+    public void testExecuteReadQuery_moreRowsThanMaxRows_returnsTruncatedRows() {
+        MongoPlugin.MongoPluginExecutor executor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMaxResponseRows() {
+                return 2;
+            }
+        });
+
+        StepVerifier.create(executeFindAllUsers(executor))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(2, ((ArrayNode) result.getBody()).size());
+                    assertEquals(1, result.getMessages().size());
+                    assertTrue(result.getMessages().iterator().next().startsWith("Only the first 2 documents"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_largerThanMaxSize_returnsTruncatedRows() {
+        MongoPlugin.MongoPluginExecutor executor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig() {
+            @Override
+            public int getMaxResponseSize() {
+                return 1;
+            }
+        });
+
+        StepVerifier.create(executeFindAllUsers(executor))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(0, ((ArrayNode) result.getBody()).size());
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_withinBudget_returnsAllRowsWithoutHint() {
+        StepVerifier.create(executeFindAllUsers(pluginExecutor))
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    // Other tests may insert users too
+                    assertTrue(((ArrayNode) result.getBody()).size() >= 3);
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteInvalidReadQuery() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -414,12 +487,14 @@ public class MongoPluginQueriesTest {
                     assertArrayEquals(
                             new DatasourceStructure.Column[] {
                                 new DatasourceStructure.Column("_id", "ObjectId", null, true),
+                                new DatasourceStructure.Column("aLong", "Long", null, false),
                                 new DatasourceStructure.Column("age", "Integer", null, false),
                                 new DatasourceStructure.Column("dob", "Date", null, false),
                                 new DatasourceStructure.Column("gender", "String", null, false),
                                 new DatasourceStructure.Column("luckyNumber", "Long", null, false),
                                 new DatasourceStructure.Column("name", "String", null, false),
                                 new DatasourceStructure.Column("netWorth", "BigDecimal", null, false),
+                                new DatasourceStructure.Column("ts", "Object", null, false),
                                 new DatasourceStructure.Column("updatedByCommand", "Object", null, false),
                             },
                             usersTable.getColumns().toArray());
@@ -488,12 +563,14 @@ public class MongoPluginQueriesTest {
                                     + "  \"documents\": [\n"
                                     + "    {\n"
                                     + "      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
                                     + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "    }\n"
                                     + "  ]\n"
@@ -505,12 +582,15 @@ public class MongoPluginQueriesTest {
                             PluginUtils.getDataValueSafelyFromFormData(
                                     (Map<String, Object>) insertTemplate.getConfiguration(), COMMAND, STRING_TYPE));
                     assertEquals(
-                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n" + "      \"age\": 1,\n"
+                            "[{      \"_id\": ObjectId(\"a_valid_object_id_hex\"),\n"
+                                    + "      \"aLong\": NumberLong(\"1\"),\n"
+                                    + "      \"age\": 1,\n"
                                     + "      \"dob\": new Date(\"2019-07-01\"),\n"
                                     + "      \"gender\": \"new value\",\n"
                                     + "      \"luckyNumber\": NumberLong(\"1\"),\n"
                                     + "      \"name\": \"new value\",\n"
                                     + "      \"netWorth\": NumberDecimal(\"1\"),\n"
+                                    + "      \"ts\": {},\n"
                                     + "      \"updatedByCommand\": {},\n"
                                     + "}]",
                             PluginUtils.getDataValueSafelyFromFormData(
@@ -9,8 +9,11 @@ import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.models.SSLDetails;
 import com.mongodb.MongoSocketWriteException;
+import com.mongodb.reactivestreams.client.ClientSession;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoDatabase;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.MongoDBContainer;
@@ -30,7 +33,9 @@ import static com.external.plugins.constants.FieldName.COMMAND;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 /**
@@ -38,7 +43,7 @@ import static org.mockito.Mockito.spy;
  */
 @Testcontainers
 public class MongoPluginStaleConnTest {
-    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor();
+    MongoPlugin.MongoPluginExecutor pluginExecutor = new MongoPlugin.MongoPluginExecutor(new MockSharedConfig());
 
     private static String address;
     private static Integer port;
@@ -86,7 +91,10 @@ public class MongoPluginStaleConnTest {
         MongoClient spyMongoClient = spy(MongoClient.class);
         MongoDatabase spyMongoDatabase = spy(MongoDatabase.class);
         doReturn(spyMongoDatabase).when(spyMongoClient).getDatabase(anyString());
-        doReturn(Mono.error(new IllegalStateException())).when(spyMongoDatabase).runCommand(any());
+        doReturn(Mono.just(mock(ClientSession.class))).when(spyMongoClient).startSession();
+        doReturn(Mono.error(new IllegalStateException()))
+                .when(spyMongoDatabase)
+                .runCommand(any(ClientSession.class), any(Bson.class), eq(RawBsonDocument.class));
 
         Mono<ActionExecutionResult> resultMono =
                 pluginExecutor.executeCommon(spyMongoClient, dsConfig, actionConfiguration, new ArrayList<>());
@@ -109,9 +117,10 @@ public class MongoPluginStaleConnTest {
         MongoClient spyMongoClient = spy(MongoClient.class);
         MongoDatabase spyMongoDatabase = spy(MongoDatabase.class);
         doReturn(spyMongoDatabase).when(spyMongoClient).getDatabase(anyString());
+        doReturn(Mono.just(mock(ClientSession.class))).when(spyMongoClient).startSession();
         doReturn(Mono.error(new MongoSocketWriteException("", null, null)))
                 .when(spyMongoDatabase)
-                .runCommand(any());
+                .runCommand(any(ClientSession.class), any(Bson.class), eq(RawBsonDocument.class));
 
         Mono<ActionExecutionResult> resultMono =
                 pluginExecutor.executeCommon(spyMongoClient, dsConfig, actionConfiguration, new ArrayList<>());
@@ -0,0 +1,74 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonDateTime;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BsonToJsonNodeConverterTest {
+
+    @Test
+    void testToObjectNode_convertsPlainValues() {
+        ObjectId objectId = new ObjectId();
+        BsonDocument document = new BsonDocument()
+                .append("_id", new BsonObjectId(objectId))
+                .append("name", new BsonString("Ram singh"))
+                .append("age", new BsonInt32(40))
+                .append("small", new BsonInt64(7))
+                .append("large", new BsonInt64(Long.MAX_VALUE))
+                .append("price", new BsonDecimal128(new Decimal128(new BigDecimal("10.50"))))
+                .append("createdAt", new BsonDateTime(0))
+                .append("missing", BsonNull.VALUE)
+                .append(
+                        "nested",
+                        new BsonDocument("tags", new BsonArray(List.of(new BsonString("a"), new BsonInt32(1)))));
+
+        ObjectNode objectNode =
+                BsonToJsonNodeConverter.toObjectNode(new RawBsonDocument(document, new BsonDocumentCodec()));
+
+        assertEquals(objectId.toHexString(), objectNode.get("_id").asText());
+        assertEquals("Ram singh", objectNode.get("name").asText());
+        assertEquals(40, objectNode.get("age").intValue());
+        assertTrue(objectNode.get("small").isInt());
+        assertEquals(Long.MAX_VALUE, objectNode.get("large").longValue());
+        assertEquals(10.5, objectNode.get("price").doubleValue());
+        assertEquals("1970-01-01T00:00:00Z", objectNode.get("createdAt").asText());
+        assertTrue(objectNode.get("missing").isNull());
+        assertEquals("a", objectNode.get("nested").get("tags").get(0).asText());
+        assertEquals(1, objectNode.get("nested").get("tags").get(1).intValue());
+    }
+
+    @Test
+    void testToObjectNode_keepsExtendedJsonForSpecialValues() {
+        BsonDocument document = new BsonDocument()
+                .append("data", new BsonBinary(new byte[] {1, 2, 3}))
+                .append("ratio", new BsonDouble(Double.NaN));
+
+        ObjectNode objectNode =
+                BsonToJsonNodeConverter.toObjectNode(new RawBsonDocument(document, new BsonDocumentCodec()));
+
+        assertEquals(
+                "{\"$binary\":{\"base64\":\"AQID\",\"subType\":\"00\"}}",
+                objectNode.get("data").toString());
+        assertEquals("{\"$numberDouble\":\"NaN\"}", objectNode.get("ratio").toString());
+    }
+}
@@ -1,9 +1,20 @@
 package com.external.plugins.utils;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.PluginUtils;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
+import static com.external.plugins.constants.FieldName.FIND_QUERY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -60,4 +71,35 @@ public class MongoPluginUtilsTest {
                 AppsmithPluginException.class,
                 () -> MongoPluginUtils.parseSafelyDocumentAndArrayOfDocuments("field", "[abc, pqr]"));
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testGenerateTemplatesAndStructureForACollection_mergesFieldTypesOfAllDocuments() {
+        final Document first =
+                new Document("_id", new ObjectId()).append("name", "b").append("age", 20);
+        final Document second = new Document("_id", new ObjectId())
+                .append("name", "a")
+                .append("age", "twenty")
+                .append("email", null);
+        final Document third = new Document("_id", new ObjectId()).append("address", new Document("city", "x"));
+        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
+
+        MongoPluginUtils.generateTemplatesAndStructureForACollection(
+                "users", List.of(first, second, third), columns, templates);
+
+        assertArrayEquals(
+                new DatasourceStructure.Column[] {
+                    new DatasourceStructure.Column("_id", "ObjectId", null, true),
+                    new DatasourceStructure.Column("address", "Object", null, false),
+                    new DatasourceStructure.Column("age", "Integer | String", null, false),
+                    new DatasourceStructure.Column("email", "Object", null, false),
+                    new DatasourceStructure.Column("name", "String", null, false),
+                },
+                columns.toArray());
+        assertEquals(
+                "{ \"name\": \"a\"}",
+                PluginUtils.getDataValueSafelyFromFormData(
+                        (Map<String, Object>) templates.get(0).getConfiguration(), FIND_QUERY, STRING_TYPE));
+    }
 }
@@ -1,22 +1,17 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.JdbcResultSetReader;
 import org.apache.commons.lang.ObjectUtils;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.safelyCloseSingleConnectionFromHikariCP;
 import static java.lang.Boolean.FALSE;
 
@@ -82,50 +77,31 @@ public class MssqlExecuteUtils {
 
             rowsList.add(Map.of("affectedRows", updateCount));
         } else {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-            columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+            JdbcResultSetReader resultSetReader =
+                    new JdbcResultSetReader(resultSet.getMetaData(), MssqlExecuteUtils::getColumnReader);
+            columnsList.addAll(resultSetReader.getColumnNames());
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                        resultSet.getDate(i).toLocalDate(),
-                                        resultSet.getTime(i).toLocalTime()))
-                                + "Z";
-
-                    } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-
-                    } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getString(i);
-
-                    } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = resultSet.getObject(i).toString();
-
-                    } else {
-                        value = resultSet.getObject(i);
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
+                rowsList.add(resultSetReader.readRow(resultSet));
             }
         }
     }
+
+    /**
+     * Picks how the values of a column are read, from the name of its type.
+     */
+    private static JdbcResultSetReader.ColumnReader getColumnReader(String typeName) {
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.ISO_DATE;
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.ISO_DATE_TIME_UTC;
+        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.ISO_OFFSET_DATE_TIME;
+        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.STRING;
+        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.OBJECT_AS_STRING;
+        }
+        return JdbcResultSetReader.OBJECT;
+    }
 }
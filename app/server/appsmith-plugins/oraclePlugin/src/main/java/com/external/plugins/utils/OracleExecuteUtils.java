@@ -1,5 +1,6 @@
 package com.external.plugins.utils;
 
+import com.appsmith.external.helpers.JdbcResultSetReader;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
 import oracle.jdbc.OracleArray;
 import oracle.jdbc.OracleBlob;
@@ -9,19 +10,14 @@ import org.apache.commons.lang.ObjectUtils;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.MessageFormat;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Base64;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.safelyCloseSingleConnectionFromHikariCP;
 import static java.lang.Boolean.FALSE;
 
@@ -131,64 +127,62 @@ public class OracleExecuteUtils implements SmartSubstitutionInterface {
 
             rowsList.add(Map.of(AFFECTED_ROWS_KEY, updateCount));
         } else {
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-            columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+            JdbcResultSetReader resultSetReader =
+                    new JdbcResultSetReader(resultSet.getMetaData(), OracleExecuteUtils::getColumnReader);
+            columnsList.addAll(resultSetReader.getColumnNames());
 
             while (resultSet.next()) {
-                // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                for (int i = 1; i <= colCount; i++) {
-                    Object value;
-                    final String typeName = metaData.getColumnTypeName(i);
-
-                    if (resultSet.getObject(i) == null) {
-                        value = null;
-
-                    } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE.format(
-                                resultSet.getDate(i).toLocalDate());
-
-                    } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
-                            || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                    } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
-                        /**
-                         * clob, nclob are textual data.
-                         * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
-                         */
-                        value = String.valueOf(
-                                ((CLOB) resultSet.getObject(i)).getTarget().getPrefetchedData());
-                    } else if (resultSet.getObject(i) instanceof OracleArray) {
-                        value = ((OracleArray) resultSet.getObject(i)).getArray();
-                    } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = Base64.getEncoder().encodeToString((byte[]) resultSet.getObject(i));
-                    } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                        /**
-                         * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
-                         * base64 encoded string. The correct way to read the data for these types is for the user to
-                         * cast them to a type before reading them, example:
-                         * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
-                         */
-                        value = ((OracleBlob) resultSet.getObject(i))
-                                .getBytes(1L, (int) ((OracleBlob) resultSet.getObject(i)).length());
-                    } else {
-                        value = resultSet.getObject(i).toString();
-                    }
-
-                    row.put(metaData.getColumnName(i), value);
-                }
-
-                rowsList.add(row);
+                rowsList.add(resultSetReader.readRow(resultSet));
             }
         }
     }
+
+    /**
+     * Picks how the values of a column are read, from the name of its Oracle type.
+     */
+    private static JdbcResultSetReader.ColumnReader getColumnReader(String typeName) {
+        if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.ISO_DATE;
+        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)
+                || TIMESTAMPLTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            return JdbcResultSetReader.ISO_OFFSET_DATE_TIME;
+        } else if (CLOB_TYPE_NAME.equalsIgnoreCase(typeName) || NCLOB_TYPE_NAME.equals(typeName)) {
+            /**
+             * clob, nclob are textual data.
+             * Ref: https://docs.oracle.com/javadb/10.10.1.2/ref/rrefclob.html
+             */
+            return (resultSet, column) -> {
+                final Object value = resultSet.getObject(column);
+                return value == null
+                        ? null
+                        : String.valueOf(((CLOB) value).getTarget().getPrefetchedData());
+            };
+        } else if (RAW_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            /**
+             * Raw / Blob data cannot be interpreted as anything but a byte array. Hence, send it back as a
+             * base64 encoded string. The correct way to read the data for these types is for the user to
+             * cast them to a type before reading them, example:
+             * select utl_raw.cast_to_varchar2(c_raw) as c_raw, utl_raw.cast_to_varchar2(c_blob) as c_blob from TYPESTEST4
+             */
+            return (resultSet, column) -> {
+                final Object value = resultSet.getObject(column);
+                return value == null ? null : Base64.getEncoder().encodeToString((byte[]) value);
+            };
+        } else if (BLOB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+            // Same as the raw data above
+            return (resultSet, column) -> {
+                final Object value = resultSet.getObject(column);
+                return value == null ? null : ((OracleBlob) value).getBytes(1L, (int) ((OracleBlob) value).length());
+            };
+        }
+
+        return (resultSet, column) -> {
+            final Object value = resultSet.getObject(column);
+            if (value instanceof OracleArray oracleArray) {
+                return oracleArray.getArray();
+            }
+            return value == null ? null : value.toString();
+        };
+    }
 }
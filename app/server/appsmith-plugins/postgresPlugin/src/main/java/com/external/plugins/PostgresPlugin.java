@@ -8,7 +8,9 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeServiceUtils;
+import com.appsmith.external.helpers.JdbcResultSetReader;
 import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.helpers.ResponseSizeTracker;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -31,6 +33,7 @@ import com.external.plugins.datatypes.PostgresSpecificDataTypes;
 import com.external.plugins.exceptions.PostgresErrorMessages;
 import com.external.plugins.exceptions.PostgresPluginError;
 import com.external.plugins.utils.PostgresDatasourceUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -44,7 +47,9 @@ import org.pf4j.PluginWrapper;
 import org.postgresql.util.PGobject;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
@@ -55,7 +60,6 @@ import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
@@ -63,9 +67,6 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -76,16 +77,16 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.PluginConstants.PluginName.POSTGRES_PLUGIN_NAME;
-import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
-import static com.appsmith.external.helpers.Sizeof.sizeof;
 import static com.appsmith.external.helpers.SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.BOOL;
 import static com.external.plugins.utils.PostgresDataTypeUtils.DataType.DATE;
@@ -127,12 +128,21 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int HEAVY_OP_FREQUENCY = 100;
-
     public static final Long DEFAULT_POSTGRES_PORT = 5432L;
 
     private static int MAX_SIZE_SUPPORTED;
 
+    /**
+     * Queries that only read rows: a single SELECT, WITH, VALUES or TABLE statement. Their rows are fetched through a
+     * server side cursor, see {@link PostgresPluginExecutor#executeCommon}.
+     */
+    private static final Pattern READ_QUERY_PATTERN =
+            Pattern.compile("^\\s*(select|with|values|table)\\b[^;]*;?\\s*$", Pattern.CASE_INSENSITIVE);
+
+    static boolean isReadQuery(String query) {
+        return query != null && READ_QUERY_PATTERN.matcher(query).matches();
+    }
+
     public static PostgresDatasourceUtils postgresDatasourceUtils = new PostgresDatasourceUtils();
 
     public PostgresPlugin(PluginWrapper wrapper) {
@@ -188,11 +198,13 @@ public class PostgresPlugin extends BasePlugin {
 
         private final SharedConfig sharedConfig;
         private final ConnectionPoolConfig connectionPoolConfig;
+        private final int fetchSize;
 
         public PostgresPluginExecutor(SharedConfig sharedConfig, ConnectionPoolConfig connectionPoolConfig) {
             this.sharedConfig = sharedConfig;
             this.connectionPoolConfig = connectionPoolConfig;
             MAX_SIZE_SUPPORTED = sharedConfig.getMaxResponseSize();
+            this.fetchSize = sharedConfig.getJdbcFetchSize();
         }
 
         /**
@@ -225,38 +237,63 @@ public class PostgresPlugin extends BasePlugin {
                 DatasourceConfiguration datasourceConfiguration,
                 ActionConfiguration actionConfiguration) {
 
+            return prepareAndExecute(
+                    connection,
+                    executeActionDTO,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    this::executeCommon,
+                    Mono::error);
+        }
+
+        /**
+         * Same as {@link #executeParameterized}, with the rows of read queries returned in chunks as they are read from
+         * the database.
+         */
+        @Override
+        public Flux<ActionExecutionResult> executeParameterizedAsStream(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration) {
+
+            return prepareAndExecute(
+                    connection,
+                    executeActionDTO,
+                    datasourceConfiguration,
+                    actionConfiguration,
+                    this::executeCommonAsStream,
+                    Flux::error);
+        }
+
+        /**
+         * Prepares the query of the action, either by replacing the bindings with their values or, for prepared
+         * statements, with the parameters of the statement, and executes it with the given executor.
+         */
+        private <T> T prepareAndExecute(
+                HikariDataSource connection,
+                ExecuteActionDTO executeActionDTO,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                QueryExecutor<T> queryExecutor,
+                Function<Throwable, T> errorPublisher) {
+
             String query = actionConfiguration.getBody();
             // Check for query parameter before performing the probably expensive fetch
             // connection from the pool op.
             if (!StringUtils.hasLength(query)) {
-                return Mono.error(new AppsmithPluginException(
+                return errorPublisher.apply(new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                         PostgresErrorMessages.MISSING_QUERY_ERROR_MSG));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                // In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null) {
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non-prepared statement, simply do bind replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, datasourceConfiguration, actionConfiguration, FALSE, null, null, null);
+                return queryExecutor.execute(
+                        connection, datasourceConfiguration, actionConfiguration, FALSE, null, null, null);
             }
 
             // Prepared Statement
@@ -267,7 +304,7 @@ public class PostgresPlugin extends BasePlugin {
             String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
             List<DataType> explicitCastDataTypes = extractExplicitCasting(updatedQuery);
             actionConfiguration.setBody(updatedQuery);
-            return executeCommon(
+            return queryExecutor.execute(
                     connection,
                     datasourceConfiguration,
                     actionConfiguration,
@@ -277,6 +314,37 @@ public class PostgresPlugin extends BasePlugin {
                     explicitCastDataTypes);
         }
 
+        /**
+         * The signature shared by {@link #executeCommon} and {@link #executeCommonAsStream}.
+         */
+        @FunctionalInterface
+        private interface QueryExecutor<T> {
+            T execute(
+                    HikariDataSource connection,
+                    DatasourceConfiguration datasourceConfiguration,
+                    ActionConfiguration actionConfiguration,
+                    Boolean preparedStatement,
+                    List<MustacheBindingToken> mustacheValuesInOrder,
+                    ExecuteActionDTO executeActionDTO,
+                    List<DataType> explicitCastDataTypes);
+        }
+
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+            return true;
+        }
+
         @Override
         public ActionConfiguration getSchemaPreviewActionConfig(Template queryTemplate, Boolean isMock) {
             ActionConfiguration actionConfig = new ActionConfiguration();
@@ -328,6 +396,14 @@ public class PostgresPlugin extends BasePlugin {
                     List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
             Instant requestedAt = Instant.now();
 
+            /*
+             * pgjdbc reads the complete result of a query before returning the first row, unless the query is run
+             * outside of autocommit mode with a fetch size. It then reads the rows through a cursor, a batch at a
+             * time, so a result larger than the maximum response size fails after reading about that much data.
+             * This is only done for read queries, since some statements, e.g. VACUUM, cannot run in a transaction.
+             */
+            final boolean isCursorRead = isReadQuery(query);
+
             return Mono.fromCallable(() -> {
                         Connection connectionFromPool;
 
@@ -353,8 +429,6 @@ public class PostgresPlugin extends BasePlugin {
 
                         Statement statement = null;
                         ResultSet resultSet = null;
-                        PreparedStatement preparedQuery = null;
-                        boolean isResultSet;
 
                         HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
 
@@ -370,132 +444,58 @@ public class PostgresPlugin extends BasePlugin {
                                 threadsAwaitingConnection,
                                 totalConnections);
                         try {
-                            if (FALSE.equals(preparedStatement)) {
-                                statement = connectionFromPool.createStatement();
-                                isResultSet = statement.execute(query);
-                                resultSet = statement.getResultSet();
-                            } else {
-                                preparedQuery = connectionFromPool.prepareStatement(query);
-
-                                List<Map.Entry<String, String>> parameters = new ArrayList<>();
-                                preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
-                                        preparedQuery,
-                                        mustacheValuesInOrder,
-                                        executeActionDTO.getParams(),
-                                        parameters,
-                                        connectionFromPool,
-                                        explicitCastDataTypes);
-
-                                IntStream.range(0, parameters.size())
-                                        .forEachOrdered(i -> psParams.put(
-                                                getPSParamLabel(i + 1),
-                                                new PsParameterDTO(
-                                                        parameters.get(i).getKey(),
-                                                        parameters.get(i).getValue())));
-
-                                requestData.put("ps-parameters", parameters);
-                                isResultSet = preparedQuery.execute();
-                                resultSet = preparedQuery.getResultSet();
+                            if (isCursorRead) {
+                                connectionFromPool.setAutoCommit(false);
                             }
 
-                            if (!isResultSet) {
+                            statement = executeStatement(
+                                    connectionFromPool,
+                                    query,
+                                    preparedStatement,
+                                    mustacheValuesInOrder,
+                                    executeActionDTO,
+                                    explicitCastDataTypes,
+                                    psParams,
+                                    requestData);
+                            resultSet = statement.getResultSet();
+
+                            if (resultSet == null) {
 
-                                Object updateCount = FALSE.equals(preparedStatement)
-                                        ? ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0)
-                                        : ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
+                                Object updateCount = ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0);
 
                                 rowsList.add(Map.of("affectedRows", updateCount));
 
                             } else {
 
-                                ResultSetMetaData metaData = resultSet.getMetaData();
-                                int colCount = metaData.getColumnCount();
-                                columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+                                JdbcResultSetReader resultSetReader =
+                                        new JdbcResultSetReader(resultSet.getMetaData(), this::getColumnReader);
+                                columnsList.addAll(resultSetReader.getColumnNames());
 
-                                int iterator = 0;
+                                ResponseSizeTracker sizeTracker = new ResponseSizeTracker(MAX_SIZE_SUPPORTED);
                                 while (resultSet.next()) {
-
-                                    // Only check the data size at low frequency to ensure the performance is not
-                                    // impacted heavily
-                                    if (iterator % HEAVY_OP_FREQUENCY == 0) {
-                                        int objectSize = sizeof(rowsList);
-
-                                        if (objectSize > MAX_SIZE_SUPPORTED) {
-                                            log.debug(
-                                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
-                                                    MAX_SIZE_SUPPORTED,
-                                                    objectSize);
-                                            return Mono.error(new AppsmithPluginException(
-                                                    PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
-                                                    (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
-                                        }
-                                    }
-
-                                    // Use `LinkedHashMap` here so that the column ordering is preserved in the
-                                    // response.
-                                    Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                                    for (int i = 1; i <= colCount; i++) {
-                                        Object value;
-                                        final String typeName = metaData.getColumnTypeName(i);
-
-                                        if (resultSet.getObject(i) == null) {
-                                            value = null;
-
-                                        } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE.format(
-                                                    resultSet.getDate(i).toLocalDate());
-
-                                        } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                                            resultSet.getDate(i).toLocalDate(),
-                                                            resultSet.getTime(i).toLocalTime()))
-                                                    + "Z";
-
-                                        } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                                    resultSet.getObject(i, OffsetDateTime.class));
-
-                                        } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getString(i);
-
-                                        } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = resultSet.getObject(i).toString();
-
-                                        } else if (typeName.startsWith("_")) {
-                                            value = resultSet.getArray(i).getArray();
-
-                                        } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                                || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                            value = objectMapper.readTree(resultSet.getString(i));
-                                        } else {
-                                            value = resultSet.getObject(i);
-
-                                            /**
-                                             * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
-                                             * two attributes: type and value. Hence, when PGobject gets serialized, it gets
-                                             * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
-                                             * are
-                                             * only interested in the value and not the type, it makes sense to extract out
-                                             * the value as a string.
-                                             * Reference:
-                                             * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
-                                             */
-                                            if (value instanceof PGobject) {
-                                                value = ((PGobject) value).getValue();
-                                            }
-                                        }
-
-                                        row.put(metaData.getColumnName(i), value);
-                                    }
-
+                                    Map<String, Object> row = resultSetReader.readRow(resultSet);
+                                    sizeTracker.add(row);
                                     rowsList.add(row);
 
-                                    iterator++;
+                                    // The tracker is updated with every value that is read, so checking it after
+                                    // every row is cheap and does not depend on the number of rows read so far.
+                                    if (sizeTracker.isLimitExceeded()) {
+                                        log.debug(
+                                                "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                                MAX_SIZE_SUPPORTED,
+                                                sizeTracker.getSize());
+                                        return Mono.error(new AppsmithPluginException(
+                                                PostgresPluginError.RESPONSE_SIZE_TOO_LARGE,
+                                                (float) (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                                    }
                                 }
                             }
 
+                            if (isCursorRead) {
+                                // A read query can still write, e.g. with SELECT INTO or by calling a function
+                                connectionFromPool.commit();
+                            }
+
                         } catch (SQLException e) {
                             log.debug("In the PostgresPlugin, got action execution error");
                             return Mono.error(new AppsmithPluginException(
@@ -503,15 +503,6 @@ public class PostgresPlugin extends BasePlugin {
                                     PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
                                     e.getMessage(),
                                     "SQLSTATE: " + e.getSQLState()));
-                        } catch (IOException e) {
-                            // Since postgres json type field can only hold valid json data, this exception
-                            // is not expected
-                            // to occur.
-                            log.debug("In the PostgresPlugin, got action execution error");
-                            return Mono.error(new AppsmithPluginException(
-                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
-                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
                         } finally {
                             idleConnections = poolProxy.getIdleConnections();
                             activeConnections = poolProxy.getActiveConnections();
@@ -539,11 +530,13 @@ public class PostgresPlugin extends BasePlugin {
                                 }
                             }
 
-                            if (preparedQuery != null) {
+                            if (isCursorRead) {
                                 try {
-                                    preparedQuery.close();
+                                    // Nothing is left to roll back unless the execution failed
+                                    connectionFromPool.rollback();
+                                    connectionFromPool.setAutoCommit(true);
                                 } catch (SQLException e) {
-                                    log.debug("Execute Error closing Postgres Statement", e);
+                                    log.debug("Execute Error resetting autocommit of Postgres connection", e);
                                 }
                             }
 
@@ -597,6 +590,324 @@ public class PostgresPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Streams the rows of read queries from a server side cursor, in chunks of the fetch size, so that they can be
+         * sent to the client while the next ones are read. Other queries are executed with {@link #executeCommon} and
+         * returned as a single chunk. The same maximum response size applies to all the chunks of a result together.
+         */
+        private Flux<ActionExecutionResult> executeCommonAsStream(
+                HikariDataSource connection,
+                DatasourceConfiguration datasourceConfiguration,
+                ActionConfiguration actionConfiguration,
+                Boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes) {
+
+            String query = actionConfiguration.getBody();
+            if (!isReadQuery(query)) {
+                return executeCommon(
+                                connection,
+                                datasourceConfiguration,
+                                actionConfiguration,
+                                preparedStatement,
+                                mustacheValuesInOrder,
+                                executeActionDTO,
+                                explicitCastDataTypes)
+                        .flux();
+            }
+
+            final Map<String, Object> requestData = new HashMap<>();
+            requestData.put("preparedStatement", TRUE.equals(preparedStatement));
+
+            Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
+            String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
+            List<RequestParamDTO> requestParams =
+                    List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, transformedQuery, null, null, psParams));
+
+            // The parameters of prepared statements are added to the request data when the statement is created
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setQuery(query);
+            request.setProperties(requestData);
+            request.setRequestParams(requestParams);
+            request.setRequestedAt(Instant.now());
+
+            final Mono<Long> deadline = Mono.delay(Duration.ofMillis(actionConfiguration.getTimeoutInMillisecond()))
+                    .cache();
+            return Flux.using(
+                            () -> openResultChunkReader(
+                                    connection,
+                                    query,
+                                    preparedStatement,
+                                    mustacheValuesInOrder,
+                                    executeActionDTO,
+                                    explicitCastDataTypes,
+                                    psParams,
+                                    requestData,
+                                    request),
+                            chunkReader -> Flux.generate(chunkReader::readChunk),
+                            ResultChunkReader::close)
+                    .onErrorResume(error -> {
+                        if (error instanceof StaleConnectionException) {
+                            return Mono.error(error);
+                        } else if (!(error instanceof AppsmithPluginException)) {
+                            error = new AppsmithPluginException(
+                                    PostgresPluginError.QUERY_EXECUTION_FAILED,
+                                    PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                                    error);
+                        }
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setIsExecutionSuccess(false);
+                        result.setErrorInfo(error);
+                        result.setRequest(request);
+                        return Mono.just(result);
+                    })
+                    // The timeout applies to the whole stream, and not to the wait for each chunk
+                    .timeout(deadline, chunk -> deadline)
+                    .subscribeOn(scheduler);
+        }
+
+        private ResultChunkReader openResultChunkReader(
+                HikariDataSource connection,
+                String query,
+                Boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes,
+                Map<String, Object> psParams,
+                Map<String, Object> requestData,
+                ActionExecutionRequest request) {
+
+            Connection connectionFromPool;
+            try {
+                connectionFromPool =
+                        postgresDatasourceUtils.getConnectionFromHikariConnectionPool(connection, POSTGRES_PLUGIN_NAME);
+            } catch (SQLException | StaleConnectionException e) {
+                // As in executeCommon, an error here means that the pool has to be recreated
+                throw e instanceof StaleConnectionException
+                        ? (StaleConnectionException) e
+                        : new StaleConnectionException(e.getMessage());
+            }
+
+            Statement statement = null;
+            try {
+                connectionFromPool.setAutoCommit(false);
+                statement = executeStatement(
+                        connectionFromPool,
+                        query,
+                        preparedStatement,
+                        mustacheValuesInOrder,
+                        executeActionDTO,
+                        explicitCastDataTypes,
+                        psParams,
+                        requestData);
+                return new ResultChunkReader(connectionFromPool, statement, request);
+            } catch (SQLException | RuntimeException e) {
+                closeCursorRead(connectionFromPool, statement, null);
+                if (e instanceof SQLException sqlException) {
+                    throw new AppsmithPluginException(
+                            PostgresPluginError.QUERY_EXECUTION_FAILED,
+                            PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                            sqlException.getMessage(),
+                            "SQLSTATE: " + sqlException.getSQLState());
+                }
+                throw (RuntimeException) e;
+            }
+        }
+
+        /**
+         * Creates the statement of the query, with the bindings substituted in case of a prepared statement, and
+         * executes it. The statement is closed if it fails.
+         */
+        private Statement executeStatement(
+                Connection connectionFromPool,
+                String query,
+                Boolean preparedStatement,
+                List<MustacheBindingToken> mustacheValuesInOrder,
+                ExecuteActionDTO executeActionDTO,
+                List<DataType> explicitCastDataTypes,
+                Map<String, Object> psParams,
+                Map<String, Object> requestData)
+                throws SQLException {
+
+            Statement statement = null;
+            try {
+                if (FALSE.equals(preparedStatement)) {
+                    statement = connectionFromPool.createStatement();
+                    statement.setFetchSize(fetchSize);
+                    statement.execute(query);
+                    return statement;
+                }
+
+                PreparedStatement preparedQuery = connectionFromPool.prepareStatement(query);
+                statement = preparedQuery;
+
+                List<Map.Entry<String, String>> parameters = new ArrayList<>();
+                preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(
+                        preparedQuery,
+                        mustacheValuesInOrder,
+                        executeActionDTO.getParams(),
+                        parameters,
+                        connectionFromPool,
+                        explicitCastDataTypes);
+                statement = preparedQuery;
+
+                IntStream.range(0, parameters.size())
+                        .forEachOrdered(i -> psParams.put(
+                                getPSParamLabel(i + 1),
+                                new PsParameterDTO(
+                                        parameters.get(i).getKey(),
+                                        parameters.get(i).getValue())));
+
+                requestData.put("ps-parameters", parameters);
+                preparedQuery.setFetchSize(fetchSize);
+                preparedQuery.execute();
+                return preparedQuery;
+            } catch (SQLException | RuntimeException e) {
+                if (statement != null) {
+                    try {
+                        statement.close();
+                    } catch (SQLException closeException) {
+                        log.debug("Execute Error closing Postgres Statement", closeException);
+                    }
+                }
+                throw e;
+            }
+        }
+
+        /**
+         * Reads the rows of a read query from a server side cursor, a chunk of the fetch size at a time, and owns the
+         * connection until the rows are all read. The connection is then rolled back, in case the reading failed, and
+         * returned to the pool.
+         */
+        private class ResultChunkReader {
+
+            private final Connection connectionFromPool;
+
+            private final Statement statement;
+
+            private final ResultSet resultSet;
+
+            private final JdbcResultSetReader resultSetReader;
+
+            private final ResponseSizeTracker sizeTracker = new ResponseSizeTracker(MAX_SIZE_SUPPORTED);
+
+            // Only sent with the first chunk
+            private ActionExecutionRequest request;
+
+            private Set<String> messages;
+
+            private ResultChunkReader(
+                    Connection connectionFromPool, Statement statement, ActionExecutionRequest request)
+                    throws SQLException {
+                this.connectionFromPool = connectionFromPool;
+                this.statement = statement;
+                this.resultSet = statement.getResultSet();
+                this.resultSetReader = resultSet == null
+                        ? null
+                        : new JdbcResultSetReader(
+                                resultSet.getMetaData(), PostgresPluginExecutor.this::getColumnReader);
+                this.request = request;
+                this.messages = resultSetReader == null
+                        ? new HashSet<>()
+                        : populateHintMessages(resultSetReader.getColumnNames());
+            }
+
+            private void readChunk(SynchronousSink<ActionExecutionResult> sink) {
+                final List<Map<String, Object>> rowsList = new ArrayList<>();
+                boolean isLastChunk = resultSet == null;
+                try {
+                    while (!isLastChunk && rowsList.size() < Math.max(fetchSize, 1)) {
+                        if (!resultSet.next()) {
+                            isLastChunk = true;
+                            break;
+                        }
+
+                        Map<String, Object> row = resultSetReader.readRow(resultSet);
+                        sizeTracker.add(row);
+                        rowsList.add(row);
+
+                        if (sizeTracker.isLimitExceeded()) {
+                            log.debug(
+                                    "[PostgresPlugin] Result size greater than maximum supported size of {} bytes. Current size : {}",
+                                    MAX_SIZE_SUPPORTED,
+                                    sizeTracker.getSize());
+                            sink.error(new AppsmithPluginException(PostgresPluginError.RESPONSE_SIZE_TOO_LARGE, (float)
+                                    (MAX_SIZE_SUPPORTED / (1024 * 1024))));
+                            return;
+                        }
+                    }
+
+                    if (isLastChunk) {
+                        // A read query can still write, e.g. with SELECT INTO or by calling a function
+                        connectionFromPool.commit();
+                    }
+                } catch (SQLException e) {
+                    log.debug("In the PostgresPlugin, got action execution error");
+                    sink.error(new AppsmithPluginException(
+                            PostgresPluginError.QUERY_EXECUTION_FAILED,
+                            PostgresErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                            e.getMessage(),
+                            "SQLSTATE: " + e.getSQLState()));
+                    return;
+                }
+
+                // The first chunk is always sent, even without rows, since it holds the request
+                if (!rowsList.isEmpty() || request != null) {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setBody(objectMapper.valueToTree(rowsList));
+                    result.setMessages(messages);
+                    result.setRequest(request);
+                    result.setIsExecutionSuccess(true);
+                    request = null;
+                    messages = null;
+                    sink.next(result);
+                }
+
+                if (isLastChunk) {
+                    log.debug("In the PostgresPlugin, got action execution result");
+                    sink.complete();
+                }
+            }
+
+            private void close() {
+                closeCursorRead(connectionFromPool, statement, resultSet);
+            }
+        }
+
+        private void closeCursorRead(Connection connectionFromPool, Statement statement, ResultSet resultSet) {
+            if (resultSet != null) {
+                try {
+                    resultSet.close();
+                } catch (SQLException e) {
+                    log.debug("Execute Error closing Postgres ResultSet", e);
+                }
+            }
+
+            if (statement != null) {
+                try {
+                    statement.close();
+                } catch (SQLException e) {
+                    log.debug("Execute Error closing Postgres Statement", e);
+                }
+            }
+
+            try {
+                // Nothing is left to roll back unless the execution failed
+                connectionFromPool.rollback();
+                connectionFromPool.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.debug("Execute Error resetting autocommit of Postgres connection", e);
+            }
+
+            try {
+                // Return the connection back to the pool
+                connectionFromPool.close();
+            } catch (SQLException e) {
+                log.debug("Execute Error returning Postgres connection to pool", e);
+            }
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -612,6 +923,52 @@ public class PostgresPlugin extends BasePlugin {
             return messages;
         }
 
+        /**
+         * Picks how the values of a column are read, from the name of its Postgres type.
+         */
+        private JdbcResultSetReader.ColumnReader getColumnReader(String typeName) {
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_DATE;
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_DATE_TIME_UTC;
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_OFFSET_DATE_TIME;
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.STRING;
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.OBJECT_AS_STRING;
+            } else if (typeName.startsWith("_")) {
+                return JdbcResultSetReader.ARRAY;
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return (resultSet, column) -> {
+                    final String json = resultSet.getString(column);
+                    try {
+                        return json == null ? null : objectMapper.readTree(json);
+                    } catch (JsonProcessingException e) {
+                        // Since postgres json type field can only hold valid json data, this exception is not
+                        // expected to occur.
+                        throw new SQLException(e.getMessage(), e);
+                    }
+                };
+            }
+
+            return (resultSet, column) -> {
+                final Object value = resultSet.getObject(column);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has two attributes: type
+                 * and value. Hence, when PGobject gets serialized, it gets converted into a JSON like
+                 * {"type":"citext", "value":"someText"}. Since we are only interested in the value and not the type,
+                 * it makes sense to extract out the value as a string.
+                 * Reference: https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    return ((PGobject) value).getValue();
+                }
+                return value;
+            };
+        }
+
         @Override
         public Mono<ActionExecutionResult> execute(
                 HikariDataSource connection,
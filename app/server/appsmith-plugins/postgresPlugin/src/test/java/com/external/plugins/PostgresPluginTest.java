@@ -53,8 +53,10 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @Testcontainers
@@ -76,6 +78,12 @@ public class PostgresPluginTest {
         public String getRemoteExecutionUrl() {
             return "";
         }
+
+        @Override
+        public int getJdbcFetchSize() {
+            // Small, so that the rows of the tests are fetched in several batches
+            return 2;
+        }
     }
 
     public class MockConnectionPoolConfig implements ConnectionPoolConfig {
@@ -1709,4 +1717,166 @@ public class PostgresPluginTest {
                 })
                 .verifyComplete();
     }
+
+    /**
+     * Executor whose pool has a single connection, so that every execution runs on the connection left behind by the
+     * previous one.
+     */
+    private PostgresPlugin.PostgresPluginExecutor createSingleConnectionPluginExecutor() {
+        return new PostgresPlugin.PostgresPluginExecutor(new MockSharedConfig(), new MockConnectionPoolConfig() {
+            @Override
+            public Mono<Integer> getMaxConnectionPoolSize() {
+                return Mono.just(1);
+            }
+        });
+    }
+
+    private ActionConfiguration createActionConfiguration(String query) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(query);
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testIsReadQuery() {
+        assertTrue(PostgresPlugin.isReadQuery("SELECT * FROM users"));
+        assertTrue(PostgresPlugin.isReadQuery("  with u as (select id from users) select * from u;  "));
+        assertTrue(PostgresPlugin.isReadQuery("VALUES (1), (2)"));
+        assertTrue(PostgresPlugin.isReadQuery("TABLE users"));
+
+        assertFalse(PostgresPlugin.isReadQuery(null));
+        assertFalse(PostgresPlugin.isReadQuery("VACUUM users"));
+        assertFalse(PostgresPlugin.isReadQuery("INSERT INTO users (username) VALUES ('read')"));
+        assertFalse(PostgresPlugin.isReadQuery("SELECT 1; DELETE FROM users"));
+        assertFalse(PostgresPlugin.isReadQuery("BEGIN; SELECT * FROM users; COMMIT;"));
+        assertFalse(PostgresPlugin.isReadQuery("selected_users"));
+    }
+
+    @Test
+    public void testExecute_cursorReadFails_restoresAutocommit() throws SQLException {
+        PostgresPlugin.PostgresPluginExecutor singleConnectionPluginExecutor = createSingleConnectionPluginExecutor();
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dataSource =
+                singleConnectionPluginExecutor.datasourceCreate(dsConfig).block();
+
+        // The division by zero only fails once the third row is fetched, i.e. in the second batch of the cursor
+        Mono<ActionExecutionResult> executionMono = singleConnectionPluginExecutor.executeParameterized(
+                dataSource,
+                new ExecuteActionDTO(),
+                dsConfig,
+                createActionConfiguration("SELECT 1 / (3 - x) AS ratio FROM generate_series(1, 5) AS x"));
+
+        StepVerifier.create(executionMono)
+                .assertNext(result -> assertFalse(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+
+        // The connection is not left in the failed transaction
+        StepVerifier.create(singleConnectionPluginExecutor.executeParameterized(
+                        dataSource, new ExecuteActionDTO(), dsConfig, createActionConfiguration("SELECT 1 AS one")))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        singleConnectionPluginExecutor.datasourceDestroy(dataSource);
+    }
+
+    @Test
+    public void testExecute_statementThatCannotRunInTransaction_skipsCursorRead() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dataSource = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        // VACUUM fails if it is run in a transaction, as read queries are
+        StepVerifier.create(pluginExecutor.executeParameterized(
+                        dataSource, new ExecuteActionDTO(), dsConfig, createActionConfiguration("VACUUM users")))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteAsStream_readQuery_returnsRowsInChunksOfFetchSize() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dataSource = pluginExecutor.datasourceCreate(dsConfig).block();
+
+        // The fetch size of the mock shared config is 2
+        StepVerifier.create(pluginExecutor.executeParameterizedAsStream(
+                        dataSource,
+                        new ExecuteActionDTO(),
+                        dsConfig,
+                        createActionConfiguration("SELECT x FROM generate_series(1, 5) AS x")))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertNotNull(result.getRequest());
+                    assertEquals("[{\"x\":1},{\"x\":2}]", result.getBody().toString());
+                })
+                .assertNext(result -> {
+                    assertNull(result.getRequest());
+                    assertEquals("[{\"x\":3},{\"x\":4}]", result.getBody().toString());
+                })
+                .assertNext(
+                        result -> assertEquals("[{\"x\":5}]", result.getBody().toString()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteAsStream_cancelled_closesCursorAndReleasesConnection() throws SQLException {
+        PostgresPlugin.PostgresPluginExecutor singleConnectionPluginExecutor = createSingleConnectionPluginExecutor();
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dataSource =
+                singleConnectionPluginExecutor.datasourceCreate(dsConfig).block();
+
+        StepVerifier.create(singleConnectionPluginExecutor
+                        .executeParameterizedAsStream(
+                                dataSource,
+                                new ExecuteActionDTO(),
+                                dsConfig,
+                                createActionConfiguration("SELECT x FROM generate_series(1, 10) AS x"))
+                        .take(1))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        // The only connection of the pool is back, out of the transaction of the cursor
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+
+        StepVerifier.create(singleConnectionPluginExecutor.executeParameterizedAsStream(
+                        dataSource, new ExecuteActionDTO(), dsConfig, createActionConfiguration("SELECT 1 AS one")))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        singleConnectionPluginExecutor.datasourceDestroy(dataSource);
+    }
+
+    @Test
+    public void testExecuteAsStream_cursorReadFails_restoresAutocommitAndReleasesConnection() throws SQLException {
+        PostgresPlugin.PostgresPluginExecutor singleConnectionPluginExecutor = createSingleConnectionPluginExecutor();
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        HikariDataSource dataSource =
+                singleConnectionPluginExecutor.datasourceCreate(dsConfig).block();
+
+        // The division by zero only fails once the third row is fetched, i.e. after the first chunk has been sent
+        StepVerifier.create(singleConnectionPluginExecutor.executeParameterizedAsStream(
+                        dataSource,
+                        new ExecuteActionDTO(),
+                        dsConfig,
+                        createActionConfiguration("SELECT 1 / (3 - x) AS ratio FROM generate_series(1, 5) AS x")))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertNotNull(result.getRequest());
+                })
+                .verifyComplete();
+
+        try (Connection connection = dataSource.getConnection()) {
+            assertTrue(connection.getAutoCommit());
+        }
+
+        // The connection is not left in the failed transaction
+        StepVerifier.create(singleConnectionPluginExecutor.executeParameterizedAsStream(
+                        dataSource, new ExecuteActionDTO(), dsConfig, createActionConfiguration("SELECT 1 AS one")))
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+        singleConnectionPluginExecutor.datasourceDestroy(dataSource);
+    }
 }
@@ -9,6 +9,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
@@ -27,7 +28,10 @@ import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
@@ -53,6 +57,17 @@ public class RedisPlugin extends BasePlugin {
     private static final String CMD_KEY = "cmd";
     private static final String ARGS_KEY = "args";
 
+    private static final int EXECUTION_MODE_INDEX = 0;
+    private static final String SINGLE_EXECUTION_MODE = "SINGLE";
+    private static final String PIPELINE_EXECUTION_MODE = "PIPELINE";
+    private static final String TRANSACTION_EXECUTION_MODE = "TRANSACTION";
+    private static final Set<String> EXECUTION_MODES =
+            Set.of(SINGLE_EXECUTION_MODE, PIPELINE_EXECUTION_MODE, TRANSACTION_EXECUTION_MODE);
+
+    private static final Pattern REDIS_CMD_PATTERN = Pattern.compile("\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+");
+    // Same as above, with line breaks outside of quotes matched on their own, as they separate the commands
+    private static final Pattern REDIS_CMDS_PATTERN = Pattern.compile("\\\"[^\\\"]+\\\"|'[^']+'|(\\R)|[\\S]+");
+
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -88,35 +103,24 @@ public class RedisPlugin extends BasePlugin {
                                     String.format(RedisErrorMessages.BODY_IS_NULL_OR_EMPTY_ERROR_MSG, query)));
                         }
 
-                        Map cmdAndArgs = getCommandAndArgs(query.trim());
-                        if (!cmdAndArgs.containsKey(CMD_KEY)) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG));
-                        }
-
-                        Protocol.Command command;
-                        try {
-                            // Commands are in upper case
-                            command = Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
-                        } catch (IllegalArgumentException exc) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    String.format(
-                                            RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG,
-                                            cmdAndArgs.get(CMD_KEY))));
-                        }
-
-                        Object commandOutput;
-                        if (cmdAndArgs.containsKey(ARGS_KEY)) {
-                            commandOutput = jedis.sendCommand(command, (String[]) cmdAndArgs.get(ARGS_KEY));
+                        String executionMode = getExecutionMode(actionConfiguration);
+                        Object result;
+                        if (SINGLE_EXECUTION_MODE.equals(executionMode)) {
+                            Map cmdAndArgs = getCommandAndArgs(query.trim());
+                            Object commandOutput = sendCommand(jedis, cmdAndArgs);
+                            result = removeQuotes(processCommandOutput(commandOutput));
                         } else {
-                            commandOutput = jedis.sendCommand(command);
+                            List<Map> commandsAndArgs = getCommandsAndArgs(query.trim());
+                            List<Object> commandOutputs = TRANSACTION_EXECUTION_MODE.equals(executionMode)
+                                    ? sendCommandsInTransaction(jedis, commandsAndArgs)
+                                    : sendCommandsInPipeline(jedis, commandsAndArgs);
+                            result = commandOutputs.stream()
+                                    .map(this::processPipelinedCommandOutput)
+                                    .collect(Collectors.toList());
                         }
 
                         ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                        actionExecutionResult.setBody(
-                                objectMapper.valueToTree(removeQuotes(processCommandOutput(commandOutput))));
+                        actionExecutionResult.setBody(objectMapper.valueToTree(result));
                         actionExecutionResult.setIsExecutionSuccess(true);
 
                         log.debug("In the RedisPlugin, got action execution result");
@@ -182,6 +186,28 @@ public class RedisPlugin extends BasePlugin {
             return result;
         }
 
+        private String getExecutionMode(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (CollectionUtils.isEmpty(properties)
+                    || properties.get(EXECUTION_MODE_INDEX) == null
+                    || properties.get(EXECUTION_MODE_INDEX).getValue() == null
+                    || isBlank(
+                            String.valueOf(properties.get(EXECUTION_MODE_INDEX).getValue()))) {
+                // Actions created before the execution mode was introduced hold a single command.
+                return SINGLE_EXECUTION_MODE;
+            }
+
+            String executionMode =
+                    String.valueOf(properties.get(EXECUTION_MODE_INDEX).getValue());
+            if (!EXECUTION_MODES.contains(executionMode)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_EXECUTION_MODE_ERROR_MSG, executionMode));
+            }
+
+            return executionMode;
+        }
+
         private Map getCommandAndArgs(String query) {
             /**
              * - This regex matches either a whole word, or anything inside double quotes. If something is inside
@@ -194,26 +220,137 @@ public class RedisPlugin extends BasePlugin {
              * (5) '{"a":"b"}'
              * Please note that the above example string is not a valid redis cmd and is only mentioned here for info.
              */
-            String redisCmdRegex = "\\\"[^\\\"]+\\\"|'[^']+'|[\\S]+";
-            Pattern pattern = Pattern.compile(redisCmdRegex);
-            Matcher matcher = pattern.matcher(query);
-            Map<String, Object> cmdAndArgs = new HashMap<>();
-            List<String> args = new ArrayList<>();
+            Matcher matcher = REDIS_CMD_PATTERN.matcher(query);
+            List<String> tokens = new ArrayList<>();
             while (matcher.find()) {
-                if (!cmdAndArgs.containsKey(CMD_KEY)) {
-                    cmdAndArgs.put(CMD_KEY, matcher.group().toUpperCase());
-                } else {
-                    args.add(matcher.group());
+                tokens.add(matcher.group());
+            }
+
+            return toCommandAndArgs(tokens);
+        }
+
+        /**
+         * - This method splits a query that holds one command per line into the command and args of each of them.
+         * - Each line is matched the same way as in getCommandAndArgs, hence a quoted arg may still span over several
+         * lines, e.g. set key '{\n"a": "b"\n}'. Blank lines are skipped.
+         */
+        private List<Map> getCommandsAndArgs(String query) {
+            Matcher matcher = REDIS_CMDS_PATTERN.matcher(query);
+            List<Map> commandsAndArgs = new ArrayList<>();
+            List<String> tokens = new ArrayList<>();
+            while (matcher.find()) {
+                // Group 1 is only matched by a line break outside of quotes
+                if (matcher.group(1) == null) {
+                    tokens.add(matcher.group());
+                } else if (!tokens.isEmpty()) {
+                    commandsAndArgs.add(toCommandAndArgs(tokens));
+                    tokens = new ArrayList<>();
                 }
             }
 
-            if (args.size() > 0) {
-                cmdAndArgs.put(ARGS_KEY, args.toArray(new String[0]));
+            if (!tokens.isEmpty()) {
+                commandsAndArgs.add(toCommandAndArgs(tokens));
+            }
+
+            return commandsAndArgs;
+        }
+
+        private Map toCommandAndArgs(List<String> tokens) {
+            Map<String, Object> cmdAndArgs = new HashMap<>();
+            if (!tokens.isEmpty()) {
+                cmdAndArgs.put(CMD_KEY, tokens.get(0).toUpperCase());
+            }
+
+            if (tokens.size() > 1) {
+                cmdAndArgs.put(ARGS_KEY, tokens.subList(1, tokens.size()).toArray(new String[0]));
             }
 
             return cmdAndArgs;
         }
 
+        private Protocol.Command getRedisCommand(Map cmdAndArgs) {
+            if (!cmdAndArgs.containsKey(CMD_KEY)) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG);
+            }
+
+            try {
+                // Commands are in upper case
+                return Protocol.Command.valueOf((String) cmdAndArgs.get(CMD_KEY));
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format(RedisErrorMessages.INVALID_REDIS_COMMAND_ERROR_MSG, cmdAndArgs.get(CMD_KEY)));
+            }
+        }
+
+        /**
+         * All the commands are checked before any of them is sent, so that an invalid command does not leave the
+         * ones before it executed.
+         */
+        private List<Protocol.Command> getRedisCommands(List<Map> commandsAndArgs) {
+            if (commandsAndArgs.isEmpty()) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        RedisErrorMessages.QUERY_PARSING_FAILED_ERROR_MSG);
+            }
+
+            return commandsAndArgs.stream().map(this::getRedisCommand).collect(Collectors.toList());
+        }
+
+        private String[] getArgs(Map cmdAndArgs) {
+            return cmdAndArgs.containsKey(ARGS_KEY) ? (String[]) cmdAndArgs.get(ARGS_KEY) : new String[0];
+        }
+
+        private Object sendCommand(Jedis jedis, Map cmdAndArgs) {
+            Protocol.Command command = getRedisCommand(cmdAndArgs);
+            if (cmdAndArgs.containsKey(ARGS_KEY)) {
+                return jedis.sendCommand(command, getArgs(cmdAndArgs));
+            }
+
+            return jedis.sendCommand(command);
+        }
+
+        /**
+         * - Sends all the commands in one go and then reads all their replies, so that the whole query costs a single
+         * round trip to the server.
+         * - The commands are not atomic: a command that fails does not stop the ones after it.
+         */
+        private List<Object> sendCommandsInPipeline(Jedis jedis, List<Map> commandsAndArgs) {
+            List<Protocol.Command> commands = getRedisCommands(commandsAndArgs);
+            Pipeline pipeline = jedis.pipelined();
+            for (int i = 0; i < commands.size(); i++) {
+                pipeline.sendCommand(commands.get(i), getArgs(commandsAndArgs.get(i)));
+            }
+
+            return pipeline.syncAndReturnAll();
+        }
+
+        /**
+         * - Sends all the commands in between MULTI and EXEC, so that they are executed atomically, in a single round
+         * trip to the server.
+         * - If a command is rejected while being queued, e.g. for a wrong number of args, then none of them is
+         * executed and EXEC fails.
+         */
+        private List<Object> sendCommandsInTransaction(Jedis jedis, List<Map> commandsAndArgs) {
+            List<Protocol.Command> commands = getRedisCommands(commandsAndArgs);
+            Transaction transaction = jedis.multi();
+            for (int i = 0; i < commands.size(); i++) {
+                transaction.sendCommand(commands.get(i), getArgs(commandsAndArgs.get(i)));
+            }
+
+            List<Object> commandOutputs = transaction.exec();
+            if (commandOutputs == null) {
+                throw new AppsmithPluginException(
+                        RedisPluginError.QUERY_EXECUTION_FAILED,
+                        RedisErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
+                        RedisErrorMessages.TRANSACTION_ABORTED_ERROR_MSG);
+            }
+
+            return commandOutputs;
+        }
+
         // This will be updated as we encounter different outputs.
         private List<Map<String, String>> processCommandOutput(Object commandOutput) {
             if (commandOutput == null) {
@@ -230,6 +367,18 @@ public class RedisPlugin extends BasePlugin {
             }
         }
 
+        /**
+         * A command that fails in a pipeline or a transaction does not fail the query, hence its error is returned in
+         * place of its output.
+         */
+        private Object processPipelinedCommandOutput(Object commandOutput) {
+            if (commandOutput instanceof JedisDataException) {
+                return List.of(Map.of("error", ((JedisDataException) commandOutput).getMessage()));
+            }
+
+            return removeQuotes(processCommandOutput(commandOutput));
+        }
+
         /**
          * - Config taken from https://www.baeldung.com/jedis-java-redis-client-library
          * - To understand what these config mean:
@@ -13,6 +13,11 @@ public class RedisErrorMessages extends BasePluginErrorMessages {
 
     public static final String INVALID_REDIS_COMMAND_ERROR_MSG = "Not a valid Redis command: %s";
 
+    public static final String INVALID_EXECUTION_MODE_ERROR_MSG = "Not a valid execution mode: %s";
+
+    public static final String TRANSACTION_ABORTED_ERROR_MSG =
+            "The transaction was aborted by the Redis server, hence none of its commands were executed.";
+
     public static final String NO_PONG_RESPONSE_ERROR_MSG = "Expected PONG in response of PING but got %s";
 
     public static final String QUERY_EXECUTION_FAILED_ERROR_MSG =
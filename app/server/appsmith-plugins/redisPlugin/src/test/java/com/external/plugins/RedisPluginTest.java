@@ -7,6 +7,7 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.external.plugins.exceptions.RedisErrorMessages;
 import com.external.plugins.exceptions.RedisPluginError;
@@ -22,6 +23,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 
 import java.util.ArrayList;
@@ -309,6 +311,252 @@ public class RedisPluginTest {
                 .verifyComplete();
     }
 
+    private ActionConfiguration createActionConfiguration(String body, String executionMode) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", executionMode)));
+        return actionConfiguration;
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        // Blank lines are skipped, and quoted args may span over several lines
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET pipelineKey1 'my value'\n\nSET pipelineKey2 '{\n\"a\":\"b\"\n}'\n"
+                        + "MGET pipelineKey1 pipelineKey2\nGET missingPipelineKey",
+                "PIPELINE");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(4, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertEquals("OK", node.get(1).get(0).get("result").asText());
+                    assertEquals("my value", node.get(2).get(0).get("result").asText());
+                    assertEquals(
+                            "{\n\"a\":\"b\"\n}",
+                            node.get(2).get(1).get("result").asText());
+                    assertEquals("null", node.get(3).get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldReturnErrorOfFailedCommandInPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET pipelineString value\nINCR pipelineString\nGET pipelineString", "PIPELINE");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        // The failed command does not stop the ones after it
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertTrue(node.get(1).get(0).get("error").asText().contains("not an integer"));
+                    assertEquals("value", node.get(2).get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInTransaction() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET transactionCounter 10\nINCRBY transactionCounter 5\nGET transactionCounter", "TRANSACTION");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, node.size());
+                    assertEquals("OK", node.get(0).get(0).get("result").asText());
+                    assertEquals("15", node.get(1).get(0).get("result").asText());
+                    assertEquals("15", node.get(2).get(0).get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldNotExecuteAnyCommandIfOneIsInvalid() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration =
+                createActionConfiguration("SET invalidPipelineKey value\nLOL", "PIPELINE");
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+
+        ActionConfiguration getActionConfiguration = createActionConfiguration("GET invalidPipelineKey", "SINGLE");
+        actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+                    assertEquals("null", node.get("result").asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldThrowErrorIfInvalidExecutionMode() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = createActionConfiguration("PING", "BATCH");
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono.flatMap(
+                jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void itShouldReadManyKeysWithPipeline() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        JedisPool jedisPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        int keyCount = 50;
+        StringBuilder setCommands = new StringBuilder();
+        StringBuilder getCommands = new StringBuilder();
+        for (int i = 0; i < keyCount; i++) {
+            setCommands
+                    .append("SET dashboardKey")
+                    .append(i)
+                    .append(" value")
+                    .append(i)
+                    .append("\n");
+            getCommands.append("GET dashboardKey").append(i).append("\n");
+        }
+        // The key that is never set is read as null, in its place among the others
+        getCommands.append("GET missingDashboardKey");
+
+        StepVerifier.create(pluginExecutor.execute(
+                        jedisPool,
+                        datasourceConfiguration,
+                        createActionConfiguration(setCommands.toString(), "PIPELINE")))
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(keyCount, node.size());
+                    node.forEach(commandNode ->
+                            assertEquals("OK", commandNode.get(0).get("result").asText()));
+                })
+                .verifyComplete();
+
+        long readsBeforePipeline = getTotalReadsProcessed(jedisPool);
+        StepVerifier.create(pluginExecutor.execute(
+                        jedisPool,
+                        datasourceConfiguration,
+                        createActionConfiguration(getCommands.toString(), "PIPELINE")))
+                .assertNext(actionExecutionResult -> {
+                    assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode node = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(keyCount + 1, node.size());
+                    for (int i = 0; i < keyCount; i++) {
+                        assertEquals(
+                                "value" + i, node.get(i).get(0).get("result").asText());
+                    }
+                    assertEquals("null", node.get(keyCount).get(0).get("result").asText());
+                })
+                .verifyComplete();
+        long pipelineReads = getTotalReadsProcessed(jedisPool) - readsBeforePipeline;
+
+        long readsBeforeSingle = getTotalReadsProcessed(jedisPool);
+        for (int i = 0; i < keyCount; i++) {
+            StepVerifier.create(pluginExecutor.execute(
+                            jedisPool,
+                            datasourceConfiguration,
+                            createActionConfiguration("GET dashboardKey" + i, "SINGLE")))
+                    .assertNext(actionExecutionResult -> assertTrue(actionExecutionResult.getIsExecutionSuccess()))
+                    .verifyComplete();
+        }
+        long singleReads = getTotalReadsProcessed(jedisPool) - readsBeforeSingle;
+
+        /*
+         * - The server reads the whole pipeline in one go, whereas it reads every single command on its own. Both
+         *   counts also include the connection checks of the pool and the INFO command itself.
+         */
+        assertTrue(pipelineReads < keyCount / 2, "Reads for the pipeline: " + pipelineReads);
+        assertTrue(singleReads >= keyCount, "Reads for the single commands: " + singleReads);
+
+        pluginExecutor.datasourceDestroy(jedisPool);
+    }
+
+    /*
+     * - Returns the number of reads the server has made from client connections, which Redis counts from version 6.
+     *   Each round trip with a client takes at least one read.
+     */
+    private long getTotalReadsProcessed(JedisPool jedisPool) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return Arrays.stream(jedis.info("stats").split("\r\n"))
+                    .filter(line -> line.startsWith("total_reads_processed:"))
+                    .map(line -> Long.parseLong(line.substring("total_reads_processed:".length())))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    @Test
+    public void itShouldNotExecuteAnyCommandOfARejectedTransaction() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        JedisPool jedisPool =
+                pluginExecutor.datasourceCreate(datasourceConfiguration).block();
+
+        // INCRBY is missing its increment, so the server rejects it while the transaction is queued
+        ActionConfiguration actionConfiguration = createActionConfiguration(
+                "SET rejectedTransactionKey value\nINCRBY rejectedTransactionKey", "TRANSACTION");
+
+        StepVerifier.create(pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration))
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(String.valueOf(result.getBody()).contains("EXECABORT"));
+                })
+                .verifyComplete();
+
+        ActionConfiguration getActionConfiguration = createActionConfiguration("GET rejectedTransactionKey", "SINGLE");
+
+        StepVerifier.create(pluginExecutor.execute(jedisPool, datasourceConfiguration, getActionConfiguration))
+                .assertNext(actionExecutionResult -> {
+                    final JsonNode node = ((ArrayNode) actionExecutionResult.getBody()).get(0);
+                    assertEquals("null", node.get("result").asText());
+                })
+                .verifyComplete();
+
+        pluginExecutor.datasourceDestroy(jedisPool);
+    }
+
     @Test
     public void testSelectedDatabase() {
         DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
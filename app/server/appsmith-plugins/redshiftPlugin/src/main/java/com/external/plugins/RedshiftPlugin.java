@@ -3,6 +3,7 @@ package com.external.plugins;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.JdbcResultSetReader;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -34,9 +35,6 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -50,7 +48,6 @@ import java.util.stream.Collectors;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.PluginConstants.PluginName.REDSHIFT_PLUGIN_NAME;
 import static com.appsmith.external.exceptions.pluginExceptions.BasePluginErrorMessages.JDBC_DRIVER_LOADING_ERROR_MSG;
-import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.external.utils.RedshiftDatasourceUtils.createConnectionPool;
 import static org.apache.commons.lang3.StringUtils.isBlank;
@@ -137,7 +134,8 @@ public class RedshiftPlugin extends BasePlugin {
             }
         }
 
-        private Map<String, Object> getRow(ResultSet resultSet) throws SQLException, AppsmithPluginException {
+        private JdbcResultSetReader getResultSetReader(ResultSet resultSet)
+                throws SQLException, AppsmithPluginException {
             checkResultSetValidity(resultSet);
 
             ResultSetMetaData metaData = resultSet.getMetaData();
@@ -147,46 +145,30 @@ public class RedshiftPlugin extends BasePlugin {
              *    ResultSetMetaData.
              */
             if (metaData == null) {
-                log.debug("Redshift plugin: getRow: metaData is null. Ideally this is never supposed to "
+                log.debug("Redshift plugin: getResultSetReader: metaData is null. Ideally this is never supposed to "
                         + "happen as the Redshift JDBC driver does a null check before passing this object. This means "
                         + "that something has gone wrong while processing the query result.");
                 throw new AppsmithPluginException(
                         RedshiftPluginError.QUERY_EXECUTION_FAILED, RedshiftErrorMessages.NULL_METADATA_ERROR_MSG);
             }
 
-            int colCount = metaData.getColumnCount();
-            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-            Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-            for (int i = 1; i <= colCount; i++) {
-                Object value;
-                final String typeName = metaData.getColumnTypeName(i);
-
-                if (resultSet.getObject(i) == null) {
-                    value = null;
-
-                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE.format(
-                            resultSet.getDate(i).toLocalDate());
-
-                } else if ("timestamp".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
-                                    resultSet.getDate(i).toLocalDate(),
-                                    resultSet.getTime(i).toLocalTime()))
-                            + "Z";
-
-                } else if ("timestamptz".equalsIgnoreCase(typeName)) {
-                    value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
-                } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
-                    value = resultSet.getString(i);
-                } else {
-                    value = resultSet.getObject(i);
-                }
+            return new JdbcResultSetReader(metaData, this::getColumnReader);
+        }
 
-                row.put(metaData.getColumnName(i), value);
+        /**
+         * Picks how the values of a column are read, from the name of its Redshift type.
+         */
+        private JdbcResultSetReader.ColumnReader getColumnReader(String typeName) {
+            if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_DATE;
+            } else if ("timestamp".equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_DATE_TIME_UTC;
+            } else if ("timestamptz".equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.ISO_OFFSET_DATE_TIME;
+            } else if ("time".equalsIgnoreCase(typeName) || "timetz".equalsIgnoreCase(typeName)) {
+                return JdbcResultSetReader.STRING;
             }
-
-            return row;
+            return JdbcResultSetReader.OBJECT;
         }
 
         @Override
@@ -248,12 +230,11 @@ public class RedshiftPlugin extends BasePlugin {
 
                             if (isResultSet) {
                                 resultSet = statement.getResultSet();
-                                ResultSetMetaData metaData = resultSet.getMetaData();
-                                columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
+                                JdbcResultSetReader resultSetReader = getResultSetReader(resultSet);
+                                columnsList.addAll(resultSetReader.getColumnNames());
 
                                 while (resultSet.next()) {
-                                    Map<String, Object> row = getRow(resultSet);
-                                    rowsList.add(row);
+                                    rowsList.add(resultSetReader.readRow(resultSet));
                                 }
                             } else {
                                 rowsList.add(Map.of(
@@ -217,10 +217,9 @@ public class RedshiftPluginTest {
          */
         ResultSet mockResultSet = mock(ResultSet.class);
         when(mockStatement.getResultSet()).thenReturn(mockResultSet);
-        when(mockResultSet.getObject(Mockito.anyInt()))
-                .thenReturn("", 1, "", "Jack", "", "jill", "", "jack@exemplars.com", null, "", "", "", "", "");
+        when(mockResultSet.getObject(Mockito.anyInt())).thenReturn(1, "Jack", "jill", "jack@exemplars.com");
         when(mockResultSet.getDate(Mockito.anyInt()))
-                .thenReturn(Date.valueOf("2018-12-31"), Date.valueOf("2018-11-30"));
+                .thenReturn(null, Date.valueOf("2018-12-31"), Date.valueOf("2018-11-30"));
         when(mockResultSet.getString(Mockito.anyInt())).thenReturn("18:32:45", "12:05:06+00");
         when(mockResultSet.getTime(Mockito.anyInt())).thenReturn(Time.valueOf("20:45:15"));
         when(mockResultSet.getObject(Mockito.anyInt(), any(Class.class)))
@@ -235,7 +234,7 @@ public class RedshiftPluginTest {
          */
         ResultSetMetaData mockResultSetMetaData = mock(ResultSetMetaData.class);
         when(mockResultSet.getMetaData()).thenReturn(mockResultSetMetaData);
-        when(mockResultSetMetaData.getColumnCount()).thenReturn(0).thenReturn(10);
+        when(mockResultSetMetaData.getColumnCount()).thenReturn(10);
         when(mockResultSetMetaData.getColumnTypeName(Mockito.anyInt()))
                 .thenReturn(
                         "int4",
@@ -579,7 +578,7 @@ public class RedshiftPluginTest {
          */
         ResultSet mockResultSet = mock(ResultSet.class);
         when(mockStatement.getResultSet()).thenReturn(mockResultSet);
-        when(mockResultSet.getObject(Mockito.anyInt())).thenReturn("", 1, "", 1, "", "jill", "", "jill");
+        when(mockResultSet.getObject(Mockito.anyInt())).thenReturn(1, 1, "jill", "jill");
         when(mockResultSet.next()).thenReturn(true).thenReturn(false);
         doNothing().when(mockResultSet).close();
 
@@ -1385,6 +1385,69 @@ public class RestApiPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testParsingJsonBodyAndMultiValuedHeaders() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        String baseUrl = String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort());
+        dsConfig.setUrl(baseUrl);
+
+        mockEndpoint.enqueue(new MockResponse()
+                .setBody("{\"name\": \"appsmith\", \"values\": [1, 2, 3]}")
+                .addHeader("Content-Type", "application/json")
+                .addHeader("X-RANDOM-HEADER", "first")
+                .addHeader("X-RANDOM-HEADER", "second"));
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    JsonNode body = (JsonNode) result.getBody();
+                    assertEquals("appsmith", body.get("name").asText());
+                    assertEquals(3, body.get("values").size());
+
+                    JsonNode headers = result.getHeaders();
+                    assertEquals(
+                            "application/json",
+                            headers.get("Content-Type").get(0).asText());
+                    assertEquals(2, headers.get("X-RANDOM-HEADER").size());
+                    assertEquals("first", headers.get("X-RANDOM-HEADER").get(0).asText());
+                    assertEquals("second", headers.get("X-RANDOM-HEADER").get(1).asText());
+                    assertEquals(
+                            "JSON", headers.get("X-APPSMITH-DATATYPE").get(0).asText());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testResponseLargerThanCodecSize_returnsError() {
+        DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+        String baseUrl = String.format("http://%s:%s", mockEndpoint.getHostName(), mockEndpoint.getPort());
+        dsConfig.setUrl(baseUrl);
+
+        byte[] largeBody = new byte[new MockSharedConfig().getCodecSize() + 1];
+        Arrays.fill(largeBody, (byte) 'a');
+        mockEndpoint.enqueue(
+                new MockResponse().setBody(new Buffer().write(largeBody)).addHeader("Content-Type", "text/plain"));
+
+        ActionConfiguration actionConfig = new ActionConfiguration();
+        actionConfig.setHttpMethod(HttpMethod.GET);
+
+        Mono<ActionExecutionResult> resultMono =
+                pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig);
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(result.getPluginErrorDetails()
+                            .getDownstreamErrorMessage()
+                            .contains("Exceeded limit on max bytes to buffer"));
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testRequestWithApiKeyHeader() {
         DatasourceConfiguration dsConfig = new DatasourceConfiguration();
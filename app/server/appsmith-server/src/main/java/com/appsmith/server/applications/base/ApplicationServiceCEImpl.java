@@ -28,6 +28,7 @@ import com.appsmith.server.exceptions.AppsmithException;
 import com.appsmith.server.exceptions.util.DuplicateKeyExceptionUtils;
 import com.appsmith.server.helpers.GitDeployKeyGenerator;
 import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.TextUtils;
 import com.appsmith.server.migrations.ApplicationVersion;
@@ -95,6 +96,7 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
     private final UserDataService userDataService;
     private final WorkspaceService workspaceService;
     private final WorkspacePermission workspacePermission;
+    private final PublishedPageLoadCache publishedPageLoadCache;
 
     private static final Integer MAX_RETRIES = 5;
 
@@ -117,7 +119,8 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.policySolution = policySolution;
@@ -132,6 +135,7 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
         this.userDataService = userDataService;
         this.workspaceService = workspaceService;
         this.workspacePermission = workspacePermission;
+        this.publishedPageLoadCache = publishedPageLoadCache;
     }
 
     @Override
@@ -507,7 +511,9 @@ public class ApplicationServiceCEImpl extends BaseService<ApplicationRepository,
 
                     // Now update the policies to change the access to the application
                     return generateAndSetPoliciesForPublicView(
-                            application, publicPermissionGroupId, applicationAccessDTO.getPublicAccess());
+                                    application, publicPermissionGroupId, applicationAccessDTO.getPublicAccess())
+                            // The published application is now visible to a different set of viewers
+                            .doOnNext(publishedPageLoadCache::invalidateApplication);
                 })
                 .flatMap(this::setTransientFields);
 
@@ -1,5 +1,6 @@
 package com.appsmith.server.applications.base;
 
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -44,7 +45,8 @@ public class ApplicationServiceImpl extends ApplicationServiceCECompatibleImpl i
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
 
         super(
                 scheduler,
@@ -64,6 +66,7 @@ public class ApplicationServiceImpl extends ApplicationServiceCECompatibleImpl i
                 sessionUserService,
                 userDataService,
                 workspaceService,
-                workspacePermission);
+                workspacePermission,
+                publishedPageLoadCache);
     }
 }
@@ -66,6 +66,37 @@ public class CommonConfig {
     @Value("${appsmith.rts.port:8091}")
     private String rtsPort;
 
+    // Maximum number of datasource contexts, and so of connections or connection pools, kept open by this instance
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private long datasourceContextMaxSize;
+
+    // Datasource contexts that have not been used for this long are closed
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:60}")
+    private long datasourceContextIdleTimeoutMinutes;
+
+    // Maximum number of published actions whose action, datasource and plugin are kept resolved for execution
+    @Value("${appsmith.action.execution-plan.max-size:10000}")
+    private long actionExecutionPlanMaxSize;
+
+    // Resolved actions are looked up again after this long, which bounds how stale they can be on other instances
+    @Value("${appsmith.action.execution-plan.ttl-seconds:60}")
+    private long actionExecutionPlanTtlSeconds;
+
+    // Analytics events waiting to be sent, beyond which new events are dropped
+    @Value("${appsmith.analytics.queue.capacity:10000}")
+    private int analyticsQueueCapacity;
+
+    @Value("${appsmith.analytics.queue.batch-size:100}")
+    private int analyticsBatchSize;
+
+    // Maximum number of published page loads whose application data is kept for the consolidated view API
+    @Value("${appsmith.consolidated-api.view-cache.max-size:1000}")
+    private long consolidatedViewCacheMaxSize;
+
+    // Cached page loads are computed again after this long, which bounds how stale they can be on other instances
+    @Value("${appsmith.consolidated-api.view-cache.ttl-seconds:60}")
+    private long consolidatedViewCacheTtlSeconds;
+
     private List<String> allowedDomains;
 
     private String mongoDBVersion;
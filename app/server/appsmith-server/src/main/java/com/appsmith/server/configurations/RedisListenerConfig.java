@@ -1,5 +1,6 @@
 package com.appsmith.server.configurations;
 
+import com.appsmith.caching.components.TieredCacheManagerImpl;
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
 import com.appsmith.server.plugins.base.PluginService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,17 +22,23 @@ public class RedisListenerConfig {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final ChannelTopic topic;
+    private final TieredCacheManagerImpl tieredCacheManager;
 
     @Autowired
-    public RedisListenerConfig(ObjectMapper objectMapper, PluginService pluginService, ChannelTopic topic) {
+    public RedisListenerConfig(
+            ObjectMapper objectMapper,
+            PluginService pluginService,
+            ChannelTopic topic,
+            TieredCacheManagerImpl tieredCacheManager) {
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.topic = topic;
+        this.tieredCacheManager = tieredCacheManager;
     }
 
     /**
      * This is the listener that will receive all the messages from the Redis channel topic configured in topic().
-     * Currently the only topic we are listening to is for install plugin requests.
+     * Currently the topics we are listening to are for install plugin requests and for cache invalidations.
      *
      * @param factory
      * @return
@@ -70,6 +77,18 @@ public class RedisListenerConfig {
                 })
                 // Required to subscribe else this chain is never invoked
                 .subscribe();
+
+        // Evictions made on other nodes, to be applied to the local copies of the caches on this node
+        container
+                .receive(ChannelTopic.of(TieredCacheManagerImpl.INVALIDATION_CHANNEL))
+                .map(p -> p.getMessage())
+                .doOnNext(tieredCacheManager::applyInvalidation)
+                .doOnError(throwable -> {
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred in RedisListenerConfig: ", throwable);
+                    }
+                })
+                .subscribe();
         return container;
     }
 }
@@ -17,6 +17,15 @@ public class SharedConfigImpl implements SharedConfig {
     @Value("${appsmith.plugin.response.size.max:5}")
     private float maxPluginResponseSize = 5;
 
+    @Value("${appsmith.plugin.response.rows.max:10000}")
+    private int maxPluginResponseRows = 10000;
+
+    @Value("${appsmith.plugin.jdbc.fetch-size:1000}")
+    private int jdbcFetchSize = 1000;
+
+    @Value("${appsmith.plugin.file-read.size.max:100}")
+    private float maxFileReadSize = 100;
+
     private final CloudServicesConfig cloudServicesConfig;
 
     @Override
@@ -29,8 +38,23 @@ public class SharedConfigImpl implements SharedConfig {
         return (int) (this.maxPluginResponseSize * 1024 * 1024);
     }
 
+    @Override
+    public int getMaxResponseRows() {
+        return this.maxPluginResponseRows;
+    }
+
     @Override
     public String getRemoteExecutionUrl() {
         return cloudServicesConfig.getBaseUrl() + "/api/v1/actions/execute";
     }
+
+    @Override
+    public int getJdbcFetchSize() {
+        return this.jdbcFetchSize;
+    }
+
+    @Override
+    public int getMaxFileReadSize() {
+        return (int) (this.maxFileReadSize * 1024 * 1024);
+    }
 }
@@ -10,12 +10,14 @@ import com.appsmith.server.services.ConsolidatedAPIService;
 import com.fasterxml.jackson.annotation.JsonView;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
@@ -62,12 +64,17 @@ public class ConsolidatedAPIController {
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as the edit mode endpoint, for published applications. When the response is built from a cached published
+     * page load, it carries an ETag, and a request that already has the same response gets a 304 with no body.
+     */
     @JsonView(Views.Public.class)
     @GetMapping("/view")
     public Mono<ResponseDTO<ConsolidatedAPIResponseDTO>> getAllDataForFirstPageLoadForViewMode(
             @RequestParam(required = false) String applicationId,
             @RequestParam(required = false) String defaultPageId,
-            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName) {
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            ServerWebExchange exchange) {
         log.debug(
                 "Going to fetch consolidatedAPI response for applicationId: {}, defaultPageId: {}, branchName: {}, "
                         + "mode: {}",
@@ -78,8 +85,21 @@ public class ConsolidatedAPIController {
 
         return consolidatedAPIService
                 .getConsolidatedInfoForPageLoad(defaultPageId, applicationId, branchName, ApplicationMode.PUBLISHED)
-                .map(consolidatedAPIResponseDTO ->
-                        new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null))
+                .flatMap(consolidatedAPIResponseDTO -> {
+                    String eTag = consolidatedAPIResponseDTO.getETag();
+                    if (eTag != null) {
+                        // The response depends on the user, so it must only be reused by their browser, once
+                        // revalidated
+                        exchange.getResponse()
+                                .getHeaders()
+                                .setCacheControl(CacheControl.noCache().cachePrivate());
+                        if (exchange.checkNotModified(eTag)) {
+                            return Mono.empty();
+                        }
+                    }
+
+                    return Mono.just(new ResponseDTO<>(HttpStatus.OK.value(), consolidatedAPIResponseDTO, null));
+                })
                 .name(CONSOLIDATED_API_ROOT_VIEW)
                 .tap(Micrometer.observation(observationRegistry));
     }
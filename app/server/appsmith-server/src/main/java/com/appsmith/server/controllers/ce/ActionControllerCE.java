@@ -107,6 +107,29 @@ public class ActionControllerCE {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Executes the action like {@link #executeAction}, but sends the result as newline delimited JSON, one
+     * {@link ActionExecutionResult} per line, as the chunks of rows are read by the plugin. The body of every line holds
+     * the next rows, and the first line also holds the request, the data types and the suggested widgets.
+     */
+    @JsonView(Views.Public.class)
+    @PostMapping(
+            value = "/execute/stream",
+            consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ActionExecutionResult> executeActionAsStream(
+            @RequestBody Flux<Part> partFlux,
+            @RequestHeader(name = FieldName.BRANCH_NAME, required = false) String branchName,
+            @RequestHeader(name = FieldName.HEADER_ENVIRONMENT_ID, required = false) String environmentId,
+            ServerWebExchange serverWebExchange) {
+
+        return actionExecutionSolution.executeActionAsStream(
+                partFlux,
+                branchName,
+                environmentId,
+                serverWebExchange.getRequest().getHeaders());
+    }
+
     @JsonView(Views.Public.class)
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(
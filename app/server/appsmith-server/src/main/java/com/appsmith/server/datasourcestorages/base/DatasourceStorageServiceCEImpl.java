@@ -13,6 +13,7 @@ import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.repositories.DatasourceStorageRepository;
@@ -41,18 +42,21 @@ public class DatasourceStorageServiceCEImpl implements DatasourceStorageServiceC
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final AnalyticsService analyticsService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     public DatasourceStorageServiceCEImpl(
             DatasourceStorageRepository repository,
             DatasourcePermission datasourcePermission,
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
-            AnalyticsService analyticsService) {
+            AnalyticsService analyticsService,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
         this.repository = repository;
         this.datasourcePermission = datasourcePermission;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.analyticsService = analyticsService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     @Override
@@ -66,12 +70,19 @@ public class DatasourceStorageServiceCEImpl implements DatasourceStorageServiceC
 
     @Override
     public Mono<DatasourceStorage> save(DatasourceStorage datasourceStorage) {
-        return repository.save(datasourceStorage);
+        return repository.save(datasourceStorage).doOnNext(this::invalidateActionExecutionPlans);
     }
 
     @Override
     public Mono<DatasourceStorage> archive(DatasourceStorage datasourceStorage) {
-        return repository.archive(datasourceStorage);
+        return repository.archive(datasourceStorage).doOnNext(this::invalidateActionExecutionPlans);
+    }
+
+    /**
+     * Published actions that use the datasource must not be executed with the storage as it was before this change.
+     */
+    private void invalidateActionExecutionPlans(DatasourceStorage datasourceStorage) {
+        actionExecutionPlanCache.invalidateDatasource(datasourceStorage.getDatasourceId());
     }
 
     @Override
@@ -144,6 +155,7 @@ public class DatasourceStorageServiceCEImpl implements DatasourceStorageServiceC
                     return dbStorage;
                 })
                 .flatMap(this::validateAndSaveDatasourceStorageToRepository)
+                .doOnNext(this::invalidateActionExecutionPlans)
                 .flatMap(savedDatasourceStorage -> {
                     Map<String, Object> analyticsProperties = getAnalyticsProperties(savedDatasourceStorage);
                     Boolean isUserInvokedUpdate = TRUE.equals(isUserRefreshedUpdate) ? TRUE : FALSE;
@@ -1,5 +1,6 @@
 package com.appsmith.server.datasourcestorages.base;
 
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.repositories.DatasourceStorageRepository;
@@ -17,7 +18,14 @@ public class DatasourceStorageServiceImpl extends DatasourceStorageServiceCEComp
             DatasourcePermission datasourcePermission,
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
-            AnalyticsService analyticsService) {
-        super(repository, datasourcePermission, pluginService, pluginExecutorHelper, analyticsService);
+            AnalyticsService analyticsService,
+            ActionExecutionPlanCache actionExecutionPlanCache) {
+        super(
+                repository,
+                datasourcePermission,
+                pluginService,
+                pluginExecutorHelper,
+                analyticsService,
+                actionExecutionPlanCache);
     }
 }
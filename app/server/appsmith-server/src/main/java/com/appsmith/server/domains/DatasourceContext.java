@@ -1,5 +1,7 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -14,7 +16,72 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // The plugin executor that created the connection, which is used to destroy it when the context is evicted
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
+    /*
+     * Executions currently using the connection. A context that is removed from the cache is retired, and its
+     * connection is only destroyed once the last execution using it is done.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int usages;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean retired;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean destroyed;
+
     public DatasourceContext() {
         creationTime = Instant.now();
     }
+
+    /**
+     * Marks the connection as being used, unless it has already been destroyed.
+     *
+     * @return false if the connection has been destroyed and cannot be used anymore
+     */
+    public synchronized boolean retain() {
+        if (destroyed) {
+            return false;
+        }
+        usages++;
+        return true;
+    }
+
+    /**
+     * Marks the end of a use of the connection.
+     *
+     * @return true if the context has been retired and this was its last use, in which case the caller must destroy
+     * the connection
+     */
+    public synchronized boolean release() {
+        usages--;
+        return markDestroyedIfUnused();
+    }
+
+    /**
+     * Marks the context as removed from the cache.
+     *
+     * @return true if the connection is not in use, in which case the caller must destroy it
+     */
+    public synchronized boolean retire() {
+        retired = true;
+        return markDestroyedIfUnused();
+    }
+
+    private boolean markDestroyedIfUnused() {
+        if (!retired || destroyed || usages > 0) {
+            return false;
+        }
+        destroyed = true;
+        return true;
+    }
 }
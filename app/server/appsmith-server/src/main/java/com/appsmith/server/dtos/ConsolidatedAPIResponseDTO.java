@@ -6,6 +6,7 @@ import com.appsmith.server.domains.CustomJSLib;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.Tenant;
 import com.appsmith.server.domains.Theme;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -73,4 +74,8 @@ public class ConsolidatedAPIResponseDTO {
 
     /* v1/datasources/mock */
     ResponseDTO<List<MockDataSet>> mockDatasources;
+
+    /* Identifies the content of the response, when it is built from a cached published page load */
+    @JsonIgnore
+    String eTag;
 }
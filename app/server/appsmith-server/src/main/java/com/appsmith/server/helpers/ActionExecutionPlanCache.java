@@ -0,0 +1,251 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.external.helpers.AppsmithBeanUtils;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Policy;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.ce.PolicyUtil;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Keeps the action, datasource storage and plugin that a published action is executed with, so that executing the
+ * same action again does not look them up in the database.
+ * <p>
+ * A cached plan is only handed out after checking, against the policies it was loaded with, that the current user can
+ * still execute the action and its datasource. Otherwise, the plan is loaded again, which fails the way an uncached
+ * execution would. Cached plans are never modified: every execution gets a plan that shares everything with the cached
+ * one, except for the action and datasource configurations, which plugins render in place and are copied.
+ * <p>
+ * Plans are dropped when their application is published, or when their datasource is updated. The invalidation is
+ * broadcast to the other instances on the invalidation channel of the {@link TieredCacheManagerImpl}. Every
+ * invalidation also moves the cache to a new version, and plans loaded while the version changed are not cached, so
+ * that a plan loaded just before an update does not outlive it. Changes to permissions, and invalidations that could
+ * not be delivered, are seen once the plan expires.
+ */
+@Slf4j
+@Component
+public class ActionExecutionPlanCache {
+
+    public static final String ACTION_EXECUTION_PLAN_CACHE_NAME = "actionExecutionPlans";
+
+    // Prefixes of the keys of the invalidations broadcast to the other instances
+    private static final String APPLICATION_KEY_PREFIX = "application:";
+    private static final String DATASOURCE_KEY_PREFIX = "datasource:";
+
+    /**
+     * Everything a published action is executed with.
+     *
+     * @param datasourcePolicies The policies of the datasource of the action, or null for an embedded datasource.
+     */
+    public record ActionExecutionPlan(
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Set<Policy> datasourcePolicies,
+            Plugin plugin,
+            PluginExecutor pluginExecutor,
+            Map editorConfigLabelMap) {
+
+        /**
+         * Returns a plan for a single execution, which can modify the action and datasource configurations without
+         * changing this plan.
+         */
+        ActionExecutionPlan forExecution() {
+            ActionDTO executionActionDTO = new ActionDTO();
+            BeanUtils.copyProperties(actionDTO, executionActionDTO);
+            executionActionDTO.setActionConfiguration(AppsmithBeanUtils.deepCopy(actionDTO.getActionConfiguration()));
+
+            DatasourceStorage executionDatasourceStorage = null;
+            if (datasourceStorage != null) {
+                executionDatasourceStorage = new DatasourceStorage();
+                BeanUtils.copyProperties(datasourceStorage, executionDatasourceStorage);
+                executionDatasourceStorage.setDatasourceConfiguration(
+                        AppsmithBeanUtils.deepCopy(datasourceStorage.getDatasourceConfiguration()));
+            }
+
+            return new ActionExecutionPlan(
+                    executionActionDTO,
+                    executionDatasourceStorage,
+                    datasourcePolicies,
+                    plugin,
+                    pluginExecutor,
+                    editorConfigLabelMap);
+        }
+    }
+
+    record PlanKey(String actionId, String environmentId) {}
+
+    private final Cache<PlanKey, ActionExecutionPlan> plans;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final PermissionGroupRepository permissionGroupRepository;
+
+    private final TieredCacheManagerImpl tieredCacheManager;
+
+    public ActionExecutionPlanCache(
+            PermissionGroupRepository permissionGroupRepository,
+            TieredCacheManagerImpl tieredCacheManager,
+            CommonConfig commonConfig,
+            MeterRegistry meterRegistry) {
+        this.permissionGroupRepository = permissionGroupRepository;
+        this.tieredCacheManager = tieredCacheManager;
+        this.plans = Caffeine.newBuilder()
+                .maximumSize(commonConfig.getActionExecutionPlanMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(commonConfig.getActionExecutionPlanTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, plans, ACTION_EXECUTION_PLAN_CACHE_NAME);
+        tieredCacheManager.addInvalidationListener(ACTION_EXECUTION_PLAN_CACHE_NAME, this::applyInvalidation);
+    }
+
+    /**
+     * Returns the plan of the published action in the environment, from the cache if the current user can execute it,
+     * or else from the loader.
+     *
+     * @param actionId                    The id of the action.
+     * @param environmentId               The id of the environment the action is executed in.
+     * @param actionExecutePermission     The permission needed on the action.
+     * @param datasourceExecutePermission The permission needed on the datasource of the action.
+     * @param planLoader                  Looks up the plan, and checks the permissions, when it can't be taken from
+     *                                    the cache.
+     * @return A plan whose action and datasource configurations can be modified by the caller.
+     */
+    public Mono<ActionExecutionPlan> get(
+            String actionId,
+            String environmentId,
+            AclPermission actionExecutePermission,
+            AclPermission datasourceExecutePermission,
+            Mono<ActionExecutionPlan> planLoader) {
+        final PlanKey key = new PlanKey(actionId, environmentId);
+
+        return Mono.defer(() -> {
+            final ActionExecutionPlan cachedPlan = plans.getIfPresent(key);
+            if (cachedPlan == null) {
+                return load(key, planLoader);
+            }
+
+            return permissionGroupRepository
+                    .getCurrentUserPermissionGroups()
+                    .filter(permissionGroups -> canExecute(
+                            cachedPlan, permissionGroups, actionExecutePermission, datasourceExecutePermission))
+                    .map(permissionGroups -> cachedPlan.forExecution())
+                    .switchIfEmpty(Mono.defer(() -> load(key, planLoader)));
+        });
+    }
+
+    private Mono<ActionExecutionPlan> load(PlanKey key, Mono<ActionExecutionPlan> planLoader) {
+        final long loadVersion = version.get();
+        return planLoader.map(plan -> {
+            final ActionExecutionPlan executionPlan;
+            try {
+                // The plan loaded from the database is cached as it is, and the caller gets a plan for the execution
+                executionPlan = plan.forExecution();
+            } catch (IllegalArgumentException e) {
+                log.debug("Unable to cache the execution plan of action {}", key.actionId(), e);
+                return plan;
+            }
+
+            if (version.get() == loadVersion) {
+                plans.put(key, plan);
+                // An invalidation may have run between the check and the put
+                if (version.get() != loadVersion) {
+                    plans.invalidate(key);
+                }
+            }
+            return executionPlan;
+        });
+    }
+
+    private static boolean canExecute(
+            ActionExecutionPlan plan,
+            Set<String> permissionGroups,
+            AclPermission actionExecutePermission,
+            AclPermission datasourceExecutePermission) {
+        if (plan.actionDTO().getPolicies() == null
+                || !PolicyUtil.isPermissionPresentInPolicies(
+                        actionExecutePermission.getValue(), plan.actionDTO().getPolicies(), permissionGroups)) {
+            return false;
+        }
+
+        return plan.datasourcePolicies() == null
+                || PolicyUtil.isPermissionPresentInPolicies(
+                        datasourceExecutePermission.getValue(), plan.datasourcePolicies(), permissionGroups);
+    }
+
+    /**
+     * Drops the plans of the actions of the application, e.g. once it has been published, on all the instances.
+     */
+    public void invalidateApplication(String applicationId) {
+        if (applicationId == null) {
+            return;
+        }
+        invalidateApplicationLocally(applicationId);
+        publishInvalidation(APPLICATION_KEY_PREFIX + applicationId);
+    }
+
+    /**
+     * Drops the plans of the actions that use the datasource, e.g. once one of its storages has been updated, on all
+     * the instances.
+     */
+    public void invalidateDatasource(String datasourceId) {
+        if (datasourceId == null) {
+            return;
+        }
+        invalidateDatasourceLocally(datasourceId);
+        publishInvalidation(DATASOURCE_KEY_PREFIX + datasourceId);
+    }
+
+    private void invalidateApplicationLocally(String applicationId) {
+        invalidate(plan -> applicationId.equals(plan.actionDTO().getApplicationId()));
+    }
+
+    private void invalidateDatasourceLocally(String datasourceId) {
+        invalidate(plan -> plan.datasourceStorage() != null
+                && datasourceId.equals(plan.datasourceStorage().getDatasourceId()));
+    }
+
+    private void invalidate(Predicate<ActionExecutionPlan> predicate) {
+        version.incrementAndGet();
+        plans.asMap().values().removeIf(predicate);
+    }
+
+    private void publishInvalidation(String key) {
+        // Errors are logged by the cache manager, the other instances see the change once their plans expire
+        tieredCacheManager
+                .publishInvalidation(ACTION_EXECUTION_PLAN_CACHE_NAME, key)
+                .subscribe();
+    }
+
+    /**
+     * Applies an invalidation broadcast by another instance.
+     */
+    void applyInvalidation(String key) {
+        if (key == null) {
+            return;
+        }
+        if (key.startsWith(APPLICATION_KEY_PREFIX)) {
+            invalidateApplicationLocally(key.substring(APPLICATION_KEY_PREFIX.length()));
+        } else if (key.startsWith(DATASOURCE_KEY_PREFIX)) {
+            invalidateDatasourceLocally(key.substring(DATASOURCE_KEY_PREFIX.length()));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.configurations.CommonConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Sends analytics events in the background, so that the requests they are raised by do not wait for them.
+ * <p>
+ * Events are put in a bounded queue, which is flushed in batches on a schedule. The events of a batch share their
+ * lookups, see {@link BatchLookups}, so that e.g. an application executing many actions is only fetched once per batch.
+ * When the queue is full, new events are dropped, and counted, rather than slowing down the requests.
+ * <p>
+ * The queue, and the number of events queued, dropped and failed, are published under {@code appsmith.analytics.queue}.
+ */
+@Slf4j
+@Component
+public class AnalyticsEventBatcher {
+
+    private static final String METRIC_PREFIX = "appsmith.analytics.queue";
+
+    // Events of a batch that are enriched and sent at the same time
+    private static final int BATCH_CONCURRENCY = 8;
+
+    /**
+     * An event, which is enriched and sent when its batch is flushed.
+     */
+    @FunctionalInterface
+    public interface BatchedEvent {
+        Mono<Void> send(BatchLookups lookups);
+    }
+
+    /**
+     * Lookups shared by the events of a batch. Every lookup is only subscribed to once per batch, by the first event
+     * that needs it, so the lookups must not depend on the user who raised the event.
+     */
+    public static class BatchLookups {
+
+        private final Map<Object, Mono<?>> lookups = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public <T> Mono<T> get(Object key, Supplier<Mono<T>> lookup) {
+            return (Mono<T>) lookups.computeIfAbsent(key, k -> lookup.get().cache());
+        }
+    }
+
+    private final BlockingQueue<BatchedEvent> queue;
+
+    private final int batchSize;
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    private final Counter queuedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    public AnalyticsEventBatcher(CommonConfig commonConfig, MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(commonConfig.getAnalyticsQueueCapacity(), 1));
+        this.batchSize = Math.max(commonConfig.getAnalyticsBatchSize(), 1);
+        this.queuedCounter = meterRegistry.counter(METRIC_PREFIX + ".queued");
+        this.droppedCounter = meterRegistry.counter(METRIC_PREFIX + ".dropped");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + ".failed");
+        meterRegistry.gauge(METRIC_PREFIX + ".size", queue, Collection::size);
+    }
+
+    /**
+     * Queues the event, unless the queue is full.
+     *
+     * @return whether the event was queued
+     */
+    public boolean offer(BatchedEvent event) {
+        if (!queue.offer(event)) {
+            droppedCounter.increment();
+            log.debug("Analytics event dropped, the queue is full");
+            return false;
+        }
+
+        queuedCounter.increment();
+        return true;
+    }
+
+    /**
+     * Sends the queued events, in batches, unless the previous flush is still running.
+     */
+    @Scheduled(fixedDelayString = "${appsmith.analytics.queue.flush-interval-millis:1000}")
+    public void flush() {
+        if (queue.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+
+        Flux.<List<BatchedEvent>>generate(sink -> {
+                    final List<BatchedEvent> batch = new ArrayList<>(batchSize);
+                    queue.drainTo(batch, batchSize);
+                    if (batch.isEmpty()) {
+                        sink.complete();
+                    } else {
+                        sink.next(batch);
+                    }
+                })
+                .concatMap(this::sendBatch)
+                .doFinally(signalType -> flushing.set(false))
+                .subscribe();
+    }
+
+    private Mono<Void> sendBatch(List<BatchedEvent> batch) {
+        final BatchLookups lookups = new BatchLookups();
+        return Flux.fromIterable(batch)
+                .flatMap(
+                        event -> Mono.defer(() -> event.send(lookups)).onErrorResume(error -> {
+                            failedCounter.increment();
+                            log.warn("Error sending analytics event", error);
+                            return Mono.empty();
+                        }),
+                        BATCH_CONCURRENCY)
+                .then();
+    }
+}
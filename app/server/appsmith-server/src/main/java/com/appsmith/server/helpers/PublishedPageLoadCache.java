@@ -0,0 +1,284 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.external.views.Views;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.CustomJSLib;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ActionCollectionViewDTO;
+import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the application scoped part of the consolidated API response for published applications, i.e. everything
+ * but the user profile, tenant configuration, feature flags and product alert, so that loading a published page again
+ * does not look it up in the database.
+ * <p>
+ * What a viewer gets to see of an application depends on their permission groups, so page loads are cached per set
+ * of permission groups, and never for a request without a user. A page load is only cached when every part of it
+ * was fetched successfully. Along with it, a hash of its content is kept, which the ETag of the response is derived
+ * from.
+ * <p>
+ * Page loads are dropped when their application is published, deleted, or made public or private, when one of its
+ * pages is deleted, and when a permission group is deleted. The invalidation is broadcast to the other instances on
+ * the invalidation channel of the {@link TieredCacheManagerImpl}. Every invalidation also moves the cache to a new
+ * version, and page loads fetched while the version changed are not cached, so that a page load fetched just before a
+ * change does not outlive it. Changes made by Git operations, and invalidations that could not be delivered, are seen
+ * once the page load expires. Viewers who are added to, or removed from, permission groups have a new set of
+ * permission groups, and so do not get the page loads cached for the previous one.
+ */
+@Slf4j
+@Component
+public class PublishedPageLoadCache {
+
+    public static final String PUBLISHED_PAGE_LOAD_CACHE_NAME = "publishedPageLoads";
+
+    // Prefixes of the keys of the invalidations broadcast to the other instances
+    private static final String APPLICATION_KEY_PREFIX = "application:";
+    private static final String PERMISSION_GROUP_KEY_PREFIX = "permissionGroup:";
+
+    /**
+     * The application scoped part of the consolidated API response for a published application.
+     *
+     * @param applicationId       The id of the application, or of its default branch for a Git connected application.
+     * @param pageWithMigratedDsl The page that is loaded, or null when only the application was asked for.
+     * @param contentHash         A hash of the content, set when the page load is cached, or null otherwise.
+     */
+    public record PublishedPageLoad(
+            String applicationId,
+            ResponseDTO<ApplicationPagesDTO> pages,
+            ResponseDTO<Theme> currentTheme,
+            ResponseDTO<List<Theme>> themes,
+            ResponseDTO<List<ActionViewDTO>> publishedActions,
+            ResponseDTO<List<ActionCollectionViewDTO>> publishedActionCollections,
+            ResponseDTO<List<CustomJSLib>> customJSLibraries,
+            ResponseDTO<PageDTO> pageWithMigratedDsl,
+            String contentHash) {
+
+        List<ResponseDTO<?>> responses() {
+            return Arrays.asList(
+                    pages,
+                    currentTheme,
+                    themes,
+                    publishedActions,
+                    publishedActionCollections,
+                    customJSLibraries,
+                    pageWithMigratedDsl);
+        }
+
+        boolean isSuccessful() {
+            return responses().stream()
+                    .filter(Objects::nonNull)
+                    .allMatch(response -> response.getResponseMeta() != null
+                            && response.getResponseMeta().isSuccess());
+        }
+
+        PublishedPageLoad withContentHash(String contentHash) {
+            return new PublishedPageLoad(
+                    applicationId,
+                    pages,
+                    currentTheme,
+                    themes,
+                    publishedActions,
+                    publishedActionCollections,
+                    customJSLibraries,
+                    pageWithMigratedDsl,
+                    contentHash);
+        }
+    }
+
+    /**
+     * Identifies a page load, as requested, for the permission groups of the viewer.
+     */
+    public record PageLoadKey(
+            String applicationId,
+            String defaultPageId,
+            String branchName,
+            boolean migrateDsl,
+            Set<String> permissionGroups) {}
+
+    private final Cache<PageLoadKey, PublishedPageLoad> pageLoads;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final PermissionGroupRepository permissionGroupRepository;
+
+    private final ObjectWriter publicViewWriter;
+
+    private final TieredCacheManagerImpl tieredCacheManager;
+
+    public PublishedPageLoadCache(
+            PermissionGroupRepository permissionGroupRepository,
+            TieredCacheManagerImpl tieredCacheManager,
+            ObjectMapper objectMapper,
+            CommonConfig commonConfig,
+            MeterRegistry meterRegistry) {
+        this.permissionGroupRepository = permissionGroupRepository;
+        this.tieredCacheManager = tieredCacheManager;
+        this.publicViewWriter = objectMapper.writerWithView(Views.Public.class);
+        this.pageLoads = Caffeine.newBuilder()
+                .maximumSize(commonConfig.getConsolidatedViewCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(commonConfig.getConsolidatedViewCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pageLoads, PUBLISHED_PAGE_LOAD_CACHE_NAME);
+        tieredCacheManager.addInvalidationListener(PUBLISHED_PAGE_LOAD_CACHE_NAME, this::applyInvalidation);
+    }
+
+    /**
+     * Returns the key of the page load for the current user, or an empty Mono when the page load can't be cached
+     * because there is no user.
+     */
+    public Mono<PageLoadKey> getKey(String applicationId, String defaultPageId, String branchName, boolean migrateDsl) {
+        return permissionGroupRepository
+                .getCurrentUserPermissionGroups()
+                .filter(permissionGroups -> !permissionGroups.isEmpty())
+                .map(permissionGroups ->
+                        new PageLoadKey(applicationId, defaultPageId, branchName, migrateDsl, permissionGroups));
+    }
+
+    /**
+     * Returns the cached page load, or null.
+     */
+    public PublishedPageLoad getIfPresent(PageLoadKey key) {
+        return pageLoads.getIfPresent(key);
+    }
+
+    /**
+     * Fetches the page load with the loader, and caches it if it was fetched successfully.
+     *
+     * @return The page load, with its content hash set if it was cached.
+     */
+    public Mono<PublishedPageLoad> load(PageLoadKey key, Mono<PublishedPageLoad> pageLoadLoader) {
+        return Mono.defer(() -> {
+            final long loadVersion = version.get();
+            return pageLoadLoader.map(pageLoad -> {
+                if (!pageLoad.isSuccessful()) {
+                    return pageLoad;
+                }
+
+                final PublishedPageLoad cachedPageLoad;
+                try {
+                    cachedPageLoad = pageLoad.withContentHash(hash(pageLoad.responses()));
+                } catch (JsonProcessingException e) {
+                    log.debug("Unable to cache the page load of application {}", pageLoad.applicationId(), e);
+                    return pageLoad;
+                }
+
+                if (version.get() != loadVersion) {
+                    return pageLoad;
+                }
+                pageLoads.put(key, cachedPageLoad);
+                // An invalidation may have run between the check and the put
+                if (version.get() != loadVersion) {
+                    pageLoads.invalidate(key);
+                    return pageLoad;
+                }
+                return cachedPageLoad;
+            });
+        });
+    }
+
+    /**
+     * Returns the ETag of a response made of the cached page load and of the user scoped parts, or null if the page
+     * load was not cached.
+     */
+    public String getETag(PublishedPageLoad pageLoad, Object userScopedParts) {
+        if (pageLoad.contentHash() == null) {
+            return null;
+        }
+
+        try {
+            return "\"" + DigestUtils.sha256Hex(pageLoad.contentHash() + hash(userScopedParts)) + "\"";
+        } catch (JsonProcessingException e) {
+            log.debug("Unable to compute the ETag of the page load of application {}", pageLoad.applicationId(), e);
+            return null;
+        }
+    }
+
+    private String hash(Object value) throws JsonProcessingException {
+        return DigestUtils.sha256Hex(publicViewWriter.writeValueAsBytes(value));
+    }
+
+    /**
+     * Drops the page loads of the application, and of the other branches of it when it is connected to Git, on all the
+     * instances, e.g. once it has been published.
+     */
+    public void invalidateApplication(Application application) {
+        if (application == null || application.getId() == null) {
+            return;
+        }
+
+        final String rootApplicationId = application.getGitApplicationMetadata() != null
+                        && application.getGitApplicationMetadata().getDefaultApplicationId() != null
+                ? application.getGitApplicationMetadata().getDefaultApplicationId()
+                : application.getId();
+        invalidateApplicationLocally(rootApplicationId);
+        publishInvalidation(APPLICATION_KEY_PREFIX + rootApplicationId);
+    }
+
+    /**
+     * Drops the page loads cached for the viewers in the permission group, on all the instances, e.g. once it has been
+     * deleted.
+     */
+    public void invalidatePermissionGroup(String permissionGroupId) {
+        if (permissionGroupId == null) {
+            return;
+        }
+        invalidatePermissionGroupLocally(permissionGroupId);
+        publishInvalidation(PERMISSION_GROUP_KEY_PREFIX + permissionGroupId);
+    }
+
+    private void invalidateApplicationLocally(String rootApplicationId) {
+        version.incrementAndGet();
+        pageLoads.asMap().values().removeIf(pageLoad -> rootApplicationId.equals(pageLoad.applicationId()));
+    }
+
+    private void invalidatePermissionGroupLocally(String permissionGroupId) {
+        version.incrementAndGet();
+        pageLoads.asMap().keySet().removeIf(key -> key.permissionGroups().contains(permissionGroupId));
+    }
+
+    private void publishInvalidation(String key) {
+        // Errors are logged by the cache manager, the other instances see the change once their page loads expire
+        tieredCacheManager
+                .publishInvalidation(PUBLISHED_PAGE_LOAD_CACHE_NAME, key)
+                .subscribe();
+    }
+
+    /**
+     * Applies an invalidation broadcast by another instance.
+     */
+    void applyInvalidation(String key) {
+        if (key == null) {
+            return;
+        }
+        if (key.startsWith(APPLICATION_KEY_PREFIX)) {
+            invalidateApplicationLocally(key.substring(APPLICATION_KEY_PREFIX.length()));
+        } else if (key.startsWith(PERMISSION_GROUP_KEY_PREFIX)) {
+            invalidatePermissionGroupLocally(key.substring(PERMISSION_GROUP_KEY_PREFIX.length()));
+        }
+    }
+}
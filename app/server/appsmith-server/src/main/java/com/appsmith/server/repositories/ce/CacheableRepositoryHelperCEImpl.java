@@ -49,7 +49,8 @@ public class CacheableRepositoryHelperCEImpl implements CacheableRepositoryHelpe
         this.inMemoryCacheableRepositoryHelper = inMemoryCacheableRepositoryHelper;
     }
 
-    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}")
+    // Expire the entries of users that are no longer seen, instead of keeping them in Redis forever
+    @Cache(cacheName = "permissionGroupsForUser", key = "{#user.email + #user.tenantId}", ttlSeconds = 24 * 60 * 60)
     @Override
     public Mono<Set<String>> getPermissionGroupsOfUser(User user) {
 
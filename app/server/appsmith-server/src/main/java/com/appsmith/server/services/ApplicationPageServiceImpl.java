@@ -6,8 +6,10 @@ import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.clonepage.ClonePageService;
 import com.appsmith.server.domains.ActionCollection;
 import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitFileUtils;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.ce.GitAutoCommitHelper;
 import com.appsmith.server.layouts.UpdateLayoutService;
@@ -64,7 +66,9 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
             DSLMigrationUtils dslMigrationUtils,
             GitAutoCommitHelper gitAutoCommitHelper,
             ClonePageService<NewAction> actionClonePageService,
-            ClonePageService<ActionCollection> actionCollectionClonePageService) {
+            ClonePageService<ActionCollection> actionCollectionClonePageService,
+            ActionExecutionPlanCache actionExecutionPlanCache,
+            PublishedPageLoadCache publishedPageLoadCache) {
 
         super(
                 workspaceService,
@@ -96,6 +100,8 @@ public class ApplicationPageServiceImpl extends ApplicationPageServiceCEImpl imp
                 dslMigrationUtils,
                 gitAutoCommitHelper,
                 actionClonePageService,
-                actionCollectionClonePageService);
+                actionCollectionClonePageService,
+                actionExecutionPlanCache,
+                publishedPageLoadCache);
     }
 }
@@ -25,6 +25,8 @@ import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.dtos.UserProfileDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoad;
 import com.appsmith.server.jslibs.base.CustomJSLibService;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -67,6 +69,7 @@ import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.PAG
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.PAGES_SPAN;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.PLUGINS_SPAN;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.PRODUCT_ALERT_SPAN;
+import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.PUBLISHED_PAGE_LOAD_SPAN;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.TENANT_SPAN;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.THEMES_SPAN;
 import static com.appsmith.external.constants.spans.ConsolidatedApiSpanNames.USER_PROFILE_SPAN;
@@ -85,6 +88,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
     public static final int INTERNAL_SERVER_ERROR_STATUS = AppsmithError.INTERNAL_SERVER_ERROR.getHttpErrorCode();
     public static final String INTERNAL_SERVER_ERROR_CODE = AppsmithError.INTERNAL_SERVER_ERROR.getAppErrorCode();
     public static final String EMPTY_WORKSPACE_ID_ON_ERROR = "";
+    public static final String EMPTY_APPLICATION_ID_ON_ERROR = "";
 
     private final SessionUserService sessionUserService;
     private final UserService userService;
@@ -101,6 +105,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
     private final ApplicationService applicationService;
     private final DatasourceService datasourceService;
     private final MockDataService mockDataService;
+    private final PublishedPageLoadCache publishedPageLoadCache;
     private final ObservationRegistry observationRegistry;
 
     public ConsolidatedAPIServiceImpl(
@@ -119,6 +124,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
             ApplicationService applicationService,
             DatasourceService datasourceService,
             MockDataService mockDataService,
+            PublishedPageLoadCache publishedPageLoadCache,
             ObservationRegistry observationRegistry) {
         this.sessionUserService = sessionUserService;
         this.userService = userService;
@@ -135,6 +141,7 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
         this.applicationService = applicationService;
         this.datasourceService = datasourceService;
         this.mockDataService = mockDataService;
+        this.publishedPageLoadCache = publishedPageLoadCache;
         this.observationRegistry = observationRegistry;
     }
 
@@ -349,44 +356,88 @@ public class ConsolidatedAPIServiceImpl implements ConsolidatedAPIService {
                     .onErrorResume(error -> getErrorResponseMono(error, List.class))
                     .name(getQualifiedSpanName(ACTION_COLLECTIONS_SPAN, mode));
 
-            /* This list contains the Mono objects corresponding to all the data points required for view mode. All
-             * the Mono objects in this list will be evaluated via Mono.zip operator.
+            /* This list contains the Mono objects corresponding to the application scoped data points required for
+             * view mode. These don't depend on the user beyond their permissions, hence they are evaluated together
+             * and cached until the application is published again.
              */
-            List<Mono<?>> listOfMonoForPublishedApp = new ArrayList<>(List.of(
-                    userProfileDTOResponseDTOMono,
-                    tenantResponseDTOMono,
-                    featureFlagsForCurrentUserResponseDTOMonoCache,
+            List<Mono<?>> listOfMonoForPublishedPageLoad = new ArrayList<>(List.of(
+                    applicationIdMonoCache.onErrorReturn(EMPTY_APPLICATION_ID_ON_ERROR),
                     applicationPagesDTOResponseDTOMonoCache,
                     applicationThemeResponseDTOMono,
                     ThemesListResponseDTOMono,
                     listOfActionViewResponseDTOMono,
                     listOfActionCollectionViewResponseDTOMono,
-                    allJSLibsInContextDTOResponseDTOMono,
-                    productAlertResponseDTOMono));
+                    allJSLibsInContextDTOResponseDTOMono));
 
             if (!isBlank(defaultPageId)) {
-                listOfMonoForPublishedApp.add(currentPageDTOResponseDTOMono);
+                listOfMonoForPublishedPageLoad.add(currentPageDTOResponseDTOMono);
             }
 
-            return Mono.zip(listOfMonoForPublishedApp, responseArray -> {
-                consolidatedAPIResponseDTO.setUserProfile((ResponseDTO<UserProfileDTO>) responseArray[0]);
-                consolidatedAPIResponseDTO.setTenantConfig((ResponseDTO<Tenant>) responseArray[1]);
-                consolidatedAPIResponseDTO.setFeatureFlags((ResponseDTO<Map<String, Boolean>>) responseArray[2]);
-                consolidatedAPIResponseDTO.setPages((ResponseDTO<ApplicationPagesDTO>) responseArray[3]);
-                consolidatedAPIResponseDTO.setCurrentTheme((ResponseDTO<Theme>) responseArray[4]);
-                consolidatedAPIResponseDTO.setThemes((ResponseDTO<List<Theme>>) responseArray[5]);
-                consolidatedAPIResponseDTO.setPublishedActions((ResponseDTO<List<ActionViewDTO>>) responseArray[6]);
-                consolidatedAPIResponseDTO.setPublishedActionCollections(
-                        (ResponseDTO<List<ActionCollectionViewDTO>>) responseArray[7]);
-                consolidatedAPIResponseDTO.setCustomJSLibraries((ResponseDTO<List<CustomJSLib>>) responseArray[8]);
-                consolidatedAPIResponseDTO.setProductAlert((ResponseDTO<ProductAlertResponseDTO>) responseArray[9]);
+            Mono<PublishedPageLoad> publishedPageLoadFromDbMono = Mono.zip(
+                    listOfMonoForPublishedPageLoad,
+                    responseArray -> new PublishedPageLoad(
+                            (String) responseArray[0],
+                            (ResponseDTO<ApplicationPagesDTO>) responseArray[1],
+                            (ResponseDTO<Theme>) responseArray[2],
+                            (ResponseDTO<List<Theme>>) responseArray[3],
+                            (ResponseDTO<List<ActionViewDTO>>) responseArray[4],
+                            (ResponseDTO<List<ActionCollectionViewDTO>>) responseArray[5],
+                            (ResponseDTO<List<CustomJSLib>>) responseArray[6],
+                            isBlank(defaultPageId) ? null : (ResponseDTO<PageDTO>) responseArray[7],
+                            null));
+
+            Mono<PublishedPageLoad> publishedPageLoadMono = migrateDslMonoCache
+                    .flatMap(migrateDsl ->
+                            publishedPageLoadCache.getKey(applicationId, defaultPageId, branchName, migrateDsl))
+                    .flatMap(pageLoadKey -> {
+                        PublishedPageLoad cachedPageLoad = publishedPageLoadCache.getIfPresent(pageLoadKey);
+                        if (cachedPageLoad == null) {
+                            return publishedPageLoadCache.load(pageLoadKey, publishedPageLoadFromDbMono);
+                        }
 
-                if (!isBlank(defaultPageId)) {
-                    consolidatedAPIResponseDTO.setPageWithMigratedDsl((ResponseDTO<PageDTO>) responseArray[10]);
-                }
+                        /* The pages are not fetched from the database, which would otherwise have marked the
+                         * application as recently accessed by the user */
+                        return userDataService
+                                .updateLastUsedAppAndWorkspaceList(
+                                        cachedPageLoad.pages().getData().getApplication())
+                                .onErrorResume(error -> {
+                                    log.debug("Unable to mark the application as recently accessed", error);
+                                    return Mono.empty();
+                                })
+                                .thenReturn(cachedPageLoad);
+                    })
+                    .switchIfEmpty(publishedPageLoadFromDbMono)
+                    .name(getQualifiedSpanName(PUBLISHED_PAGE_LOAD_SPAN, mode))
+                    .tap(Micrometer.observation(observationRegistry));
 
-                return consolidatedAPIResponseDTO;
-            });
+            return Mono.zip(
+                            userProfileDTOResponseDTOMono,
+                            tenantResponseDTOMono,
+                            featureFlagsForCurrentUserResponseDTOMonoCache,
+                            productAlertResponseDTOMono,
+                            publishedPageLoadMono)
+                    .map(tuple -> {
+                        consolidatedAPIResponseDTO.setUserProfile(tuple.getT1());
+                        consolidatedAPIResponseDTO.setTenantConfig(tuple.getT2());
+                        consolidatedAPIResponseDTO.setFeatureFlags((ResponseDTO) tuple.getT3());
+                        consolidatedAPIResponseDTO.setProductAlert(tuple.getT4());
+
+                        PublishedPageLoad publishedPageLoad = tuple.getT5();
+                        consolidatedAPIResponseDTO.setPages(publishedPageLoad.pages());
+                        consolidatedAPIResponseDTO.setCurrentTheme(publishedPageLoad.currentTheme());
+                        consolidatedAPIResponseDTO.setThemes(publishedPageLoad.themes());
+                        consolidatedAPIResponseDTO.setPublishedActions(publishedPageLoad.publishedActions());
+                        consolidatedAPIResponseDTO.setPublishedActionCollections(
+                                publishedPageLoad.publishedActionCollections());
+                        consolidatedAPIResponseDTO.setCustomJSLibraries(publishedPageLoad.customJSLibraries());
+                        consolidatedAPIResponseDTO.setPageWithMigratedDsl(publishedPageLoad.pageWithMigratedDsl());
+
+                        consolidatedAPIResponseDTO.setETag(publishedPageLoadCache.getETag(
+                                publishedPageLoad,
+                                List.of(tuple.getT1(), tuple.getT2(), tuple.getT3(), tuple.getT4())));
+
+                        return consolidatedAPIResponseDTO;
+                    });
         } else {
             /* Get all actions in edit mode */
             Mono<ResponseDTO<List>> listOfActionResponseDTOMono = applicationIdMonoCache
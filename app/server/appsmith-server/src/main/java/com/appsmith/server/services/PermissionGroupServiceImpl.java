@@ -1,5 +1,6 @@
 package com.appsmith.server.services;
 
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.repositories.ConfigRepository;
 import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.repositories.UserRepository;
@@ -28,7 +29,8 @@ public class PermissionGroupServiceImpl extends PermissionGroupServiceCECompatib
             UserRepository userRepository,
             PolicySolution policySolution,
             ConfigRepository configRepository,
-            PermissionGroupPermission permissionGroupPermission) {
+            PermissionGroupPermission permissionGroupPermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
 
         super(
                 scheduler,
@@ -42,6 +44,7 @@ public class PermissionGroupServiceImpl extends PermissionGroupServiceCECompatib
                 userRepository,
                 policySolution,
                 configRepository,
-                permissionGroupPermission);
+                permissionGroupPermission,
+                publishedPageLoadCache);
     }
 }
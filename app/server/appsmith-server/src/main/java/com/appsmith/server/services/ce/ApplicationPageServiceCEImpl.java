@@ -34,9 +34,11 @@ import com.appsmith.server.dtos.PageNameIdDTO;
 import com.appsmith.server.dtos.PluginTypeAndCountDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.DSLMigrationUtils;
 import com.appsmith.server.helpers.GitFileUtils;
 import com.appsmith.server.helpers.GitUtils;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.helpers.UserPermissionUtils;
 import com.appsmith.server.helpers.ce.GitAutoCommitHelper;
@@ -130,6 +132,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     private final GitAutoCommitHelper gitAutoCommitHelper;
     private final ClonePageService<NewAction> actionClonePageService;
     private final ClonePageService<ActionCollection> actionCollectionClonePageService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
+    private final PublishedPageLoadCache publishedPageLoadCache;
 
     public static final Integer EVALUATION_VERSION = 2;
 
@@ -575,6 +579,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     public Mono<Application> deleteApplicationByResource(Application application) {
         log.debug("Archiving actionCollections, actions, pages and themes for applicationId: {}", application.getId());
         return deleteApplicationResources(application)
+                // The published application must not be served once it is deleted
+                .doOnNext(publishedPageLoadCache::invalidateApplication)
                 .flatMap(deletedApplication -> sendAppDeleteAnalytics(deletedApplication));
     }
 
@@ -999,6 +1005,8 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
                                 List<ActionDTO> actions = tuple.getT1();
                                 final List<ActionCollectionDTO> actionCollections = tuple.getT2();
                                 Application application = tuple.getT3();
+                                // The pages of the application have changed
+                                publishedPageLoadCache.invalidateApplication(application);
                                 log.debug(
                                         "Archived {} actions and {} action collections for applicationId: {}",
                                         actions.size(),
@@ -1042,8 +1050,13 @@ public class ApplicationPageServiceCEImpl implements ApplicationPageServiceCE {
     public Mono<Application> publish(String applicationId, boolean isPublishedManually) {
         return publishAndGetMetadata(applicationId, isPublishedManually)
                 .flatMap(tuple2 -> {
+                    // The published actions have changed, so they must be resolved again before they are executed
+                    actionExecutionPlanCache.invalidateApplication(applicationId);
                     ApplicationPublishingMetaDTO metaDTO = tuple2.getT2();
-                    return sendApplicationPublishedEvent(metaDTO);
+                    // The published application has changed, so its page loads must be fetched again
+                    return tuple2.getT1()
+                            .doOnNext(publishedPageLoadCache::invalidateApplication)
+                            .then(Mono.defer(() -> sendApplicationPublishedEvent(metaDTO)));
                 })
                 .elapsed()
                 .map(objects -> {
@@ -1,9 +1,11 @@
 package com.appsmith.server.services.ce;
 
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.DatasourceContextIdentifier;
 import com.appsmith.server.domains.Plugin;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.function.Function;
@@ -28,6 +30,24 @@ public interface DatasourceContextServiceCE {
 
     <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task);
 
+    /**
+     * Runs the task with the connection of the context, which is kept open until the task is done, even if the context
+     * is evicted in the meantime. Fails with a {@link StaleConnectionException} if the connection has already been
+     * closed, so that the caller can retry with a fresh context.
+     *
+     * @param datasourceContext
+     * @param task
+     * @return the result of the task
+     */
+    <T> Mono<T> useDatasourceContext(
+            DatasourceContext<?> datasourceContext, Function<DatasourceContext<?>, Mono<T>> task);
+
+    /**
+     * Same as {@link #useDatasourceContext}, for a task that returns a stream.
+     */
+    <T> Flux<T> useDatasourceContextMany(
+            DatasourceContext<?> datasourceContext, Function<DatasourceContext<?>, Flux<T>> task);
+
     Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage);
 
     DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage);
@@ -8,6 +8,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
@@ -20,23 +21,57 @@ import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.plugins.base.PluginService;
 import com.appsmith.server.services.ConfigService;
 import com.appsmith.server.solutions.DatasourcePermission;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 @Slf4j
 public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
 
-    // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
-    protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
-    protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
+    public static final String DATASOURCE_CONTEXT_CACHE_NAME = "datasourceContexts";
+
+    /**
+     * A datasource context, with the cached publisher that creates its connection. The publisher only creates the
+     * connection on its first subscription, so an entry that loses the race to be installed in the cache never opens
+     * one.
+     *
+     * @param datasourceContext     - the context, which gets its connection once the publisher completes
+     * @param datasourceContextMono - cached publisher of the context
+     * @param failed                - set when the publisher has failed, after which the entry is replaced on next use
+     */
+    protected record CachedDatasourceContext(
+            DatasourceContext<Object> datasourceContext,
+            Mono<DatasourceContext<?>> datasourceContextMono,
+            AtomicBoolean failed) {}
+
+    /*
+     * Datasource contexts, by DatasourceContextIdentifier, which contains datasourceId & environmentId. They are kept
+     * in a bounded cache, so that the connections and connection pools of datasources that are no longer used get
+     * closed. A context is evicted when it has not been used for the configured idle timeout, or when the cache is
+     * full, in which case the least valuable context, by recency and frequency of use, is evicted. Contexts whose
+     * connection is still being created are not counted against the maximum size. Running executions don't count as
+     * uses of the cache, so a context may be evicted while in use, in which case its connection is kept open until the
+     * executions using it are done.
+     *
+     * Entries are only ever installed with putIfAbsent, or swapped for a fresh one with a replace that expects the
+     * entry found by the caller, so no lock is taken to create a context.
+     */
+    protected final Cache<DatasourceContextIdentifier, CachedDatasourceContext> datasourceContextCache;
     private final DatasourceService datasourceService;
     private final DatasourceStorageService datasourceStorageService;
     private final PluginService pluginService;
@@ -54,103 +89,194 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             PluginService pluginService,
             PluginExecutorHelper pluginExecutorHelper,
             ConfigService configService,
-            DatasourcePermission datasourcePermission) {
+            DatasourcePermission datasourcePermission,
+            CommonConfig commonConfig,
+            MeterRegistry meterRegistry) {
         this.datasourceService = datasourceService;
         this.datasourceStorageService = datasourceStorageService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
-        this.datasourceContextMap = new ConcurrentHashMap<>();
-        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
+        this.datasourceContextCache = Caffeine.newBuilder()
+                .maximumWeight(commonConfig.getDatasourceContextMaxSize())
+                .weigher((DatasourceContextIdentifier identifier, CachedDatasourceContext cachedContext) ->
+                        cachedContext.datasourceContext().getConnection() == null ? 0 : 1)
+                .expireAfterAccess(Duration.ofMinutes(commonConfig.getDatasourceContextIdleTimeoutMinutes()))
+                // Expire idle contexts on time, even if no other datasource is used in the meantime
+                .scheduler(Scheduler.systemScheduler())
+                .evictionListener(this::onDatasourceContextEvicted)
+                .recordStats()
+                .build();
         this.configService = configService;
         this.datasourcePermission = datasourcePermission;
+        CaffeineCacheMetrics.monitor(meterRegistry, datasourceContextCache, DATASOURCE_CONTEXT_CACHE_NAME);
+    }
+
+    /**
+     * Closes the connection of a context that has been evicted from the cache, because it was idle or to keep the
+     * cache within its maximum size.
+     *
+     * @param datasourceContextIdentifier - key of the evicted context
+     * @param cachedContext               - the evicted context
+     * @param cause                       - reason for the eviction
+     */
+    private void onDatasourceContextEvicted(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            CachedDatasourceContext cachedContext,
+            RemovalCause cause) {
+        log.debug("Datasource context for {} evicted, cause: {}", datasourceContextIdentifier, cause);
+        retire(cachedContext);
     }
 
     /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
+     * Retires a context that has been removed from the cache. Its connection is destroyed right away if no execution is
+     * using it, or else when the last execution using it releases it. A connection that is still being created counts
+     * as in use, so it is destroyed once it is ready, and a context whose creation has not started never opens one.
+     *
+     * @param cachedContext - the removed context
+     */
+    private void retire(CachedDatasourceContext cachedContext) {
+        if (cachedContext.datasourceContext().retire()) {
+            destroy(cachedContext.datasourceContext());
+        }
+    }
+
+    private DatasourceContext<?> retain(DatasourceContext<?> datasourceContext) {
+        if (!datasourceContext.retain()) {
+            throw new StaleConnectionException("The datasource connection was closed after it was evicted");
+        }
+        return datasourceContext;
+    }
+
+    private void release(DatasourceContext<?> datasourceContext) {
+        if (datasourceContext.release()) {
+            destroy(datasourceContext);
+        }
+    }
+
+    /**
+     * Destroys the connection of a retired context, on another thread, as closing a connection pool can block.
+     *
+     * @param datasourceContext - the retired context
+     */
+    private void destroy(DatasourceContext<?> datasourceContext) {
+        final Object connection = datasourceContext.getConnection();
+        final PluginExecutor<Object> pluginExecutor = datasourceContext.getPluginExecutor();
+        if (connection == null || pluginExecutor == null) {
+            // A context that failed to be created, or whose plugin doesn't use connections, has nothing to destroy
+            return;
+        }
+
+        Mono.fromRunnable(() -> pluginExecutor.datasourceDestroy(connection))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(error -> {
+                    log.info("Error destroying datasource connection", error);
+                    return Mono.empty();
+                })
+                .subscribe();
+    }
+
+    /**
+     * Creates a context for the datasource, along with the cached publisher that creates its connection. Nothing is
+     * created until the publisher is subscribed to.
+     *
+     * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
+     * @param pluginExecutor              - plugin executor associated with the datasource's plugin
+     * @param datasourceContextIdentifier - key of the context in the cache
+     * @return the context and its publisher
+     */
+    private CachedDatasourceContext createCachedDatasourceContext(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            DatasourceContextIdentifier datasourceContextIdentifier) {
+        final DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+        datasourceContext.setPluginExecutor(pluginExecutor);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+
+        /* The creation holds a use of the context, so that a context retired while its connection is being created
+        has the connection destroyed once it is ready. */
+        final Mono<DatasourceContext<?>> datasourceContextMono = Mono.using(
+                        () -> retain(datasourceContext),
+                        retainedContext -> pluginExecutor
+                                .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                                .flatMap(connection ->
+                                        updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                                .<DatasourceContext<?>>map(connection -> {
+                                    /* When a connection object exists and makes sense for the plugin, we put it in the
+                                    context. Example, DB plugins. */
+                                    datasourceContext.setConnection(connection);
+                                    /* Weigh the context again, now that it has a connection, so that it counts against
+                                    the maximum size of the cache. */
+                                    datasourceContextCache
+                                            .asMap()
+                                            .computeIfPresent(
+                                                    datasourceContextIdentifier,
+                                                    (identifier, cachedContext) -> cachedContext);
+                                    return datasourceContext;
+                                })
+                                .defaultIfEmpty(
+                                        /* When a connection object doesn't make sense for the plugin, we get an empty
+                                        mono and we just return the context object as is. */
+                                        datasourceContext),
+                        this::release)
+                .doOnError(error -> failed.set(true))
+                .cache(); /* Cache the value so that further evaluations don't result in new connections */
+
+        return new CachedDatasourceContext(datasourceContext, datasourceContextMono, failed);
+    }
+
+    /**
+     * Returns the cached publisher of the context of the datasource, replacing the cached context first if it is stale
+     * or in error. Concurrent callers for the same datasource get the same publisher, and the connection is created
+     * only once, when the publisher is first subscribed to. Earlier multiple threads could subscribe to a publisher
+     * that created connection to a datasource - which resulted in a data race condition resulting in multiple orphan
+     * connections.
      * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
+     * <p>
+     * No lock is taken. A caller that needs a new context prepares one, without creating its connection, and installs
+     * it only if the entry it found is still the cached one. If another caller got there first, the prepared context
+     * is dropped and the caller looks at the cache again. The context that gets replaced has its connection destroyed.
      *
      * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
      * @param plugin
      * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
-     * @param datasourceContextIdentifier - key for the datasourceContextMaps.
+     * @param datasourceContextIdentifier - key of the context in the cache
      * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
      * connection.
      */
-    public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(
+    public Mono<DatasourceContext<?>> getCachedDatasourceContextMono(
             DatasourceStorage datasourceStorage,
             Plugin plugin,
             PluginExecutor<Object> pluginExecutor,
-            Object monitor,
             DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection =
-                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
-                    }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
-            }
+        if (!datasourceContextIdentifier.isKeyValid() || !shouldCacheContextForThisPlugin(plugin)) {
+            return createCachedDatasourceContext(datasourceStorage, pluginExecutor, datasourceContextIdentifier)
+                    .datasourceContextMono();
+        }
 
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
+        final ConcurrentMap<DatasourceContextIdentifier, CachedDatasourceContext> cachedContexts =
+                datasourceContextCache.asMap();
+        while (true) {
+            final CachedDatasourceContext current = cachedContexts.get(datasourceContextIdentifier);
+            if (current != null
+                    && !isStale(datasourceStorage, current)
+                    && !current.failed().get()) {
                 log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
+                return current.datasourceContextMono();
             }
 
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-            }
+            final CachedDatasourceContext candidate =
+                    createCachedDatasourceContext(datasourceStorage, pluginExecutor, datasourceContextIdentifier);
+            final boolean installed = current == null
+                    ? cachedContexts.putIfAbsent(datasourceContextIdentifier, candidate) == null
+                    : cachedContexts.replace(datasourceContextIdentifier, current, candidate);
 
-            Mono<Object> connectionMonoCache = pluginExecutor
-                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                    .cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                            and we just return the context object as is. */
-                            datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid() && shouldCacheContextForThisPlugin(plugin)) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+            if (installed) {
+                if (current != null) {
+                    /* Destroy the connection that is stale or in error state to free up resource */
+                    retire(current);
+                }
+                return candidate.datasourceContextMono();
             }
-            return datasourceContextMonoCache;
         }
     }
 
@@ -192,68 +318,37 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     Plugin plugin = tuple2.getT1();
                     PluginExecutor<Object> pluginExecutor = tuple2.getT2();
 
-                    /**
-                     * Keep one monitor object against each datasource id. The synchronized method
-                     * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-                     * for each datasourceId hence ensuring that if competing threads want to create datasource context
-                     * on different datasource id then they are not blocked on each other and can run concurrently.
-                     * Only threads that want to create a new datasource context on the same datasource id would be
-                     * synchronized.
-                     */
-                    Object monitor = new Object();
-                    if (datasourceContextIdentifier.isKeyValid()) {
-                        if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                            synchronized (this) {
-                                datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                        datasourceContextIdentifier, k -> new Object());
-                            }
-                        }
-
-                        monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-                    }
-
                     return getCachedDatasourceContextMono(
-                            datasourceStorage, plugin, pluginExecutor, monitor, datasourceContextIdentifier);
+                            datasourceStorage, plugin, pluginExecutor, datasourceContextIdentifier);
                 });
     }
 
-    public boolean getIsStale(
-            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
-        String datasourceId = datasourceStorage.getDatasourceId();
-        return datasourceId != null
-                && datasourceContextMap.get(datasourceContextIdentifier) != null
+    private boolean isStale(DatasourceStorage datasourceStorage, CachedDatasourceContext cachedContext) {
+        return datasourceStorage.getDatasourceId() != null
+                && cachedContext != null
                 && datasourceStorage.getUpdatedAt() != null
                 && datasourceStorage
                         .getUpdatedAt()
-                        .isAfter(datasourceContextMap
-                                .get(datasourceContextIdentifier)
-                                .getCreationTime());
+                        .isAfter(cachedContext.datasourceContext().getCreationTime());
     }
 
-    /**
-     * This function checks if the cached datasource context mono is in error state
-     *
-     * @param datasourceContextIdentifier
-     * @return boolean
-     */
-    private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
+    public boolean getIsStale(
+            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
+        return isStale(datasourceStorage, datasourceContextCache.getIfPresent(datasourceContextIdentifier));
     }
 
-    public boolean isValidDatasourceContextAvailable(
-            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
-        boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-        boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-        return datasourceContextMap.get(datasourceContextIdentifier) != null
+    private boolean isValid(DatasourceStorage datasourceStorage, CachedDatasourceContext cachedContext) {
+        return cachedContext != null
                 // The following condition happens when there's a timeout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
-                && !isStale
-                && !isInErrorState;
+                && cachedContext.datasourceContext().getConnection() != null
+                && !isStale(datasourceStorage, cachedContext)
+                && !cachedContext.failed().get();
+    }
+
+    public boolean isValidDatasourceContextAvailable(
+            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
+        return isValid(datasourceStorage, datasourceContextCache.getIfPresent(datasourceContextIdentifier));
     }
 
     @Override
@@ -266,9 +361,11 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
                     "This is a dry run or an embedded datasourceStorage. The datasourceStorage context would not exist in this "
                             + "scenario");
         } else {
-            if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
+            final CachedDatasourceContext cachedContext =
+                    datasourceContextCache.getIfPresent(datasourceContextIdentifier);
+            if (isValid(datasourceStorage, cachedContext)) {
                 log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
+                return Mono.just(cachedContext.datasourceContext());
             }
         }
 
@@ -326,7 +423,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
                 .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasourceContext -> useDatasourceContext(datasourceContext, task));
 
         return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -334,6 +431,18 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
         });
     }
 
+    @Override
+    public <T> Mono<T> useDatasourceContext(
+            DatasourceContext<?> datasourceContext, Function<DatasourceContext<?>, Mono<T>> task) {
+        return Mono.using(() -> retain(datasourceContext), task, this::release);
+    }
+
+    @Override
+    public <T> Flux<T> useDatasourceContextMany(
+            DatasourceContext<?> datasourceContext, Function<DatasourceContext<?>, Flux<T>> task) {
+        return Flux.using(() -> retain(datasourceContext), task, this::release);
+    }
+
     @Override
     public Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage) {
 
@@ -343,19 +452,16 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
             return Mono.empty();
         }
 
-        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
-        if (datasourceContext == null) {
+        final CachedDatasourceContext cachedContext =
+                datasourceContextCache.asMap().remove(datasourceContextIdentifier);
+        if (cachedContext == null) {
             // No resource context exists for this resource. Return void.
             return Mono.empty();
         }
-        return pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
-                .map(pluginExecutor -> {
-                    log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                    return datasourceContextMap.remove(datasourceContextIdentifier);
-                });
+
+        log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
+        retire(cachedContext);
+        return Mono.just(cachedContext.datasourceContext());
     }
 
     /**
@@ -392,10 +498,7 @@ public class DatasourceContextServiceCEImpl implements DatasourceContextServiceC
     }
 
     /**
-     * Generates the custom key that is used in:
-     * datasourceContextMap
-     * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
+     * Generates the custom key that is used in datasourceContextCache
      *
      * @param datasourceStorage
      * @return an DatasourceContextIdentifier object
@@ -12,6 +12,7 @@ import com.appsmith.server.domains.Workspace;
 import com.appsmith.server.dtos.Permission;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.repositories.ConfigRepository;
 import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.repositories.UserRepository;
@@ -54,6 +55,7 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
 
     private final ConfigRepository configRepository;
     private final PermissionGroupPermission permissionGroupPermission;
+    private final PublishedPageLoadCache publishedPageLoadCache;
 
     private PermissionGroup publicPermissionGroup = null;
 
@@ -69,7 +71,8 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
             UserRepository userRepository,
             PolicySolution policySolution,
             ConfigRepository configRepository,
-            PermissionGroupPermission permissionGroupPermission) {
+            PermissionGroupPermission permissionGroupPermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
 
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.sessionUserService = sessionUserService;
@@ -78,6 +81,7 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
         this.policySolution = policySolution;
         this.configRepository = configRepository;
         this.permissionGroupPermission = permissionGroupPermission;
+        this.publishedPageLoadCache = publishedPageLoadCache;
     }
 
     @Override
@@ -126,7 +130,8 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
                         .then(repository.deleteById(id));
             }
 
-            return returnMono;
+            // Page loads cached for the viewers in the group must not be served once it is deleted
+            return returnMono.then(Mono.fromRunnable(() -> publishedPageLoadCache.invalidatePermissionGroup(id)));
         });
     }
 
@@ -145,7 +150,8 @@ public class PermissionGroupServiceCEImpl extends BaseService<PermissionGroupRep
                         .then(repository.deleteById(id));
             }
 
-            return returnMono;
+            // Page loads cached for the viewers in the group must not be served once it is deleted
+            return returnMono.then(Mono.fromRunnable(() -> publishedPageLoadCache.invalidatePermissionGroup(id)));
         });
     }
 
@@ -1,6 +1,7 @@
 package com.appsmith.server.services.ce_compatible;
 
 import com.appsmith.server.applications.base.ApplicationServiceCEImpl;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.helpers.ResponseUtils;
 import com.appsmith.server.repositories.ApplicationRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -42,7 +43,8 @@ public class ApplicationServiceCECompatibleImpl extends ApplicationServiceCEImpl
             SessionUserService sessionUserService,
             UserDataService userDataService,
             WorkspaceService workspaceService,
-            WorkspacePermission workspacePermission) {
+            WorkspacePermission workspacePermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
         super(
                 scheduler,
                 validator,
@@ -61,6 +63,7 @@ public class ApplicationServiceCECompatibleImpl extends ApplicationServiceCEImpl
                 sessionUserService,
                 userDataService,
                 workspaceService,
-                workspacePermission);
+                workspacePermission,
+                publishedPageLoadCache);
     }
 }
@@ -1,5 +1,6 @@
 package com.appsmith.server.services.ce_compatible;
 
+import com.appsmith.server.helpers.PublishedPageLoadCache;
 import com.appsmith.server.repositories.ConfigRepository;
 import com.appsmith.server.repositories.PermissionGroupRepository;
 import com.appsmith.server.repositories.UserRepository;
@@ -30,7 +31,8 @@ public class PermissionGroupServiceCECompatibleImpl extends PermissionGroupServi
             UserRepository userRepository,
             PolicySolution policySolution,
             ConfigRepository configRepository,
-            PermissionGroupPermission permissionGroupPermission) {
+            PermissionGroupPermission permissionGroupPermission,
+            PublishedPageLoadCache publishedPageLoadCache) {
         super(
                 scheduler,
                 validator,
@@ -43,6 +45,7 @@ public class PermissionGroupServiceCECompatibleImpl extends PermissionGroupServi
                 userRepository,
                 policySolution,
                 configRepository,
-                permissionGroupPermission);
+                permissionGroupPermission,
+                publishedPageLoadCache);
     }
 }
@@ -3,6 +3,8 @@ package com.appsmith.server.solutions;
 import com.appsmith.server.applications.base.ApplicationService;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.AnalyticsEventBatcher;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.newactions.base.NewActionService;
 import com.appsmith.server.newpages.base.NewPageService;
@@ -40,7 +42,9 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            ActionExecutionPlanCache actionExecutionPlanCache,
+            AnalyticsEventBatcher analyticsEventBatcher) {
         super(
                 newActionService,
                 actionPermission,
@@ -60,6 +64,8 @@ public class ActionExecutionSolutionImpl extends ActionExecutionSolutionCEImpl i
                 datasourceStorageService,
                 environmentPermission,
                 configService,
-                tenantService);
+                tenantService,
+                actionExecutionPlanCache,
+                analyticsEventBatcher);
     }
 }
@@ -17,6 +17,12 @@ public interface ActionExecutionSolutionCE {
     Mono<ActionExecutionResult> executeAction(
             ExecuteActionDTO executeActionDTO, String environmentId, HttpHeaders httpHeaders);
 
+    Flux<ActionExecutionResult> executeActionAsStream(
+            Flux<Part> partFlux, String branchName, String environmentId, HttpHeaders httpHeaders);
+
+    Flux<ActionExecutionResult> executeActionAsStream(
+            ExecuteActionDTO executeActionDTO, String environmentId, HttpHeaders httpHeaders);
+
     Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO);
 
     <T> T variableSubstitution(T configuration, Map<String, String> replaceParamsMap);
@@ -15,6 +15,7 @@ import com.appsmith.external.models.Datasource;
 import com.appsmith.external.models.DatasourceStorage;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.PluginType;
+import com.appsmith.external.models.Policy;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.applications.base.ApplicationService;
@@ -30,6 +31,10 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.ActionExecutionPlanCache.ActionExecutionPlan;
+import com.appsmith.server.helpers.AnalyticsEventBatcher;
+import com.appsmith.server.helpers.AnalyticsEventBatcher.BatchLookups;
 import com.appsmith.server.helpers.DatasourceAnalyticsUtils;
 import com.appsmith.server.helpers.DateUtils;
 import com.appsmith.server.helpers.PluginExecutorHelper;
@@ -55,6 +60,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringEscapeUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.springframework.beans.BeanUtils;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.codec.multipart.Part;
@@ -63,12 +69,14 @@ import org.springframework.util.StringUtils;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -117,6 +125,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     private final EnvironmentPermission environmentPermission;
     private final ConfigService configService;
     private final TenantService tenantService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
+    private final AnalyticsEventBatcher analyticsEventBatcher;
 
     static final String PARAM_KEY_REGEX = "^k\\d+$";
     static final String BLOB_KEY_REGEX =
@@ -144,7 +154,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             DatasourceStorageService datasourceStorageService,
             EnvironmentPermission environmentPermission,
             ConfigService configService,
-            TenantService tenantService) {
+            TenantService tenantService,
+            ActionExecutionPlanCache actionExecutionPlanCache,
+            AnalyticsEventBatcher analyticsEventBatcher) {
         this.newActionService = newActionService;
         this.actionPermission = actionPermission;
         this.observationRegistry = observationRegistry;
@@ -164,6 +176,8 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         this.environmentPermission = environmentPermission;
         this.configService = configService;
         this.tenantService = tenantService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
+        this.analyticsEventBatcher = analyticsEventBatcher;
 
         this.patternList.add(Pattern.compile(PARAM_KEY_REGEX));
         this.patternList.add(Pattern.compile(BLOB_KEY_REGEX));
@@ -182,49 +196,75 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
     @Override
     public Mono<ActionExecutionResult> executeAction(
             Flux<Part> partFlux, String branchName, String environmentId, HttpHeaders httpHeaders) {
-        return createExecuteActionDTO(partFlux)
-                .flatMap(executeActionDTO -> newActionService
-                        .findByBranchNameAndDefaultActionId(
-                                branchName, executeActionDTO.getActionId(), actionPermission.getExecutePermission())
-                        .zipWith(configService.getInstanceId().zipWith(tenantService.getDefaultTenantId()))
-                        .flatMap(tuple -> {
-                            NewAction branchedAction = tuple.getT1();
-                            String instanceId = tuple.getT2().getT1();
-                            String tenantId = tuple.getT2().getT2();
-                            executeActionDTO.setActionId(branchedAction.getId());
-                            executeActionDTO.setWorkspaceId(branchedAction.getWorkspaceId());
-                            executeActionDTO.setInstanceId(instanceId);
-                            executeActionDTO.setTenantId(tenantId);
-
-                            boolean isEmbedded;
-                            if (executeActionDTO.getViewMode()) {
-                                isEmbedded = branchedAction
-                                                .getPublishedAction()
-                                                .getDatasource()
-                                                .getId()
-                                        == null;
-                            } else {
-                                isEmbedded = branchedAction
-                                                .getUnpublishedAction()
-                                                .getDatasource()
-                                                .getId()
-                                        == null;
-                            }
-
-                            return Mono.just(executeActionDTO)
-                                    .zipWith(datasourceService.getTrueEnvironmentId(
-                                            branchedAction.getWorkspaceId(),
-                                            environmentId,
-                                            branchedAction.getPluginId(),
-                                            environmentPermission.getExecutePermission(),
-                                            isEmbedded));
-                        }))
+        return getExecuteActionDTOAndEnvironmentId(partFlux, branchName, environmentId)
                 .flatMap(tuple2 ->
                         this.executeAction(tuple2.getT1(), tuple2.getT2(), httpHeaders)) // getTrue is temporary call
                 .name(ACTION_EXECUTION_SERVER_EXECUTION)
                 .tap(Micrometer.observation(observationRegistry));
     }
 
+    /**
+     * Same as {@link #executeAction(Flux, String, String, HttpHeaders)}, with the result returned in chunks, see
+     * {@link #executeActionAsStream(ExecuteActionDTO, String, HttpHeaders)}.
+     */
+    @Override
+    public Flux<ActionExecutionResult> executeActionAsStream(
+            Flux<Part> partFlux, String branchName, String environmentId, HttpHeaders httpHeaders) {
+        return getExecuteActionDTOAndEnvironmentId(partFlux, branchName, environmentId)
+                .flatMapMany(tuple2 -> this.executeActionAsStream(tuple2.getT1(), tuple2.getT2(), httpHeaders))
+                .name(ACTION_EXECUTION_SERVER_EXECUTION)
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    /**
+     * Creates the executeActionDTO from the parts of the request, for the branched action, and resolves the
+     * environment it is executed in.
+     *
+     * @param partFlux
+     * @param branchName
+     * @param environmentId
+     * @return the executeActionDTO, with the id of the environment
+     */
+    protected Mono<Tuple2<ExecuteActionDTO, String>> getExecuteActionDTOAndEnvironmentId(
+            Flux<Part> partFlux, String branchName, String environmentId) {
+        return createExecuteActionDTO(partFlux).flatMap(executeActionDTO -> newActionService
+                .findByBranchNameAndDefaultActionId(
+                        branchName, executeActionDTO.getActionId(), actionPermission.getExecutePermission())
+                .zipWith(configService.getInstanceId().zipWith(tenantService.getDefaultTenantId()))
+                .flatMap(tuple -> {
+                    NewAction branchedAction = tuple.getT1();
+                    String instanceId = tuple.getT2().getT1();
+                    String tenantId = tuple.getT2().getT2();
+                    executeActionDTO.setActionId(branchedAction.getId());
+                    executeActionDTO.setWorkspaceId(branchedAction.getWorkspaceId());
+                    executeActionDTO.setInstanceId(instanceId);
+                    executeActionDTO.setTenantId(tenantId);
+
+                    boolean isEmbedded;
+                    if (executeActionDTO.getViewMode()) {
+                        isEmbedded = branchedAction
+                                        .getPublishedAction()
+                                        .getDatasource()
+                                        .getId()
+                                == null;
+                    } else {
+                        isEmbedded = branchedAction
+                                        .getUnpublishedAction()
+                                        .getDatasource()
+                                        .getId()
+                                == null;
+                    }
+
+                    return Mono.just(executeActionDTO)
+                            .zipWith(datasourceService.getTrueEnvironmentId(
+                                    branchedAction.getWorkspaceId(),
+                                    environmentId,
+                                    branchedAction.getPluginId(),
+                                    environmentPermission.getExecutePermission(),
+                                    isEmbedded));
+                }));
+    }
+
     /**
      * Fetches the required Mono (action, datasource, and plugin) and makes actionExecution call to plugin
      *
@@ -242,20 +282,22 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         AtomicReference<String> actionName = new AtomicReference<>();
         actionName.set("");
 
-        // 2. Fetch the action from the DB and check if it can be executed
-        Mono<ActionDTO> actionDTOMono =
-                getValidActionForExecution(executeActionDTO).cache();
+        // 2. Fetch the action, its datasource and its plugin, and check if the action can be executed
+        Mono<ActionExecutionPlan> actionExecutionPlanMono =
+                getActionExecutionPlan(executeActionDTO, environmentId).cache();
 
         // 3. Instantiate the implementation class based on the query type
-        Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, environmentId);
-        Mono<Plugin> pluginMono = getCachedPluginForActionExecution(datasourceStorageMono);
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+        Mono<ActionDTO> actionDTOMono = actionExecutionPlanMono.map(ActionExecutionPlan::actionDTO);
+        Mono<DatasourceStorage> datasourceStorageMono =
+                actionExecutionPlanMono.map(ActionExecutionPlan::datasourceStorage);
+        Mono<Plugin> pluginMono = actionExecutionPlanMono.map(ActionExecutionPlan::plugin);
+        Mono<PluginExecutor> pluginExecutorMono = actionExecutionPlanMono.map(ActionExecutionPlan::pluginExecutor);
 
         // 4. Execute the query
         Mono<ActionExecutionResult> actionExecutionResultMono = getActionExecutionResult(
                 executeActionDTO, actionDTOMono, datasourceStorageMono, pluginMono, pluginExecutorMono, httpHeaders);
 
-        Mono<Map> editorConfigLabelMapMono = getEditorConfigLabelMap(datasourceStorageMono);
+        Mono<Map> editorConfigLabelMapMono = actionExecutionPlanMono.map(ActionExecutionPlan::editorConfigLabelMap);
 
         return actionExecutionResultMono
                 .zipWith(editorConfigLabelMapMono, (result, labelMap) -> {
@@ -276,6 +318,59 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Executes the action like {@link #executeAction(ExecuteActionDTO, String, HttpHeaders)}, but returns the result in
+     * the chunks emitted by the plugin, see {@link PluginExecutor#executeParameterizedAsStream}, as soon as they are
+     * received. The data types and the suggested widgets are computed from the first chunk only, and sent with it, so
+     * that the rows of the result are never all held in memory.
+     *
+     * @param executeActionDTO
+     * @param environmentId
+     * @return the chunks of the actionExecutionResult if query succeeds, error messages otherwise
+     */
+    @Override
+    public Flux<ActionExecutionResult> executeActionAsStream(
+            ExecuteActionDTO executeActionDTO, String environmentId, HttpHeaders httpHeaders) {
+
+        replaceNullWithQuotesForParamValues(executeActionDTO.getParams());
+
+        Mono<ActionExecutionPlan> actionExecutionPlanMono =
+                getActionExecutionPlan(executeActionDTO, environmentId).cache();
+        Mono<ActionDTO> actionDTOMono = actionExecutionPlanMono.map(ActionExecutionPlan::actionDTO);
+        Mono<DatasourceStorage> datasourceStorageMono =
+                actionExecutionPlanMono.map(ActionExecutionPlan::datasourceStorage);
+        Mono<Plugin> pluginMono = actionExecutionPlanMono.map(ActionExecutionPlan::plugin);
+        Mono<PluginExecutor> pluginExecutorMono = actionExecutionPlanMono.map(ActionExecutionPlan::pluginExecutor);
+
+        Flux<ActionExecutionResult> actionExecutionResultFlux = getActionExecutionResultStream(
+                executeActionDTO, actionDTOMono, datasourceStorageMono, pluginMono, pluginExecutorMono, httpHeaders);
+
+        Mono<Map> editorConfigLabelMapMono = actionExecutionPlanMono.map(ActionExecutionPlan::editorConfigLabelMap);
+
+        return actionExecutionResultFlux
+                .index()
+                .concatMap(indexedResult -> editorConfigLabelMapMono.map(labelMap -> {
+                    ActionExecutionResult result = indexedResult.getT2();
+                    if (TRUE.equals(executeActionDTO.getViewMode())) {
+                        result.setRequest(null);
+                    } else if (result.getRequest() != null
+                            && result.getRequest().getRequestParams() != null) {
+                        transformRequestParams(result, labelMap);
+                    }
+
+                    if (indexedResult.getT1() == 0) {
+                        return addDataTypesAndSetSuggestedWidget(result, executeActionDTO.getViewMode());
+                    }
+                    return result;
+                }))
+                .onErrorResume(AppsmithException.class, error -> {
+                    ActionExecutionResult result = new ActionExecutionResult();
+                    result.setIsExecutionSuccess(false);
+                    result.setErrorInfo(error);
+                    return Mono.just(result);
+                });
+    }
+
     /**
      * Creates the ExecuteActionDTO from Flux of ByteBuffers
      *
@@ -519,6 +614,80 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         }
     }
 
+    /**
+     * Fetches the action, its datasource storage and its plugin, and checks that the action can be executed. For
+     * published actions, they are taken from the {@link ActionExecutionPlanCache} when the action has been executed
+     * recently, instead of being fetched again.
+     *
+     * @param executeActionDTO
+     * @param environmentId
+     * @return actionExecutionPlanMono, which can be modified by the caller
+     */
+    protected Mono<ActionExecutionPlan> getActionExecutionPlan(
+            ExecuteActionDTO executeActionDTO, String environmentId) {
+        if (!TRUE.equals(executeActionDTO.getViewMode())) {
+            return fetchActionExecutionPlan(executeActionDTO, environmentId, false);
+        }
+
+        return actionExecutionPlanCache.get(
+                executeActionDTO.getActionId(),
+                environmentId,
+                actionPermission.getExecutePermission(),
+                datasourcePermission.getExecutePermission(),
+                fetchActionExecutionPlan(executeActionDTO, environmentId, true));
+    }
+
+    /**
+     * Fetches the action, its datasource storage and its plugin from the DB
+     *
+     * @param executeActionDTO
+     * @param environmentId
+     * @param withDatasourcePolicies whether to fetch the policies of the datasource, which are needed to cache the plan
+     * @return actionExecutionPlanMono
+     */
+    protected Mono<ActionExecutionPlan> fetchActionExecutionPlan(
+            ExecuteActionDTO executeActionDTO, String environmentId, boolean withDatasourcePolicies) {
+        return Mono.defer(() -> {
+            Mono<ActionDTO> actionDTOMono =
+                    getValidActionForExecution(executeActionDTO).cache();
+            Mono<DatasourceStorage> datasourceStorageMono = getCachedDatasourceStorage(actionDTOMono, environmentId);
+            Mono<Plugin> pluginMono =
+                    getCachedPluginForActionExecution(datasourceStorageMono).cache();
+            Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+            Mono<Map> editorConfigLabelMapMono = getEditorConfigLabelMap(datasourceStorageMono);
+
+            // Embedded datasources have no policies of their own
+            Mono<Optional<Set<Policy>>> datasourcePoliciesMono = actionDTOMono.flatMap(actionDTO -> {
+                Datasource datasource = actionDTO.getDatasource();
+                if (!withDatasourcePolicies || datasource == null || datasource.getId() == null) {
+                    return Mono.just(Optional.empty());
+                }
+
+                return datasourceService
+                        .findById(datasource.getId(), datasourcePermission.getExecutePermission())
+                        .map(datasource1 -> Optional.of(
+                                datasource1.getPolicies() == null ? Set.<Policy>of() : datasource1.getPolicies()))
+                        // The datasource storage fails with the right error in this case
+                        .defaultIfEmpty(Optional.of(Set.of()));
+            });
+
+            return Mono.zip(
+                            actionDTOMono,
+                            datasourceStorageMono,
+                            datasourcePoliciesMono,
+                            pluginMono,
+                            pluginExecutorMono,
+                            editorConfigLabelMapMono)
+                    .map(tuple -> new ActionExecutionPlan(
+                            tuple.getT1(),
+                            tuple.getT2(),
+                            tuple.getT3().orElse(null),
+                            tuple.getT4(),
+                            tuple.getT5(),
+                            tuple.getT6()));
+        });
+    }
+
     /**
      * Fetches, validates and caches the datasource from actionDTO
      *
@@ -636,16 +805,9 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
             Plugin plugin,
             PluginExecutor pluginExecutor) {
 
-        Mono<ActionExecutionResult> executionMono = authenticationValidator
-                .validateAuthentication(datasourceStorage)
-                .zipWhen(validatedDatasource -> datasourceContextService
-                        .getDatasourceContext(validatedDatasource, plugin)
-                        .tag("plugin", plugin.getPackageName())
-                        .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
-                        .tap(Micrometer.observation(observationRegistry)))
-                .flatMap(tuple2 -> {
+        Mono<ActionExecutionResult> executionMono = getValidatedDatasourceContext(datasourceStorage, plugin)
+                .flatMap(tuple2 -> datasourceContextService.useDatasourceContext(tuple2.getT2(), resourceContext -> {
                     DatasourceStorage datasourceStorage1 = tuple2.getT1();
-                    DatasourceContext<?> resourceContext = tuple2.getT2();
                     // Now that we have the context (connection details), execute the action.
 
                     Instant requestedAt = Instant.now();
@@ -668,7 +830,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                                 actionExecutionResult.setRequest(actionExecutionRequest);
                                 return actionExecutionResult;
                             });
-                });
+                }));
 
         return executionMono.onErrorResume(StaleConnectionException.class, error -> {
             log.info("Looks like the connection is stale. Retrying with a fresh context.");
@@ -678,6 +840,76 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         });
     }
 
+    /**
+     * Same as {@link #verifyDatasourceAndMakeRequest}, with the result returned in chunks by the plugin. Plugins only
+     * report stale connections before the first chunk, so the execution can still be retried with a fresh context.
+     *
+     * @param executeActionDTO
+     * @param actionDTO
+     * @param datasourceStorage
+     * @param plugin
+     * @param pluginExecutor
+     * @return actionExecutionResultFlux
+     */
+    protected Flux<ActionExecutionResult> verifyDatasourceAndMakeStreamRequest(
+            ExecuteActionDTO executeActionDTO,
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            Plugin plugin,
+            PluginExecutor pluginExecutor) {
+
+        Flux<ActionExecutionResult> executionFlux = getValidatedDatasourceContext(datasourceStorage, plugin)
+                .flatMapMany(
+                        tuple2 -> datasourceContextService.useDatasourceContextMany(tuple2.getT2(), resourceContext -> {
+                            DatasourceStorage datasourceStorage1 = tuple2.getT1();
+
+                            Instant requestedAt = Instant.now();
+                            return ((PluginExecutor<Object>) pluginExecutor)
+                                    .executeParameterizedAsStreamWithMetrics(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasourceStorage1.getDatasourceConfiguration(),
+                                            actionDTO.getActionConfiguration(),
+                                            observationRegistry)
+                                    .index()
+                                    .map(indexedResult -> {
+                                        ActionExecutionResult actionExecutionResult = indexedResult.getT2();
+                                        ActionExecutionRequest actionExecutionRequest =
+                                                actionExecutionResult.getRequest();
+                                        // The request is sent with the first chunk, and with the error if there is one
+                                        if (actionExecutionRequest == null && indexedResult.getT1() > 0) {
+                                            return actionExecutionResult;
+                                        } else if (actionExecutionRequest == null) {
+                                            actionExecutionRequest = new ActionExecutionRequest();
+                                        }
+
+                                        actionExecutionRequest.setActionId(executeActionDTO.getActionId());
+                                        actionExecutionRequest.setRequestedAt(requestedAt);
+
+                                        actionExecutionResult.setRequest(actionExecutionRequest);
+                                        return actionExecutionResult;
+                                    });
+                        }));
+
+        return executionFlux.onErrorResume(StaleConnectionException.class, error -> {
+            log.info("Looks like the connection is stale. Retrying with a fresh context.");
+            return datasourceContextService
+                    .deleteDatasourceContext(datasourceStorage)
+                    .thenMany(executionFlux);
+        });
+    }
+
+    protected Mono<Tuple2<DatasourceStorage, DatasourceContext<?>>> getValidatedDatasourceContext(
+            DatasourceStorage datasourceStorage, Plugin plugin) {
+        return authenticationValidator
+                .validateAuthentication(datasourceStorage)
+                .zipWhen(validatedDatasource -> datasourceContextService
+                        .getDatasourceContext(validatedDatasource, plugin)
+                        .tag("plugin", plugin.getPackageName())
+                        .name(ACTION_EXECUTION_DATASOURCE_CONTEXT)
+                        .tap(Micrometer.observation(observationRegistry)));
+    }
+
     protected Function<? super Throwable, ? extends Throwable> executionExceptionMapper(
             ActionDTO actionDTO, Integer timeoutDuration) {
         return error -> {
@@ -772,6 +1004,88 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
                 });
     }
 
+    /**
+     * Same as {@link #getActionExecutionResult}, for the chunks of a result. The timeout of the action applies to
+     * the whole stream, i.e. all the chunks have to be received before it expires. The analytics event is sent once
+     * the last chunk has been received.
+     *
+     * @param executeActionDTO
+     * @param actionDTOMono
+     * @param datasourceStorageMono
+     * @param pluginMono
+     * @param pluginExecutorMono
+     * @return actionExecutionResultFlux
+     */
+    protected Flux<ActionExecutionResult> getActionExecutionResultStream(
+            ExecuteActionDTO executeActionDTO,
+            Mono<ActionDTO> actionDTOMono,
+            Mono<DatasourceStorage> datasourceStorageMono,
+            Mono<Plugin> pluginMono,
+            Mono<PluginExecutor> pluginExecutorMono,
+            HttpHeaders httpHeaders) {
+
+        return Mono.zip(actionDTOMono, datasourceStorageMono, pluginExecutorMono, pluginMono)
+                .flatMapMany(tuple -> {
+                    final ActionDTO actionDTO = tuple.getT1();
+                    final DatasourceStorage datasourceStorage = tuple.getT2();
+                    final PluginExecutor pluginExecutor = tuple.getT3();
+                    final Plugin plugin = tuple.getT4();
+
+                    log.debug(
+                            "[{}]Execute Action as stream called in Page {}, for action id : {}  action name : {}",
+                            Thread.currentThread().getName(),
+                            actionDTO.getPageId(),
+                            actionDTO.getId(),
+                            actionDTO.getName());
+
+                    Integer timeoutDuration = actionDTO.getActionConfiguration().getTimeoutInMillisecond();
+
+                    setAutoGeneratedHeaders(plugin, actionDTO, httpHeaders);
+
+                    final long startTime = System.currentTimeMillis();
+                    // The request of the first chunk, and the last chunk, which tells if the execution succeeded
+                    final AtomicReference<ActionExecutionRequest> request = new AtomicReference<>();
+                    final AtomicReference<ActionExecutionResult> lastResult = new AtomicReference<>();
+                    // A single timer for the whole stream, which every chunk waits on instead of starting its own
+                    final Mono<Long> deadline =
+                            Mono.delay(Duration.ofMillis(timeoutDuration)).cache();
+
+                    return verifyDatasourceAndMakeStreamRequest(
+                                    executeActionDTO, actionDTO, datasourceStorage, plugin, pluginExecutor)
+                            .timeout(deadline, chunk -> deadline)
+                            .onErrorMap(executionExceptionMapper(actionDTO, timeoutDuration))
+                            .onErrorResume(executionExceptionHandler(actionDTO))
+                            .doOnNext(result -> {
+                                if (request.get() == null) {
+                                    request.set(result.getRequest());
+                                }
+                                lastResult.set(result);
+                            })
+                            // Now send the analytics event for this execution
+                            .concatWith(Mono.defer(() -> {
+                                if (lastResult.get() == null) {
+                                    return Mono.empty();
+                                }
+
+                                Long timeElapsed = System.currentTimeMillis() - startTime;
+                                log.debug(
+                                        "{}: Action {} with id {} execution time : {} ms",
+                                        Thread.currentThread().getName(),
+                                        actionDTO.getName(),
+                                        actionDTO.getId(),
+                                        timeElapsed);
+
+                                ActionExecutionResult result = new ActionExecutionResult();
+                                result.setRequest(request.get());
+                                result.setIsExecutionSuccess(lastResult.get().getIsExecutionSuccess());
+                                result.setStatusCode(lastResult.get().getStatusCode());
+                                return sendExecuteAnalyticsEvent(
+                                                actionDTO, datasourceStorage, executeActionDTO, result, timeElapsed)
+                                        .then(Mono.empty());
+                            }));
+                });
+    }
+
     @Override
     public Mono<ActionDTO> getValidActionForExecution(ExecuteActionDTO executeActionDTO) {
         return newActionService
@@ -862,7 +1176,12 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         return analyticsService.isActive();
     }
 
-    private Mono<ActionExecutionRequest> sendExecuteAnalyticsEvent(
+    /**
+     * Queues the analytics event of the execution, to be sent by the {@link AnalyticsEventBatcher}, so that the
+     * response does not wait for the lookups the event needs. The result is copied first, since it is modified on its
+     * way to the client.
+     */
+    private Mono<Void> sendExecuteAnalyticsEvent(
             ActionDTO actionDTO,
             DatasourceStorage datasourceStorage,
             ExecuteActionDTO executeActionDto,
@@ -872,6 +1191,27 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         if (!isSendExecuteAnalyticsEvent()) {
             return Mono.empty();
         }
+
+        final ActionExecutionResult result = new ActionExecutionResult();
+        BeanUtils.copyProperties(actionExecutionResult, result);
+
+        // The event is sent with the context of the request, e.g. for the current user and the user agent
+        return Mono.deferContextual(context -> {
+            analyticsEventBatcher.offer(lookups -> sendExecuteAnalyticsEvent(
+                            actionDTO, datasourceStorage, executeActionDto, result, timeElapsed, lookups)
+                    .contextWrite(context));
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> sendExecuteAnalyticsEvent(
+            ActionDTO actionDTO,
+            DatasourceStorage datasourceStorage,
+            ExecuteActionDTO executeActionDto,
+            ActionExecutionResult actionExecutionResult,
+            Long timeElapsed,
+            BatchLookups lookups) {
+
         ActionExecutionRequest actionExecutionRequest = actionExecutionResult.getRequest();
         ActionExecutionRequest request;
         if (actionExecutionRequest != null) {
@@ -926,15 +1266,24 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
         }
 
         return Mono.justOrEmpty(actionDTO.getApplicationId())
-                .flatMap(applicationService::findById)
+                .flatMap(applicationId -> lookups.get(
+                        List.of(FieldName.APPLICATION, applicationId),
+                        () -> applicationService.findById(applicationId)))
                 .defaultIfEmpty(new Application())
                 .flatMap(application -> Mono.zip(
                         Mono.just(application),
                         sessionUserService.getCurrentUser(),
-                        newPageService.getNameByPageId(actionDTO.getPageId(), executeActionDto.getViewMode()),
-                        pluginService.getById(actionDTO.getPluginId()),
-                        datasourceStorageService.getEnvironmentNameFromEnvironmentIdForAnalytics(
-                                datasourceStorage.getEnvironmentId())))
+                        lookups.get(
+                                Arrays.asList(FieldName.PAGE, actionDTO.getPageId(), executeActionDto.getViewMode()),
+                                () -> newPageService.getNameByPageId(
+                                        actionDTO.getPageId(), executeActionDto.getViewMode())),
+                        lookups.get(
+                                Arrays.asList(FieldName.PLUGIN, actionDTO.getPluginId()),
+                                () -> pluginService.getById(actionDTO.getPluginId())),
+                        lookups.get(
+                                Arrays.asList(FieldName.ENVIRONMENT, datasourceStorage.getEnvironmentId()),
+                                () -> datasourceStorageService.getEnvironmentNameFromEnvironmentIdForAnalytics(
+                                        datasourceStorage.getEnvironmentId()))))
                 .flatMap(tuple -> {
                     final Application application = tuple.getT1();
                     final User user = tuple.getT2();
@@ -1061,11 +1410,7 @@ public class ActionExecutionSolutionCEImpl implements ActionExecutionSolutionCE
 
                     return analyticsService
                             .sendObjectEvent(AnalyticsEvents.EXECUTE_ACTION, actionDTO, data)
-                            .thenReturn(request);
-                })
-                .onErrorResume(error -> {
-                    log.warn("Error sending action execution data point", error);
-                    return Mono.just(request);
+                            .then();
                 });
     }
 
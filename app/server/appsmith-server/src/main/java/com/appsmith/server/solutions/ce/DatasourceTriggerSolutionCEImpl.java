@@ -108,12 +108,14 @@ public class DatasourceTriggerSolutionCEImpl implements DatasourceTriggerSolutio
                             // Now that we have the context (connection details), execute the action.
                             // datasource remains unevaluated for datasource of DBAuth Type Authentication,
                             // However the context comes from evaluated datasource.
-                            .flatMap(resourceContext -> setTenantAndInstanceId(triggerRequestDTO)
-                                    .flatMap(updatedTriggerRequestDTO -> ((PluginExecutor<Object>) pluginExecutor)
-                                            .trigger(
-                                                    resourceContext.getConnection(),
-                                                    datasourceStorage.getDatasourceConfiguration(),
-                                                    updatedTriggerRequestDTO)));
+                            .flatMap(datasourceContext -> datasourceContextService.useDatasourceContext(
+                                    datasourceContext, resourceContext -> setTenantAndInstanceId(triggerRequestDTO)
+                                            .flatMap(updatedTriggerRequestDTO -> ((PluginExecutor<Object>)
+                                                            pluginExecutor)
+                                                    .trigger(
+                                                            resourceContext.getConnection(),
+                                                            datasourceStorage.getDatasourceConfiguration(),
+                                                            updatedTriggerRequestDTO))));
                 });
 
         // If the plugin hasn't implemented the trigger function, go for the default implementation
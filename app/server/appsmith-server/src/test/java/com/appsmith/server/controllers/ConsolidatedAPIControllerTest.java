@@ -0,0 +1,158 @@
+package com.appsmith.server.controllers;
+
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ConsolidatedAPIResponseDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.PublishedPageLoadCache;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoad;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.appsmith.server.services.ConsolidatedAPIService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+public class ConsolidatedAPIControllerTest {
+
+    private static final String VIEW_URL = Url.CONSOLIDATED_API_URL + "/view?applicationId=application-id";
+
+    private PublishedPageLoadCache publishedPageLoadCache;
+
+    private WebTestClient webTestClient;
+
+    // The name of the theme of the published application, changed by publishing it again
+    private final AtomicReference<String> publishedThemeName = new AtomicReference<>("classic");
+
+    @BeforeEach
+    public void setUp() {
+        PermissionGroupRepository permissionGroupRepository = Mockito.mock(PermissionGroupRepository.class);
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("viewers")));
+        TieredCacheManagerImpl tieredCacheManager = Mockito.mock(TieredCacheManagerImpl.class);
+        Mockito.when(tieredCacheManager.publishInvalidation(any(), any())).thenReturn(Mono.empty());
+
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setConsolidatedViewCacheMaxSize(100);
+        commonConfig.setConsolidatedViewCacheTtlSeconds(60);
+        publishedPageLoadCache = new PublishedPageLoadCache(
+                permissionGroupRepository,
+                tieredCacheManager,
+                new ObjectMapper(),
+                commonConfig,
+                new SimpleMeterRegistry());
+
+        // Builds the response from the cached page load, the way the service does
+        ConsolidatedAPIService consolidatedAPIService = Mockito.mock(ConsolidatedAPIService.class);
+        Mockito.when(consolidatedAPIService.getConsolidatedInfoForPageLoad(any(), any(), any(), any()))
+                .thenAnswer(invocation -> getConsolidatedInfoForViewMode());
+
+        webTestClient = WebTestClient.bindToController(
+                        new ConsolidatedAPIController(consolidatedAPIService, ObservationRegistry.NOOP))
+                .build();
+    }
+
+    private Mono<ConsolidatedAPIResponseDTO> getConsolidatedInfoForViewMode() {
+        return publishedPageLoadCache
+                .getKey("application-id", null, null, false)
+                .flatMap(key -> {
+                    PublishedPageLoad cachedPageLoad = publishedPageLoadCache.getIfPresent(key);
+                    return cachedPageLoad != null
+                            ? Mono.just(cachedPageLoad)
+                            : publishedPageLoadCache.load(key, Mono.fromSupplier(this::loadPublishedPageLoad));
+                })
+                .map(pageLoad -> {
+                    ConsolidatedAPIResponseDTO consolidatedAPIResponseDTO = new ConsolidatedAPIResponseDTO();
+                    consolidatedAPIResponseDTO.setPages(pageLoad.pages());
+                    consolidatedAPIResponseDTO.setCurrentTheme(pageLoad.currentTheme());
+                    consolidatedAPIResponseDTO.setETag(publishedPageLoadCache.getETag(pageLoad, List.of()));
+                    return consolidatedAPIResponseDTO;
+                });
+    }
+
+    private PublishedPageLoad loadPublishedPageLoad() {
+        ApplicationPagesDTO applicationPagesDTO = new ApplicationPagesDTO();
+        applicationPagesDTO.setWorkspaceId("workspace-id");
+        Theme theme = new Theme();
+        theme.setName(publishedThemeName.get());
+
+        return new PublishedPageLoad(
+                "application-id",
+                new ResponseDTO<>(200, applicationPagesDTO, null),
+                new ResponseDTO<>(200, theme, null),
+                new ResponseDTO<>(200, List.of(theme), null),
+                new ResponseDTO<>(200, List.of(), null),
+                new ResponseDTO<>(200, List.of(), null),
+                new ResponseDTO<>(200, List.of(), null),
+                null,
+                null);
+    }
+
+    private String getETag() {
+        String eTag = webTestClient
+                .get()
+                .uri(VIEW_URL)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+
+    @Test
+    public void getViewMode_matchingETag_isNotModified() {
+        String eTag = getETag();
+
+        webTestClient
+                .get()
+                .uri(VIEW_URL)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus()
+                .isNotModified()
+                .expectBody()
+                .isEmpty();
+    }
+
+    @Test
+    public void getViewMode_matchingETagAfterInvalidation_returnsTheNewResponse() {
+        String eTag = getETag();
+
+        // The application is published again, with another theme
+        publishedThemeName.set("modern");
+        Application application = new Application();
+        application.setId("application-id");
+        publishedPageLoadCache.invalidateApplication(application);
+
+        String newETag = webTestClient
+                .get()
+                .uri(VIEW_URL)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus()
+                .isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+        assertThat(newETag).isNotNull().isNotEqualTo(eTag);
+    }
+}
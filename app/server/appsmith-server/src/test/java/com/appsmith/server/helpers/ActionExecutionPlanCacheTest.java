@@ -0,0 +1,175 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.helpers.ActionExecutionPlanCache.ActionExecutionPlan;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_ACTIONS;
+import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
+import static com.appsmith.server.helpers.ActionExecutionPlanCache.ACTION_EXECUTION_PLAN_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionExecutionPlanCacheTest {
+
+    private static final String VIEWER_GROUP = "viewers";
+
+    private PermissionGroupRepository permissionGroupRepository;
+
+    private TieredCacheManagerImpl tieredCacheManager;
+
+    private ActionExecutionPlanCache actionExecutionPlanCache;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    public void setUp() {
+        permissionGroupRepository = Mockito.mock(PermissionGroupRepository.class);
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of(VIEWER_GROUP)));
+
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setActionExecutionPlanMaxSize(100);
+        commonConfig.setActionExecutionPlanTtlSeconds(60);
+
+        tieredCacheManager = Mockito.mock(TieredCacheManagerImpl.class);
+        Mockito.when(tieredCacheManager.publishInvalidation(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.empty());
+
+        actionExecutionPlanCache = new ActionExecutionPlanCache(
+                permissionGroupRepository, tieredCacheManager, commonConfig, new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    private Mono<ActionExecutionPlan> planLoader(String permissionGroup) {
+        return Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("select * from users where id = {{Input1.text}}");
+            ActionDTO actionDTO = new ActionDTO();
+            actionDTO.setId("action-id");
+            actionDTO.setApplicationId("application-id");
+            actionDTO.setActionConfiguration(actionConfiguration);
+            actionDTO.setPolicies(Set.of(Policy.builder()
+                    .permission(EXECUTE_ACTIONS.getValue())
+                    .permissionGroups(Set.of(permissionGroup))
+                    .build()));
+
+            DatasourceStorage datasourceStorage = new DatasourceStorage();
+            datasourceStorage.setDatasourceId("datasource-id");
+
+            Set<Policy> datasourcePolicies = Set.of(Policy.builder()
+                    .permission(EXECUTE_DATASOURCES.getValue())
+                    .permissionGroups(Set.of(permissionGroup))
+                    .build());
+
+            return new ActionExecutionPlan(
+                    actionDTO, datasourceStorage, datasourcePolicies, null, null, new HashMap<>());
+        });
+    }
+
+    private Mono<ActionExecutionPlan> getPlan() {
+        return actionExecutionPlanCache.get(
+                "action-id", "environment-id", EXECUTE_ACTIONS, EXECUTE_DATASOURCES, planLoader(VIEWER_GROUP));
+    }
+
+    @Test
+    public void get_cachedPlan_isNotModifiedByExecutionsAndNotLoadedAgain() {
+        StepVerifier.create(getPlan())
+                .assertNext(plan -> plan.actionDTO().getActionConfiguration().setBody("select 1"))
+                .verifyComplete();
+
+        ActionExecutionPlan firstPlan = getPlan().block();
+        ActionExecutionPlan secondPlan = getPlan().block();
+        assertThat(firstPlan.actionDTO().getActionConfiguration().getBody())
+                .isEqualTo("select * from users where id = {{Input1.text}}");
+        assertThat(firstPlan.actionDTO().getActionConfiguration())
+                .isNotSameAs(secondPlan.actionDTO().getActionConfiguration());
+        // Everything else is shared with the cached plan
+        assertThat(firstPlan.actionDTO().getPolicies())
+                .isSameAs(secondPlan.actionDTO().getPolicies());
+        assertThat(firstPlan.editorConfigLabelMap()).isSameAs(secondPlan.editorConfigLabelMap());
+
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_userCannotExecuteCachedPlan_loadsThePlanAgain() {
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("another-group")));
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate_dropsThePlansOfTheApplicationAndOfTheDatasource() {
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        actionExecutionPlanCache.invalidateApplication("another-application-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        actionExecutionPlanCache.invalidateApplication("application-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        actionExecutionPlanCache.invalidateDatasource("datasource-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(3);
+
+        Mockito.verify(tieredCacheManager)
+                .publishInvalidation(ACTION_EXECUTION_PLAN_CACHE_NAME, "application:application-id");
+        Mockito.verify(tieredCacheManager)
+                .publishInvalidation(ACTION_EXECUTION_PLAN_CACHE_NAME, "datasource:datasource-id");
+    }
+
+    @Test
+    public void applyInvalidation_fromAnotherInstance_dropsThePlans() {
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        actionExecutionPlanCache.applyInvalidation("application:another-application-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        actionExecutionPlanCache.applyInvalidation("application:application-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        actionExecutionPlanCache.applyInvalidation("datasource:datasource-id");
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(3);
+
+        // Invalidations received from other instances are not broadcast again
+        Mockito.verify(tieredCacheManager, Mockito.never()).publishInvalidation(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void get_invalidatedWhileLoading_planIsNotCached() {
+        Mono<ActionExecutionPlan> invalidatingLoader = planLoader(VIEWER_GROUP)
+                .doOnNext(plan -> actionExecutionPlanCache.invalidateDatasource("datasource-id"));
+        StepVerifier.create(actionExecutionPlanCache.get(
+                        "action-id", "environment-id", EXECUTE_ACTIONS, EXECUTE_DATASOURCES, invalidatingLoader))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(getPlan()).expectNextCount(1).verifyComplete();
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
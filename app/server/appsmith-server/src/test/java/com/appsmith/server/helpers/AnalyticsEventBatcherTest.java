@@ -0,0 +1,107 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.constants.AnalyticsEvents;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.services.AnalyticsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AnalyticsEventBatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AnalyticsEventBatcher analyticsEventBatcher;
+
+    @BeforeEach
+    public void setUp() {
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setAnalyticsQueueCapacity(3);
+        commonConfig.setAnalyticsBatchSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        analyticsEventBatcher = new AnalyticsEventBatcher(commonConfig, meterRegistry);
+    }
+
+    @Test
+    public void offer_queueIsFull_dropsAndCountsTheEvent() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(analyticsEventBatcher.offer(lookups -> Mono.empty())).isTrue();
+        }
+        assertThat(analyticsEventBatcher.offer(lookups -> Mono.empty())).isFalse();
+
+        assertThat(meterRegistry.counter("appsmith.analytics.queue.queued").count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.counter("appsmith.analytics.queue.dropped").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("appsmith.analytics.queue.size").gauge().value())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void flush_sendsAllEventsInBatches_sharingLookupsWithinABatch() {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        final AtomicInteger lookupCount = new AtomicInteger();
+        for (String name : List.of("first", "second", "third")) {
+            analyticsEventBatcher.offer(
+                    lookups -> lookups.get("application", () -> Mono.fromSupplier(lookupCount::incrementAndGet))
+                            .doOnNext(lookup -> sent.add(name))
+                            .then());
+        }
+
+        analyticsEventBatcher.flush();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sent.size() == 3);
+        assertThat(sent).containsExactlyInAnyOrder("first", "second", "third");
+        // Once for the batch of the first two events, and once for the batch of the third one
+        assertThat(lookupCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void flush_failingEvent_isCountedAndDoesNotStopTheOthers() {
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        analyticsEventBatcher.offer(lookups -> Mono.error(new IllegalStateException("lookup failed")));
+        analyticsEventBatcher.offer(lookups -> Mono.fromRunnable(() -> sent.add("second")));
+
+        analyticsEventBatcher.flush();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> sent.size() == 1);
+        assertThat(meterRegistry.counter("appsmith.analytics.queue.failed").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void flush_analyticsCallFails_isCountedAsFailed() {
+        final AnalyticsService analyticsService = mock(AnalyticsService.class);
+        when(analyticsService.sendObjectEvent(any(AnalyticsEvents.class), any(), anyMap()))
+                .thenReturn(Mono.error(new IllegalStateException("analytics is down")));
+        for (int i = 0; i < 2; i++) {
+            analyticsEventBatcher.offer(lookups -> lookups.get("application", () -> Mono.just("application"))
+                    .flatMap(application -> analyticsService.sendObjectEvent(
+                            AnalyticsEvents.EXECUTE_ACTION, application, Map.of("application", application)))
+                    .then());
+        }
+
+        analyticsEventBatcher.flush();
+
+        await().atMost(Duration.ofSeconds(5))
+                .until(() ->
+                        meterRegistry.counter("appsmith.analytics.queue.failed").count() == 2);
+        verify(analyticsService, times(2)).sendObjectEvent(any(AnalyticsEvents.class), any(), anyMap());
+    }
+}
@@ -0,0 +1,213 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.GitArtifactMetadata;
+import com.appsmith.server.domains.Theme;
+import com.appsmith.server.dtos.ApplicationPagesDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PageLoadKey;
+import com.appsmith.server.helpers.PublishedPageLoadCache.PublishedPageLoad;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.appsmith.server.helpers.PublishedPageLoadCache.PUBLISHED_PAGE_LOAD_CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PublishedPageLoadCacheTest {
+
+    private PermissionGroupRepository permissionGroupRepository;
+
+    private TieredCacheManagerImpl tieredCacheManager;
+
+    private PublishedPageLoadCache publishedPageLoadCache;
+
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    public void setUp() {
+        permissionGroupRepository = Mockito.mock(PermissionGroupRepository.class);
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("viewers")));
+
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setConsolidatedViewCacheMaxSize(100);
+        commonConfig.setConsolidatedViewCacheTtlSeconds(60);
+
+        tieredCacheManager = Mockito.mock(TieredCacheManagerImpl.class);
+        Mockito.when(tieredCacheManager.publishInvalidation(Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.empty());
+
+        publishedPageLoadCache = new PublishedPageLoadCache(
+                permissionGroupRepository,
+                tieredCacheManager,
+                new ObjectMapper(),
+                commonConfig,
+                new SimpleMeterRegistry());
+        loadCount = new AtomicInteger();
+    }
+
+    private Mono<PublishedPageLoad> pageLoadLoader(ResponseDTO<Theme> currentTheme) {
+        return Mono.fromSupplier(() -> {
+            loadCount.incrementAndGet();
+
+            ApplicationPagesDTO applicationPagesDTO = new ApplicationPagesDTO();
+            applicationPagesDTO.setWorkspaceId("workspace-id");
+            Theme theme = new Theme();
+            theme.setName("classic");
+
+            return new PublishedPageLoad(
+                    "application-id",
+                    new ResponseDTO<>(200, applicationPagesDTO, null),
+                    currentTheme,
+                    new ResponseDTO<>(200, List.of(theme), null),
+                    new ResponseDTO<>(200, List.of(), null),
+                    new ResponseDTO<>(200, List.of(), null),
+                    new ResponseDTO<>(200, List.of(), null),
+                    null,
+                    null);
+        });
+    }
+
+    private Mono<PublishedPageLoad> getPageLoad(ResponseDTO<Theme> currentTheme) {
+        return publishedPageLoadCache
+                .getKey("application-id", null, null, false)
+                .flatMap(key -> {
+                    PublishedPageLoad cachedPageLoad = publishedPageLoadCache.getIfPresent(key);
+                    return cachedPageLoad != null
+                            ? Mono.just(cachedPageLoad)
+                            : publishedPageLoadCache.load(key, pageLoadLoader(currentTheme));
+                });
+    }
+
+    private static ResponseDTO<Theme> successfulTheme() {
+        Theme theme = new Theme();
+        theme.setName("classic");
+        return new ResponseDTO<>(200, theme, null);
+    }
+
+    private static Application application(String id, String defaultApplicationId) {
+        Application application = new Application();
+        application.setId(id);
+        if (defaultApplicationId != null) {
+            GitArtifactMetadata gitApplicationMetadata = new GitArtifactMetadata();
+            gitApplicationMetadata.setDefaultApplicationId(defaultApplicationId);
+            application.setGitApplicationMetadata(gitApplicationMetadata);
+        }
+        return application;
+    }
+
+    @Test
+    public void load_successfulPageLoad_isCachedWithAStableETag() {
+        StepVerifier.create(getPageLoad(successfulTheme()))
+                .assertNext(pageLoad -> assertThat(pageLoad.contentHash()).isNotNull())
+                .verifyComplete();
+        PublishedPageLoad pageLoad = getPageLoad(successfulTheme()).block();
+
+        assertThat(loadCount.get()).isEqualTo(1);
+        String eTag = publishedPageLoadCache.getETag(pageLoad, List.of(Map.of("release_feature", true)));
+        assertThat(eTag)
+                .isNotNull()
+                .isEqualTo(publishedPageLoadCache.getETag(pageLoad, List.of(Map.of("release_feature", true))))
+                .isNotEqualTo(publishedPageLoadCache.getETag(pageLoad, List.of(Map.of("release_feature", false))));
+    }
+
+    @Test
+    public void load_failedPageLoad_isNotCached() {
+        ResponseDTO<Theme> failedTheme = new ResponseDTO<>(404, null, "Not found", false);
+        StepVerifier.create(getPageLoad(failedTheme))
+                .assertNext(pageLoad -> {
+                    assertThat(pageLoad.contentHash()).isNull();
+                    assertThat(publishedPageLoadCache.getETag(pageLoad, List.of()))
+                            .isNull();
+                })
+                .verifyComplete();
+        StepVerifier.create(getPageLoad(failedTheme)).expectNextCount(1).verifyComplete();
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getKey_noPermissionGroups_isEmpty() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups()).thenReturn(Mono.just(Set.of()));
+
+        StepVerifier.create(publishedPageLoadCache.getKey("application-id", null, null, false))
+                .verifyComplete();
+    }
+
+    @Test
+    public void invalidateApplication_dropsThePageLoadsOfAllBranches() {
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        publishedPageLoadCache.invalidateApplication(application("another-application-id", null));
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        publishedPageLoadCache.invalidateApplication(application("branched-application-id", "application-id"));
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        Mockito.verify(tieredCacheManager)
+                .publishInvalidation(PUBLISHED_PAGE_LOAD_CACHE_NAME, "application:application-id");
+    }
+
+    @Test
+    public void invalidatePermissionGroup_dropsThePageLoadsOfTheViewersInTheGroup() {
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        publishedPageLoadCache.invalidatePermissionGroup("editors");
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        publishedPageLoadCache.invalidatePermissionGroup("viewers");
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        Mockito.verify(tieredCacheManager)
+                .publishInvalidation(PUBLISHED_PAGE_LOAD_CACHE_NAME, "permissionGroup:viewers");
+    }
+
+    @Test
+    public void applyInvalidation_fromAnotherInstance_dropsThePageLoads() {
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        publishedPageLoadCache.applyInvalidation("application:another-application-id");
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        publishedPageLoadCache.applyInvalidation("application:application-id");
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(2);
+
+        publishedPageLoadCache.applyInvalidation("permissionGroup:viewers");
+        StepVerifier.create(getPageLoad(successfulTheme())).expectNextCount(1).verifyComplete();
+        assertThat(loadCount.get()).isEqualTo(3);
+
+        // Invalidations received from other instances are not broadcast again
+        Mockito.verify(tieredCacheManager, Mockito.never()).publishInvalidation(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void load_invalidatedWhileLoading_pageLoadIsNotCached() {
+        PageLoadKey key = publishedPageLoadCache
+                .getKey("application-id", null, null, false)
+                .block();
+        Mono<PublishedPageLoad> invalidatingLoader = pageLoadLoader(successfulTheme())
+                .doOnNext(
+                        pageLoad -> publishedPageLoadCache.invalidateApplication(application("application-id", null)));
+        StepVerifier.create(publishedPageLoadCache.load(key, invalidatingLoader))
+                .assertNext(pageLoad -> assertThat(pageLoad.contentHash()).isNull())
+                .verifyComplete();
+
+        assertThat(publishedPageLoadCache.getIfPresent(key)).isNull();
+    }
+}
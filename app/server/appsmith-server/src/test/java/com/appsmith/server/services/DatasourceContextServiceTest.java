@@ -1,6 +1,7 @@
 package com.appsmith.server.services;
 
 import com.appsmith.external.constants.PluginConstants;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnection;
 import com.appsmith.external.helpers.restApiUtils.connections.APIConnectionFactory;
 import com.appsmith.external.helpers.restApiUtils.connections.BearerTokenAuthentication;
@@ -19,6 +20,8 @@ import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.applications.base.ApplicationService;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.datasources.base.DatasourceService;
 import com.appsmith.server.datasourcestorages.base.DatasourceStorageService;
 import com.appsmith.server.domains.Application;
@@ -37,6 +40,7 @@ import com.appsmith.server.repositories.WorkspaceRepository;
 import com.appsmith.server.solutions.ApplicationPermission;
 import com.appsmith.server.solutions.DatasourcePermission;
 import com.appsmith.server.solutions.EnvironmentPermission;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AfterEach;
@@ -52,10 +56,18 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -65,8 +77,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -124,6 +141,9 @@ public class DatasourceContextServiceTest {
     @Autowired
     ApplicationPermission applicationPermission;
 
+    @Autowired
+    ConfigService configService;
+
     String defaultEnvironmentId;
 
     String workspaceId;
@@ -177,10 +197,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), null);
 
-        Object monitor = new Object();
         // Create one instance of datasource connection
         Mono<DatasourceContext<?>> dsContextMono1 = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         Datasource datasource = new Datasource();
         datasource.setId("id1");
@@ -208,7 +227,7 @@ public class DatasourceContextServiceTest {
         Mono<DatasourceContext<?>> dsContextMono2 = datasourceService
                 .archiveById("id1")
                 .flatMap(deleted -> datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier));
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier));
 
         StepVerifier.create(dsContextMono1)
                 .assertNext(dsContext1 -> {
@@ -377,14 +396,13 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         DatasourceContext<?> dsContext1 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         DatasourceContext<?> dsContext2 = (DatasourceContext<?>) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier)
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
 
         /* They can only be equal if the `datasourceCreate` method was called only once */
@@ -461,14 +479,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(createdDatasource.getId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
         final DatasourceContext<?> dsc1 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc1);
         assertTrue(dsc1.getConnection() instanceof UpdatableConnection);
@@ -477,11 +490,7 @@ public class DatasourceContextServiceTest {
 
         final DatasourceContext<?> dsc2 = (DatasourceContext) datasourceContextService
                 .getCachedDatasourceContextMono(
-                        createdDatasourceStorage,
-                        emptyPlugin,
-                        spyMockPluginExecutor,
-                        monitor,
-                        datasourceContextIdentifier)
+                        createdDatasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
                 .block();
         assertNotNull(dsc2);
         assertTrue(dsc2.getConnection() instanceof UpdatableConnection);
@@ -516,11 +525,9 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
@@ -533,7 +540,7 @@ public class DatasourceContextServiceTest {
     /**
      * This test verifies that if a cached datasource context Mono goes to an error state, then that Mono is invalidated
      * and a new datasource context mono is created on calling
-     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, Object, DatasourceContextIdentifier)}
+     * {@link com.appsmith.server.services.ce.DatasourceContextServiceCEImpl#getCachedDatasourceContextMono(DatasourceStorage, Plugin, PluginExecutor, DatasourceContextIdentifier)}
      * and not fetched from the cache.
      */
     @Test
@@ -558,17 +565,15 @@ public class DatasourceContextServiceTest {
         DatasourceContextIdentifier datasourceContextIdentifier =
                 new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId);
 
-        Object monitor = new Object();
-
         Mono<DatasourceContext<?>> failedDatasourceContextMono =
                 datasourceContextService.getCachedDatasourceContextMono(
-                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
         StepVerifier.create(failedDatasourceContextMono)
                 .expectError(RuntimeException.class)
                 .verify();
 
         Mono<DatasourceContext<?>> validDatasourceContextMono = datasourceContextService.getCachedDatasourceContextMono(
-                datasourceStorage, emptyPlugin, spyMockPluginExecutor, monitor, datasourceContextIdentifier);
+                datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
 
         StepVerifier.create(validDatasourceContextMono)
                 .assertNext(validDatasourceContext ->
@@ -754,4 +759,325 @@ public class DatasourceContextServiceTest {
                 })
                 .verify();
     }
+
+    /**
+     * Creates a datasource context service with its own context cache, so that tests can configure the cache and
+     * inspect it without being affected by the other tests.
+     */
+    private DatasourceContextServiceImpl createStandaloneDatasourceContextService(long maxSize) {
+        CommonConfig commonConfig = new CommonConfig();
+        commonConfig.setDatasourceContextMaxSize(maxSize);
+        commonConfig.setDatasourceContextIdleTimeoutMinutes(60);
+        return new DatasourceContextServiceImpl(
+                datasourceService,
+                datasourceStorageService,
+                pluginService,
+                pluginExecutorHelper,
+                configService,
+                datasourcePermission,
+                commonConfig,
+                new SimpleMeterRegistry());
+    }
+
+    /**
+     * This test checks that when the datasource context cache is full, one of the contexts is evicted, its connection
+     * is destroyed and it is no longer considered valid.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextEviction_whenCacheIsFull_destroysConnection() {
+        DatasourceContextServiceImpl boundedDatasourceContextService = createStandaloneDatasourceContextService(1);
+
+        Plugin emptyPlugin = new Plugin();
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        List<DatasourceStorage> datasourceStorages = List.of("evicted_datasource_1", "evicted_datasource_2").stream()
+                .map(datasourceId -> {
+                    DatasourceStorage datasourceStorage = new DatasourceStorage();
+                    datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+                    datasourceStorage.setDatasourceId(datasourceId);
+                    datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+                    boundedDatasourceContextService
+                            .getCachedDatasourceContextMono(
+                                    datasourceStorage,
+                                    emptyPlugin,
+                                    spyMockPluginExecutor,
+                                    new DatasourceContextIdentifier(datasourceId, defaultEnvironmentId))
+                            .block();
+                    return datasourceStorage;
+                })
+                .toList();
+
+        // Evictions are done in the background, and either of the contexts may be chosen
+        verify(spyMockPluginExecutor, timeout(5000).times(1)).datasourceDestroy(any());
+        long validContexts = datasourceStorages.stream()
+                .filter(datasourceStorage -> boundedDatasourceContextService.isValidDatasourceContextAvailable(
+                        datasourceStorage,
+                        new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), defaultEnvironmentId)))
+                .count();
+        assertEquals(1, validContexts);
+    }
+
+    /**
+     * This test runs many concurrent requests for the context of one datasource, some of which find the context stale
+     * and replace it, and checks that every connection created is either the one in the cache at the end or has been
+     * destroyed exactly once, i.e. that no connection is orphaned.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testConcurrentDatasourceContextCreation_leavesNoOrphanConnections() {
+        DatasourceContextServiceImpl standaloneDatasourceContextService = createStandaloneDatasourceContextService(10);
+
+        AtomicInteger createdConnections = new AtomicInteger(0);
+        Set<Object> destroyedConnections = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicateDestroys = new AtomicInteger(0);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doAnswer(invocation -> Mono.fromCallable(() -> "connection_" + createdConnections.incrementAndGet())
+                        .delayElement(Duration.ofMillis(5)))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+        doAnswer(invocation -> {
+                    if (!destroyedConnections.add(invocation.getArgument(0))) {
+                        duplicateDestroys.incrementAndGet();
+                    }
+                    return null;
+                })
+                .when(spyMockPluginExecutor)
+                .datasourceDestroy(any());
+
+        Plugin emptyPlugin = new Plugin();
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier("concurrent_datasource", defaultEnvironmentId);
+        int requests = 1000;
+
+        Flux.range(0, requests)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> {
+                    DatasourceStorage datasourceStorage = new DatasourceStorage();
+                    datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+                    datasourceStorage.setDatasourceId("concurrent_datasource");
+                    datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+                    if (i % 50 == 0) {
+                        // The datasource was updated after the cached context was created
+                        datasourceStorage.setUpdatedAt(Instant.now());
+                    }
+                    return standaloneDatasourceContextService.getCachedDatasourceContextMono(
+                            datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier);
+                })
+                .sequential()
+                .blockLast();
+
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId("concurrent_datasource");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        DatasourceContext<?> cachedDatasourceContext = (DatasourceContext<?>) standaloneDatasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage, emptyPlugin, spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        Object cachedConnection = cachedDatasourceContext.getConnection();
+
+        // Replaced connections are destroyed in the background
+        verify(spyMockPluginExecutor, timeout(5000).times(createdConnections.get() - 1))
+                .datasourceDestroy(any());
+        assertTrue(createdConnections.get() < requests);
+        assertFalse(destroyedConnections.contains(cachedConnection));
+        assertEquals(createdConnections.get() - 1, destroyedConnections.size());
+        assertEquals(0, duplicateDestroys.get());
+    }
+
+    private DatasourceStorage createDatasourceStorage(String datasourceId) {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setEnvironmentId(defaultEnvironmentId);
+        datasourceStorage.setDatasourceId(datasourceId);
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        return datasourceStorage;
+    }
+
+    /**
+     * This test checks that the connection of a context that is removed from the cache while an execution is using it
+     * is only destroyed once the execution is done, and that it cannot be used afterwards.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDeleteDatasourceContext_whenInUse_destroysConnectionAfterExecution() {
+        DatasourceContextServiceImpl standaloneDatasourceContextService = createStandaloneDatasourceContextService(10);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage("in_use_datasource");
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) standaloneDatasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage,
+                        new Plugin(),
+                        spyMockPluginExecutor,
+                        new DatasourceContextIdentifier("in_use_datasource", FieldName.UNUSED_ENVIRONMENT_ID))
+                .block();
+
+        Sinks.One<String> executionSink = Sinks.one();
+        CompletableFuture<String> executionFuture = standaloneDatasourceContextService
+                .useDatasourceContext(datasourceContext, context -> executionSink.asMono())
+                .toFuture();
+
+        standaloneDatasourceContextService
+                .deleteDatasourceContext(datasourceStorage)
+                .block();
+        verify(spyMockPluginExecutor, after(200).never()).datasourceDestroy(any());
+
+        executionSink.tryEmitValue("result");
+        assertEquals("result", executionFuture.join());
+        verify(spyMockPluginExecutor, timeout(5000).times(1)).datasourceDestroy("connection_1");
+
+        StepVerifier.create(standaloneDatasourceContextService.useDatasourceContext(
+                        datasourceContext, context -> Mono.just("result")))
+                .expectError(StaleConnectionException.class)
+                .verify();
+    }
+
+    /**
+     * This test checks that a context that is removed from the cache while its connection is being created has the
+     * connection destroyed once it is ready.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDeleteDatasourceContext_whenBeingCreated_destroysConnectionOnceReady() {
+        DatasourceContextServiceImpl standaloneDatasourceContextService = createStandaloneDatasourceContextService(10);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        Sinks.One<Object> connectionSink = Sinks.one();
+        doReturn(connectionSink.asMono()).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage("created_datasource");
+        CompletableFuture<DatasourceContext<?>> datasourceContextFuture = standaloneDatasourceContextService
+                .getCachedDatasourceContextMono(
+                        datasourceStorage,
+                        new Plugin(),
+                        spyMockPluginExecutor,
+                        new DatasourceContextIdentifier("created_datasource", FieldName.UNUSED_ENVIRONMENT_ID))
+                .toFuture();
+
+        standaloneDatasourceContextService
+                .deleteDatasourceContext(datasourceStorage)
+                .block();
+        verify(spyMockPluginExecutor, after(200).never()).datasourceDestroy(any());
+
+        connectionSink.tryEmitValue("connection_1");
+        assertEquals("connection_1", datasourceContextFuture.join().getConnection());
+        verify(spyMockPluginExecutor, timeout(5000).times(1)).datasourceDestroy("connection_1");
+    }
+
+    /**
+     * This test checks that removing a context whose connection creation has not started doesn't start it.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDeleteDatasourceContext_whenNotSubscribed_doesNotCreateConnection() {
+        DatasourceContextServiceImpl standaloneDatasourceContextService = createStandaloneDatasourceContextService(10);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1")).when(spyMockPluginExecutor).datasourceCreate(any());
+
+        DatasourceStorage datasourceStorage = createDatasourceStorage("unused_datasource");
+        Mono<DatasourceContext<?>> datasourceContextMono =
+                standaloneDatasourceContextService.getCachedDatasourceContextMono(
+                        datasourceStorage,
+                        new Plugin(),
+                        spyMockPluginExecutor,
+                        new DatasourceContextIdentifier("unused_datasource", FieldName.UNUSED_ENVIRONMENT_ID));
+
+        standaloneDatasourceContextService
+                .deleteDatasourceContext(datasourceStorage)
+                .block();
+        StepVerifier.create(datasourceContextMono)
+                .expectError(StaleConnectionException.class)
+                .verify();
+        verify(spyMockPluginExecutor, never()).datasourceCreate(any());
+        verify(spyMockPluginExecutor, never()).datasourceDestroy(any());
+    }
+
+    /**
+     * This test checks that a context evicted because the cache is full, while an execution is using it, keeps its
+     * connection open until the execution is done.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testDatasourceContextEviction_whenInUse_destroysConnectionAfterExecution() {
+        DatasourceContextServiceImpl boundedDatasourceContextService = createStandaloneDatasourceContextService(1);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+
+        Sinks.One<String> executionSink = Sinks.one();
+        List<CompletableFuture<String>> executionFutures =
+                List.of("in_use_datasource_1", "in_use_datasource_2").stream()
+                        .map(datasourceId -> {
+                            DatasourceContext<?> datasourceContext =
+                                    (DatasourceContext<?>) boundedDatasourceContextService
+                                            .getCachedDatasourceContextMono(
+                                                    createDatasourceStorage(datasourceId),
+                                                    new Plugin(),
+                                                    spyMockPluginExecutor,
+                                                    new DatasourceContextIdentifier(datasourceId, defaultEnvironmentId))
+                                            .block();
+                            return boundedDatasourceContextService
+                                    .useDatasourceContext(datasourceContext, context -> executionSink.asMono())
+                                    .toFuture();
+                        })
+                        .toList();
+
+        // One of the contexts is evicted, but both are still in use
+        verify(spyMockPluginExecutor, after(500).never()).datasourceDestroy(any());
+
+        executionSink.tryEmitValue("result");
+        executionFutures.forEach(executionFuture -> assertEquals("result", executionFuture.join()));
+        verify(spyMockPluginExecutor, timeout(5000).times(1)).datasourceDestroy(any());
+    }
+
+    /**
+     * This test checks that a context that is replaced because it is stale, while an execution is using it, keeps its
+     * connection open until the execution is done.
+     */
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testStaleDatasourceContext_whenInUse_destroysConnectionAfterExecution() {
+        DatasourceContextServiceImpl standaloneDatasourceContextService = createStandaloneDatasourceContextService(10);
+        MockPluginExecutor spyMockPluginExecutor = spy(new MockPluginExecutor());
+        doReturn(Mono.just("connection_1"))
+                .doReturn(Mono.just("connection_2"))
+                .when(spyMockPluginExecutor)
+                .datasourceCreate(any());
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                new DatasourceContextIdentifier("stale_datasource", defaultEnvironmentId);
+
+        DatasourceContext<?> datasourceContext = (DatasourceContext<?>) standaloneDatasourceContextService
+                .getCachedDatasourceContextMono(
+                        createDatasourceStorage("stale_datasource"),
+                        new Plugin(),
+                        spyMockPluginExecutor,
+                        datasourceContextIdentifier)
+                .block();
+        Sinks.One<String> executionSink = Sinks.one();
+        CompletableFuture<String> executionFuture = standaloneDatasourceContextService
+                .useDatasourceContext(datasourceContext, context -> executionSink.asMono())
+                .toFuture();
+
+        // The datasource was updated after the cached context was created
+        DatasourceStorage updatedDatasourceStorage = createDatasourceStorage("stale_datasource");
+        updatedDatasourceStorage.setUpdatedAt(Instant.now().plusSeconds(1));
+        DatasourceContext<?> freshDatasourceContext = (DatasourceContext<?>) standaloneDatasourceContextService
+                .getCachedDatasourceContextMono(
+                        updatedDatasourceStorage, new Plugin(), spyMockPluginExecutor, datasourceContextIdentifier)
+                .block();
+        assertEquals("connection_2", freshDatasourceContext.getConnection());
+        verify(spyMockPluginExecutor, after(200).never()).datasourceDestroy(any());
+
+        executionSink.tryEmitValue("result");
+        assertEquals("result", executionFuture.join());
+        verify(spyMockPluginExecutor, timeout(5000).times(1)).datasourceDestroy("connection_1");
+    }
 }
@@ -1,6 +1,7 @@
 package com.appsmith.server.services.ce;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.FeaturesResponseDTO;
 import com.appsmith.server.featureflags.CachedFeatures;
@@ -64,6 +65,9 @@ public class FeatureFlagServiceCETest {
     @SpyBean
     CacheManager cacheManager;
 
+    @Autowired
+    RedisCacheManagerImpl redisCacheManager;
+
     @MockBean
     FeatureFlagMigrationHelper featureFlagMigrationHelper;
 
@@ -84,6 +88,13 @@ public class FeatureFlagServiceCETest {
         cacheManager.evictAll("tenantNewFeatures").block();
     }
 
+    /**
+     * Checks the key in Redis directly, as stored by the cache manager for the current generation of the cache.
+     */
+    private Mono<Boolean> hasCacheKey(String cacheName, String key) {
+        return redisCacheManager.getPath(cacheName, key).flatMap(reactiveRedisTemplate::hasKey);
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testNullFeatureCheck() {
@@ -134,7 +145,7 @@ public class FeatureFlagServiceCETest {
         String userIdentifier = "testIdentifier";
         User dummyUser = new User();
         Mono<CachedFlags> cachedFlagsMono = cacheableFeatureFlagHelper.fetchUserCachedFlags(userIdentifier, dummyUser);
-        Mono<Boolean> hasKeyMono = reactiveRedisTemplate.hasKey("featureFlag:" + userIdentifier);
+        Mono<Boolean> hasKeyMono = hasCacheKey("featureFlag", userIdentifier);
         StepVerifier.create(cachedFlagsMono.then(hasKeyMono))
                 .assertNext(Assertions::assertTrue)
                 .verifyComplete();
@@ -144,7 +155,7 @@ public class FeatureFlagServiceCETest {
     public void evictFeatureFlags_withUserIdentifier_redisKeyDoesNotExist() {
         String userIdentifier = "testIdentifier";
         Mono<Void> evictCache = cacheableFeatureFlagHelper.evictUserCachedFlags(userIdentifier);
-        Mono<Boolean> hasKeyMono = reactiveRedisTemplate.hasKey("featureFlag:" + userIdentifier);
+        Mono<Boolean> hasKeyMono = hasCacheKey("featureFlag", userIdentifier);
         StepVerifier.create(evictCache.then(hasKeyMono))
                 .assertNext(Assertions::assertFalse)
                 .verifyComplete();
@@ -165,7 +176,7 @@ public class FeatureFlagServiceCETest {
         String tenantIdentifier = UUID.randomUUID().toString();
         Mono<CachedFeatures> cachedFeaturesMono =
                 cacheableFeatureFlagHelper.fetchCachedTenantFeatures(tenantIdentifier);
-        Mono<Boolean> hasKeyMono = reactiveRedisTemplate.hasKey("tenantNewFeatures:" + tenantIdentifier);
+        Mono<Boolean> hasKeyMono = hasCacheKey("tenantNewFeatures", tenantIdentifier);
         StepVerifier.create(cachedFeaturesMono.then(hasKeyMono))
                 .assertNext(Assertions::assertTrue)
                 .verifyComplete();
@@ -187,14 +198,14 @@ public class FeatureFlagServiceCETest {
         String tenantIdentifier = UUID.randomUUID().toString();
         Mono<CachedFeatures> cachedFeaturesMono =
                 cacheableFeatureFlagHelper.fetchCachedTenantFeatures(tenantIdentifier);
-        Mono<Boolean> hasKeyMono = reactiveRedisTemplate.hasKey("tenantNewFeatures:" + tenantIdentifier);
+        Mono<Boolean> hasKeyMono = hasCacheKey("tenantNewFeatures", tenantIdentifier);
         // Assert key is inserted in cache
         StepVerifier.create(cachedFeaturesMono.then(hasKeyMono))
                 .assertNext(Assertions::assertTrue)
                 .verifyComplete();
 
         Mono<Void> evictCache = cacheableFeatureFlagHelper.evictCachedTenantFeatures(tenantIdentifier);
-        hasKeyMono = reactiveRedisTemplate.hasKey("tenantNewFeatures:" + tenantIdentifier);
+        hasKeyMono = hasCacheKey("tenantNewFeatures", tenantIdentifier);
         // Assert key is evicted from cache
         StepVerifier.create(evictCache.then(hasKeyMono))
                 .assertNext(Assertions::assertFalse)
@@ -73,6 +73,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -495,6 +496,59 @@ public class ActionExecutionSolutionCETest {
         executeAndAssertAction(executeActionDTO, mockResult, List.of(new ParsedDataType(DisplayDataType.RAW)));
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void testActionExecuteAsStream() throws JsonProcessingException {
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.getHintMessages(any(), any()))
+                .thenReturn(Mono.zip(Mono.just(new HashSet<>()), Mono.just(new HashSet<>())));
+        Mockito.when(pluginExecutor.datasourceCreate(any())).thenReturn(Mono.empty());
+        Mockito.doReturn(Mono.just(false))
+                .when(spyDatasourceService)
+                .isEndpointBlockedForConnectionRequest(Mockito.any());
+
+        ActionExecutionResult firstChunk = new ActionExecutionResult();
+        firstChunk.setIsExecutionSuccess(true);
+        firstChunk.setBody(objectMapper.readTree("[{\"id\": 1, \"name\": \"Jack\"}, {\"id\": 2, \"name\": \"Jill\"}]"));
+        ActionExecutionResult secondChunk = new ActionExecutionResult();
+        secondChunk.setIsExecutionSuccess(true);
+        secondChunk.setBody(objectMapper.readTree("[{\"id\": 3, \"name\": \"Jane\"}]"));
+        Mockito.when(pluginExecutor.executeParameterizedAsStreamWithMetrics(any(), any(), any(), any(), any()))
+                .thenReturn(Flux.just(firstChunk, secondChunk));
+
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users");
+        action.setActionConfiguration(actionConfiguration);
+        action.setPageId(testPage.getId());
+        action.setName("testActionExecuteAsStream");
+        action.setDatasource(datasource);
+        ActionDTO createdAction =
+                layoutActionService.createSingleAction(action, Boolean.FALSE).block();
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(createdAction.getId());
+        executeActionDTO.setViewMode(false);
+
+        Flux<ActionExecutionResult> actionExecutionResultFlux =
+                actionExecutionSolution.executeActionAsStream(executeActionDTO, defaultEnvironmentId, null);
+
+        StepVerifier.create(actionExecutionResultFlux)
+                .assertNext(result -> {
+                    assertThat(result.getBody()).isEqualTo(firstChunk.getBody());
+                    // Only computed from the first chunk, and sent with it
+                    assertThat(result.getDataTypes()).isNotEmpty();
+                    assertThat(result.getSuggestedWidgets()).isNotEmpty();
+                    assertThat(result.getRequest().getActionId()).isEqualTo(executeActionDTO.getActionId());
+                })
+                .assertNext(result -> {
+                    assertThat(result.getBody()).isEqualTo(secondChunk.getBody());
+                    assertThat(result.getDataTypes()).isNullOrEmpty();
+                    assertThat(result.getRequest()).isNull();
+                })
+                .verifyComplete();
+    }
+
     @Test
     @WithUserDetails(value = "api_user")
     public void testActionExecuteErrorResponse() {
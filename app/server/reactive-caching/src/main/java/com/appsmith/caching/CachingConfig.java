@@ -1,8 +1,29 @@
 package com.appsmith.caching;
 
+import com.appsmith.caching.components.CacheMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @ComponentScan
-public class CachingConfig {}
+@EnableConfigurationProperties(CachingProperties.class)
+public class CachingConfig {
+
+    /**
+     * Meters of the caches are published to the registries of the application. Without them, the meters go to the
+     * global registry and the loads are not observed.
+     */
+    @Bean
+    public CacheMetrics cacheMetrics(
+            ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new CacheMetrics(
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+    }
+}
@@ -0,0 +1,28 @@
+package com.appsmith.caching;
+
+import com.appsmith.caching.model.CachePolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the caches, under {@code appsmith.cache}.
+ */
+@Data
+@ConfigurationProperties(prefix = "appsmith.cache")
+public class CachingProperties {
+
+    /**
+     * Policies by cache name. A policy configured here takes precedence over the one declared on the Cache annotation.
+     */
+    private Map<String, CachePolicy> policies = new HashMap<>();
+
+    /**
+     * How long the items of a cache without a ttl in its policy are kept in Redis. This bounds how long the items of a
+     * retired generation can outlive a sweep that did not run, e.g. because the node that evicted the cache stopped.
+     */
+    private Duration maxTtl = Duration.ofDays(1);
+}
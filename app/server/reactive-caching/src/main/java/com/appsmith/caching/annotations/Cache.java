@@ -22,4 +22,27 @@ public @interface Cache {
      * All method arguments can be used in the expression
      */
     String key() default "";
+
+    /**
+     * Probability, between 0 and 1, with which a cache hit also reloads the item in the background. Popular items are
+     * then refreshed at random points in time, instead of all being missed and loaded together. Disabled by default.
+     */
+    double earlyRefreshProbability() default 0;
+
+    /**
+     * Time to live of the items of the cache, in seconds. Items are kept until they are evicted if this is zero.
+     * All methods using the same cache name should declare the same policy.
+     */
+    long ttlSeconds() default 0;
+
+    /**
+     * Whether reading an item restarts its time to live, so that only items that are not read expire.
+     */
+    boolean slidingExpiry() default false;
+
+    /**
+     * The maximum number of items of the cache kept in the memory of every node. The default size is used if this is
+     * zero.
+     */
+    long maxSize() default 0;
 }
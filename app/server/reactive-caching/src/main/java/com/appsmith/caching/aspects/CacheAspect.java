@@ -3,6 +3,8 @@ package com.appsmith.caching.aspects;
 import com.appsmith.caching.annotations.Cache;
 import com.appsmith.caching.annotations.CacheEvict;
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.model.CachePolicy;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -10,20 +12,44 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 /**
  * CacheAspect is an aspect that is used to cache the results of a method call annotated with Cache.
  * It is also possible to evict the cached result by annotating method with CacheEvict.
+ * <p>
+ * Concurrent misses for the same key share a single call of the original method, so that an item expiring or being
+ * evicted does not cause every waiting caller to run the same query.
+ * <p>
+ * Everything that only depends on the annotated method, like the annotation itself, the parsed key expression and the
+ * kind of the return type, is resolved on the first call of the method and kept for all later calls. The policy declared
+ * on the annotation is passed on to the CacheManager at that point.
  */
 @Aspect
 @Component
@@ -32,11 +58,49 @@ public class CacheAspect {
 
     private final CacheManager cacheManager;
 
-    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+    private final CacheMetrics cacheMetrics;
+
+    // Key expressions are compiled to bytecode, where possible, once they have been evaluated
+    public static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, CacheAspect.class.getClassLoader()));
+
+    // Key expressions read the properties of, and call methods on, the arguments. They can't reference types, create
+    // objects or write properties.
+    private static final EvaluationContext KEY_EVALUATION_CONTEXT = SimpleEvaluationContext.forReadOnlyDataBinding()
+            .withInstanceMethods()
+            .build();
+
+    /**
+     * Kind of the return type of an annotated method, which decides how its result is cached.
+     */
+    private enum ReturnKind {
+        MONO,
+        FLUX,
+        OTHER
+    }
+
+    /**
+     * Details of a method annotated with Cache or CacheEvict that stay the same for every call of the method.
+     *
+     * @param annotation     The Cache or CacheEvict annotation of the method
+     * @param keyExpression  The parsed key expression, null if the key is derived from the arguments
+     * @param parameterNames Names of the method arguments
+     * @param returnKind     Kind of the return type of the method
+     */
+    private record MethodMetadata<A extends Annotation>(
+            A annotation, Expression keyExpression, String[] parameterNames, ReturnKind returnKind) {}
+
+    private final Map<Method, MethodMetadata<Cache>> cacheableMetadata = new ConcurrentHashMap<>();
+
+    private final Map<Method, MethodMetadata<CacheEvict>> cacheEvictMetadata = new ConcurrentHashMap<>();
+
+    // Loads currently in progress, by cache name and key. An entry is removed as soon as its load terminates.
+    private final Map<String, Mono<Object>> inFlightLoads = new ConcurrentHashMap<>();
 
     @Autowired
-    public CacheAspect(CacheManager cacheManager) {
+    public CacheAspect(CacheManager cacheManager, CacheMetrics cacheMetrics) {
         this.cacheManager = cacheManager;
+        this.cacheMetrics = cacheMetrics;
     }
 
     /**
@@ -87,6 +151,64 @@ public class CacheAspect {
         }
     }
 
+    /**
+     * This method is used to share a single load of an item between all the callers that miss it at the same time.
+     * The first caller starts the load, and every caller arriving before it completes subscribes to the same result.
+     * The load is observed once, however many callers share it.
+     *
+     * @param cacheName The name of the cache
+     * @param key       The key of the item
+     * @param loader    Supplier of the load, called only if no load is in progress for the key
+     * @return The result of the load
+     */
+    private Mono<Object> loadOnce(String cacheName, String key, Supplier<Mono<Object>> loader) {
+        final String inFlightKey = cacheName + ":" + key;
+        final boolean[] started = {false};
+        Mono<Object> load = inFlightLoads.computeIfAbsent(inFlightKey, ignored -> {
+            started[0] = true;
+            return cacheMetrics
+                    .observeLoad(cacheName, Mono.defer(loader))
+                    // Only this load can be registered against the key until it is removed here
+                    .doFinally(signalType -> inFlightLoads.remove(inFlightKey))
+                    .cache();
+        });
+
+        if (!started[0]) {
+            cacheManager.getStats(cacheName).getCoalescedLoads().incrementAndGet();
+        }
+
+        return load;
+    }
+
+    /**
+     * This method is used to reload an item in the background on a cache hit, with the probability configured on the
+     * annotation. The reload runs with the context of the caller, and shares any load already in progress for the key.
+     *
+     * @param annotation The Cache annotation of the method
+     * @param cacheName  The name of the cache
+     * @param key        The key of the item
+     * @param value      The value found in the cache
+     * @param loader     Supplier of the load
+     * @return The value found in the cache
+     */
+    private <T> Mono<T> refreshEarly(
+            Cache annotation, String cacheName, String key, T value, Supplier<Mono<Object>> loader) {
+        final double probability = annotation.earlyRefreshProbability();
+        if (probability <= 0 || ThreadLocalRandom.current().nextDouble() >= probability) {
+            return Mono.just(value);
+        }
+
+        cacheManager.getStats(cacheName).getEarlyRefreshes().incrementAndGet();
+        return Mono.deferContextual(contextView -> {
+            loadOnce(cacheName, key, loader)
+                    .contextWrite(contextView)
+                    .subscribe(
+                            refreshed -> {},
+                            error -> log.error("Error refreshing cache {} for key {}", cacheName, key, error));
+            return Mono.just(value);
+        });
+    }
+
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments.
      * This uses original strategy used by Spring's Cacheable annotation.
@@ -110,37 +232,133 @@ public class CacheAspect {
     /**
      * This method is used to derive the key name for caching the result of a method call based on method arguments and expression provided.
      *
-     * @param expression     SPEL Expression to derive the key name
+     * @param expression     Parsed SPEL Expression to derive the key name
      * @param parameterNames Names of the method arguments of original method call
      * @param args           Arguments of original method call
      * @return Key name for caching the result of the method call
      */
-    private String deriveKeyWithExpression(String expression, String[] parameterNames, Object[] args) {
-        // Create EvaluationContext for the expression
-        EvaluationContext evaluationContext = new StandardEvaluationContext();
-        for (int i = 0; i < args.length; i++) {
-            // Add method arguments to evaluation context
-            evaluationContext.setVariable(parameterNames[i], args[i]);
-        }
-        // Parse expression and return the result
-        return EXPRESSION_PARSER.parseExpression(expression).getValue(evaluationContext, String.class);
+    private String deriveKeyWithExpression(Expression expression, String[] parameterNames, Object[] args) {
+        return expression.getValue(new ArgumentsEvaluationContext(parameterNames, args), String.class);
+    }
+
+    /**
+     * Evaluation context of a key expression, where the method arguments are the variables. Everything else is
+     * delegated to {@link #KEY_EVALUATION_CONTEXT}, which is built once and shared by all calls, so that a call only
+     * allocates this wrapper around its arguments.
+     */
+    private static final class ArgumentsEvaluationContext implements EvaluationContext {
+
+        private final String[] parameterNames;
+
+        private final Object[] args;
+
+        private ArgumentsEvaluationContext(String[] parameterNames, Object[] args) {
+            this.parameterNames = parameterNames;
+            this.args = args;
+        }
+
+        @Override
+        public Object lookupVariable(String name) {
+            for (int i = 0; i < args.length; i++) {
+                if (parameterNames[i].equals(name)) {
+                    return args[i];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public void setVariable(String name, Object value) {
+            throw new UnsupportedOperationException("Key expressions can't assign variables");
+        }
+
+        @Override
+        public TypedValue getRootObject() {
+            return KEY_EVALUATION_CONTEXT.getRootObject();
+        }
+
+        @Override
+        public List<PropertyAccessor> getPropertyAccessors() {
+            return KEY_EVALUATION_CONTEXT.getPropertyAccessors();
+        }
+
+        @Override
+        public List<ConstructorResolver> getConstructorResolvers() {
+            return KEY_EVALUATION_CONTEXT.getConstructorResolvers();
+        }
+
+        @Override
+        public List<MethodResolver> getMethodResolvers() {
+            return KEY_EVALUATION_CONTEXT.getMethodResolvers();
+        }
+
+        @Override
+        public BeanResolver getBeanResolver() {
+            return KEY_EVALUATION_CONTEXT.getBeanResolver();
+        }
+
+        @Override
+        public TypeLocator getTypeLocator() {
+            return KEY_EVALUATION_CONTEXT.getTypeLocator();
+        }
+
+        @Override
+        public TypeConverter getTypeConverter() {
+            return KEY_EVALUATION_CONTEXT.getTypeConverter();
+        }
+
+        @Override
+        public TypeComparator getTypeComparator() {
+            return KEY_EVALUATION_CONTEXT.getTypeComparator();
+        }
+
+        @Override
+        public OperatorOverloader getOperatorOverloader() {
+            return KEY_EVALUATION_CONTEXT.getOperatorOverloader();
+        }
     }
 
     /**
      * This method is used to derive the key name for caching the result of a method call
      *
-     * @param expression     SPEL Expression to derive the key name
-     * @param parameterNames Names of the method arguments of original method call
-     * @param args           Arguments of original method call
+     * @param metadata Details of the annotated method
+     * @param args     Arguments of original method call
      * @return Key name for caching the result of the method call
      */
-    private String deriveKey(String expression, String[] parameterNames, Object[] args) {
-        if (expression.isEmpty()) { // If expression is empty, use default strategy
+    private String deriveKey(MethodMetadata<?> metadata, Object[] args) {
+        if (metadata.keyExpression() == null) { // If expression is empty, use default strategy
             return deriveKeyWithArguments(args);
         }
 
         // If expression is not empty, use expression strategy
-        return deriveKeyWithExpression(expression, parameterNames, args);
+        return deriveKeyWithExpression(metadata.keyExpression(), metadata.parameterNames(), args);
+    }
+
+    /**
+     * This method is used to resolve the details of an annotated method that do not change between calls.
+     *
+     * @param signature  Signature of the method
+     * @param annotation The Cache or CacheEvict annotation of the method
+     * @param expression SPEL Expression to derive the key name, from the annotation
+     * @return Details of the method
+     */
+    private static <A extends Annotation> MethodMetadata<A> resolveMetadata(
+            MethodSignature signature, A annotation, String expression) {
+        Class<?> returnType = signature.getMethod().getReturnType();
+        ReturnKind returnKind;
+        if (returnType.isAssignableFrom(Mono.class)) {
+            returnKind = ReturnKind.MONO;
+        } else if (returnType.isAssignableFrom(Flux.class)) {
+            returnKind = ReturnKind.FLUX;
+        } else {
+            returnKind = ReturnKind.OTHER;
+        }
+
+        return new MethodMetadata<>(
+                annotation,
+                expression.isEmpty() ? null : EXPRESSION_PARSER.parseExpression(expression),
+                signature.getParameterNames(),
+                returnKind);
     }
 
     /**
@@ -154,29 +372,38 @@ public class CacheAspect {
     public Object cacheable(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        Cache annotation = method.getAnnotation(Cache.class);
+        MethodMetadata<Cache> metadata = cacheableMetadata.computeIfAbsent(method, ignored -> {
+            Cache cache = method.getAnnotation(Cache.class);
+            cacheManager.setPolicy(cache.cacheName(), CachePolicy.from(cache));
+            return resolveMetadata(signature, cache, cache.key());
+        });
+        Cache annotation = metadata.annotation();
         String cacheName = annotation.cacheName();
 
         // derive key
-        String[] parameterNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-        String key = deriveKey(annotation.key(), parameterNames, args);
+        String key = deriveKey(metadata, joinPoint.getArgs());
 
-        Class<?> returnType = method.getReturnType();
-        if (returnType.isAssignableFrom(Mono.class)) { // If method returns Mono<T>
+        if (metadata.returnKind() == ReturnKind.MONO) { // If method returns Mono<T>
+            Supplier<Mono<Object>> loader = () -> callMonoMethodAndCache(joinPoint, cacheName, key);
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callMonoMethodAndCache(
-                            joinPoint, cacheName,
-                            key))); // defer the creation of Mono until subscription as it will call original function
+                    .flatMap(value -> refreshEarly(annotation, cacheName, key, value, loader))
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(
+                            cacheName, key,
+                            loader))); // defer the creation of Mono until subscription as it will call original
+            // function
         }
 
-        if (returnType.isAssignableFrom(Flux.class)) { // If method returns Flux<T>
+        if (metadata.returnKind() == ReturnKind.FLUX) { // If method returns Flux<T>
+            Supplier<Mono<Object>> loader = () -> callFluxMethodAndCache(joinPoint, cacheName, key)
+                    .collectList()
+                    .map(list -> list);
             return cacheManager
                     .get(cacheName, key)
-                    .switchIfEmpty(Mono.defer(() -> callFluxMethodAndCache(joinPoint, cacheName, key)
-                            .collectList())) // defer the creation of Flux until subscription as it will call original
-                    // function
+                    .flatMap(value -> refreshEarly(annotation, cacheName, key, value, loader))
+                    .switchIfEmpty(Mono.defer(() -> loadOnce(
+                            cacheName, key, loader))) // defer the creation of Flux until subscription as it will call
+                    // original function
                     .map(value -> (List<?>) value)
                     .flatMapMany(Flux::fromIterable);
         }
@@ -198,12 +425,15 @@ public class CacheAspect {
     public Object cacheEvict(ProceedingJoinPoint joinPoint) throws Throwable {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         Method method = signature.getMethod();
-        CacheEvict annotation = method.getAnnotation(CacheEvict.class);
+        MethodMetadata<CacheEvict> metadata = cacheEvictMetadata.computeIfAbsent(method, ignored -> {
+            CacheEvict cacheEvict = method.getAnnotation(CacheEvict.class);
+            return resolveMetadata(signature, cacheEvict, cacheEvict.key());
+        });
+        CacheEvict annotation = metadata.annotation();
         String cacheName = annotation.cacheName();
         boolean all = annotation.all();
-        Class<?> returnType = method.getReturnType();
 
-        if (!returnType.isAssignableFrom(Mono.class)) {
+        if (metadata.returnKind() != ReturnKind.MONO) {
             throw new RuntimeException(
                     "Invalid usage of @CacheEvict for " + method.getName() + ". Only Mono<?> is allowed.");
         }
@@ -213,9 +443,7 @@ public class CacheAspect {
         }
 
         // derive key
-        String[] parameterNames = signature.getParameterNames();
-        Object[] args = joinPoint.getArgs();
-        String key = deriveKey(annotation.key(), parameterNames, args);
+        String key = deriveKey(metadata, joinPoint.getArgs());
         // Evict key from the cache then call the original method
         return cacheManager.evict(cacheName, key).then((Mono<?>) joinPoint.proceed());
     }
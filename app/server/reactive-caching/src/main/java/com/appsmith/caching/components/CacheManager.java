@@ -1,5 +1,7 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
 import reactor.core.publisher.Mono;
 
 public interface CacheManager {
@@ -8,6 +10,28 @@ public interface CacheManager {
      */
     void logStats();
 
+    /**
+     * This will get the stats of the cache, creating them on the first use of the cache.
+     * @param cacheName The name of the cache.
+     * @return The stats of the cache.
+     */
+    CacheStats getStats(String cacheName);
+
+    /**
+     * This will set the policy of the cache, as declared on the annotated methods. A policy configured for the cache
+     * name takes precedence over the declared one.
+     * @param cacheName The name of the cache.
+     * @param policy The declared policy.
+     */
+    void setPolicy(String cacheName, CachePolicy policy);
+
+    /**
+     * This will get the policy in effect for the cache.
+     * @param cacheName The name of the cache.
+     * @return The policy of the cache, CachePolicy.DEFAULT if none was declared or configured.
+     */
+    CachePolicy getPolicy(String cacheName);
+
     /**
      * This will get item from the cache, Mono.empty() if not found.
      * @param cacheName The name of the cache.
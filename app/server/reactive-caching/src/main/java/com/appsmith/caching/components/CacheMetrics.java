@@ -0,0 +1,129 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * CacheMetrics publishes the stats of every cache as meters, so that they can be followed from the metrics endpoints
+ * of the application instead of the logs. All meters carry the name of the cache in the {@code cache} tag.
+ * <ul>
+ *     <li>{@code appsmith.cache.gets}: hits and misses, by {@code result} and by {@code tier}.</li>
+ *     <li>{@code appsmith.cache.hit.ratio}: share of the gets, on either tier, that were hits.</li>
+ *     <li>{@code appsmith.cache.evictions}: evictions, by {@code cause}.</li>
+ *     <li>{@code appsmith.cache.loads.coalesced} and {@code appsmith.cache.refreshes.early}: see {@link CacheStats}.</li>
+ *     <li>{@code appsmith.cache.payload.size}: size of the serialized items written to the backend, in bytes.</li>
+ *     <li>{@code appsmith.cache.load}: observation of the calls of the original method on a miss. Its timer is
+ *     recorded by the meter handler of the observation registry, and it is exported as a span when tracing is on.</li>
+ * </ul>
+ * The counters read the CacheStats of the cache when the meters are collected, so counting a hit stays a single
+ * atomic increment.
+ */
+public class CacheMetrics {
+
+    public static final String LOAD_OBSERVATION = "appsmith.cache.load";
+
+    private static final String CACHE_TAG = "cache";
+
+    private static final String GETS = "appsmith.cache.gets";
+
+    private static final String EVICTIONS = "appsmith.cache.evictions";
+
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+
+    // Registered on the first write to every cache, so that a write doesn't look the meter up in the registry
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Registers the meters of a cache. Registering the same cache again has no effect.
+     * @param cacheName The name of the cache.
+     * @param cacheManager The CacheManager holding the stats of the cache, which are looked up on every collection.
+     */
+    public void bind(String cacheName, CacheManager cacheManager) {
+        counter(GETS, cacheName, cacheManager, CacheStats::getHits, "result", "hit", "tier", "backend");
+        counter(GETS, cacheName, cacheManager, CacheStats::getLocalHits, "result", "hit", "tier", "local");
+        counter(GETS, cacheName, cacheManager, CacheStats::getMisses, "result", "miss", "tier", "backend");
+        counter(EVICTIONS, cacheName, cacheManager, CacheStats::getSingleEvictions, "cause", "key");
+        counter(EVICTIONS, cacheName, cacheManager, CacheStats::getCompleteEvictions, "cause", "all");
+        counter(EVICTIONS, cacheName, cacheManager, CacheStats::getSizeEvictions, "cause", "size");
+        counter("appsmith.cache.loads.coalesced", cacheName, cacheManager, CacheStats::getCoalescedLoads);
+        counter("appsmith.cache.refreshes.early", cacheName, cacheManager, CacheStats::getEarlyRefreshes);
+
+        Gauge.builder("appsmith.cache.hit.ratio", cacheManager, manager -> hitRatio(manager.getStats(cacheName)))
+                .tag(CACHE_TAG, cacheName)
+                .register(meterRegistry);
+    }
+
+    private void counter(
+            String name,
+            String cacheName,
+            CacheManager cacheManager,
+            Function<CacheStats, AtomicLong> stat,
+            String... tags) {
+        FunctionCounter.builder(name, cacheManager, manager -> stat.apply(manager.getStats(cacheName))
+                        .get())
+                .tag(CACHE_TAG, cacheName)
+                .tags(tags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Share of the gets of the cache that were hits, NaN while nothing has been read from it.
+     */
+    static double hitRatio(CacheStats stats) {
+        double hits = stats.getHits().get() + stats.getLocalHits().get();
+        double total = hits + stats.getMisses().get();
+        return total == 0 ? Double.NaN : hits / total;
+    }
+
+    /**
+     * Records the size of an item written to the backend.
+     * @param cacheName The name of the cache.
+     * @param bytes The size of the serialized item.
+     */
+    public void recordPayloadSize(String cacheName, long bytes) {
+        payloadSizes
+                .computeIfAbsent(cacheName, name -> DistributionSummary.builder("appsmith.cache.payload.size")
+                        .baseUnit("bytes")
+                        .tag(CACHE_TAG, name)
+                        .register(meterRegistry))
+                .record(bytes);
+    }
+
+    /**
+     * Wraps the load of an item in an observation, started on subscription. The observation of the caller, if any,
+     * becomes its parent.
+     * @param cacheName The name of the cache.
+     * @param load The load of the item.
+     * @return The load, observed.
+     */
+    public <T> Mono<T> observeLoad(String cacheName, Mono<T> load) {
+        return Mono.deferContextual(contextView -> {
+            Observation observation = Observation.createNotStarted(LOAD_OBSERVATION, observationRegistry)
+                    .parentObservation(contextView.getOrDefault(ObservationThreadLocalAccessor.KEY, null))
+                    .lowCardinalityKeyValue(CACHE_TAG, cacheName)
+                    .start();
+            // Stopped before the result is passed on, so that the load is recorded by the time a caller sees it
+            return load.doOnError(observation::error)
+                    .doOnTerminate(observation::stop)
+                    .doOnCancel(observation::stop);
+        });
+    }
+}
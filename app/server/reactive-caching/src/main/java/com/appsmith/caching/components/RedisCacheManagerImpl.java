@@ -1,21 +1,49 @@
 package com.appsmith.caching.components;
 
+import com.appsmith.caching.CachingProperties;
+import com.appsmith.caching.model.CachePolicy;
 import com.appsmith.caching.model.CacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RedisCacheManagerImpl is a class that implements the CacheManager interface.
  * Used Redis as the cache backend.
+ * <p>
+ * Every cache carries a generation counter, stored in Redis against {@code <cacheName>#generation}. Entries of
+ * generation 0 are stored against {@code <cacheName>:<key>} and entries of any later generation against
+ * {@code <cacheName>#<generation>:<key>}. Evicting all entries of a cache only increments the counter, which makes the
+ * existing entries unreachable at once. The entries of the retired generation are then removed in the background
+ * with an incremental SCAN, so that Redis is never blocked for longer than a single batch. Items of caches without a
+ * time to live are still written with {@link CachingProperties#getMaxTtl()}, so that the entries of a retired
+ * generation also go away when the sweep does not run.
+ * <p>
+ * The generation of a cache is kept in the memory of this node, so that reads and writes don't need a round trip to
+ * Redis for it. It is updated when this node evicts the cache, and through {@link #applyGeneration(String, long)} when
+ * another node does, and is read again from Redis every {@link #GENERATION_REFRESH_INTERVAL} in case such a message is
+ * lost.
+ * <p>
+ * Items of a cache with a time to live in its {@link CachePolicy} are written with that expiry. With sliding expiry,
+ * every read also restarts the time to live of the item. That is a single GETEX on Redis 6.2 and later, and a GET
+ * followed by an EXPIRE on older servers. The version of the server is read once, on the first such read.
  */
 @Component
 @ConditionalOnClass({ReactiveRedisTemplate.class})
@@ -24,17 +52,46 @@ public class RedisCacheManagerImpl implements CacheManager {
 
     private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
     private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+    private final CachingProperties cachingProperties;
+    private final CacheMetrics cacheMetrics;
+
+    private static final String GENERATION_KEY_SUFFIX = "#generation";
+
+    // Reads the counter as a number, so that the value serializer of the template is not involved.
+    private static final RedisScript<Long> GET_GENERATION_SCRIPT =
+            RedisScript.of("return tonumber(redis.call('get', KEYS[1]) or '0')", Long.class);
+
+    // Number of keys asked for in every SCAN call, and deleted in every UNLINK call, by the sweeper.
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // How long the generation of a cache is used from memory before it is read from Redis again.
+    private static final Duration GENERATION_REFRESH_INTERVAL = Duration.ofSeconds(5);
+
+    // Nodes that missed the bump may write to the retired generation until they read the generation again, so the
+    // sweep waits for them.
+    private static final Duration SWEEP_DELAY = GENERATION_REFRESH_INTERVAL.multipliedBy(2);
+
+    // GETEX was added in Redis 6.2
+    private static final int[] GETEX_MIN_VERSION = {6, 2};
+
+    private final Mono<Boolean> getExSupported;
 
     Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
 
+    Map<String, CachePolicy> policies = new ConcurrentHashMap<>();
+
+    private final Cache<String, Long> generations =
+            Caffeine.newBuilder().expireAfterWrite(GENERATION_REFRESH_INTERVAL).build();
+
     /**
-     * Ensures that the key for cacheName is present in statsMap.
+     * Ensures that the key for cacheName is present in statsMap, and that the meters of the cache are registered.
      * @param cacheName The name of the cache.
      */
     private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
+        statsMap.computeIfAbsent(cacheName, name -> {
+            cacheMetrics.bind(name, this);
+            return CacheStats.newInstance();
+        });
     }
 
     @Override
@@ -42,15 +99,40 @@ public class RedisCacheManagerImpl implements CacheManager {
         statsMap.keySet().forEach(key -> {
             CacheStats stats = statsMap.get(key);
             log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
+                    "Cache {} stats: hits = {}, localHits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}, "
+                            + "coalescedLoads = {}, earlyRefreshes = {}, sizeEvictions = {}, policy = {}",
                     key,
                     stats.getHits(),
+                    stats.getLocalHits(),
                     stats.getMisses(),
                     stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
+                    stats.getCompleteEvictions(),
+                    stats.getCoalescedLoads(),
+                    stats.getEarlyRefreshes(),
+                    stats.getSizeEvictions(),
+                    stats.getPolicy());
         });
     }
 
+    @Override
+    public CacheStats getStats(String cacheName) {
+        ensureStats(cacheName);
+        return statsMap.get(cacheName);
+    }
+
+    @Override
+    public void setPolicy(String cacheName, CachePolicy policy) {
+        CachePolicy effectivePolicy = cachingProperties.getPolicies().getOrDefault(cacheName, policy);
+        policies.put(cacheName, effectivePolicy);
+        getStats(cacheName).setPolicy(effectivePolicy);
+    }
+
+    @Override
+    public CachePolicy getPolicy(String cacheName) {
+        return policies.computeIfAbsent(
+                cacheName, name -> cachingProperties.getPolicies().getOrDefault(name, CachePolicy.DEFAULT));
+    }
+
     /**
      * Resets the stats.
      */
@@ -61,18 +143,123 @@ public class RedisCacheManagerImpl implements CacheManager {
     @Autowired
     public RedisCacheManagerImpl(
             ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            CachingProperties cachingProperties,
+            CacheMetrics cacheMetrics) {
         this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.reactiveRedisOperations = reactiveRedisOperations;
+        this.cachingProperties = cachingProperties;
+        this.cacheMetrics = cacheMetrics;
+        this.getExSupported = Mono.defer(() -> reactiveRedisTemplate
+                        .execute(connection -> connection.serverCommands().info("server"))
+                        .next()
+                        .map(info -> isGetExSupported(info.getProperty("redis_version"))))
+                .defaultIfEmpty(false)
+                // A failed lookup is not kept, so that the version is read again on the next sliding read
+                .cache(supported -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO)
+                .onErrorResume(error -> {
+                    log.warn("Could not read the version of the Redis server, reading without GETEX", error);
+                    return Mono.just(false);
+                });
+    }
+
+    /**
+     * Whether a Redis server of the given version supports GETEX.
+     * @param redisVersion The version, as reported in the server section of INFO.
+     * @return true for version 6.2 or later, false otherwise, or if the version can't be read.
+     */
+    public static boolean isGetExSupported(String redisVersion) {
+        if (redisVersion == null) {
+            return false;
+        }
+        final String[] parts = redisVersion.trim().split("\\.");
+        try {
+            for (int i = 0; i < GETEX_MIN_VERSION.length; i++) {
+                final int part = i < parts.length ? Integer.parseInt(parts[i]) : 0;
+                if (part != GETEX_MIN_VERSION[i]) {
+                    return part > GETEX_MIN_VERSION[i];
+                }
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the item and restarts its time to live.
+     */
+    private Mono<Object> getAndExpire(String path, Duration ttl) {
+        return getExSupported.flatMap(supported -> supported
+                ? reactiveRedisTemplate.opsForValue().getAndExpire(path, ttl)
+                : reactiveRedisTemplate.opsForValue().get(path).flatMap(value -> reactiveRedisTemplate
+                        .expire(path, ttl)
+                        .thenReturn(value)));
+    }
+
+    private static String getGenerationKey(String cacheName) {
+        return cacheName + GENERATION_KEY_SUFFIX;
+    }
+
+    /**
+     * Prefix of all the keys of the given generation of a cache. Generation 0 keeps the layout used before
+     * generations were introduced, so a cache that has never been evicted completely keeps its existing entries.
+     */
+    private static String getGenerationPrefix(String cacheName, long generation) {
+        if (generation == 0) {
+            return cacheName + ":";
+        }
+        return cacheName + "#" + generation + ":";
+    }
+
+    /**
+     * Fetches the current generation of the cache, from memory when it was read or updated recently.
+     * @param cacheName The name of the cache.
+     * @return Mono of the generation, 0 if the cache has never been evicted completely.
+     */
+    public Mono<Long> getGeneration(String cacheName) {
+        return Mono.defer(() -> {
+            Long generation = generations.getIfPresent(cacheName);
+            if (generation != null) {
+                return Mono.just(generation);
+            }
+            return reactiveRedisOperations
+                    .execute(GET_GENERATION_SCRIPT, List.of(getGenerationKey(cacheName)))
+                    .next()
+                    .defaultIfEmpty(0L)
+                    .doOnNext(read -> generations.put(cacheName, read));
+        });
+    }
+
+    /**
+     * Moves the generation of the cache held in memory forward, after the cache was evicted completely, here or by
+     * another node.
+     * @param cacheName The name of the cache.
+     * @param generation The generation the cache moved to.
+     */
+    public void applyGeneration(String cacheName, long generation) {
+        // Generations only ever grow, a late message must not take the cache back to a retired one
+        generations.asMap().merge(cacheName, generation, Math::max);
+    }
+
+    /**
+     * Resolves the Redis key that an item of the cache is currently stored against.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return Mono of the Redis key, for the current generation of the cache.
+     */
+    public Mono<String> getPath(String cacheName, String key) {
+        return getGeneration(cacheName).map(generation -> getGenerationPrefix(cacheName, generation) + key);
     }
 
     @Override
     public Mono<Object> get(String cacheName, String key) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
+        final CachePolicy policy = getPolicy(cacheName);
+        return getPath(cacheName, key)
+                .flatMap(path -> policy.isSlidingExpiry() && policy.hasTtl()
+                        ? getAndExpire(path, policy.getTtl())
+                        : reactiveRedisTemplate.opsForValue().get(path))
                 .map(value -> {
                     // This is a cache hit, update stats and return value
                     statsMap.get(cacheName).getHits().incrementAndGet();
@@ -81,36 +268,123 @@ public class RedisCacheManagerImpl implements CacheManager {
                 .switchIfEmpty(Mono.defer(() -> {
                     // This is a cache miss, update stats and return empty
                     statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
+                    log.debug("Cache miss for key {} in cache {}", key, cacheName);
                     return Mono.empty();
                 }));
     }
 
+    /**
+     * Puts the item into the cache. The item is serialized here rather than by the template, so that its size can be
+     * recorded without serializing it twice.
+     */
     @Override
     public Mono<Boolean> put(String cacheName, String key, Object value) {
         ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
+        final CachePolicy policy = getPolicy(cacheName);
+        final Expiration expiration =
+                Expiration.from(policy.hasTtl() ? policy.getTtl() : cachingProperties.getMaxTtl());
+        return getPath(cacheName, key).flatMap(path -> {
+            log.debug("Cache entry added for key {}", path);
+            final RedisSerializationContext<String, Object> serializationContext =
+                    reactiveRedisTemplate.getSerializationContext();
+            final ByteBuffer rawKey =
+                    serializationContext.getKeySerializationPair().write(path);
+            final ByteBuffer rawValue =
+                    serializationContext.getValueSerializationPair().write(value);
+            cacheMetrics.recordPayloadSize(cacheName, rawValue.remaining());
+            return reactiveRedisTemplate
+                    .execute(connection ->
+                            connection.stringCommands().set(rawKey, rawValue, expiration, SetOption.upsert()))
+                    .next();
+        });
+    }
+
+    /**
+     * Serializes the item the way it is written to Redis.
+     * @param value The item.
+     * @return The serialized item.
+     */
+    public byte[] serialize(Object value) {
+        final ByteBuffer buffer = reactiveRedisTemplate
+                .getSerializationContext()
+                .getValueSerializationPair()
+                .write(value);
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads an item serialized by {@link #serialize(Object)}, as a new instance.
+     * @param bytes The serialized item.
+     * @return The item.
+     */
+    public Object deserialize(byte[] bytes) {
+        return reactiveRedisTemplate
+                .getSerializationContext()
+                .getValueSerializationPair()
+                .read(ByteBuffer.wrap(bytes));
     }
 
     @Override
     public Mono<Void> evict(String cacheName, String key) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
+        return getPath(cacheName, key)
+                .flatMap(path -> {
+                    log.debug("Cache entry evicted for key {}", path);
+                    return reactiveRedisTemplate.delete(path);
+                })
+                .then();
     }
 
     @Override
     public Mono<Void> evictAll(String cacheName) {
+        return retireGeneration(cacheName).then();
+    }
+
+    /**
+     * Evicts all items from the cache by moving it to a new generation. This is a single INCR, irrespective of the
+     * number of items in the cache. The items of the previous generation can no longer be read and are removed by
+     * {@link #sweep(String, long)} in the background.
+     * @param cacheName The name of the cache.
+     * @return Mono of the new generation of the cache.
+     */
+    public Mono<Long> retireGeneration(String cacheName) {
         ensureStats(cacheName);
         statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
+        return reactiveRedisOperations
+                .opsForValue()
+                .increment(getGenerationKey(cacheName))
+                .doOnNext(generation -> applyGeneration(cacheName, generation))
+                .doOnNext(generation -> Mono.delay(SWEEP_DELAY)
+                        .then(sweep(cacheName, generation - 1))
+                        .subscribe(
+                                count -> log.debug(
+                                        "Swept {} entries of generation {} of cache {}",
+                                        count,
+                                        generation - 1,
+                                        cacheName),
+                                error -> log.error(
+                                        "Error sweeping generation {} of cache {}", generation - 1, cacheName, error)));
+    }
+
+    /**
+     * Removes all the entries of a retired generation of the cache. The keys are found with SCAN and removed with
+     * UNLINK, one batch at a time, so that no single command has to walk the whole keyspace.
+     * @param cacheName The name of the cache.
+     * @param generation The retired generation.
+     * @return Mono of the number of entries removed.
+     */
+    public Mono<Long> sweep(String cacheName, long generation) {
+        final ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(getGenerationPrefix(cacheName, generation) + "*")
+                .count(SWEEP_BATCH_SIZE)
+                .build();
+        return reactiveRedisOperations
+                .scan(scanOptions)
+                .buffer(SWEEP_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisOperations.unlink(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum);
     }
 }
@@ -0,0 +1,340 @@
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheInvalidation;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * TieredCacheManagerImpl is a CacheManager that keeps a bounded copy of the most used items of every cache in the
+ * memory of this node, in front of {@link RedisCacheManagerImpl}. Hits on the local copy are served without a round trip
+ * to Redis or deserialization.
+ * <p>
+ * Evictions are applied to Redis and to the local copy, and are then broadcast on {@link #INVALIDATION_CHANNEL} so that
+ * the other nodes drop their local copies as well. The subscription to the channel is set up by the application, which
+ * passes the messages on to {@link #applyInvalidation(String)}, which also hands the new generation of a cache that
+ * was evicted completely to {@link RedisCacheManagerImpl}. As Redis pub/sub does not guarantee delivery, local
+ * items also expire after a fixed time, which bounds how long a node can serve an item evicted elsewhere.
+ * <p>
+ * An item read from Redis is only kept locally if no eviction of its cache was applied on this node while it was being
+ * read, so that a read racing an eviction can't bring the evicted item back into the local copy.
+ * <p>
+ * Items that can be changed by the callers are kept locally in their serialized form, and every local hit returns a
+ * new instance, so that callers never share, and modify, the same instance. Strings, numbers, booleans and enums are
+ * kept as they are.
+ * <p>
+ * The maximum size and time to live of the {@link CachePolicy} of a cache apply to its local copy, in place of the
+ * defaults when they are smaller.
+ * <p>
+ * Caches that the application keeps in memory on its own can be invalidated on all the nodes through the same channel,
+ * with {@link #publishInvalidation(String, String)} and {@link #addInvalidationListener(String, Consumer)}.
+ */
+@Component
+@Primary
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class TieredCacheManagerImpl implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache-invalidation";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final RedisCacheManagerImpl redisCacheManager;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final long maximumSize;
+    private final Duration expireAfterWrite;
+
+    // Identifies this node in the invalidation messages, so that it can skip the ones it sent itself.
+    private final String nodeId = UUID.randomUUID().toString();
+
+    Map<String, Cache<String, Object>> localCaches = new ConcurrentHashMap<>();
+
+    // Number of evictions applied to the local copy of every cache, read before an item is fetched from Redis and
+    // checked before it is kept locally.
+    Map<String, AtomicLong> evictionStamps = new ConcurrentHashMap<>();
+
+    // Caches kept in memory outside of this manager, called with the keys invalidated by other nodes
+    private final Map<String, Consumer<String>> invalidationListeners = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TieredCacheManagerImpl(
+            RedisCacheManagerImpl redisCacheManager,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.cache.local.max-size:10000}") long maximumSize,
+            @Value("${appsmith.cache.local.expire-after-write-seconds:60}") long expireAfterWriteSeconds) {
+        this.redisCacheManager = redisCacheManager;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = Duration.ofSeconds(expireAfterWriteSeconds);
+    }
+
+    /**
+     * Returns the local copy of the cache, creating it on first use.
+     * @param cacheName The name of the cache.
+     */
+    private Cache<String, Object> getLocalCache(String cacheName) {
+        return localCaches.computeIfAbsent(cacheName, name -> {
+            CachePolicy policy = getPolicy(name);
+            CacheStats stats = getStats(name);
+            Duration localExpiry = policy.hasTtl() && policy.getTtl().compareTo(expireAfterWrite) < 0
+                    ? policy.getTtl()
+                    : expireAfterWrite;
+            return Caffeine.newBuilder()
+                    .maximumSize(policy.getMaxSize() > 0 ? policy.getMaxSize() : maximumSize)
+                    .expireAfterWrite(localExpiry)
+                    .evictionListener((key, value, cause) -> {
+                        if (cause == RemovalCause.SIZE) {
+                            stats.getSizeEvictions().incrementAndGet();
+                        }
+                    })
+                    .recordStats()
+                    .build();
+        });
+    }
+
+    private AtomicLong getEvictionStamp(String cacheName) {
+        return evictionStamps.computeIfAbsent(cacheName, name -> new AtomicLong());
+    }
+
+    /**
+     * Applies an eviction to the local copy of the cache. The stamp is moved first, so that a read that started before
+     * the eviction either sees it before keeping its item, or has its item removed here.
+     */
+    private void evictLocally(String cacheName, String key) {
+        getEvictionStamp(cacheName).incrementAndGet();
+        Cache<String, Object> localCache = localCaches.get(cacheName);
+        if (localCache == null) {
+            return;
+        }
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    /**
+     * Keeps an item read from Redis in the local copy of the cache, unless the cache saw an eviction since the read
+     * started.
+     */
+    private void fillLocally(String cacheName, Cache<String, Object> localCache, String key, Object value, long stamp) {
+        final AtomicLong evictionStamp = getEvictionStamp(cacheName);
+        if (evictionStamp.get() != stamp) {
+            return;
+        }
+        final Object localValue = toLocalValue(value);
+        localCache.asMap().putIfAbsent(key, localValue);
+        if (evictionStamp.get() != stamp) {
+            // An eviction was applied while the item was being added, and may have run before it was in place
+            localCache.asMap().remove(key, localValue);
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || value instanceof Integer
+                || value instanceof Long
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof Short
+                || value instanceof Byte
+                || value instanceof BigDecimal
+                || value instanceof BigInteger;
+    }
+
+    private Object toLocalValue(Object value) {
+        return isImmutable(value) ? value : new SerializedValue(redisCacheManager.serialize(value));
+    }
+
+    private Object fromLocalValue(Object localValue) {
+        return localValue instanceof SerializedValue serializedValue
+                ? redisCacheManager.deserialize(serializedValue.bytes())
+                : localValue;
+    }
+
+    /**
+     * The local copy of an item that callers could modify.
+     */
+    private record SerializedValue(byte[] bytes) {}
+
+    @Override
+    public void logStats() {
+        redisCacheManager.logStats();
+        localCaches.forEach((cacheName, localCache) -> {
+            var stats = localCache.stats();
+            log.debug(
+                    "Local cache {} stats: size = {}, hits = {}, misses = {}, evictions = {}",
+                    cacheName,
+                    localCache.estimatedSize(),
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.evictionCount());
+        });
+    }
+
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return redisCacheManager.getStats(cacheName);
+    }
+
+    @Override
+    public void setPolicy(String cacheName, CachePolicy policy) {
+        redisCacheManager.setPolicy(cacheName, policy);
+        // Drop the local copy if it was created with the previous policy, it is created again on the next use
+        Cache<String, Object> localCache = localCaches.remove(cacheName);
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+    }
+
+    @Override
+    public CachePolicy getPolicy(String cacheName) {
+        return redisCacheManager.getPolicy(cacheName);
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        Cache<String, Object> localCache = getLocalCache(cacheName);
+        CacheStats stats = getStats(cacheName);
+        return Mono.defer(() -> {
+            Object localValue = localCache.getIfPresent(key);
+            if (localValue != null) {
+                stats.getLocalHits().incrementAndGet();
+                return Mono.just(fromLocalValue(localValue));
+            }
+            final long stamp = getEvictionStamp(cacheName).get();
+            return redisCacheManager
+                    .get(cacheName, key)
+                    .doOnNext(fetched -> fillLocally(cacheName, localCache, key, fetched, stamp));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        return redisCacheManager.put(cacheName, key, value).doOnNext(success -> {
+            if (Boolean.TRUE.equals(success)) {
+                getLocalCache(cacheName).put(key, toLocalValue(value));
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        return redisCacheManager
+                .evict(cacheName, key)
+                .then(Mono.fromRunnable(() -> evictLocally(cacheName, key)))
+                .then(publish(CacheInvalidation.of(nodeId, cacheName, key, null)));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        return redisCacheManager.retireGeneration(cacheName).flatMap(generation -> {
+            evictLocally(cacheName, null);
+            return publish(CacheInvalidation.of(nodeId, cacheName, null, generation));
+        });
+    }
+
+    /**
+     * Broadcasts the invalidation of a key of a cache that is kept in memory outside of this manager, to be applied by
+     * the listener that the other nodes added for the cache. The invalidation is not applied on this node.
+     * @param cacheName The name of the cache.
+     * @param key The invalidated key, whose meaning is up to the cache.
+     */
+    public Mono<Void> publishInvalidation(String cacheName, String key) {
+        return publish(CacheInvalidation.of(nodeId, cacheName, key, null));
+    }
+
+    /**
+     * Adds the listener that applies the invalidations of the cache broadcast by other nodes.
+     * @param cacheName The name of the cache.
+     * @param listener Called with the invalidated key, on the thread that receives the messages.
+     */
+    public void addInvalidationListener(String cacheName, Consumer<String> listener) {
+        invalidationListeners.put(cacheName, listener);
+    }
+
+    /**
+     * Broadcasts the eviction to the other nodes. The message is published as plain UTF-8 text, without going through
+     * the value serializer of the template, so that subscribers can read it as a string.
+     */
+    private Mono<Void> publish(CacheInvalidation invalidation) {
+        final byte[] message;
+        try {
+            message = objectMapper.writeValueAsBytes(invalidation);
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+
+        final ByteBuffer channel = ByteBuffer.wrap(INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8));
+        return reactiveRedisOperations
+                .execute(connection -> connection.pubSubCommands().publish(channel, ByteBuffer.wrap(message)))
+                .then()
+                .onErrorResume(error -> {
+                    // The eviction has already been applied to Redis, other nodes will catch up when their local
+                    // copies expire.
+                    log.error("Error publishing invalidation for cache {}", invalidation.getCacheName(), error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Applies an eviction broadcast by another node to the local copy of the cache.
+     * @param message The message received on {@link #INVALIDATION_CHANNEL}.
+     */
+    public void applyInvalidation(String message) {
+        final CacheInvalidation invalidation;
+        try {
+            invalidation = objectMapper.readValue(message, CacheInvalidation.class);
+        } catch (JsonProcessingException e) {
+            log.error("Invalid cache invalidation message {}", message, e);
+            return;
+        }
+
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return;
+        }
+
+        if (invalidation.getGeneration() != null) {
+            redisCacheManager.applyGeneration(invalidation.getCacheName(), invalidation.getGeneration());
+        }
+
+        evictLocally(invalidation.getCacheName(), invalidation.getKey());
+
+        final Consumer<String> listener = invalidationListeners.get(invalidation.getCacheName());
+        if (listener != null) {
+            try {
+                listener.accept(invalidation.getKey());
+            } catch (RuntimeException e) {
+                log.error("Error applying invalidation for cache {}", invalidation.getCacheName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.appsmith.caching.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * This is the message broadcast to all the nodes when an item, or all items, of a cache are evicted, so that they can
+ * drop their local copies.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CacheInvalidation {
+    /**
+     * The id of the node that evicted the item, used to skip the node's own messages.
+     */
+    private String origin;
+
+    /**
+     * The name of the cache.
+     */
+    private String cacheName;
+
+    /**
+     * The key of the evicted item, null if all items of the cache were evicted.
+     */
+    private String key;
+
+    /**
+     * The generation the cache moved to when all its items were evicted, null otherwise.
+     */
+    private Long generation;
+}
@@ -0,0 +1,48 @@
+package com.appsmith.caching.model;
+
+import com.appsmith.caching.annotations.Cache;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * This is the policy of a cache, deciding how long its items are kept and how many of them are kept in memory.
+ * It is declared on the Cache annotation, and can be overridden per cache name in the configuration, with properties
+ * like {@code appsmith.cache.policies.<cacheName>.ttl=1h}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor(staticName = "of")
+public class CachePolicy {
+
+    public static final CachePolicy DEFAULT = CachePolicy.of(null, false, 0);
+
+    /**
+     * How long an item is kept after it was written, or last read with sliding expiry. Null, or zero, to keep items
+     * until they are evicted.
+     */
+    private Duration ttl;
+
+    /**
+     * Whether reading an item restarts its time to live.
+     */
+    private boolean slidingExpiry;
+
+    /**
+     * The maximum number of items of the cache kept in the memory of every node, zero to use the default.
+     */
+    private long maxSize;
+
+    public static CachePolicy from(Cache annotation) {
+        return CachePolicy.of(
+                annotation.ttlSeconds() > 0 ? Duration.ofSeconds(annotation.ttlSeconds()) : null,
+                annotation.slidingExpiry(),
+                annotation.maxSize());
+    }
+
+    public boolean hasTtl() {
+        return ttl != null && !ttl.isZero() && !ttl.isNegative();
+    }
+}
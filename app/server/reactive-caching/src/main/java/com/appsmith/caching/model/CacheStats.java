@@ -3,11 +3,12 @@ package com.appsmith.caching.model;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a CacheStats class that is used to store the stats of a cache.
- * It is maintained for all cacheNames in the memory
+ * It is maintained for all cacheNames in the memory, and published as meters by
+ * {@link com.appsmith.caching.components.CacheMetrics}.
  */
 @Data
 @NoArgsConstructor(staticName = "newInstance")
@@ -15,20 +16,46 @@ public class CacheStats {
     /**
      * The number of times the cache was hit.
      */
-    private AtomicInteger hits = new AtomicInteger(0);
+    private AtomicLong hits = new AtomicLong(0);
+
+    /**
+     * The number of times the cache was hit on the copy kept in the memory of this node, without a round trip to the
+     * backend. These are not included in {@link #hits}.
+     */
+    private AtomicLong localHits = new AtomicLong(0);
 
     /**
      * The number of times the cache was missed.
      */
-    private AtomicInteger misses = new AtomicInteger(0);
+    private AtomicLong misses = new AtomicLong(0);
 
     /**
      * The number of times the cache was evicted (single key).
      */
-    private AtomicInteger singleEvictions = new AtomicInteger(0);
+    private AtomicLong singleEvictions = new AtomicLong(0);
 
     /**
      * The number of times the cache was evicted (all keys).
      */
-    private AtomicInteger completeEvictions = new AtomicInteger(0);
+    private AtomicLong completeEvictions = new AtomicLong(0);
+
+    /**
+     * The number of misses that were served by a load already in progress for the same key, instead of starting one.
+     */
+    private AtomicLong coalescedLoads = new AtomicLong(0);
+
+    /**
+     * The number of hits that triggered a refresh of the item in the background.
+     */
+    private AtomicLong earlyRefreshes = new AtomicLong(0);
+
+    /**
+     * The number of items dropped from the memory of this node to keep the cache within its maximum size.
+     */
+    private AtomicLong sizeEvictions = new AtomicLong(0);
+
+    /**
+     * The policy in effect for the cache.
+     */
+    private CachePolicy policy = CachePolicy.DEFAULT;
 }
@@ -0,0 +1,60 @@
+package com.appsmith.testcaching.components;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal in memory CacheManager, so that the aspect can be tested without Redis.
+ */
+public class InMemoryCacheManager implements CacheManager {
+
+    private final Map<String, Object> items = new ConcurrentHashMap<>();
+
+    private final Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+
+    @Override
+    public void logStats() {}
+
+    @Override
+    public CacheStats getStats(String cacheName) {
+        return statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
+    }
+
+    @Override
+    public void setPolicy(String cacheName, CachePolicy policy) {
+        getStats(cacheName).setPolicy(policy);
+    }
+
+    @Override
+    public CachePolicy getPolicy(String cacheName) {
+        return getStats(cacheName).getPolicy();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        return Mono.justOrEmpty(items.get(cacheName + ":" + key));
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value) {
+        items.put(cacheName + ":" + key, value);
+        return Mono.just(true);
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        items.remove(cacheName + ":" + key);
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        items.keySet().removeIf(path -> path.startsWith(cacheName + ":"));
+        return Mono.empty();
+    }
+}
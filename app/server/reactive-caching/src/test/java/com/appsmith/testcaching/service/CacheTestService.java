@@ -107,4 +107,16 @@ public class CacheTestService {
     public Mono<Void> evictObjectForWithKey(String id) {
         return Mono.empty();
     }
+
+    /**
+     * This method is used to test the time to live declared on the caching annotation.
+     * @param id The id
+     * @return The Mono<TestModel> object, random every time
+     */
+    @Cache(cacheName = "ttlcache", ttlSeconds = 60, slidingExpiry = true)
+    public Mono<TestModel> getObjectWithTtl(String id) {
+        TestModel model = factory.manufacturePojo(TestModel.class);
+        model.setId(id);
+        return Mono.just(model);
+    }
 }
@@ -0,0 +1,117 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.testcaching.components.InMemoryCacheManager;
+import com.appsmith.testcaching.model.ArgumentModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of CacheAspect on the hit path, with an in memory CacheManager so that only the work done by
+ * the aspect is measured. The key benchmarks compare parsing the key expression on every call against evaluating the
+ * expression parsed, and compiled, by the aspect's parser.
+ * <p>
+ * This is not run as part of the test suite. Run the {@code main} method from the IDE, or with {@code java} on the
+ * test classpath of the module, which can be printed with {@code mvn dependency:build-classpath}. The benchmark runs in
+ * a forked JVM, so it cannot be started with {@code mvn exec:java}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CacheAspectBenchmark {
+
+    private static final String KEY_EXPRESSION = "#argumentModel.name";
+
+    public static class BenchmarkService {
+
+        @Cache(cacheName = "benchmarkcache")
+        public Mono<String> getByArgument(String id) {
+            return Mono.just(id);
+        }
+
+        @Cache(cacheName = "benchmarkexpressioncache", key = KEY_EXPRESSION)
+        public Mono<String> getByExpression(ArgumentModel argumentModel) {
+            return Mono.just(argumentModel.getName());
+        }
+    }
+
+    private BenchmarkService service;
+
+    private ArgumentModel argumentModel;
+
+    private Expression parsedExpression;
+
+    private final SpelExpressionParser interpretingParser = new SpelExpressionParser();
+
+    @Setup
+    public void setup() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new BenchmarkService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CacheAspect(
+                new InMemoryCacheManager(), new CacheMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP)));
+        service = factory.getProxy();
+        argumentModel = ArgumentModel.of("name");
+        parsedExpression = CacheAspect.EXPRESSION_PARSER.parseExpression(KEY_EXPRESSION);
+
+        // Fill the caches, so that the benchmarks only measure hits
+        service.getByArgument("id").block();
+        service.getByExpression(argumentModel).block();
+    }
+
+    @Benchmark
+    public String hitWithArgumentKey() {
+        return service.getByArgument("id").block();
+    }
+
+    @Benchmark
+    public String hitWithExpressionKey() {
+        return service.getByExpression(argumentModel).block();
+    }
+
+    @Benchmark
+    public String keyParsedOnEveryCall() {
+        EvaluationContext evaluationContext = new StandardEvaluationContext();
+        evaluationContext.setVariable("argumentModel", argumentModel);
+        return interpretingParser.parseExpression(KEY_EXPRESSION).getValue(evaluationContext, String.class);
+    }
+
+    @Benchmark
+    public String keyParsedOnce() {
+        EvaluationContext evaluationContext = new StandardEvaluationContext();
+        evaluationContext.setVariable("argumentModel", argumentModel);
+        return parsedExpression.getValue(evaluationContext, String.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                        .include(CacheAspectBenchmark.class.getSimpleName())
+                        .build())
+                .run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.testcaching.components.InMemoryCacheManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestCacheCoalescing {
+
+    public static class SlowService {
+
+        final AtomicInteger calls = new AtomicInteger(0);
+
+        @Cache(cacheName = "slowcache")
+        public Mono<Integer> getSlowly(String id) {
+            return Mono.delay(Duration.ofMillis(200)).map(ignored -> calls.incrementAndGet());
+        }
+
+        @Cache(cacheName = "slowlistcache")
+        public Flux<Integer> getSlowList(String id) {
+            return Mono.delay(Duration.ofMillis(200)).flatMapMany(ignored -> Flux.just(calls.incrementAndGet(), 0));
+        }
+
+        @Cache(cacheName = "failingcache")
+        public Mono<Integer> getFailing(String id) {
+            calls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(100)).then(Mono.error(new IllegalStateException("failed")));
+        }
+
+        @Cache(cacheName = "refreshcache", earlyRefreshProbability = 1)
+        public Mono<Integer> getWithRefresh(String id) {
+            return Mono.fromCallable(calls::incrementAndGet);
+        }
+    }
+
+    private InMemoryCacheManager cacheManager;
+
+    private SlowService target;
+
+    private SlowService service;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new InMemoryCacheManager();
+        target = new SlowService();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(
+                new CacheAspect(cacheManager, new CacheMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP)));
+        service = factory.getProxy();
+    }
+
+    /**
+     * This Test is used to test that concurrent misses for the same key call the original method once
+     */
+    @Test
+    public void testConcurrentMissesAreCoalesced() {
+        List<Integer> results = Flux.range(0, 10)
+                .flatMap(i -> service.getSlowly("key"))
+                .collectList()
+                .block();
+
+        assertEquals(10, results.size());
+        assertTrue(results.stream().allMatch(result -> result == 1));
+        assertEquals(1, target.calls.get());
+        assertEquals(9, cacheManager.getStats("slowcache").getCoalescedLoads().get());
+
+        // Different keys are loaded independently
+        assertEquals(2, service.getSlowly("otherKey").block());
+    }
+
+    /**
+     * This Test is used to test that concurrent misses of a Flux returning method are coalesced
+     */
+    @Test
+    public void testConcurrentFluxMissesAreCoalesced() {
+        List<List<Integer>> results = Flux.range(0, 5)
+                .flatMap(i -> service.getSlowList("key").collectList())
+                .collectList()
+                .block();
+
+        assertTrue(results.stream().allMatch(result -> result.equals(List.of(1, 0))));
+        assertEquals(1, target.calls.get());
+        assertEquals(
+                4, cacheManager.getStats("slowlistcache").getCoalescedLoads().get());
+    }
+
+    /**
+     * This Test is used to test that a failed load is shared by the waiting callers but not remembered
+     */
+    @Test
+    public void testFailedLoadIsNotRemembered() {
+        List<String> errors = Flux.range(0, 5)
+                .flatMap(i ->
+                        service.getFailing("key").map(String::valueOf).onErrorResume(e -> Mono.just(e.getMessage())))
+                .collectList()
+                .block();
+
+        assertTrue(errors.stream().allMatch("failed"::equals));
+        assertEquals(1, target.calls.get());
+
+        service.getFailing("key").onErrorResume(e -> Mono.empty()).block();
+        assertEquals(2, target.calls.get());
+    }
+
+    /**
+     * This Test is used to test that hits reload the item in the background when early refresh is enabled
+     */
+    @Test
+    public void testEarlyRefresh() {
+        assertEquals(1, service.getWithRefresh("key").block());
+
+        // The hit returns the cached value and reloads it for the next caller
+        assertEquals(1, service.getWithRefresh("key").block());
+        assertEquals(2, service.getWithRefresh("key").block());
+        assertEquals(
+                2, cacheManager.getStats("refreshcache").getEarlyRefreshes().get());
+    }
+}
@@ -0,0 +1,172 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+public class TestCacheGenerations {
+
+    @Autowired
+    private RedisCacheManagerImpl cacheManager;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    @Autowired
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private void fill(String cacheName, int count) {
+        Flux.range(0, count)
+                .flatMap(i -> cacheManager.put(cacheName, "key" + i, "value" + i), 64)
+                .blockLast();
+    }
+
+    /**
+     * This Test is used to test that evict all hides the previous generation and the sweep removes it
+     */
+    @Test
+    public void testEvictAllMovesToNewGeneration() {
+        String cacheName = "generationcache";
+        cacheManager.put(cacheName, "key1", "value1").block();
+        String oldPath = cacheManager.getPath(cacheName, "key1").block();
+        long oldGeneration = cacheManager.getGeneration(cacheName).block();
+
+        cacheManager.evictAll(cacheName).block();
+
+        assertEquals(oldGeneration + 1, cacheManager.getGeneration(cacheName).block());
+        assertNull(cacheManager.get(cacheName, "key1").block());
+
+        // The old entry is unreachable but still present until it is swept
+        assertTrue(reactiveRedisTemplate.hasKey(oldPath).block());
+
+        cacheManager.put(cacheName, "key1", "value2").block();
+        assertEquals("value2", cacheManager.get(cacheName, "key1").block());
+
+        assertEquals(1L, cacheManager.sweep(cacheName, oldGeneration).block());
+        assertFalse(reactiveRedisTemplate.hasKey(oldPath).block());
+
+        // Sweeping the retired generation does not touch the current one
+        assertEquals("value2", cacheManager.get(cacheName, "key1").block());
+    }
+
+    /**
+     * This Test is used to test that the sweep only removes the keys of the given generation
+     */
+    @Test
+    public void testSweepOnlyRemovesRetiredGeneration() {
+        String cacheName = "sweepcache";
+        int count = 2000;
+        fill(cacheName, count);
+        long oldGeneration = cacheManager.getGeneration(cacheName).block();
+
+        cacheManager.evictAll(cacheName).block();
+        fill(cacheName, 10);
+
+        assertEquals(count, cacheManager.sweep(cacheName, oldGeneration).block());
+        assertEquals(0L, cacheManager.sweep(cacheName, oldGeneration).block());
+        assertEquals("value5", cacheManager.get(cacheName, "key5").block());
+    }
+
+    /**
+     * This Test is used to test that the generation is served from memory, and moved forward by the messages of other
+     * nodes
+     */
+    @Test
+    public void testGenerationIsKeptInMemory() {
+        String cacheName = "memorygenerationcache";
+        long generation = cacheManager.getGeneration(cacheName).block();
+
+        // Another node evicts the cache, the message about it has not arrived yet
+        reactiveRedisOperations
+                .opsForValue()
+                .increment(cacheName + "#generation")
+                .block();
+        assertEquals(generation, cacheManager.getGeneration(cacheName).block());
+
+        cacheManager.applyGeneration(cacheName, generation + 1);
+        assertEquals(generation + 1, cacheManager.getGeneration(cacheName).block());
+
+        // A late message does not take the cache back to a retired generation
+        cacheManager.applyGeneration(cacheName, generation);
+        assertEquals(generation + 1, cacheManager.getGeneration(cacheName).block());
+    }
+
+    /**
+     * This Test is used to test that items of a cache without a ttl are still written with the maximum ttl
+     */
+    @Test
+    public void testItemsWithoutTtlExpire() {
+        String cacheName = "maxttlcache";
+        cacheManager.put(cacheName, "key1", "value1").block();
+
+        Duration expiry = reactiveRedisTemplate
+                .getExpire(cacheManager.getPath(cacheName, "key1").block())
+                .block();
+        assertTrue(expiry.compareTo(Duration.ZERO) > 0);
+        assertTrue(expiry.compareTo(Duration.ofDays(1)) <= 0);
+    }
+
+    /**
+     * Test to measure the time taken by evict all as the number of entries grows. With generations, this should stay
+     * the same irrespective of the size of the cache.
+     */
+    @Test
+    public void measureEvictAllPerformance() {
+        for (int count : new int[] {100, 1000, 10000}) {
+            String cacheName = "evictallcache" + count;
+            fill(cacheName, count);
+
+            long initialTime = System.nanoTime();
+            cacheManager.evictAll(cacheName).block();
+            long timeTaken = System.nanoTime() - initialTime;
+            log.info("Time taken for evict all of {} entries {} nanos", count, timeTaken);
+
+            assertNull(cacheManager.get(cacheName, "key0").block());
+        }
+    }
+
+    /**
+     * Test to measure the read throughput of a cache while it is being evicted completely in a loop
+     */
+    @Test
+    public void measureReadThroughputDuringEvictAll() {
+        String cacheName = "throughputcache";
+        int count = 5000;
+        fill(cacheName, count);
+
+        int reads = 20000;
+        long initialTime = System.nanoTime();
+        Mono<Long> evictions = Flux.range(0, 50)
+                .concatMap(i -> cacheManager.evictAll(cacheName).then(Mono.just(1L)))
+                .count();
+        Mono<Long> hitsOrMisses = Flux.range(0, reads)
+                .flatMap(i -> cacheManager.get(cacheName, "key" + (i % count)).defaultIfEmpty(""), 64)
+                .count();
+        Long completedReads = Mono.zip(evictions, hitsOrMisses).block().getT2();
+        long timeTaken = System.nanoTime() - initialTime;
+
+        assertEquals(reads, completedReads);
+        log.info(
+                "Completed {} reads with 50 evict alls in {} millis, {} reads per second",
+                reads,
+                timeTaken / 1_000_000,
+                reads * 1_000_000_000L / timeTaken);
+    }
+}
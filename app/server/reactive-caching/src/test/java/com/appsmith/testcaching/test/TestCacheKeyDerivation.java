@@ -0,0 +1,136 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.annotations.CacheEvict;
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.testcaching.components.InMemoryCacheManager;
+import com.appsmith.testcaching.model.ArgumentModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TestCacheKeyDerivation {
+
+    public static class KeyService {
+
+        final AtomicInteger calls = new AtomicInteger(0);
+
+        @Cache(cacheName = "argumentcache")
+        public Mono<Integer> getByArguments(String first, String second) {
+            return Mono.fromCallable(calls::incrementAndGet);
+        }
+
+        @Cache(cacheName = "propertycache", key = "#argumentModel.name")
+        public Mono<Integer> getByProperty(ArgumentModel argumentModel) {
+            return Mono.fromCallable(calls::incrementAndGet);
+        }
+
+        @Cache(cacheName = "listcache", key = "{#argumentModel.name + #suffix}")
+        public Mono<Integer> getByInlineList(ArgumentModel argumentModel, String suffix) {
+            return Mono.fromCallable(calls::incrementAndGet);
+        }
+
+        @Cache(cacheName = "methodcache", key = "#name.toUpperCase()")
+        public Mono<Integer> getByMethodCall(String name) {
+            return Mono.fromCallable(calls::incrementAndGet);
+        }
+
+        @CacheEvict(cacheName = "propertycache", key = "#name")
+        public Mono<Void> evictByName(String name) {
+            return Mono.empty();
+        }
+
+        @Cache(cacheName = "invalidcache")
+        public Integer getNotReactive(String id) {
+            return calls.incrementAndGet();
+        }
+    }
+
+    private InMemoryCacheManager cacheManager;
+
+    private KeyService service;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new InMemoryCacheManager();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new KeyService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(
+                new CacheAspect(cacheManager, new CacheMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP)));
+        service = factory.getProxy();
+    }
+
+    /**
+     * This Test is used to test the default key derived from multiple arguments
+     */
+    @Test
+    public void testKeyFromArguments() {
+        Integer value = service.getByArguments("a", "b").block();
+        assertEquals(value, cacheManager.get("argumentcache", "SimpleKey [a,b]").block());
+        assertEquals(value, service.getByArguments("a", "b").block());
+    }
+
+    /**
+     * This Test is used to test that the parsed expression gives the right key on every call, including the calls
+     * after it has been compiled
+     */
+    @Test
+    public void testExpressionKeyIsStableAcrossCalls() {
+        for (int i = 0; i < 10; i++) {
+            String name = "name" + i;
+            Integer value = service.getByProperty(ArgumentModel.of(name)).block();
+            assertEquals(value, cacheManager.get("propertycache", name).block());
+            assertEquals(value, service.getByProperty(ArgumentModel.of(name)).block());
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Integer value =
+                    service.getByInlineList(ArgumentModel.of("name"), "-" + i).block();
+            assertEquals(value, cacheManager.get("listcache", "name-" + i).block());
+        }
+    }
+
+    /**
+     * This Test is used to test that key expressions can call methods on the arguments
+     */
+    @Test
+    public void testExpressionKeyWithMethodCall() {
+        Integer value = service.getByMethodCall("name").block();
+        assertEquals(value, cacheManager.get("methodcache", "NAME").block());
+        assertEquals(value, service.getByMethodCall("name").block());
+    }
+
+    /**
+     * This Test is used to test that evictions use the key expression of the evicting method
+     */
+    @Test
+    public void testEvictWithExpressionKey() {
+        service.getByProperty(ArgumentModel.of("name")).block();
+        service.evictByName("name").block();
+        assertNull(cacheManager.get("propertycache", "name").block());
+    }
+
+    /**
+     * This Test is used to test that methods that are not reactive are rejected on every call
+     */
+    @Test
+    public void testNotReactiveMethodIsRejected() {
+        for (int i = 0; i < 2; i++) {
+            // The checked exception thrown by the aspect is wrapped by the proxy
+            Exception exception = assertThrows(UndeclaredThrowableException.class, () -> service.getNotReactive("id"));
+            assertInstanceOf(IllegalAccessException.class, exception.getCause());
+        }
+    }
+}
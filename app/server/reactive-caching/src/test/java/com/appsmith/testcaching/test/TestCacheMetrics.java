@@ -0,0 +1,185 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.CachingProperties;
+import com.appsmith.caching.annotations.Cache;
+import com.appsmith.caching.aspects.CacheAspect;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CacheStats;
+import com.appsmith.testcaching.components.InMemoryCacheManager;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TestCacheMetrics {
+
+    public static class LoadService {
+
+        @Cache(cacheName = "observedcache")
+        public Mono<String> getSlowly(String id) {
+            return Mono.delay(Duration.ofMillis(100)).map(ignored -> id);
+        }
+
+        @Cache(cacheName = "failingcache")
+        public Mono<String> getFailing(String id) {
+            return Mono.error(new IllegalStateException("failed"));
+        }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CacheMetrics cacheMetrics;
+
+    private InMemoryCacheManager cacheManager;
+
+    private LoadService service;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        cacheMetrics = new CacheMetrics(meterRegistry, observationRegistry);
+
+        cacheManager = new InMemoryCacheManager();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new LoadService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new CacheAspect(cacheManager, cacheMetrics));
+        service = factory.getProxy();
+    }
+
+    private double count(String name, String cacheName, String... tags) {
+        return meterRegistry
+                .get(name)
+                .tag("cache", cacheName)
+                .tags(tags)
+                .functionCounter()
+                .count();
+    }
+
+    /**
+     * This Test is used to test that the counters and the hit ratio follow the stats of the cache
+     */
+    @Test
+    public void testStatsArePublished() {
+        cacheMetrics.bind("cache", cacheManager);
+        CacheStats stats = cacheManager.getStats("cache");
+        stats.getHits().addAndGet(2);
+        stats.getLocalHits().addAndGet(4);
+        stats.getMisses().addAndGet(2);
+        stats.getSingleEvictions().incrementAndGet();
+        stats.getSizeEvictions().addAndGet(3);
+
+        assertEquals(2, count("appsmith.cache.gets", "cache", "result", "hit", "tier", "backend"));
+        assertEquals(4, count("appsmith.cache.gets", "cache", "result", "hit", "tier", "local"));
+        assertEquals(2, count("appsmith.cache.gets", "cache", "result", "miss", "tier", "backend"));
+        assertEquals(1, count("appsmith.cache.evictions", "cache", "cause", "key"));
+        assertEquals(0, count("appsmith.cache.evictions", "cache", "cause", "all"));
+        assertEquals(3, count("appsmith.cache.evictions", "cache", "cause", "size"));
+        assertEquals(
+                0.75,
+                meterRegistry
+                        .get("appsmith.cache.hit.ratio")
+                        .tag("cache", "cache")
+                        .gauge()
+                        .value());
+
+        // Binding again keeps the same meters
+        cacheMetrics.bind("cache", cacheManager);
+        assertEquals(2, count("appsmith.cache.gets", "cache", "result", "hit", "tier", "backend"));
+    }
+
+    /**
+     * This Test is used to test that a load shared by concurrent misses is timed once, and that failed loads are
+     * timed with their error
+     */
+    @Test
+    public void testLoadsAreObserved() {
+        Flux.range(0, 5).flatMap(i -> service.getSlowly("key")).blockLast();
+        service.getSlowly("key").block();
+
+        Timer timer = meterRegistry
+                .get(CacheMetrics.LOAD_OBSERVATION)
+                .tags("cache", "observedcache", "error", "none")
+                .timer();
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 100);
+
+        service.getFailing("key").onErrorResume(e -> Mono.empty()).block();
+        assertEquals(
+                1,
+                meterRegistry
+                        .get(CacheMetrics.LOAD_OBSERVATION)
+                        .tags("cache", "failingcache", "error", "IllegalStateException")
+                        .timer()
+                        .count());
+    }
+
+    /**
+     * This Test is used to test that the size of every item written to Redis is recorded, and that the stats of a
+     * cache are created once when it is first used from many threads
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRedisCacheManagerPublishesMetrics() {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        RedisSerializationContext<String, Object> serializationContext =
+                RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                        .value(new GenericToStringSerializer<>(Object.class))
+                        .build();
+        when(reactiveRedisTemplate.getSerializationContext()).thenReturn(serializationContext);
+        when(reactiveRedisTemplate.execute(any(ReactiveRedisCallback.class))).thenReturn(Flux.just(true));
+        when(reactiveRedisOperations.execute(any(RedisScript.class), anyList())).thenReturn(Flux.just(0L));
+
+        RedisCacheManagerImpl redisCacheManager = new RedisCacheManagerImpl(
+                reactiveRedisTemplate, reactiveRedisOperations, new CachingProperties(), cacheMetrics);
+
+        assertEquals(
+                true, redisCacheManager.put("sizedcache", "key", "0123456789").block());
+        assertEquals(true, redisCacheManager.put("sizedcache", "key", "01234").block());
+        var summary = meterRegistry
+                .get("appsmith.cache.payload.size")
+                .tag("cache", "sizedcache")
+                .summary();
+        assertEquals(2, summary.count());
+        assertEquals(15, summary.totalAmount());
+
+        // CacheStats compares by value, so the instances are told apart by identity
+        Set<Integer> stats = Flux.range(0, 100)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .map(i -> System.identityHashCode(redisCacheManager.getStats("concurrentcache")))
+                .sequential()
+                .collect(Collectors.toSet())
+                .block();
+        assertEquals(1, stats.size());
+        assertEquals(0, count("appsmith.cache.gets", "concurrentcache", "result", "miss", "tier", "backend"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.CachingProperties;
+import com.appsmith.caching.components.CacheMetrics;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.model.CachePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestCachePolicies {
+
+    private RedisCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        CachingProperties cachingProperties = new CachingProperties();
+        cachingProperties.getPolicies().put("configuredcache", CachePolicy.of(Duration.ofMinutes(5), false, 100));
+        cacheManager = new RedisCacheManagerImpl(
+                mock(ReactiveRedisTemplate.class),
+                mock(ReactiveRedisOperations.class),
+                cachingProperties,
+                new CacheMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP));
+    }
+
+    /**
+     * This Test is used to test that the declared policy is used when nothing is configured for the cache
+     */
+    @Test
+    public void testDeclaredPolicy() {
+        assertEquals(CachePolicy.DEFAULT, cacheManager.getPolicy("declaredcache"));
+
+        CachePolicy declared = CachePolicy.of(Duration.ofSeconds(60), true, 0);
+        cacheManager.setPolicy("declaredcache", declared);
+
+        assertEquals(declared, cacheManager.getPolicy("declaredcache"));
+        assertEquals(declared, cacheManager.getStats("declaredcache").getPolicy());
+    }
+
+    /**
+     * This Test is used to test that the configured policy takes precedence over the declared one
+     */
+    @Test
+    public void testConfiguredPolicyTakesPrecedence() {
+        CachePolicy configured = CachePolicy.of(Duration.ofMinutes(5), false, 100);
+        assertEquals(configured, cacheManager.getPolicy("configuredcache"));
+
+        cacheManager.setPolicy("configuredcache", CachePolicy.of(Duration.ofSeconds(60), true, 0));
+
+        assertEquals(configured, cacheManager.getPolicy("configuredcache"));
+        assertEquals(configured, cacheManager.getStats("configuredcache").getPolicy());
+    }
+
+    /**
+     * This Test is used to test that only positive durations count as a time to live
+     */
+    @Test
+    public void testHasTtl() {
+        assertFalse(CachePolicy.DEFAULT.hasTtl());
+        assertFalse(CachePolicy.of(Duration.ZERO, false, 0).hasTtl());
+        assertTrue(CachePolicy.of(Duration.ofSeconds(1), false, 0).hasTtl());
+    }
+
+    /**
+     * This Test is used to test which versions of Redis are read with GETEX
+     */
+    @Test
+    public void testGetExSupportedFromVersion() {
+        assertTrue(RedisCacheManagerImpl.isGetExSupported("6.2.0"));
+        assertTrue(RedisCacheManagerImpl.isGetExSupported("6.2.6"));
+        assertTrue(RedisCacheManagerImpl.isGetExSupported("7.0.11"));
+        assertTrue(RedisCacheManagerImpl.isGetExSupported("10.0.0"));
+        assertFalse(RedisCacheManagerImpl.isGetExSupported("6.0.16"));
+        assertFalse(RedisCacheManagerImpl.isGetExSupported("5.0.7"));
+        assertFalse(RedisCacheManagerImpl.isGetExSupported("unknown"));
+        assertFalse(RedisCacheManagerImpl.isGetExSupported(null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ReactiveRedisTemplate<String, Object> getSlidingTemplate(String redisVersion) {
+        Properties info = new Properties();
+        info.setProperty("redis_version", redisVersion);
+        ReactiveValueOperations<String, Object> valueOperations = mock(ReactiveValueOperations.class);
+        when(valueOperations.get(any())).thenReturn(Mono.just("value"));
+        when(valueOperations.getAndExpire(any(), any())).thenReturn(Mono.just("value"));
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        when(reactiveRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(reactiveRedisTemplate.execute(ArgumentMatchers.<ReactiveRedisCallback<Object>>any()))
+                .thenReturn(Flux.just(info));
+        when(reactiveRedisTemplate.expire(any(), any())).thenReturn(Mono.just(true));
+        return reactiveRedisTemplate;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisCacheManagerImpl getSlidingCacheManager(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        when(reactiveRedisOperations.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList()))
+                .thenReturn(Flux.just(0L));
+        RedisCacheManagerImpl slidingCacheManager = new RedisCacheManagerImpl(
+                reactiveRedisTemplate,
+                reactiveRedisOperations,
+                new CachingProperties(),
+                new CacheMetrics(new SimpleMeterRegistry(), ObservationRegistry.NOOP));
+        slidingCacheManager.setPolicy("slidingcache", CachePolicy.of(Duration.ofMinutes(5), true, 0));
+        return slidingCacheManager;
+    }
+
+    /**
+     * This Test is used to test that sliding reads use GETEX on servers that support it
+     */
+    @Test
+    public void testSlidingReadUsesGetEx() {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = getSlidingTemplate("7.0.11");
+        RedisCacheManagerImpl slidingCacheManager = getSlidingCacheManager(reactiveRedisTemplate);
+
+        assertEquals("value", slidingCacheManager.get("slidingcache", "key").block());
+        assertEquals("value", slidingCacheManager.get("slidingcache", "key").block());
+
+        verify(reactiveRedisTemplate.opsForValue(), times(2)).getAndExpire("slidingcache:key", Duration.ofMinutes(5));
+        verify(reactiveRedisTemplate, never()).expire(any(), any());
+        // The version is only read once
+        verify(reactiveRedisTemplate, times(1)).execute(ArgumentMatchers.<ReactiveRedisCallback<Object>>any());
+    }
+
+    /**
+     * This Test is used to test that sliding reads fall back to GET and EXPIRE on servers older than 6.2
+     */
+    @Test
+    public void testSlidingReadFallsBackBeforeRedis62() {
+        ReactiveRedisTemplate<String, Object> reactiveRedisTemplate = getSlidingTemplate("6.0.16");
+        RedisCacheManagerImpl slidingCacheManager = getSlidingCacheManager(reactiveRedisTemplate);
+
+        assertEquals("value", slidingCacheManager.get("slidingcache", "key").block());
+
+        verify(reactiveRedisTemplate.opsForValue(), times(1)).get("slidingcache:key");
+        verify(reactiveRedisTemplate, times(1)).expire("slidingcache:key", Duration.ofMinutes(5));
+        verify(reactiveRedisTemplate.opsForValue(), never()).getAndExpire(any(), any());
+    }
+}
@@ -1,6 +1,7 @@
 package com.appsmith.testcaching.test;
 
 import com.appsmith.caching.components.CacheManager;
+import com.appsmith.caching.components.RedisCacheManagerImpl;
 import com.appsmith.testcaching.model.ArgumentModel;
 import com.appsmith.testcaching.model.TestModel;
 import com.appsmith.testcaching.service.CacheTestService;
@@ -10,12 +11,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 
+import java.time.Duration;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -28,6 +32,12 @@ public class TestCachingMethods {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private RedisCacheManagerImpl redisCacheManager;
+
+    @Autowired
+    private ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
     /**
      * This Test is used to test the caching of a method that returns a Mono<T>
      */
@@ -99,6 +109,26 @@ public class TestCachingMethods {
         assertNotEquals(model, model2);
     }
 
+    /**
+     * This Test is used to test that the time to live declared on the annotation is set on the items in Redis
+     */
+    @Test
+    public void testTtlPolicy() {
+        TestModel model = cacheTestService.getObjectWithTtl("test1").block();
+        String path = redisCacheManager.getPath("ttlcache", "test1").block();
+
+        Duration ttl = reactiveRedisTemplate.getExpire(path).block();
+        assertTrue(ttl.getSeconds() > 0 && ttl.getSeconds() <= 60);
+
+        // Sliding expiry restarts the time to live on every read from Redis
+        reactiveRedisTemplate.expire(path, Duration.ofSeconds(30)).block();
+        assertEquals(model, redisCacheManager.get("ttlcache", "test1").block());
+        assertTrue(reactiveRedisTemplate.getExpire(path).block().getSeconds() > 30);
+        assertEquals(
+                Duration.ofSeconds(60),
+                cacheManager.getStats("ttlcache").getPolicy().getTtl());
+    }
+
     /**
      * Test to measure performance of caching
      */
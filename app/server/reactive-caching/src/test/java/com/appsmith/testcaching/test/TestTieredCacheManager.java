@@ -0,0 +1,233 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.RedisCacheManagerImpl;
+import com.appsmith.caching.components.TieredCacheManagerImpl;
+import com.appsmith.caching.model.CachePolicy;
+import com.appsmith.caching.model.CacheStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.core.ReactiveRedisCallback;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Slf4j
+public class TestTieredCacheManager {
+
+    private RedisCacheManagerImpl redisCacheManager;
+
+    private ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private TieredCacheManagerImpl cacheManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        redisCacheManager = mock(RedisCacheManagerImpl.class);
+        reactiveRedisOperations = mock(ReactiveRedisOperations.class);
+        when(reactiveRedisOperations.execute(ArgumentMatchers.<ReactiveRedisCallback<Object>>any()))
+                .thenReturn(Flux.just(1L));
+        when(redisCacheManager.put(any(), any(), any())).thenReturn(Mono.just(true));
+        when(redisCacheManager.evict(any(), any())).thenReturn(Mono.empty());
+        when(redisCacheManager.retireGeneration(any())).thenReturn(Mono.just(1L));
+        when(redisCacheManager.getPolicy(any())).thenReturn(CachePolicy.DEFAULT);
+        when(redisCacheManager.getStats(any())).thenReturn(CacheStats.newInstance());
+
+        cacheManager = new TieredCacheManagerImpl(redisCacheManager, reactiveRedisOperations, 100, 60);
+    }
+
+    /**
+     * This Test is used to test that items read from Redis are served locally afterwards
+     */
+    @Test
+    public void testGetIsServedLocallyAfterFirstRead() {
+        when(redisCacheManager.get("cache", "key")).thenReturn(Mono.just("value"));
+
+        assertEquals("value", cacheManager.get("cache", "key").block());
+        assertEquals("value", cacheManager.get("cache", "key").block());
+
+        verify(redisCacheManager, times(1)).get("cache", "key");
+    }
+
+    /**
+     * This Test is used to test that misses are not cached locally
+     */
+    @Test
+    public void testMissIsNotCachedLocally() {
+        when(redisCacheManager.get("cache", "key")).thenReturn(Mono.empty());
+
+        assertNull(cacheManager.get("cache", "key").block());
+        assertNull(cacheManager.get("cache", "key").block());
+
+        verify(redisCacheManager, times(2)).get("cache", "key");
+    }
+
+    /**
+     * This Test is used to test that put writes through to Redis and to the local copy
+     */
+    @Test
+    public void testPutWritesThrough() {
+        cacheManager.put("cache", "key", "value").block();
+
+        assertEquals("value", cacheManager.get("cache", "key").block());
+        verify(redisCacheManager, times(1)).put("cache", "key", "value");
+        verify(redisCacheManager, times(0)).get("cache", "key");
+    }
+
+    /**
+     * This Test is used to test that evictions are applied locally and broadcast
+     */
+    @Test
+    public void testEvictAppliesLocallyAndPublishes() {
+        when(redisCacheManager.get("cache", "key")).thenReturn(Mono.empty());
+        cacheManager.put("cache", "key", "value").block();
+        cacheManager.put("cache", "key2", "value2").block();
+
+        cacheManager.evict("cache", "key").block();
+        assertNull(cacheManager.get("cache", "key").block());
+
+        cacheManager.evictAll("cache").block();
+        when(redisCacheManager.get("cache", "key2")).thenReturn(Mono.empty());
+        assertNull(cacheManager.get("cache", "key2").block());
+
+        verify(reactiveRedisOperations, times(2)).execute(ArgumentMatchers.<ReactiveRedisCallback<Object>>any());
+    }
+
+    /**
+     * This Test is used to test that evictions broadcast by other nodes drop the local copies
+     */
+    @Test
+    public void testApplyInvalidationFromOtherNode() {
+        cacheManager.put("cache", "key", "value").block();
+        cacheManager.put("cache", "key2", "value2").block();
+        when(redisCacheManager.get("cache", "key")).thenReturn(Mono.just("fresh"));
+        when(redisCacheManager.get("cache", "key2")).thenReturn(Mono.just("fresh2"));
+
+        cacheManager.applyInvalidation("{\"origin\":\"other\",\"cacheName\":\"cache\",\"key\":\"key\"}");
+        assertEquals("fresh", cacheManager.get("cache", "key").block());
+        assertEquals("value2", cacheManager.get("cache", "key2").block());
+
+        cacheManager.applyInvalidation("{\"origin\":\"other\",\"cacheName\":\"cache\",\"key\":null,\"generation\":3}");
+        assertEquals("fresh2", cacheManager.get("cache", "key2").block());
+        verify(redisCacheManager, times(1)).applyGeneration("cache", 3L);
+
+        // Invalid messages and messages for unknown caches are ignored
+        cacheManager.applyInvalidation("not json");
+        cacheManager.applyInvalidation("{\"origin\":\"other\",\"cacheName\":\"unknown\",\"key\":null}");
+    }
+
+    /**
+     * This Test is used to test that invalidations of caches kept outside of the manager are broadcast, and passed on
+     * to their listener when they come from other nodes
+     */
+    @Test
+    public void testInvalidationListener() {
+        List<String> invalidatedKeys = new ArrayList<>();
+        cacheManager.addInvalidationListener("external", invalidatedKeys::add);
+
+        cacheManager.publishInvalidation("external", "key").block();
+        verify(reactiveRedisOperations, times(1)).execute(ArgumentMatchers.<ReactiveRedisCallback<Object>>any());
+        assertEquals(List.of(), invalidatedKeys);
+
+        cacheManager.applyInvalidation("{\"origin\":\"other\",\"cacheName\":\"external\",\"key\":\"key\"}");
+        cacheManager.applyInvalidation("{\"origin\":\"other\",\"cacheName\":\"cache\",\"key\":\"key2\"}");
+        assertEquals(List.of("key"), invalidatedKeys);
+    }
+
+    /**
+     * This Test is used to test that an item read while its cache is being evicted is not kept locally
+     */
+    @Test
+    public void testReadRacingEvictionIsNotKeptLocally() {
+        Sinks.One<Object> pendingRead = Sinks.one();
+        when(redisCacheManager.get("cache", "key")).thenReturn(pendingRead.asMono());
+
+        Mono<Object> read = cacheManager.get("cache", "key").cache();
+        read.subscribe();
+        cacheManager.evict("cache", "key").block();
+        pendingRead.tryEmitValue("stale");
+        assertEquals("stale", read.block());
+
+        when(redisCacheManager.get("cache", "key")).thenReturn(Mono.empty());
+        assertNull(cacheManager.get("cache", "key").block());
+        verify(redisCacheManager, times(2)).get("cache", "key");
+    }
+
+    /**
+     * This Test is used to test that every local hit on an item that can be modified returns a new instance
+     */
+    @Test
+    public void testLocalHitsReturnCopiesOfMutableItems() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        when(redisCacheManager.serialize(any()))
+                .thenAnswer(invocation -> objectMapper.writeValueAsBytes(invocation.getArgument(0)));
+        when(redisCacheManager.deserialize(any()))
+                .thenAnswer(invocation -> objectMapper.readValue((byte[]) invocation.getArgument(0), List.class));
+
+        List<String> value = new ArrayList<>(List.of("a", "b"));
+        cacheManager.put("cache", "key", value).block();
+        value.add("changed after put");
+
+        Object firstHit = cacheManager.get("cache", "key").block();
+        assertEquals(List.of("a", "b"), firstHit);
+        ((List<?>) firstHit).clear();
+
+        Object secondHit = cacheManager.get("cache", "key").block();
+        assertEquals(List.of("a", "b"), secondHit);
+        assertNotSame(firstHit, secondHit);
+        verify(redisCacheManager, times(0)).get("cache", "key");
+    }
+
+    /**
+     * This Test is used to test that the maximum size of the cache policy bounds the local copy
+     */
+    @Test
+    public void testPolicyMaxSizeBoundsLocalCopy() throws InterruptedException {
+        CacheStats stats = CacheStats.newInstance();
+        when(redisCacheManager.getStats("boundedcache")).thenReturn(stats);
+        when(redisCacheManager.getPolicy("boundedcache")).thenReturn(CachePolicy.of(null, false, 10));
+        cacheManager.setPolicy("boundedcache", CachePolicy.of(null, false, 10));
+        verify(redisCacheManager, times(1)).setPolicy("boundedcache", CachePolicy.of(null, false, 10));
+
+        for (int i = 0; i < 100; i++) {
+            cacheManager.put("boundedcache", "key" + i, "value" + i).block();
+        }
+
+        // Evictions are done in the background by the local cache
+        for (int i = 0; i < 50 && stats.getSizeEvictions().get() < 90; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(90, stats.getSizeEvictions().get());
+    }
+
+    /**
+     * Test to measure performance of local hits
+     */
+    @Test
+    public void measureLocalHitPerformance() {
+        cacheManager.put("cache", "key", "value").block();
+        int count = 100000;
+        long initialTime = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            cacheManager.get("cache", "key").block();
+        }
+        long timeTaken = System.nanoTime() - initialTime;
+        log.info("Time taken for local cache hit " + (timeTaken / count) + " nanos");
+    }
+}